@@ -0,0 +1,34 @@
+-- Migration: Add denormalized review aggregate columns
+-- Version: Manual migration for existing databases
+-- Date: 2026-10-19
+-- Description: Stores review count / rating sum / rating histogram on group_buys
+--              and received review count / rating sum on users (host aggregates)
+
+-- group_buys: 공구별 후기 집계
+ALTER TABLE group_buys ADD COLUMN review_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE group_buys ADD COLUMN review_rating_sum INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE group_buys ADD COLUMN review_rating1_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE group_buys ADD COLUMN review_rating2_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE group_buys ADD COLUMN review_rating3_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE group_buys ADD COLUMN review_rating4_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE group_buys ADD COLUMN review_rating5_count INTEGER DEFAULT 0 NOT NULL;
+
+-- users: 주최자가 받은 후기 집계
+ALTER TABLE users ADD COLUMN received_review_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN received_review_rating_sum INTEGER DEFAULT 0 NOT NULL;
+
+-- 기존 후기로 집계 채우기 (ReviewAggregateService.rebuildAll과 동일한 쿼리)
+UPDATE group_buys SET
+    review_count = (SELECT COUNT(*) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL),
+    review_rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL),
+    review_rating1_count = (SELECT COUNT(*) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL AND r.rating = 1),
+    review_rating2_count = (SELECT COUNT(*) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL AND r.rating = 2),
+    review_rating3_count = (SELECT COUNT(*) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL AND r.rating = 3),
+    review_rating4_count = (SELECT COUNT(*) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL AND r.rating = 4),
+    review_rating5_count = (SELECT COUNT(*) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL AND r.rating = 5);
+
+UPDATE users SET
+    received_review_count = (SELECT COUNT(*) FROM reviews r JOIN group_buys g ON r.group_buy_id = g.id
+                             WHERE g.host_id = users.id AND r.deleted_at IS NULL),
+    received_review_rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r JOIN group_buys g ON r.group_buy_id = g.id
+                                  WHERE g.host_id = users.id AND r.deleted_at IS NULL);
@@ -46,6 +46,7 @@ CREATE TABLE comments(
     deleted_at TIMESTAMP(6),
     updated_at TIMESTAMP(6) NOT NULL,
     content VARCHAR(1000) NOT NULL,
+    like_count INTEGER DEFAULT 0 NOT NULL,
     type VARCHAR(50) NOT NULL,
     author_id BIGINT NOT NULL,
     group_buy_id BIGINT,
@@ -53,6 +54,20 @@ CREATE TABLE comments(
     post_id BIGINT
 );
 
+CREATE TABLE conversations(
+    id BIGSERIAL PRIMARY KEY,
+    created_at TIMESTAMP(6) NOT NULL,
+    deleted_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6) NOT NULL,
+    last_message VARCHAR(100) NOT NULL,
+    last_message_at TIMESTAMP(6) NOT NULL,
+    last_sender_id BIGINT NOT NULL,
+    user1_unread_count INTEGER NOT NULL,
+    user2_unread_count INTEGER NOT NULL,
+    user1_id BIGINT NOT NULL,
+    user2_id BIGINT NOT NULL
+);
+
 CREATE TABLE direct_messages(
     id BIGSERIAL PRIMARY KEY,
     created_at TIMESTAMP(6) NOT NULL,
@@ -94,6 +109,13 @@ CREATE TABLE group_buys(
     recipe_api_id VARCHAR(100),
     recipe_image_url VARCHAR(500),
     recipe_name VARCHAR(200),
+    review_count INTEGER DEFAULT 0 NOT NULL,
+    review_rating1_count INTEGER DEFAULT 0 NOT NULL,
+    review_rating2_count INTEGER DEFAULT 0 NOT NULL,
+    review_rating3_count INTEGER DEFAULT 0 NOT NULL,
+    review_rating4_count INTEGER DEFAULT 0 NOT NULL,
+    review_rating5_count INTEGER DEFAULT 0 NOT NULL,
+    review_rating_sum INTEGER DEFAULT 0 NOT NULL,
     status VARCHAR(20) NOT NULL,
     target_amount INTEGER NOT NULL,
     target_headcount INTEGER NOT NULL,
@@ -152,6 +174,16 @@ CREATE TABLE persistent_logins(
     username VARCHAR(100) NOT NULL
 );
 
+CREATE TABLE point_balance_snapshots(
+    id BIGSERIAL PRIMARY KEY,
+    created_at TIMESTAMP(6) NOT NULL,
+    deleted_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6) NOT NULL,
+    balance BIGINT NOT NULL,
+    last_history_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL
+);
+
 CREATE TABLE point_histories(
     id BIGSERIAL PRIMARY KEY,
     created_at TIMESTAMP(6) NOT NULL,
@@ -185,7 +217,10 @@ CREATE TABLE posts(
     deleted_at TIMESTAMP(6),
     updated_at TIMESTAMP(6) NOT NULL,
     category VARCHAR(50) NOT NULL,
+    comment_count INTEGER DEFAULT 0 NOT NULL,
     content VARCHAR NOT NULL,
+    hot_score FLOAT(53) DEFAULT 0 NOT NULL,
+    like_count INTEGER DEFAULT 0 NOT NULL,
     title VARCHAR(100) NOT NULL,
     view_count INTEGER NOT NULL,
     author_id BIGINT NOT NULL
@@ -242,6 +277,7 @@ CREATE TABLE recipes(
     calories INTEGER,
     carbohydrate INTEGER,
     category VARCHAR(100),
+    content_hash VARCHAR(64),
     fat INTEGER,
     full_image_url VARCHAR(500),
     instructions VARCHAR,
@@ -285,6 +321,17 @@ CREATE TABLE reviews(
     reviewer_id BIGINT NOT NULL
 );
 
+CREATE TABLE reward_calendars(
+    id BIGSERIAL PRIMARY KEY,
+    created_at TIMESTAMP(6) NOT NULL,
+    deleted_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6) NOT NULL,
+    days INTEGER DEFAULT 0 NOT NULL,
+    month_key INTEGER NOT NULL,
+    reward VARCHAR(30) NOT NULL,
+    user_id BIGINT NOT NULL
+);
+
 CREATE TABLE search_keywords(
     id BIGSERIAL PRIMARY KEY,
     created_at TIMESTAMP(6) NOT NULL,
@@ -294,6 +341,17 @@ CREATE TABLE search_keywords(
     search_count BIGINT NOT NULL
 );
 
+CREATE TABLE user_achievements(
+    id BIGSERIAL PRIMARY KEY,
+    created_at TIMESTAMP(6) NOT NULL,
+    deleted_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6) NOT NULL,
+    group_buys_hosted INTEGER DEFAULT 0 NOT NULL,
+    participations INTEGER DEFAULT 0 NOT NULL,
+    reviews_written INTEGER DEFAULT 0 NOT NULL,
+    user_id BIGINT NOT NULL
+);
+
 CREATE TABLE users(
     id BIGSERIAL PRIMARY KEY,
     created_at TIMESTAMP(6) NOT NULL,
@@ -308,6 +366,8 @@ CREATE TABLE users(
     phone_number VARCHAR(13) NOT NULL,
     points INTEGER NOT NULL,
     profile_image_url VARCHAR(500),
+    received_review_count INTEGER DEFAULT 0 NOT NULL,
+    received_review_rating_sum INTEGER DEFAULT 0 NOT NULL,
     role VARCHAR(50) NOT NULL
 );
 
@@ -333,9 +393,14 @@ CREATE INDEX idx_comment_author_id ON comments(author_id);
 CREATE INDEX idx_comment_group_buy_deleted ON comments(group_buy_id, deleted_at, created_at);
 CREATE INDEX idx_comment_post_deleted ON comments(post_id, deleted_at, created_at);
 CREATE INDEX idx_comment_parent_deleted ON comments(parent_id, deleted_at, created_at);
+CREATE INDEX idx_comment_post_root ON comments(post_id, parent_id, id);
+CREATE INDEX idx_comment_group_buy_root ON comments(group_buy_id, parent_id, id);
 CREATE INDEX idx_dm_sender_created ON direct_messages(sender_id, created_at);
 CREATE INDEX idx_dm_receiver_created ON direct_messages(receiver_id, created_at);
 CREATE INDEX idx_dm_receiver_is_read ON direct_messages(receiver_id, is_read, created_at);
+CREATE INDEX idx_dm_sender_receiver_id ON direct_messages(sender_id, receiver_id, id);
+CREATE INDEX idx_conversation_user1_last ON conversations(user1_id, last_message_at);
+CREATE INDEX idx_conversation_user2_last ON conversations(user2_id, last_message_at);
 CREATE INDEX idx_groupbuy_status_deadline ON group_buys(status, deadline);
 CREATE INDEX idx_groupbuy_recipe_api_id ON group_buys(recipe_api_id);
 CREATE INDEX idx_groupbuy_category ON group_buys(category);
@@ -358,6 +423,8 @@ CREATE INDEX idx_post_category_created_at ON posts(category, created_at);
 CREATE INDEX idx_post_author_id ON posts(author_id);
 CREATE INDEX idx_post_deleted_at_created_at ON posts(deleted_at, created_at);
 CREATE INDEX idx_post_category_deleted_at ON posts(category, deleted_at, created_at);
+CREATE INDEX idx_post_deleted_at_like_count ON posts(deleted_at, like_count);
+CREATE INDEX idx_post_deleted_at_hot_score ON posts(deleted_at, hot_score);
 CREATE INDEX idx_recipe_correction_status ON recipe_corrections(status);
 CREATE INDEX idx_recipe_correction_recipe_id ON recipe_corrections(recipe_id);
 CREATE INDEX idx_recipe_correction_proposer_id ON recipe_corrections(proposer_id);
@@ -399,6 +466,10 @@ ALTER TABLE comment_likes ADD CONSTRAINT comment_like_uk UNIQUE (user_id, commen
 ALTER TABLE reviews ADD CONSTRAINT uk_review_reviewer_groupbuy UNIQUE (reviewer_id, group_buy_id);
 ALTER TABLE post_images ADD CONSTRAINT uk_post_image_order UNIQUE (post_id, display_order);
 ALTER TABLE recipes ADD CONSTRAINT uk_source_api_id UNIQUE (source_api, source_api_id);
+ALTER TABLE conversations ADD CONSTRAINT uk_conversation_users UNIQUE (user1_id, user2_id);
+ALTER TABLE point_balance_snapshots ADD CONSTRAINT uk_point_balance_snapshot_user UNIQUE (user_id);
+ALTER TABLE reward_calendars ADD CONSTRAINT uk_reward_calendar_user_reward_month UNIQUE (user_id, reward, month_key);
+ALTER TABLE user_achievements ADD CONSTRAINT uk_user_achievement_user UNIQUE (user_id);
 
 ALTER TABLE recipe_wishlists ADD CONSTRAINT fk_recipe_wishlist_user FOREIGN KEY(user_id) REFERENCES users(id);
 ALTER TABLE recipe_corrections ADD CONSTRAINT fk_recipe_corrections_recipe FOREIGN KEY(recipe_id) REFERENCES recipes(id);
@@ -424,6 +495,8 @@ ALTER TABLE comments ADD CONSTRAINT fk_comment_author FOREIGN KEY(author_id) REF
 ALTER TABLE group_buy_images ADD CONSTRAINT fk_group_buy_image_group_buy FOREIGN KEY(group_buy_id) REFERENCES group_buys(id);
 ALTER TABLE posts ADD CONSTRAINT fk_post_author FOREIGN KEY(author_id) REFERENCES users(id);
 ALTER TABLE direct_messages ADD CONSTRAINT fk_dm_receiver FOREIGN KEY(receiver_id) REFERENCES users(id);
+ALTER TABLE conversations ADD CONSTRAINT fk_conversation_user1 FOREIGN KEY(user1_id) REFERENCES users(id);
+ALTER TABLE conversations ADD CONSTRAINT fk_conversation_user2 FOREIGN KEY(user2_id) REFERENCES users(id);
 ALTER TABLE notifications ADD CONSTRAINT fk_notifications_actor FOREIGN KEY(actor_id) REFERENCES users(id);
 ALTER TABLE wishlists ADD CONSTRAINT fk_wishlist_groupbuy FOREIGN KEY(group_buy_id) REFERENCES group_buys(id);
 ALTER TABLE wishlists ADD CONSTRAINT fk_wishlist_user FOREIGN KEY(user_id) REFERENCES users(id);
@@ -434,4 +507,7 @@ ALTER TABLE comments ADD CONSTRAINT fk_comment_parent FOREIGN KEY(parent_id) REF
 ALTER TABLE reviews ADD CONSTRAINT fk_review_groupbuy FOREIGN KEY(group_buy_id) REFERENCES group_buys(id);
 ALTER TABLE comments ADD CONSTRAINT fk_comment_group_buy FOREIGN KEY(group_buy_id) REFERENCES group_buys(id);
 ALTER TABLE participations ADD CONSTRAINT fk_participation_groupbuy FOREIGN KEY(group_buy_id) REFERENCES group_buys(id);
-ALTER TABLE post_likes ADD CONSTRAINT fk_post_like_post FOREIGN KEY(post_id) REFERENCES posts(id);
\ No newline at end of file
+ALTER TABLE post_likes ADD CONSTRAINT fk_post_like_post FOREIGN KEY(post_id) REFERENCES posts(id);
+ALTER TABLE point_balance_snapshots ADD CONSTRAINT fk_point_balance_snapshot_user FOREIGN KEY(user_id) REFERENCES users(id);
+ALTER TABLE reward_calendars ADD CONSTRAINT fk_reward_calendar_user FOREIGN KEY(user_id) REFERENCES users(id);
+ALTER TABLE user_achievements ADD CONSTRAINT fk_user_achievement_user FOREIGN KEY(user_id) REFERENCES users(id);
@@ -0,0 +1,69 @@
+package com.recipemate.domain.badge.entity;
+
+import com.recipemate.domain.user.entity.User;
+import com.recipemate.global.common.AchievementMetric;
+import com.recipemate.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 사용자별 배지 지표 카운터
+ * 도메인 이벤트마다 UserAchievementRepository의 단일 UPDATE로 증감하며,
+ * 배지 획득 확인과 진행 현황은 COUNT 쿼리 대신 이 행 하나를 읽는다.
+ */
+@Entity
+@Table(name = "user_achievements", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_achievement_user", columnNames = "user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@SuperBuilder
+public class UserAchievement extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_user_achievement_user"))
+    private User user;
+
+    @Builder.Default
+    @Column(name = "group_buys_hosted", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer groupBuysHosted = 0;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer participations = 0;
+
+    @Builder.Default
+    @Column(name = "reviews_written", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer reviewsWritten = 0;
+
+    /**
+     * 지표 값 (매너온도는 사용자 행에서 읽으므로 user를 함께 조회한 경우에만 사용)
+     */
+    public long valueOf(AchievementMetric metric) {
+        return switch (metric) {
+            case GROUP_BUYS_HOSTED -> groupBuysHosted;
+            case PARTICIPATIONS -> participations;
+            case REVIEWS_WRITTEN -> reviewsWritten;
+            case MANNER_TEMPERATURE -> Math.round(user.getMannerTemperature());
+        };
+    }
+
+    /**
+     * 카운터 행이 아직 없는 사용자의 빈 지표
+     */
+    public static UserAchievement empty(User user) {
+        return UserAchievement.builder()
+                .user(user)
+                .build();
+    }
+}
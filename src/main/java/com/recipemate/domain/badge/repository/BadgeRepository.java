@@ -2,8 +2,15 @@ package com.recipemate.domain.badge.repository;
 
 import com.recipemate.domain.badge.entity.Badge;
 import com.recipemate.global.common.BadgeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BadgeRepository extends JpaRepository<Badge, Long> {
@@ -11,4 +18,24 @@ public interface BadgeRepository extends JpaRepository<Badge, Long> {
     List<Badge> findByUserIdOrderByAcquiredAtDesc(Long userId);
 
     boolean existsByUserIdAndBadgeType(Long userId, BadgeType badgeType);
+
+    /**
+     * 사용자별 보유 배지 종류 (사용자 ID, 배지 종류)
+     */
+    @Query("SELECT b.user.id, b.badgeType FROM Badge b WHERE b.user.id IN :userIds")
+    List<Object[]> findBadgeTypesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 배지 수여 (이미 받은 배지면 무시)
+     * 같은 배지를 동시에 수여해도 유니크 제약 위반 없이 한쪽만 기록된다.
+     *
+     * @return 수여된 행 수 (이미 받았으면 0)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "badges"))
+    @Query(value = "INSERT INTO badges (user_id, badge_type, acquired_at) " +
+           "VALUES (:userId, :badgeType, CURRENT_TIMESTAMP) " +
+           "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("badgeType") String badgeType);
 }
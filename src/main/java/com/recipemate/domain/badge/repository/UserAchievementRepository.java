@@ -0,0 +1,89 @@
+package com.recipemate.domain.badge.repository;
+
+import com.recipemate.domain.badge.entity.UserAchievement;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserAchievementRepository extends JpaRepository<UserAchievement, Long> {
+
+    /**
+     * 사용자 지표 조회 (매너온도 확인을 위해 사용자 함께 조회)
+     */
+    @Query("SELECT a FROM UserAchievement a JOIN FETCH a.user WHERE a.user.id = :userId")
+    Optional<UserAchievement> findByUserIdWithUser(@Param("userId") Long userId);
+
+    /**
+     * ID 순 지표 조회 (이관 후 배지 일괄 수여용)
+     */
+    @Query("SELECT a FROM UserAchievement a JOIN FETCH a.user WHERE a.id > :afterId ORDER BY a.id")
+    List<UserAchievement> findNextWithUser(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 카운터 증감 (행이 없으면 0건, 0 아래로는 내려가지 않음)
+
+    @Modifying
+    @Query("UPDATE UserAchievement a SET a.groupBuysHosted = " +
+           "CASE WHEN a.groupBuysHosted + :delta < 0 THEN 0 ELSE a.groupBuysHosted + :delta END " +
+           "WHERE a.user.id = :userId")
+    int addGroupBuysHosted(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE UserAchievement a SET a.participations = " +
+           "CASE WHEN a.participations + :delta < 0 THEN 0 ELSE a.participations + :delta END " +
+           "WHERE a.user.id = :userId")
+    int addParticipations(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE UserAchievement a SET a.reviewsWritten = " +
+           "CASE WHEN a.reviewsWritten + :delta < 0 THEN 0 ELSE a.reviewsWritten + :delta END " +
+           "WHERE a.user.id = :userId")
+    int addReviewsWritten(@Param("userId") Long userId, @Param("delta") int delta);
+
+    /**
+     * 빈 지표 행 생성 (이미 있으면 무시)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_achievements"))
+    @Query(value = "INSERT INTO user_achievements (created_at, updated_at, group_buys_hosted, participations, reviews_written, user_id) " +
+           "VALUES (CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0, 0, 0, :userId) " +
+           "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    /**
+     * 기존 데이터로 전체 사용자 지표 생성 (카운터 도입 전 데이터 이관용)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_achievements"))
+    @Query(value = "INSERT INTO user_achievements (created_at, updated_at, group_buys_hosted, participations, reviews_written, user_id) " +
+           "SELECT CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, " +
+           "(SELECT COUNT(*) FROM group_buys g WHERE g.host_id = u.id AND g.deleted_at IS NULL), " +
+           "(SELECT COUNT(*) FROM participations p WHERE p.user_id = u.id), " +
+           "(SELECT COUNT(*) FROM reviews r WHERE r.reviewer_id = u.id AND r.deleted_at IS NULL), " +
+           "u.id " +
+           "FROM users u " +
+           "WHERE NOT EXISTS (SELECT 1 FROM user_achievements a WHERE a.user_id = u.id)",
+           nativeQuery = true)
+    int backfill();
+
+    /**
+     * 전체 사용자 지표 재계산 (이벤트 누락/중복으로 어긋난 카운터 보정, 이관과 같은 기준)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_achievements"))
+    @Query(value = "UPDATE user_achievements SET " +
+           "group_buys_hosted = (SELECT COUNT(*) FROM group_buys g WHERE g.host_id = user_achievements.user_id AND g.deleted_at IS NULL), " +
+           "participations = (SELECT COUNT(*) FROM participations p WHERE p.user_id = user_achievements.user_id), " +
+           "reviews_written = (SELECT COUNT(*) FROM reviews r WHERE r.reviewer_id = user_achievements.user_id AND r.deleted_at IS NULL), " +
+           "updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int rebuildCounts();
+}
@@ -1,106 +1,136 @@
 package com.recipemate.domain.badge.service;
 
 import com.recipemate.domain.badge.dto.BadgeChallengeResponse;
-import com.recipemate.domain.badge.dto.BadgeResponse;
 import com.recipemate.domain.badge.entity.Badge;
+import com.recipemate.domain.badge.entity.UserAchievement;
 import com.recipemate.domain.badge.repository.BadgeRepository;
-import com.recipemate.domain.groupbuy.repository.GroupBuyRepository;
-import com.recipemate.domain.groupbuy.repository.ParticipationRepository;
-import com.recipemate.domain.review.repository.ReviewRepository;
+import com.recipemate.domain.badge.repository.UserAchievementRepository;
 import com.recipemate.domain.user.entity.User;
 import com.recipemate.domain.user.repository.UserRepository;
+import com.recipemate.global.common.AchievementMetric;
 import com.recipemate.global.common.BadgeType;
+import com.recipemate.global.event.UserProfileChangedEvent;
 import com.recipemate.global.exception.CustomException;
 import com.recipemate.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * 배지 서비스
+ * - 활동 지표는 도메인 이벤트마다 user_achievements 카운터에 누적 (COUNT 쿼리 없음)
+ * - 획득 조건은 BadgeType에 지표와 목표로 선언되어 있으며, 지표가 늘어나거나 매너온도가 바뀔 때만 확인하여 수여
+ * - 진행 현황 조회는 지표 행 하나와 보유 배지만 읽고 쓰기는 하지 않음
+ * - 지표 행이 하나도 없으면 서버 시작 시 기존 데이터로 한 번 생성하고 달성한 배지를 수여
+ * - 매일 04:50 원본 데이터로 지표를 다시 계산하고 달성한 배지를 수여 (이벤트 누락으로 어긋난 값 보정)
+ * - 배지 수여는 이미 받은 배지를 무시하는 INSERT로 처리하여, 동시 확인이 겹쳐도 지표 증감이 롤백되지 않음
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class BadgeService {
 
+    private static final int AWARD_BATCH_SIZE = 500;
+
     private final BadgeRepository badgeRepository;
+    private final UserAchievementRepository userAchievementRepository;
     private final UserRepository userRepository;
-    private final GroupBuyRepository groupBuyRepository;
-    private final ParticipationRepository participationRepository;
-    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void onApplicationReady() {
+        if (userAchievementRepository.count() > 0) {
+            return;
+        }
+        int created = userAchievementRepository.backfill();
+        if (created == 0) {
+            return;
+        }
+        int awarded = awardAll();
+        log.info("배지 지표 이관 완료: 사용자 {} 명, 수여한 배지 {} 개", created, awarded);
+    }
+
+    /**
+     * 지표 전체 재계산 후 달성한 배지 수여
+     * 매일 04:50에 실행 (후기 집계 04:00, 커뮤니티 집계 04:30 이후)
+     */
+    @Scheduled(cron = "0 50 4 * * *")
+    @Transactional
+    public void rebuildAll() {
+        log.info("배지 지표 재계산 배치 시작");
+
+        int rebuilt = userAchievementRepository.rebuildCounts();
+        int awarded = awardAll();
+
+        log.info("배지 지표 재계산 배치 종료 - 사용자 {} 명, 수여한 배지 {} 개", rebuilt, awarded);
+    }
 
     /**
-     * 배지 조건 확인 후 수여
-     * 
+     * 지표 증감 후 배지 조건 확인 (감소 시에는 이미 받은 배지를 회수하지 않으므로 확인하지 않음)
+     *
      * @param userId 사용자 ID
-     * @param badgeType 배지 타입
+     * @param metric 지표 (매너온도 제외)
+     * @param delta 증감량
      */
-    public void checkAndAwardBadge(Long userId, BadgeType badgeType) {
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        // 이미 획득한 배지인지 확인
-        if (badgeRepository.existsByUserIdAndBadgeType(userId, badgeType)) {
-            return; // 중복 수여 방지
+    @Transactional
+    public void record(Long userId, AchievementMetric metric, int delta) {
+        if (add(userId, metric, delta) == 0) {
+            // 지표 행이 없어 0건일 수 있으므로 생성 후 다시 시도
+            userAchievementRepository.insertIfAbsent(userId);
+            add(userId, metric, delta);
+        }
+        if (delta > 0) {
+            evaluate(userId);
         }
+    }
 
-        // 배지 생성 및 저장
-        Badge badge = Badge.create(user, badgeType);
-        badgeRepository.save(badge);
+    /**
+     * 사용자의 현재 지표로 배지 조건 확인 후 달성한 배지 수여
+     *
+     * @param userId 사용자 ID
+     */
+    @Transactional
+    public void evaluate(Long userId) {
+        UserAchievement achievement = findAchievement(userId);
+        Set<BadgeType> acquired = badgeRepository.findByUserIdOrderByAcquiredAtDesc(userId).stream()
+                .map(Badge::getBadgeType)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(BadgeType.class)));
+        award(achievement, acquired);
     }
 
     /**
      * 모든 배지 타입에 대한 사용자의 현재 진행 상황을 반환
-     * 조건 달성 시 자동으로 배지 부여
-     * 
+     *
      * @param userId 사용자 ID
      * @return 배지 도전과제 목록
      */
     public List<BadgeChallengeResponse> getBadgeChallenges(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        List<Badge> acquiredBadges = badgeRepository.findByUserIdOrderByAcquiredAtDesc(userId);
+        UserAchievement achievement = findAchievement(userId);
+        Set<BadgeType> acquired = badgeRepository.findByUserIdOrderByAcquiredAtDesc(userId).stream()
+                .map(Badge::getBadgeType)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(BadgeType.class)));
 
         return Arrays.stream(BadgeType.values())
                 .map(badgeType -> {
-                    boolean isAcquired = acquiredBadges.stream()
-                            .anyMatch(b -> b.getBadgeType() == badgeType);
-
-                    long currentCount = 0;
-                    long goalCount = 0;
-
-                    switch (badgeType) {
-                        case FIRST_GROUP_BUY:
-                            currentCount = groupBuyRepository.countByHostIdAndStatus(
-                                    user.getId(), 
-                                    com.recipemate.global.common.GroupBuyStatus.RECRUITING);
-                            currentCount += groupBuyRepository.countByHostIdAndStatus(
-                                    user.getId(), 
-                                    com.recipemate.global.common.GroupBuyStatus.COMPLETED);
-                            goalCount = 1;
-                            break;
-                        case TEN_PARTICIPATIONS:
-                            currentCount = participationRepository.countByUserId(user.getId());
-                            goalCount = 10;
-                            break;
-                        case REVIEWER:
-                            currentCount = reviewRepository.countByReviewerId(user.getId());
-                            goalCount = 5;
-                            break;
-                        case POPULAR_HOST:
-                            currentCount = Math.round(user.getMannerTemperature());
-                            goalCount = 40;
-                            break;
-                    }
-
-                    // 조건을 달성했지만 아직 배지를 획득하지 않은 경우 자동으로 배지 부여
-                    if (!isAcquired && currentCount >= goalCount) {
-                        checkAndAwardBadge(userId, badgeType);
-                        isAcquired = true;
-                    }
+                    boolean isAcquired = acquired.contains(badgeType);
+                    long goalCount = badgeType.getGoalCount();
+                    long currentCount = achievement.valueOf(badgeType.getMetric());
 
                     // 획득했으면 현재 카운트를 최소한 목표 카운트로 설정
                     if (isAcquired && currentCount < goalCount) {
@@ -120,4 +150,70 @@ public class BadgeService {
                 })
                 .collect(Collectors.toList());
     }
+
+    private int add(Long userId, AchievementMetric metric, int delta) {
+        return switch (metric) {
+            case GROUP_BUYS_HOSTED -> userAchievementRepository.addGroupBuysHosted(userId, delta);
+            case PARTICIPATIONS -> userAchievementRepository.addParticipations(userId, delta);
+            case REVIEWS_WRITTEN -> userAchievementRepository.addReviewsWritten(userId, delta);
+            case MANNER_TEMPERATURE -> throw new IllegalArgumentException("매너온도는 카운터 지표가 아닙니다");
+        };
+    }
+
+    private UserAchievement findAchievement(Long userId) {
+        return userAchievementRepository.findByUserIdWithUser(userId)
+                .orElseGet(() -> {
+                    User user = userRepository.findById(userId)
+                            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+                    return UserAchievement.empty(user);
+                });
+    }
+
+    /**
+     * 달성했지만 아직 받지 않은 배지 수여
+     *
+     * @return 수여한 배지 수
+     */
+    private int award(UserAchievement achievement, Set<BadgeType> acquired) {
+        int awarded = 0;
+        for (BadgeType badgeType : BadgeType.values()) {
+            if (acquired.contains(badgeType)
+                    || achievement.valueOf(badgeType.getMetric()) < badgeType.getGoalCount()) {
+                continue;
+            }
+            awarded += badgeRepository.insertIfAbsent(achievement.getUser().getId(), badgeType.name());
+        }
+        if (awarded > 0) {
+            eventPublisher.publishEvent(new UserProfileChangedEvent(achievement.getUser().getId()));
+        }
+        return awarded;
+    }
+
+    /**
+     * 전체 사용자 배지 일괄 수여 (이관 직후, 매일 재계산 후)
+     */
+    private int awardAll() {
+        int awarded = 0;
+        long afterId = 0;
+        while (true) {
+            List<UserAchievement> achievements =
+                    userAchievementRepository.findNextWithUser(afterId, PageRequest.of(0, AWARD_BATCH_SIZE));
+            if (achievements.isEmpty()) {
+                return awarded;
+            }
+
+            Map<Long, Set<BadgeType>> acquiredByUser = new HashMap<>();
+            List<Long> userIds = achievements.stream().map(a -> a.getUser().getId()).toList();
+            for (Object[] row : badgeRepository.findBadgeTypesByUserIdIn(userIds)) {
+                acquiredByUser.computeIfAbsent((Long) row[0], id -> EnumSet.noneOf(BadgeType.class))
+                        .add((BadgeType) row[1]);
+            }
+
+            for (UserAchievement achievement : achievements) {
+                awarded += award(achievement,
+                        acquiredByUser.getOrDefault(achievement.getUser().getId(), EnumSet.noneOf(BadgeType.class)));
+            }
+            afterId = achievements.get(achievements.size() - 1).getId();
+        }
+    }
 }
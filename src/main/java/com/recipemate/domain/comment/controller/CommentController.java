@@ -1,6 +1,7 @@
 package com.recipemate.domain.comment.controller;
 
 import com.recipemate.domain.comment.dto.CommentResponse;
+import com.recipemate.domain.comment.dto.CommentThreadResponse;
 import com.recipemate.domain.comment.dto.CreateCommentRequest;
 import com.recipemate.domain.comment.dto.UpdateCommentRequest;
 import com.recipemate.domain.comment.service.CommentService;
@@ -13,10 +14,6 @@ import com.recipemate.global.exception.ErrorCode;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
@@ -194,8 +191,8 @@ public class CommentController {
     // ========== htmx Fragment 엔드포인트 ==========
 
     /**
-     * 댓글 목록 HTML Fragment 조회 (페이지네이션 지원)
-     * GET /comments/fragments?targetType=POST&targetId=1&page=0&size=10
+     * 댓글 목록 HTML Fragment 조회 (첫 페이지)
+     * GET /comments/fragments?targetType=POST&targetId=1&size=10
      * htmx에서 동적으로 댓글 목록을 로드하기 위해 사용
      */
     @GetMapping("/fragments")
@@ -203,30 +200,62 @@ public class CommentController {
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam EntityType targetType,
             @RequestParam Long targetId,
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestParam(defaultValue = "10") int size,
             Model model) {
-        
-        // 현재 로그인한 사용자 ID 조회 (비로그인 시 null)
-        Long currentUserId = null;
-        if (userDetails != null) {
-            CustomUserDetails customUserDetails = (CustomUserDetails) userDetails;
-            User user = customUserDetails.getUser();
-            if (user != null) {
-                currentUserId = user.getId();
-            }
-        }
-        
-        Page<CommentResponse> comments = commentService.getCommentsByTargetPageable(targetType, targetId, currentUserId, pageable);
+
+        CommentThreadResponse thread = commentService.getCommentThread(
+                targetType, targetId, getCurrentUserId(userDetails), null, size);
         long totalCommentCount = commentService.getTotalCommentCount(targetType, targetId);
-        
-        model.addAttribute("comments", comments);
+
+        model.addAttribute("comments", thread.getComments());
+        model.addAttribute("nextCursor", thread.getNextCursor());
+        model.addAttribute("hasNext", thread.getHasNext());
+        model.addAttribute("size", size);
         model.addAttribute("totalCommentCount", totalCommentCount);
         model.addAttribute("targetType", targetType);
         model.addAttribute("targetId", targetId);
-        
+
         return "fragments/comments :: comment-list";
     }
 
+    /**
+     * 댓글 목록 HTML Fragment 추가 조회 (커서 기반 "더보기")
+     * GET /comments/fragments/more?targetType=POST&targetId=1&cursor=123&size=10
+     * 다음 댓글들과 새 "더보기" 버튼을 반환하여 기존 버튼 자리에 끼워 넣음
+     */
+    @GetMapping("/fragments/more")
+    public String getMoreCommentsFragment(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam EntityType targetType,
+            @RequestParam Long targetId,
+            @RequestParam Long cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Model model) {
+
+        CommentThreadResponse thread = commentService.getCommentThread(
+                targetType, targetId, getCurrentUserId(userDetails), cursor, size);
+
+        model.addAttribute("comments", thread.getComments());
+        model.addAttribute("nextCursor", thread.getNextCursor());
+        model.addAttribute("hasNext", thread.getHasNext());
+        model.addAttribute("size", size);
+        model.addAttribute("targetType", targetType);
+        model.addAttribute("targetId", targetId);
+
+        return "fragments/comments :: comment-page";
+    }
+
+    /**
+     * 현재 로그인한 사용자 ID 조회 (비로그인 시 null)
+     */
+    private Long getCurrentUserId(UserDetails userDetails) {
+        if (userDetails == null) {
+            return null;
+        }
+        User user = ((CustomUserDetails) userDetails).getUser();
+        return user != null ? user.getId() : null;
+    }
+
     /**
      * 댓글 작성 - HTML Fragment 반환 (htmx용)
      * POST /comments/fragment
@@ -35,6 +35,13 @@ public class CommentResponse {
     private List<CommentResponse> replies = new ArrayList<>();
 
     public static CommentResponse from(Comment comment) {
+        return of(comment, false, new ArrayList<>());
+    }
+
+    /**
+     * 좋아요 여부와 대댓글 목록을 포함한 응답 생성 (댓글 스레드 조회 시 한 번에 생성)
+     */
+    public static CommentResponse of(Comment comment, boolean isLiked, List<CommentResponse> replies) {
         return CommentResponse.builder()
                 .id(comment.getId())
                 .authorId(comment.getAuthor().getId())
@@ -46,9 +53,9 @@ public class CommentResponse {
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
                 .isDeleted(comment.getDeletedAt() != null)
-                .likeCount(0)
-                .isLiked(false)
-                .replies(new ArrayList<>())
+                .likeCount(comment.getLikeCount())
+                .isLiked(isLiked)
+                .replies(replies)
                 .build();
     }
 
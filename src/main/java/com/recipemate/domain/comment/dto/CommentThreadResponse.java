@@ -0,0 +1,24 @@
+package com.recipemate.domain.comment.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 댓글 스레드 커서 페이지
+ * - comments: 최상위 댓글(작성 순)과 각 댓글의 대댓글
+ * - nextCursor: 다음 페이지 조회 시 전달할 커서 (마지막 최상위 댓글 ID), 더 없으면 null
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CommentThreadResponse {
+    private List<CommentResponse> comments;
+    private Long nextCursor;
+    private Boolean hasNext;
+}
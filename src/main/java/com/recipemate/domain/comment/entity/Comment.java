@@ -8,6 +8,7 @@ import com.recipemate.global.common.CommentType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
@@ -20,7 +21,9 @@ import lombok.experimental.SuperBuilder;
         @Index(name = "idx_comment_author_id", columnList = "author_id"),
         @Index(name = "idx_comment_group_buy_deleted", columnList = "group_buy_id, deleted_at, created_at"),
         @Index(name = "idx_comment_post_deleted", columnList = "post_id, deleted_at, created_at"),
-        @Index(name = "idx_comment_parent_deleted", columnList = "parent_id, deleted_at, created_at")
+        @Index(name = "idx_comment_parent_deleted", columnList = "parent_id, deleted_at, created_at"),
+        @Index(name = "idx_comment_post_root", columnList = "post_id, parent_id, id"),
+        @Index(name = "idx_comment_group_buy_root", columnList = "group_buy_id, parent_id, id")
 })
 @Getter
 @SuperBuilder
@@ -55,6 +58,11 @@ public class Comment extends BaseEntity {
     @Column(nullable = false, length = 20)
     private CommentType type;
 
+    // 좋아요 수 (비정규화, CommunityCountService의 벌크 UPDATE로만 변경)
+    @Builder.Default
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer likeCount = 0;
+
     //== 비즈니스 로직 ==//
 
     /**
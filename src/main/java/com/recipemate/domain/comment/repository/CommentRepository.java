@@ -3,51 +3,65 @@ package com.recipemate.domain.comment.repository;
 import com.recipemate.domain.comment.entity.Comment;
 import com.recipemate.domain.post.entity.Post;
 import com.recipemate.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
-     * 공구에 달린 최상위 댓글(부모 댓글)만 조회 (생성일 오름차순)
-     * @param groupBuyId 공구 ID
-     * @return 최상위 댓글 목록
+     * 게시글의 최상위 댓글을 작성 순(ID 오름차순)으로 커서 조회 (삭제된 것 포함)
+     * 결과: [댓글, 현재 사용자의 좋아요 ID(누르지 않았거나 비로그인이면 null)]
+     *
+     * @param userId 현재 사용자 ID (비로그인 시 null)
+     * @param cursorId 이 ID 이후의 댓글만 조회 (null이면 처음부터)
      */
-    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.groupBuy.id = :groupBuyId AND c.parent IS NULL ORDER BY c.createdAt ASC")
-    List<Comment> findByGroupBuyIdAndParentIsNullOrderByCreatedAtAsc(@Param("groupBuyId") Long groupBuyId);
+    @Query("SELECT c, cl.id FROM Comment c JOIN FETCH c.author " +
+           "LEFT JOIN CommentLike cl ON cl.comment = c AND cl.user.id = :userId " +
+           "WHERE c.post.id = :postId AND c.parent IS NULL " +
+           "AND (:cursorId IS NULL OR c.id > :cursorId) " +
+           "ORDER BY c.id ASC")
+    List<Object[]> findPostRootPage(@Param("postId") Long postId,
+                                    @Param("userId") Long userId,
+                                    @Param("cursorId") Long cursorId,
+                                    Pageable pageable);
 
     /**
-     * 게시글에 달린 최상위 댓글(부모 댓글)만 조회 (생성일 오름차순)
-     * @param postId 게시글 ID
-     * @return 최상위 댓글 목록
+     * 공구의 최상위 댓글을 작성 순(ID 오름차순)으로 커서 조회 (삭제된 것 포함)
+     * 결과: [댓글, 현재 사용자의 좋아요 ID(누르지 않았거나 비로그인이면 null)]
      */
-    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.parent IS NULL ORDER BY c.createdAt ASC")
-    List<Comment> findByPostIdAndParentIsNullOrderByCreatedAtAsc(@Param("postId") Long postId);
+    @Query("SELECT c, cl.id FROM Comment c JOIN FETCH c.author " +
+           "LEFT JOIN CommentLike cl ON cl.comment = c AND cl.user.id = :userId " +
+           "WHERE c.groupBuy.id = :groupBuyId AND c.parent IS NULL " +
+           "AND (:cursorId IS NULL OR c.id > :cursorId) " +
+           "ORDER BY c.id ASC")
+    List<Object[]> findGroupBuyRootPage(@Param("groupBuyId") Long groupBuyId,
+                                        @Param("userId") Long userId,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
 
     /**
-     * 공구에 달린 최상위 댓글 페이지네이션 조회 (삭제된 것 포함)
-     * @param groupBuyId 공구 ID
-     * @param pageable 페이지 정보
-     * @return 최상위 댓글 페이지
+     * 여러 최상위 댓글의 대댓글을 좋아요 여부와 함께 일괄 조회 (작성 순)
+     * 대댓글은 1단계만 허용되므로 parent_id가 곧 스레드의 최상위 댓글 ID
+     * 결과: [대댓글, 현재 사용자의 좋아요 ID(누르지 않았거나 비로그인이면 null)]
      */
-    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.groupBuy.id = :groupBuyId AND c.parent IS NULL ORDER BY c.createdAt ASC")
-    Page<Comment> findByGroupBuyIdAndParentIsNullPageable(@Param("groupBuyId") Long groupBuyId, Pageable pageable);
-
-    /**
-     * 게시글에 달린 최상위 댓글 페이지네이션 조회 (삭제된 것 포함)
-     * @param postId 게시글 ID
-     * @param pageable 페이지 정보
-     * @return 최상위 댓글 페이지
-     */
-    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.parent IS NULL ORDER BY c.createdAt ASC")
-    Page<Comment> findByPostIdAndParentIsNullPageable(@Param("postId") Long postId, Pageable pageable);
+    @Query("SELECT c, cl.id FROM Comment c JOIN FETCH c.author " +
+           "LEFT JOIN CommentLike cl ON cl.comment = c AND cl.user.id = :userId " +
+           "WHERE c.parent.id IN :rootIds " +
+           "ORDER BY c.id ASC")
+    List<Object[]> findRepliesWithLike(@Param("rootIds") List<Long> rootIds,
+                                       @Param("userId") Long userId);
 
     /**
      * 특정 댓글의 대댓글 조회 (생성일 오름차순)
@@ -56,14 +70,6 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     List<Comment> findByParentIdOrderByCreatedAtAsc(Long parentId);
 
-    /**
-     * 여러 부모 댓글의 대댓글 일괄 조회 (N+1 방지)
-     * @param parentIds 부모 댓글 ID 목록
-     * @return 대댓글 목록
-     */
-    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.parent.id IN :parentIds ORDER BY c.createdAt ASC")
-    List<Comment> findByParentIdIn(@Param("parentIds") List<Long> parentIds);
-
     /**
      * 공구에 달린 모든 댓글 조회 (최상위 댓글 + 대댓글, 삭제되지 않은 것만)
      * @param groupBuyId 공구 ID
@@ -120,4 +126,39 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     @Query("SELECT c FROM Comment c JOIN FETCH c.post p WHERE c.author = :author AND c.post IS NOT NULL ORDER BY c.createdAt DESC")
     Page<Comment> findByAuthorForMyActivity(@Param("author") User author, Pageable pageable);
+
+    /**
+     * 댓글 소프트 삭제 (삭제되지 않은 댓글만)
+     * 같은 댓글을 동시에/반복 삭제하면 한 번만 1을 반환하므로, 반환값으로 댓글 수 반영 여부를 판단
+     * 영속성 컨텍스트는 비우지 않으므로, 이미 조회한 댓글은 호출한 쪽에서 다시 읽어야 함
+     *
+     * @return 삭제된 행 수 (이미 삭제된 댓글이면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Comment c SET c.deletedAt = :now WHERE c.id = :commentId AND c.deletedAt IS NULL")
+    int softDeleteIfLive(@Param("commentId") Long commentId, @Param("now") LocalDateTime now);
+
+    /**
+     * 좋아요 수 증감 반영 (단일 UPDATE로 원자적 처리)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + :delta WHERE c.id = :commentId")
+    int applyLikeDelta(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    /**
+     * 현재 좋아요 수 조회 (증감 반영 직후 응답용)
+     */
+    @Query("SELECT c.likeCount FROM Comment c WHERE c.id = :commentId")
+    Integer findLikeCountById(@Param("commentId") Long commentId);
+
+    /**
+     * 좋아요 수 전체 재계산 (집계 불일치 보정용)
+     */
+    @Modifying
+    // 2차 캐시 무효화 범위를 comments 테이블로 한정 (미지정 시 네이티브 UPDATE가 모든 캐시 영역을 비움)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comments"))
+    @Query(value = "UPDATE comments SET " +
+           "like_count = (SELECT COUNT(*) FROM comment_likes cl WHERE cl.comment_id = comments.id)",
+           nativeQuery = true)
+    int rebuildLikeCounts();
 }
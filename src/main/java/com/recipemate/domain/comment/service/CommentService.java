@@ -1,6 +1,7 @@
 package com.recipemate.domain.comment.service;
 
 import com.recipemate.domain.comment.dto.CommentResponse;
+import com.recipemate.domain.comment.dto.CommentThreadResponse;
 import com.recipemate.domain.comment.dto.CreateCommentRequest;
 import com.recipemate.domain.comment.dto.UpdateCommentRequest;
 import com.recipemate.domain.comment.entity.Comment;
@@ -10,23 +11,27 @@ import com.recipemate.domain.groupbuy.repository.GroupBuyRepository;
 import com.recipemate.domain.like.repository.CommentLikeRepository;
 import com.recipemate.domain.post.entity.Post;
 import com.recipemate.domain.post.repository.PostRepository;
+import com.recipemate.domain.post.service.CommunityCountService;
 import com.recipemate.domain.user.entity.User;
 import com.recipemate.domain.user.repository.UserRepository;
 import com.recipemate.global.common.EntityType;
 import com.recipemate.global.event.CommentCreatedEvent;
 import com.recipemate.global.exception.CustomException;
 import com.recipemate.global.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,12 +39,16 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CommentService {
 
+    private static final int MAX_THREAD_PAGE_SIZE = 50;
+
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final GroupBuyRepository groupBuyRepository;
     private final PostRepository postRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final CommunityCountService communityCountService;
     private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     /**
      * 댓글 작성
@@ -89,6 +98,11 @@ public class CommentService {
 
         Comment savedComment = commentRepository.save(comment);
 
+        // 게시글 댓글 수 증가
+        if (post != null) {
+            communityCountService.applyPostCommentCreated(post.getId());
+        }
+
         // 6. 댓글 생성 이벤트 발행 (알림 등)
         eventPublisher.publishEvent(new CommentCreatedEvent(savedComment));
 
@@ -158,7 +172,17 @@ public class CommentService {
             throw new CustomException(ErrorCode.UNAUTHORIZED_COMMENT_DELETE);
         }
 
-        comment.markAsDeleted();
+        // 동시/반복 삭제 시 한 요청만 행을 갱신하므로, 갱신한 요청만 댓글 수를 감소시켜 두 번 차감되지 않도록 함
+        if (commentRepository.softDeleteIfLive(commentId, LocalDateTime.now()) == 0) {
+            log.error("이미 삭제된 댓글 - commentId: {}", commentId);
+            throw new CustomException(ErrorCode.COMMENT_NOT_FOUND);
+        }
+        entityManager.refresh(comment); // 벌크 UPDATE 결과(deletedAt)를 이 댓글에만 반영
+
+        // 게시글 댓글 수 감소
+        if (comment.getPost() != null) {
+            communityCountService.applyPostCommentDeleted(comment.getPost().getId());
+        }
         log.info("댓글 삭제 완료 - commentId: {}", commentId);
     }
 
@@ -178,12 +202,17 @@ public class CommentService {
      * 댓글 단건 조회 with 좋아요 정보 (삭제된 댓글 포함)
      */
     public CommentResponse getCommentByIdWithLikes(Long commentId, Long currentUserId) {
-        CommentResponse response = getCommentById(commentId);
-        return enrichWithLikeInfo(response, currentUserId);
-    }
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
+
+        boolean isLiked = currentUserId != null
+                && commentLikeRepository.existsByUserIdAndCommentId(currentUserId, commentId);
+        List<Object[]> replyRows = commentRepository.findRepliesWithLike(List.of(commentId), currentUserId);
 
+        return assembleThreads(List.<Object[]>of(new Object[]{comment, isLiked ? commentId : null}), replyRows)
+                .get(0);
+    }
 
-    
     /**
      * 특정 대상의 전체 댓글 개수 조회 (부모 댓글 + 대댓글, 삭제되지 않은 것만)
      */
@@ -191,206 +220,79 @@ public class CommentService {
         if (targetType == EntityType.GROUP_BUY) {
             return commentRepository.countByGroupBuyId(targetId);
         } else if (targetType == EntityType.POST) {
-            return commentRepository.countByPostId(targetId);
+            return postRepository.findById(targetId)
+                    .map(Post::getCommentCount)
+                    .orElse(0);
         } else {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
         }
     }
 
     /**
-     * 댓글에 좋아요 정보 추가 (현재 사용자 기준)
+     * 특정 대상의 댓글 스레드 조회 with 좋아요 정보 (htmx fragment용, 커서 기반)
+     * - 1번째 쿼리: 최상위 댓글 size + 1개와 현재 사용자의 좋아요 여부
+     * - 2번째 쿼리: 해당 최상위 댓글들의 대댓글과 현재 사용자의 좋아요 여부
+     * 좋아요 수는 비정규화 컬럼을 사용하므로 추가 집계 쿼리가 없다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 최상위 댓글 페이지 크기
      */
-    private CommentResponse enrichWithLikeInfo(CommentResponse response, Long currentUserId) {
-        // 댓글 엔티티 조회
-        Comment comment = commentRepository.findById(response.getId())
-                .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
-        
-        // 좋아요 개수 조회
-        long likeCount = commentLikeRepository.countByComment(comment);
-        
-        // 현재 사용자의 좋아요 여부 조회
-        boolean isLiked = false;
-        if (currentUserId != null) {
-            User user = userRepository.findById(currentUserId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-            isLiked = commentLikeRepository.existsByUserAndComment(user, comment);
-        }
-        
-        // Builder를 사용하여 좋아요 정보가 포함된 새 응답 생성
-        return CommentResponse.builder()
-                .id(response.getId())
-                .authorId(response.getAuthorId())
-                .authorNickname(response.getAuthorNickname())
-                .authorEmail(response.getAuthorEmail())
-                .content(response.getContent())
-                .type(response.getType())
-                .parentId(response.getParentId())
-                .createdAt(response.getCreatedAt())
-                .updatedAt(response.getUpdatedAt())
-                .isDeleted(response.isDeleted())
-                .likeCount(likeCount)
-                .isLiked(isLiked)
-                .replies(response.getReplies().stream()
-                        .map(reply -> enrichWithLikeInfo(reply, currentUserId))
-                        .collect(Collectors.toList()))
-                .build();
-    }
-
-    /**
-     * 여러 댓글에 좋아요 정보 일괄 추가 (N+1 방지)
-     */
-    private List<CommentResponse> enrichWithLikeInfoBatch(List<CommentResponse> responses, Long currentUserId) {
-        if (responses.isEmpty()) {
-            return responses;
-        }
-        
-        // 모든 댓글 ID 수집 (부모 댓글 + 대댓글)
-        List<Long> allCommentIds = responses.stream()
-                .flatMap(response -> {
-                    List<Long> ids = new java.util.ArrayList<>();
-                    ids.add(response.getId());
-                    response.getReplies().forEach(reply -> ids.add(reply.getId()));
-                    return ids.stream();
-                })
-                .collect(Collectors.toList());
-        
-        if (allCommentIds.isEmpty()) {
-            return responses;
-        }
-        
-        // 좋아요 수 일괄 조회
-        List<CommentLikeRepository.CommentLikeCount> likeCounts = 
-                commentLikeRepository.countByCommentIds(allCommentIds);
-        Map<Long, Long> likeCountMap = likeCounts.stream()
-                .collect(Collectors.toMap(
-                        CommentLikeRepository.CommentLikeCount::getCommentId,
-                        CommentLikeRepository.CommentLikeCount::getLikeCount
-                ));
-        
-        // 현재 사용자가 좋아요를 누른 댓글 ID 일괄 조회
-        List<Long> likedCommentIds = (currentUserId != null) 
-                ? commentLikeRepository.findLikedCommentIdsByUserAndCommentIds(currentUserId, allCommentIds)
-                : List.of();
-        
-        // 각 댓글에 좋아요 정보 설정
-        return responses.stream()
-                .map(response -> applyLikeInfo(response, likeCountMap, likedCommentIds))
-                .collect(Collectors.toList());
-    }
-    
-    /**
-     * 단일 댓글 응답에 좋아요 정보 적용
-     */
-    private CommentResponse applyLikeInfo(CommentResponse response, Map<Long, Long> likeCountMap, List<Long> likedCommentIds) {
-        long likeCount = likeCountMap.getOrDefault(response.getId(), 0L);
-        boolean isLiked = likedCommentIds.contains(response.getId());
-        
-        List<CommentResponse> enrichedReplies = response.getReplies().stream()
-                .map(reply -> applyLikeInfo(reply, likeCountMap, likedCommentIds))
-                .collect(Collectors.toList());
-        
-        return CommentResponse.builder()
-                .id(response.getId())
-                .authorId(response.getAuthorId())
-                .authorNickname(response.getAuthorNickname())
-                .authorEmail(response.getAuthorEmail())
-                .content(response.getContent())
-                .type(response.getType())
-                .parentId(response.getParentId())
-                .createdAt(response.getCreatedAt())
-                .updatedAt(response.getUpdatedAt())
-                .isDeleted(response.isDeleted())
-                .likeCount(likeCount)
-                .isLiked(isLiked)
-                .replies(enrichedReplies)
-                .build();
-    }
-
-    /**
-     * 특정 대상의 댓글 목록 조회 with 좋아요 정보 (htmx fragment용)
-     */
-    public List<CommentResponse> getCommentsByTarget(EntityType targetType, Long targetId, Long currentUserId) {
-        List<Comment> comments;
+    public CommentThreadResponse getCommentThread(EntityType targetType, Long targetId, Long currentUserId,
+                                                  Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_THREAD_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
 
+        List<Object[]> rootRows;
         if (targetType == EntityType.GROUP_BUY) {
-            comments = commentRepository.findByGroupBuyIdAndParentIsNullOrderByCreatedAtAsc(targetId);
+            rootRows = commentRepository.findGroupBuyRootPage(targetId, currentUserId, cursor, limit);
         } else if (targetType == EntityType.POST) {
-            comments = commentRepository.findByPostIdAndParentIsNullOrderByCreatedAtAsc(targetId);
+            rootRows = commentRepository.findPostRootPage(targetId, currentUserId, cursor, limit);
         } else {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
         }
-        
-        if (comments.isEmpty()) {
-            return List.of();
+
+        boolean hasNext = rootRows.size() > pageSize;
+        if (hasNext) {
+            rootRows = rootRows.subList(0, pageSize);
         }
-        
-        // 대댓글 일괄 조회
-        List<Long> parentIds = comments.stream()
-                .map(Comment::getId)
-                .collect(Collectors.toList());
-        List<Comment> allReplies = commentRepository.findByParentIdIn(parentIds);
-        
-        // 부모 ID별로 대댓글 그룹화
-        Map<Long, List<Comment>> repliesMap = allReplies.stream()
-                .collect(Collectors.groupingBy(reply -> reply.getParent().getId()));
-        
-        // 댓글 응답 생성
-        List<CommentResponse> responses = comments.stream()
-                .map(comment -> {
-                    List<Comment> replies = repliesMap.getOrDefault(comment.getId(), List.of());
-                    return CommentResponse.fromWithReplies(comment, replies);
-                })
-                .collect(Collectors.toList());
-        
-        // 좋아요 정보 일괄 추가
-        return enrichWithLikeInfoBatch(responses, currentUserId);
+        if (rootRows.isEmpty()) {
+            return CommentThreadResponse.builder()
+                    .comments(List.of())
+                    .hasNext(false)
+                    .build();
+        }
+
+        List<Long> rootIds = new ArrayList<>(rootRows.size());
+        for (Object[] row : rootRows) {
+            rootIds.add(((Comment) row[0]).getId());
+        }
+        List<Object[]> replyRows = commentRepository.findRepliesWithLike(rootIds, currentUserId);
+
+        return CommentThreadResponse.builder()
+                .comments(assembleThreads(rootRows, replyRows))
+                .nextCursor(hasNext ? rootIds.get(rootIds.size() - 1) : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
-     * 특정 대상의 댓글 목록 페이지네이션 조회 with 좋아요 정보 (htmx fragment용)
+     * 조회 결과([댓글, 좋아요 ID])로 댓글 트리 응답 생성
+     * 대댓글을 부모 ID별로 먼저 묶은 뒤 각 응답을 한 번씩만 생성한다.
      */
-    public Page<CommentResponse> getCommentsByTargetPageable(EntityType targetType, Long targetId, Long currentUserId, Pageable pageable) {
-        Page<Comment> commentsPage;
-
-        if (targetType == EntityType.GROUP_BUY) {
-            commentsPage = commentRepository.findByGroupBuyIdAndParentIsNullPageable(targetId, pageable);
-        } else if (targetType == EntityType.POST) {
-            commentsPage = commentRepository.findByPostIdAndParentIsNullPageable(targetId, pageable);
-        } else {
-            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    private List<CommentResponse> assembleThreads(List<Object[]> rootRows, List<Object[]> replyRows) {
+        Map<Long, List<CommentResponse>> repliesByRoot = new HashMap<>();
+        for (Object[] row : replyRows) {
+            Comment reply = (Comment) row[0];
+            repliesByRoot.computeIfAbsent(reply.getParent().getId(), key -> new ArrayList<>())
+                    .add(CommentResponse.of(reply, row[1] != null, new ArrayList<>()));
         }
-        
-        List<Comment> comments = commentsPage.getContent();
-        if (comments.isEmpty()) {
-            return commentsPage.map(comment -> CommentResponse.from(comment));
+
+        List<CommentResponse> responses = new ArrayList<>(rootRows.size());
+        for (Object[] row : rootRows) {
+            Comment root = (Comment) row[0];
+            List<CommentResponse> replies = repliesByRoot.remove(root.getId());
+            responses.add(CommentResponse.of(root, row[1] != null, replies != null ? replies : new ArrayList<>()));
         }
-        
-        // 대댓글 일괄 조회
-        List<Long> parentIds = comments.stream()
-                .map(Comment::getId)
-                .collect(Collectors.toList());
-        List<Comment> allReplies = commentRepository.findByParentIdIn(parentIds);
-        
-        // 부모 ID별로 대댓글 그룹화
-        Map<Long, List<Comment>> repliesMap = allReplies.stream()
-                .collect(Collectors.groupingBy(reply -> reply.getParent().getId()));
-        
-        // 댓글 응답 생성
-        List<CommentResponse> responses = comments.stream()
-                .map(comment -> {
-                    List<Comment> replies = repliesMap.getOrDefault(comment.getId(), List.of());
-                    return CommentResponse.fromWithReplies(comment, replies);
-                })
-                .collect(Collectors.toList());
-        
-        // 좋아요 정보 일괄 추가
-        List<CommentResponse> enrichedResponses = enrichWithLikeInfoBatch(responses, currentUserId);
-        
-        // Page 객체로 변환
-        return new org.springframework.data.domain.PageImpl<>(
-                enrichedResponses,
-                commentsPage.getPageable(),
-                commentsPage.getTotalElements()
-        );
+        return responses;
     }
 }
@@ -1,7 +1,7 @@
 package com.recipemate.domain.directmessage.controller;
 
 import com.recipemate.domain.directmessage.dto.ContactResponse;
-import com.recipemate.domain.directmessage.dto.DirectMessageResponse;
+import com.recipemate.domain.directmessage.dto.ConversationPageResponse;
 import com.recipemate.domain.directmessage.dto.SendMessageRequest;
 import com.recipemate.domain.directmessage.service.DirectMessageService;
 import com.recipemate.domain.user.entity.User;
@@ -31,11 +31,12 @@ public class DirectMessageController {
     private final UserRepository userRepository;
 
     /**
-     * 특정 사용자와의 대화 페이지
+     * 특정 사용자와의 대화 페이지 (최신 메시지부터, cursor로 이전 메시지 조회)
      */
     @GetMapping("/conversation/{userId}")
     public String conversationPage(
             @PathVariable Long userId,
+            @RequestParam(required = false) Long cursor,
             @AuthenticationPrincipal UserDetails userDetails,
             Model model
     ) {
@@ -50,15 +51,19 @@ public class DirectMessageController {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 대화 내용 조회
-        List<DirectMessageResponse> messages = directMessageService
-                .getConversation(currentUser.getId(), userId);
+        ConversationPageResponse page = directMessageService
+                .getConversation(currentUser.getId(), userId, cursor, DirectMessageService.DEFAULT_PAGE_SIZE);
 
-        // 읽지 않은 메시지 읽음 처리
-        directMessageService.markAsRead(currentUser.getId(), userId);
+        // 읽지 않은 메시지 읽음 처리 (최신 페이지 조회 시)
+        if (cursor == null) {
+            directMessageService.markAsRead(currentUser.getId(), userId);
+        }
 
         model.addAttribute("currentUserId", currentUser.getId());
         model.addAttribute("otherUser", otherUser);
-        model.addAttribute("messages", messages);
+        model.addAttribute("messages", page.getMessages());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("hasNext", page.getHasNext());
 
         return "direct-messages/conversation";
     }
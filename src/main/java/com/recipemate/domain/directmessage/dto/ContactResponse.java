@@ -1,5 +1,6 @@
 package com.recipemate.domain.directmessage.dto;
 
+import com.recipemate.domain.directmessage.entity.Conversation;
 import com.recipemate.domain.user.entity.User;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -7,6 +8,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -16,6 +19,10 @@ public class ContactResponse {
     private String nickname;
     private String profileImageUrl;
     private Double mannerTemperature;
+    private String lastMessage;
+    private LocalDateTime lastMessageAt;
+    private Boolean lastMessageMine;
+    private Integer unreadCount;
 
     public static ContactResponse from(User user) {
         return ContactResponse.builder()
@@ -25,5 +32,21 @@ public class ContactResponse {
             .mannerTemperature(user.getMannerTemperature())
             .build();
     }
-}
 
+    /**
+     * 대화 요약 기반 응답 (현재 사용자 기준 대화 상대와 안 읽은 수)
+     */
+    public static ContactResponse from(Conversation conversation, Long currentUserId) {
+        User other = conversation.getOtherUser(currentUserId);
+        return ContactResponse.builder()
+            .userId(other.getId())
+            .nickname(other.getNickname())
+            .profileImageUrl(other.getProfileImageUrl())
+            .mannerTemperature(other.getMannerTemperature())
+            .lastMessage(conversation.getLastMessage())
+            .lastMessageAt(conversation.getLastMessageAt())
+            .lastMessageMine(conversation.getLastSenderId().equals(currentUserId))
+            .unreadCount(conversation.getUnreadCountFor(currentUserId))
+            .build();
+    }
+}
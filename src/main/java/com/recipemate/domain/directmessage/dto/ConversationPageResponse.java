@@ -0,0 +1,24 @@
+package com.recipemate.domain.directmessage.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대화 스레드 커서 페이지
+ * - 최신 메시지부터 size개씩 조회하며, 화면 표시를 위해 messages는 오래된 순으로 정렬
+ * - nextCursor: 이전(더 오래된) 메시지 조회 시 전달할 커서 (가장 오래된 메시지 ID), 더 없으면 null
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ConversationPageResponse {
+    private List<DirectMessageResponse> messages;
+    private Long nextCursor;
+    private Boolean hasNext;
+}
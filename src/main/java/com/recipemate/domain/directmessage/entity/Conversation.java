@@ -0,0 +1,102 @@
+package com.recipemate.domain.directmessage.entity;
+
+import com.recipemate.domain.user.entity.User;
+import com.recipemate.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 두 사용자 간 대화 요약 (대화 상대 목록용)
+ * - 사용자 쌍당 한 행이며, ID가 작은 사용자를 user1, 큰 사용자를 user2로 저장
+ * - 마지막 메시지 미리보기/시각과 양쪽의 안 읽은 메시지 수를 쪽지 전송·읽음 처리 시 함께 갱신
+ */
+@Entity
+@Table(name = "conversations",
+    indexes = {
+        @Index(name = "idx_conversation_user1_last", columnList = "user1_id, last_message_at"),
+        @Index(name = "idx_conversation_user2_last", columnList = "user2_id, last_message_at")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_conversation_users", columnNames = {"user1_id", "user2_id"})
+    }
+)
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Conversation extends BaseEntity {
+
+    public static final int PREVIEW_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user1_id", nullable = false, foreignKey = @ForeignKey(name = "fk_conversation_user1"))
+    private User user1;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user2_id", nullable = false, foreignKey = @ForeignKey(name = "fk_conversation_user2"))
+    private User user2;
+
+    @Column(nullable = false, length = PREVIEW_LENGTH)
+    private String lastMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime lastMessageAt;
+
+    @Column(nullable = false)
+    private Long lastSenderId;
+
+    @Column(nullable = false)
+    private Integer user1UnreadCount;
+
+    @Column(nullable = false)
+    private Integer user2UnreadCount;
+
+    //== 생성 메서드 ==//
+    /**
+     * 이미 주고받은 메시지로 대화 요약 생성 (기존 쪽지 데이터 이관용)
+     */
+    public static Conversation restore(User user1, User user2, DirectMessage lastMessage,
+                                       int user1UnreadCount, int user2UnreadCount) {
+        return Conversation.builder()
+            .user1(user1)
+            .user2(user2)
+            .lastMessage(preview(lastMessage.getContent()))
+            .lastMessageAt(lastMessage.getCreatedAt())
+            .lastSenderId(lastMessage.getSender().getId())
+            .user1UnreadCount(user1UnreadCount)
+            .user2UnreadCount(user2UnreadCount)
+            .build();
+    }
+
+    /**
+     * 목록 표시용 메시지 미리보기
+     */
+    public static String preview(String content) {
+        return content.length() <= PREVIEW_LENGTH ? content : content.substring(0, PREVIEW_LENGTH);
+    }
+
+    //== 비즈니스 로직 ==//
+    /**
+     * 현재 사용자 기준 대화 상대
+     */
+    public User getOtherUser(Long userId) {
+        return user1.getId().equals(userId) ? user2 : user1;
+    }
+
+    /**
+     * 현재 사용자 기준 안 읽은 메시지 수
+     */
+    public int getUnreadCountFor(Long userId) {
+        return user1.getId().equals(userId) ? user1UnreadCount : user2UnreadCount;
+    }
+}
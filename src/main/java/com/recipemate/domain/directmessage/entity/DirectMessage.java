@@ -16,7 +16,8 @@ import lombok.experimental.SuperBuilder;
     indexes = {
         @Index(name = "idx_dm_sender_created", columnList = "sender_id, created_at"),
         @Index(name = "idx_dm_receiver_created", columnList = "receiver_id, created_at"),
-        @Index(name = "idx_dm_receiver_is_read", columnList = "receiver_id, is_read, created_at")
+        @Index(name = "idx_dm_receiver_is_read", columnList = "receiver_id, is_read, created_at"),
+        @Index(name = "idx_dm_sender_receiver_id", columnList = "sender_id, receiver_id, id")
     }
 )
 @Getter
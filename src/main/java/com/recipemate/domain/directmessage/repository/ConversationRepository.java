@@ -0,0 +1,82 @@
+package com.recipemate.domain.directmessage.repository;
+
+import com.recipemate.domain.directmessage.entity.Conversation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ConversationRepository extends JpaRepository<Conversation, Long> {
+
+    /**
+     * 사용자의 대화 목록을 마지막 메시지 시각 내림차순으로 조회 (양쪽 사용자 함께 조회)
+     */
+    @Query("SELECT c FROM Conversation c JOIN FETCH c.user1 JOIN FETCH c.user2 " +
+           "WHERE c.user1.id = :userId OR c.user2.id = :userId " +
+           "ORDER BY c.lastMessageAt DESC")
+    List<Conversation> findInbox(@Param("userId") Long userId);
+
+    /**
+     * 새 메시지 반영 (동시성 제어)
+     * 마지막 메시지를 갱신하고 수신자 쪽 안 읽은 수를 1 증가
+     *
+     * @return 갱신된 행 수 (대화 요약이 아직 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Conversation c SET " +
+           "c.lastMessage = :preview, c.lastMessageAt = :sentAt, c.lastSenderId = :senderId, " +
+           "c.user1UnreadCount = c.user1UnreadCount + CASE WHEN c.user1.id = :receiverId THEN 1 ELSE 0 END, " +
+           "c.user2UnreadCount = c.user2UnreadCount + CASE WHEN c.user2.id = :receiverId THEN 1 ELSE 0 END " +
+           "WHERE c.user1.id = :user1Id AND c.user2.id = :user2Id")
+    int applyMessage(@Param("user1Id") Long user1Id,
+                     @Param("user2Id") Long user2Id,
+                     @Param("senderId") Long senderId,
+                     @Param("receiverId") Long receiverId,
+                     @Param("preview") String preview,
+                     @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 첫 메시지로 대화 요약 생성 (이미 있으면 무시, 수신자 쪽 안 읽은 수 1)
+     * 같은 사용자 쌍의 첫 메시지가 동시에 들어와도 유니크 제약 위반 없이 한쪽만 생성된다.
+     *
+     * @return 생성된 행 수 (다른 요청이 먼저 생성했으면 0)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "conversations"))
+    @Query(value = "INSERT INTO conversations (created_at, updated_at, user1_id, user2_id, " +
+           "last_message, last_message_at, last_sender_id, user1_unread_count, user2_unread_count) " +
+           "VALUES (CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, :user1Id, :user2Id, :preview, :sentAt, :senderId, " +
+           "CASE WHEN :receiverId = :user1Id THEN 1 ELSE 0 END, CASE WHEN :receiverId = :user2Id THEN 1 ELSE 0 END) " +
+           "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("user1Id") Long user1Id,
+                       @Param("user2Id") Long user2Id,
+                       @Param("senderId") Long senderId,
+                       @Param("receiverId") Long receiverId,
+                       @Param("preview") String preview,
+                       @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 읽음 처리 반영 (동시성 제어)
+     * 실제로 읽음 처리된 메시지 수만큼만 읽은 사용자 쪽 안 읽은 수를 감소 (0 미만 방지)
+     */
+    @Modifying
+    @Query("UPDATE Conversation c SET " +
+           "c.user1UnreadCount = CASE WHEN c.user1.id = :readerId " +
+           "THEN (CASE WHEN c.user1UnreadCount > :readCount THEN c.user1UnreadCount - :readCount ELSE 0 END) " +
+           "ELSE c.user1UnreadCount END, " +
+           "c.user2UnreadCount = CASE WHEN c.user2.id = :readerId " +
+           "THEN (CASE WHEN c.user2UnreadCount > :readCount THEN c.user2UnreadCount - :readCount ELSE 0 END) " +
+           "ELSE c.user2UnreadCount END " +
+           "WHERE c.user1.id = :user1Id AND c.user2.id = :user2Id")
+    int applyRead(@Param("user1Id") Long user1Id,
+                  @Param("user2Id") Long user2Id,
+                  @Param("readerId") Long readerId,
+                  @Param("readCount") int readCount);
+}
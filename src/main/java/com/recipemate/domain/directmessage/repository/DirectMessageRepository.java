@@ -2,6 +2,7 @@ package com.recipemate.domain.directmessage.repository;
 
 import com.recipemate.domain.directmessage.entity.DirectMessage;
 import com.recipemate.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,15 +13,20 @@ import java.util.List;
 public interface DirectMessageRepository extends JpaRepository<DirectMessage, Long> {
 
     /**
-     * 두 사용자 간의 대화 내용을 생성 시간 오름차순으로 조회
+     * 한 방향(발신자 → 수신자) 메시지를 ID 내림차순으로 커서 조회
+     * 대화 스레드는 양방향을 각각 조회한 뒤 병합하여 (sender_id, receiver_id, id) 인덱스만으로 처리
+     *
+     * @param cursorId 이 ID보다 오래된 메시지만 조회 (null이면 최신부터)
      */
-    @Query("SELECT dm FROM DirectMessage dm WHERE " +
-           "(dm.sender = :user1 AND dm.receiver = :user2) OR " +
-           "(dm.sender = :user2 AND dm.receiver = :user1) " +
-           "ORDER BY dm.createdAt ASC")
-    List<DirectMessage> findConversationBetween(
-        @Param("user1") User user1,
-        @Param("user2") User user2
+    @Query("SELECT dm FROM DirectMessage dm JOIN FETCH dm.sender JOIN FETCH dm.receiver " +
+           "WHERE dm.sender.id = :senderId AND dm.receiver.id = :receiverId " +
+           "AND (:cursorId IS NULL OR dm.id < :cursorId) " +
+           "ORDER BY dm.id DESC")
+    List<DirectMessage> findDirectionPage(
+        @Param("senderId") Long senderId,
+        @Param("receiverId") Long receiverId,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
     );
 
     /**
@@ -37,12 +43,11 @@ public interface DirectMessageRepository extends JpaRepository<DirectMessage, Lo
     int markAllAsReadBetween(@Param("receiver") User receiver, @Param("sender") User sender);
 
     /**
-     * 최근 대화 상대 목록 조회
-     * 발신자로서 보낸 메시지의 수신자들과 수신자로서 받은 메시지의 발신자들을 조회
+     * 방향별 마지막 메시지 ID와 안 읽은 메시지 수 집계 (대화 요약 이관용)
+     * 결과: [senderId, receiverId, 마지막 메시지 ID, 안 읽은 수]
      */
-    @Query("SELECT DISTINCT u FROM User u WHERE u.id IN " +
-           "(SELECT dm.receiver.id FROM DirectMessage dm WHERE dm.sender.id = :userId) OR u.id IN " +
-           "(SELECT dm.sender.id FROM DirectMessage dm WHERE dm.receiver.id = :userId)")
-    List<User> findRecentContacts(@Param("userId") Long userId);
+    @Query("SELECT dm.sender.id, dm.receiver.id, MAX(dm.id), " +
+           "SUM(CASE WHEN dm.isRead = false THEN 1 ELSE 0 END) " +
+           "FROM DirectMessage dm GROUP BY dm.sender.id, dm.receiver.id")
+    List<Object[]> summarizeByDirection();
 }
-
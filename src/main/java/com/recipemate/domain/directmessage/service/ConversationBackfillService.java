@@ -0,0 +1,99 @@
+package com.recipemate.domain.directmessage.service;
+
+import com.recipemate.domain.directmessage.entity.Conversation;
+import com.recipemate.domain.directmessage.entity.DirectMessage;
+import com.recipemate.domain.directmessage.repository.ConversationRepository;
+import com.recipemate.domain.directmessage.repository.DirectMessageRepository;
+import com.recipemate.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대화 요약 이관
+ * 대화 요약(conversations) 도입 전에 주고받은 쪽지로 요약을 한 번 생성한다.
+ * 요약이 하나도 없고 쪽지가 있을 때만 서버 시작 시 실행된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConversationBackfillService {
+
+    private final ConversationRepository conversationRepository;
+    private final DirectMessageRepository directMessageRepository;
+    private final UserRepository userRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void onApplicationReady() {
+        if (conversationRepository.count() > 0 || directMessageRepository.count() == 0) {
+            return;
+        }
+
+        // 방향별 집계를 사용자 쌍(작은 ID, 큰 ID) 기준으로 합침
+        Map<String, PairSummary> pairs = new HashMap<>();
+        for (Object[] row : directMessageRepository.summarizeByDirection()) {
+            Long senderId = (Long) row[0];
+            Long receiverId = (Long) row[1];
+            Long lastMessageId = (Long) row[2];
+            int unread = ((Number) row[3]).intValue();
+
+            long user1Id = Math.min(senderId, receiverId);
+            long user2Id = Math.max(senderId, receiverId);
+            PairSummary pair = pairs.computeIfAbsent(user1Id + ":" + user2Id,
+                key -> new PairSummary(user1Id, user2Id));
+            pair.lastMessageId = Math.max(pair.lastMessageId, lastMessageId);
+            if (receiverId == user1Id) {
+                pair.user1Unread += unread;
+            } else {
+                pair.user2Unread += unread;
+            }
+        }
+
+        Map<Long, DirectMessage> lastMessages = directMessageRepository
+            .findAllById(pairs.values().stream().map(pair -> pair.lastMessageId).toList())
+            .stream()
+            .collect(Collectors.toMap(DirectMessage::getId, Function.identity()));
+
+        List<Conversation> conversations = new ArrayList<>(pairs.size());
+        for (PairSummary pair : pairs.values()) {
+            DirectMessage lastMessage = lastMessages.get(pair.lastMessageId);
+            if (lastMessage == null) {
+                continue;
+            }
+            conversations.add(Conversation.restore(
+                userRepository.getReferenceById(pair.user1Id),
+                userRepository.getReferenceById(pair.user2Id),
+                lastMessage,
+                pair.user1Unread,
+                pair.user2Unread
+            ));
+        }
+        conversationRepository.saveAll(conversations);
+
+        log.info("대화 요약 이관 완료: {}건", conversations.size());
+    }
+
+    private static final class PairSummary {
+        private final long user1Id;
+        private final long user2Id;
+        private long lastMessageId;
+        private int user1Unread;
+        private int user2Unread;
+
+        private PairSummary(long user1Id, long user2Id) {
+            this.user1Id = user1Id;
+            this.user2Id = user2Id;
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.recipemate.domain.directmessage.service;
 
 import com.recipemate.domain.directmessage.dto.ContactResponse;
+import com.recipemate.domain.directmessage.dto.ConversationPageResponse;
 import com.recipemate.domain.directmessage.dto.DirectMessageResponse;
+import com.recipemate.domain.directmessage.entity.Conversation;
 import com.recipemate.domain.directmessage.entity.DirectMessage;
+import com.recipemate.domain.directmessage.repository.ConversationRepository;
 import com.recipemate.domain.directmessage.repository.DirectMessageRepository;
 import com.recipemate.domain.notification.service.NotificationService;
 import com.recipemate.domain.user.entity.User;
@@ -12,9 +15,14 @@ import com.recipemate.global.common.NotificationType;
 import com.recipemate.global.exception.CustomException;
 import com.recipemate.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,7 +31,11 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DirectMessageService {
 
+    public static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final DirectMessageRepository directMessageRepository;
+    private final ConversationRepository conversationRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
 
@@ -40,6 +52,17 @@ public class DirectMessageService {
         DirectMessage message = DirectMessage.create(sender, recipient, content);
         DirectMessage saved = directMessageRepository.save(message);
 
+        // 대화 요약 갱신 (없으면 생성)
+        Long user1Id = Math.min(senderId, recipientId);
+        Long user2Id = Math.max(senderId, recipientId);
+        String preview = Conversation.preview(saved.getContent());
+        LocalDateTime sentAt = saved.getCreatedAt();
+        if (conversationRepository.applyMessage(user1Id, user2Id, senderId, recipientId, preview, sentAt) == 0
+            && conversationRepository.insertIfAbsent(user1Id, user2Id, senderId, recipientId, preview, sentAt) == 0) {
+            // 동시에 들어온 첫 메시지가 먼저 생성했으면 그 행에 반영
+            conversationRepository.applyMessage(user1Id, user2Id, senderId, recipientId, preview, sentAt);
+        }
+
         // 수신자에게 알림 전송
         notificationService.createNotification(
             recipientId,
@@ -53,20 +76,39 @@ public class DirectMessageService {
     }
 
     /**
-     * 두 사용자 간의 대화 내용 조회
+     * 두 사용자 간의 대화 내용 조회 (커서 기반, 최신 메시지부터)
+     * 양방향 메시지를 각각 size + 1개까지 조회해 병합하므로 대화 길이와 무관하게 한 페이지만 읽는다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (null이면 최신 페이지)
+     * @param size 페이지 크기
      */
-    public List<DirectMessageResponse> getConversation(Long currentUserId, Long otherUserId) {
-        User currentUser = userRepository.findById(currentUserId)
-            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        User otherUser = userRepository.findById(otherUserId)
-            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        List<DirectMessage> messages = directMessageRepository
-            .findConversationBetween(currentUser, otherUser);
-
-        return messages.stream()
-            .map(DirectMessageResponse::from)
-            .collect(Collectors.toList());
+    public ConversationPageResponse getConversation(Long currentUserId, Long otherUserId, Long cursor, int size) {
+        if (!userRepository.existsById(currentUserId) || !userRepository.existsById(otherUserId)) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<DirectMessage> merged = new ArrayList<>(
+            directMessageRepository.findDirectionPage(currentUserId, otherUserId, cursor, limit));
+        merged.addAll(directMessageRepository.findDirectionPage(otherUserId, currentUserId, cursor, limit));
+        merged.sort(Comparator.comparing(DirectMessage::getId).reversed());
+
+        boolean hasNext = merged.size() > pageSize;
+        List<DirectMessage> page = hasNext ? merged.subList(0, pageSize) : merged;
+
+        // 화면에는 오래된 메시지부터 표시
+        List<DirectMessageResponse> messages = new ArrayList<>(page.size());
+        for (int i = page.size() - 1; i >= 0; i--) {
+            messages.add(DirectMessageResponse.from(page.get(i)));
+        }
+
+        return ConversationPageResponse.builder()
+            .messages(messages)
+            .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+            .hasNext(hasNext)
+            .build();
     }
 
     /**
@@ -79,7 +121,17 @@ public class DirectMessageService {
         User sender = userRepository.findById(senderId)
             .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        directMessageRepository.markAllAsReadBetween(receiver, sender);
+        int readCount = directMessageRepository.markAllAsReadBetween(receiver, sender);
+
+        // 읽음 처리된 수만큼 대화 요약의 안 읽은 수 감소
+        if (readCount > 0) {
+            conversationRepository.applyRead(
+                Math.min(receiverId, senderId),
+                Math.max(receiverId, senderId),
+                receiverId,
+                readCount
+            );
+        }
     }
 
     /**
@@ -92,18 +144,15 @@ public class DirectMessageService {
     }
 
     /**
-     * 최근 대화 상대 목록 조회
+     * 최근 대화 상대 목록 조회 (대화 요약 기준, 마지막 메시지 시각 내림차순)
      */
     public List<ContactResponse> getRecentContacts(Long userId) {
         // 사용자 존재 확인
         userRepository.findById(userId)
             .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        List<User> contacts = directMessageRepository.findRecentContacts(userId);
-
-        return contacts.stream()
-            .map(ContactResponse::from)
+        return conversationRepository.findInbox(userId).stream()
+            .map(conversation -> ContactResponse.from(conversation, userId))
             .collect(Collectors.toList());
     }
 }
-
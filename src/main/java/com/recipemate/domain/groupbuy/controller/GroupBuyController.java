@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.recipemate.domain.groupbuy.dto.CreateGroupBuyRequest;
 import com.recipemate.domain.groupbuy.dto.GroupBuyResponse;
 import com.recipemate.domain.groupbuy.dto.GroupBuySearchCondition;
+import com.recipemate.domain.groupbuy.dto.NearbyGroupBuyResponse;
 import com.recipemate.domain.groupbuy.dto.ParticipateRequest;
 import com.recipemate.domain.groupbuy.dto.SelectedIngredient;
 import com.recipemate.domain.groupbuy.dto.UpdateGroupBuyRequest;
@@ -48,6 +49,7 @@ public class GroupBuyController {
     private final ParticipationService participationService;
     private final WishlistService wishlistService;
     private final com.recipemate.domain.recipe.service.RecipeService recipeService;
+    private final com.recipemate.domain.recipe.service.RecipeDetailLoader recipeDetailLoader;
     private final ObjectMapper objectMapper;
     
     @Value("${kakao.javascript-key:}")
@@ -138,7 +140,7 @@ public class GroupBuyController {
                     recipeService.getRecipeDetailById(recipeDbId);
                 } else {
                     // 접두사 있음 = API 레시피 (API ID로 조회)
-                    recipeService.getRecipeDetailByApiId(recipeApiId);
+                    recipeDetailLoader.getRecipeDetailByApiId(recipeApiId);
                 }
                 
                 model.addAttribute("isRecipeDeleted", false);
@@ -211,7 +213,7 @@ public class GroupBuyController {
                     recipe = recipeService.getRecipeDetailById(dbId);
                 } else {
                     // 접두사가 있으면 API ID로 조회 (meal-, food- 등)
-                    recipe = recipeService.getRecipeDetailByApiId(recipeApiId);
+                    recipe = recipeDetailLoader.getRecipeDetailByApiId(recipeApiId);
                 }
 
                 model.addAttribute("recipe", recipe);
@@ -742,6 +744,40 @@ public class GroupBuyController {
         return ApiResponse.success(isWishlisted);
     }
     
+    /**
+     * 근처 공구 조회 (반경 검색)
+     * GET /group-purchases/nearby?lat=37.5&lng=127.0&radiusKm=3&limit=20
+     */
+    @GetMapping("/nearby")
+    @ResponseBody
+    public ApiResponse<List<NearbyGroupBuyResponse>> findNearbyGroupBuys(
+        @RequestParam("lat") double latitude,
+        @RequestParam("lng") double longitude,
+        @RequestParam(defaultValue = "3") double radiusKm,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ApiResponse.success(groupBuyService.findNearbyGroupBuys(latitude, longitude, radiusKm, limit));
+    }
+
+    /**
+     * 지도 영역 내 공구 조회 (bounding box 검색)
+     * GET /group-purchases/nearby/bounds?minLat=..&minLng=..&maxLat=..&maxLng=..[&lat=..&lng=..]
+     */
+    @GetMapping("/nearby/bounds")
+    @ResponseBody
+    public ApiResponse<List<NearbyGroupBuyResponse>> findGroupBuysInBounds(
+        @RequestParam("minLat") double minLatitude,
+        @RequestParam("minLng") double minLongitude,
+        @RequestParam("maxLat") double maxLatitude,
+        @RequestParam("maxLng") double maxLongitude,
+        @RequestParam(value = "lat", required = false) Double latitude,
+        @RequestParam(value = "lng", required = false) Double longitude,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ApiResponse.success(groupBuyService.findGroupBuysInBounds(
+            minLatitude, minLongitude, maxLatitude, maxLongitude, latitude, longitude, limit));
+    }
+    
     // ========== htmx용 HTML Fragment 엔드포인트 (향후 추가) ==========
     // TODO: htmx 통합 시 아래 엔드포인트 구현
     // @GetMapping("/search-fragment") - 검색 결과 HTML 조각 (리스트 아이템들)
@@ -0,0 +1,61 @@
+package com.recipemate.domain.groupbuy.dto;
+
+import com.recipemate.global.common.DeliveryMethod;
+import com.recipemate.global.common.GroupBuyCategory;
+import com.recipemate.global.common.GroupBuyStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공구 카드(목록) 렌더링용 읽기 전용 프로젝션 DTO
+ * 엔티티를 로딩하지 않고 QueryDSL 생성자 프로젝션으로 한 번에 조회
+ * - 주최자 닉네임/매너온도: host 조인
+ * - 대표 이미지: display_order = 0 이미지 서브쿼리
+ * - 후기 통계: 공구의 비정규화 집계 컬럼
+ *
+ * 주의: 생성자 파라미터 순서가 GroupBuyRepositoryImpl의 cardProjection()과 일치해야 함
+ */
+@Getter
+@AllArgsConstructor
+public class GroupBuyCardDto {
+    private Long id;
+    private String title;
+    private String content;
+    private String ingredients; // 목록 JSON 응답 호환 (GroupBuyResponse.ingredients)
+    private GroupBuyCategory category;
+    private Integer targetAmount;
+    private Integer currentAmount;
+    private Integer targetHeadcount;
+    private Integer currentHeadcount;
+    private LocalDateTime deadline;
+    private DeliveryMethod deliveryMethod;
+    private String meetupLocation;
+    private Double latitude;
+    private Double longitude;
+    private Integer parcelFee;
+    private Boolean isParticipantListPublic;
+    private GroupBuyStatus status;
+    private Long hostId;
+    private String hostNickname;
+    private Double hostMannerTemperature;
+    private String recipeApiId;
+    private String recipeName;
+    private String recipeImageUrl;
+    private String thumbnailUrl;
+    private Integer reviewCount;
+    private Integer reviewRatingSum;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * 후기 평균 평점 (후기가 없으면 0.0)
+     */
+    public double getAverageRating() {
+        if (reviewCount == null || reviewCount == 0) {
+            return 0.0;
+        }
+        return (double) reviewRatingSum / reviewCount;
+    }
+}
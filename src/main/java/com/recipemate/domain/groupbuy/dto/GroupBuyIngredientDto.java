@@ -0,0 +1,18 @@
+package com.recipemate.domain.groupbuy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재료 인덱스 구성을 위한 공구 재료 정보 DTO
+ * 엔티티 전체를 로딩하지 않도록 JPQL 생성자 표현식으로 매핑
+ */
+@Getter
+@AllArgsConstructor
+public class GroupBuyIngredientDto {
+    private Long groupBuyId;
+    private String ingredients; // SelectedIngredient 목록 JSON
+    private LocalDateTime deadline;
+}
@@ -0,0 +1,19 @@
+package com.recipemate.domain.groupbuy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 위치 인덱스 구성을 위한 공구 좌표 정보 DTO
+ * 엔티티 전체를 로딩하지 않도록 JPQL 생성자 표현식으로 매핑
+ */
+@Getter
+@AllArgsConstructor
+public class GroupBuyLocationDto {
+    private Long groupBuyId;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime deadline;
+}
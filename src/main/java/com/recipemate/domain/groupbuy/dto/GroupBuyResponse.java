@@ -96,6 +96,43 @@ public class GroupBuyResponse {
                 .build();
     }
     
+    // 카드 프로젝션으로부터 생성 (목록 조회용, 이미지는 대표 이미지만 포함)
+    public static GroupBuyResponse from(GroupBuyCardDto card) {
+        return GroupBuyResponse.builder()
+                .id(card.getId())
+                .title(card.getTitle())
+                .content(card.getContent())
+                .ingredients(card.getIngredients())
+                .category(card.getCategory())
+                .targetAmount(card.getTargetAmount())
+                .currentAmount(card.getCurrentAmount())
+                .targetHeadcount(card.getTargetHeadcount())
+                .currentHeadcount(card.getCurrentHeadcount())
+                .deadline(card.getDeadline())
+                .deliveryMethod(card.getDeliveryMethod())
+                .meetupLocation(card.getMeetupLocation())
+                .latitude(card.getLatitude())
+                .longitude(card.getLongitude())
+                .parcelFee(card.getParcelFee())
+                .isParticipantListPublic(card.getIsParticipantListPublic())
+                .status(card.getStatus())
+                .hostId(card.getHostId())
+                .hostNickname(card.getHostNickname())
+                .hostMannerTemperature(card.getHostMannerTemperature())
+                .recipeApiId(card.getRecipeApiId())
+                .recipeName(card.getRecipeName())
+                .recipeImageUrl(card.getRecipeImageUrl())
+                .imageUrls(card.getThumbnailUrl() != null ? List.of(card.getThumbnailUrl()) : List.of())
+                .isHost(false)
+                .isParticipant(false)
+                .isCancellable(false)
+                .averageRating(card.getAverageRating())
+                .reviewCount(card.getReviewCount())
+                .createdAt(card.getCreatedAt())
+                .updatedAt(card.getUpdatedAt())
+                .build();
+    }
+    
     // 사용자 상태 정보를 포함한 팩토리 메서드
     public static GroupBuyResponse from(GroupBuy groupBuy, List<String> imageUrls, 
                                         boolean isHost, boolean isParticipant, boolean isCancellable) {
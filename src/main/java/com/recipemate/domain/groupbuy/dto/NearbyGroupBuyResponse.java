@@ -0,0 +1,15 @@
+package com.recipemate.domain.groupbuy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 근처 공구 검색 결과 DTO
+ * 공구 정보와 기준 좌표로부터의 거리(km)를 함께 반환
+ */
+@Getter
+@AllArgsConstructor
+public class NearbyGroupBuyResponse {
+    private GroupBuyResponse groupBuy;
+    private double distanceKm;
+}
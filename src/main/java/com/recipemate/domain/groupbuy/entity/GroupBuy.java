@@ -112,6 +112,36 @@ public class GroupBuy extends BaseEntity {
     @Column(length = 500)
     private final String recipeImageUrl;
 
+    // == 후기 집계 (비정규화) ==//
+    // ReviewAggregateService의 벌크 UPDATE로만 변경되며, 엔티티 flush가 집계를 덮어쓰지 않도록 updatable = false
+    @Builder.Default
+    @Column(name = "review_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer reviewCount = 0;
+
+    @Builder.Default
+    @Column(name = "review_rating_sum", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer reviewRatingSum = 0;
+
+    @Builder.Default
+    @Column(name = "review_rating1_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer reviewRating1Count = 0;
+
+    @Builder.Default
+    @Column(name = "review_rating2_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer reviewRating2Count = 0;
+
+    @Builder.Default
+    @Column(name = "review_rating3_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer reviewRating3Count = 0;
+
+    @Builder.Default
+    @Column(name = "review_rating4_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer reviewRating4Count = 0;
+
+    @Builder.Default
+    @Column(name = "review_rating5_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer reviewRating5Count = 0;
+
     @Builder.Default
     @OneToMany(mappedBy = "groupBuy", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Participation> participations = new ArrayList<>();
@@ -392,6 +422,29 @@ public class GroupBuy extends BaseEntity {
         return (this.status == GroupBuyStatus.RECRUITING || this.status == GroupBuyStatus.IMMINENT) && !isTargetReached();
     }
 
+    /**
+     * 후기 평균 평점 (후기가 없으면 null)
+     */
+    public Double getAverageRating() {
+        if (this.reviewCount == null || this.reviewCount == 0) {
+            return null;
+        }
+        return (double) this.reviewRatingSum / this.reviewCount;
+    }
+
+    /**
+     * 평점별 후기 개수 (1~5점 모두 포함)
+     */
+    public java.util.Map<Integer, Long> getRatingDistribution() {
+        java.util.Map<Integer, Long> distribution = new java.util.HashMap<>();
+        distribution.put(1, (long) this.reviewRating1Count);
+        distribution.put(2, (long) this.reviewRating2Count);
+        distribution.put(3, (long) this.reviewRating3Count);
+        distribution.put(4, (long) this.reviewRating4Count);
+        distribution.put(5, (long) this.reviewRating5Count);
+        return distribution;
+    }
+
     public boolean isRecipeBased() {
         return this.recipeApiId != null;
     }
@@ -1,15 +1,22 @@
 package com.recipemate.domain.groupbuy.repository;
 
+import com.recipemate.domain.groupbuy.dto.GroupBuyIngredientDto;
+import com.recipemate.domain.groupbuy.dto.GroupBuyLocationDto;
 import com.recipemate.domain.groupbuy.entity.GroupBuy;
 import com.recipemate.global.common.GroupBuyStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -75,6 +82,12 @@ public interface GroupBuyRepository extends JpaRepository<GroupBuy, Long>, JpaSp
 
     long countByHostIdAndStatus(Long hostId, GroupBuyStatus status);
 
+    /**
+     * 공구 주최자 ID 목록 (주최자 프로필 캐시 무효화용)
+     */
+    @Query("SELECT DISTINCT g.host.id FROM GroupBuy g WHERE g.id IN :ids")
+    List<Long> findHostIdsByIdIn(@Param("ids") Collection<Long> ids);
+
     boolean existsByHostIdAndRecipeApiIdAndStatus(Long hostId, String recipeApiId, GroupBuyStatus status);
 
     @Query("SELECT DISTINCT g FROM GroupBuy g LEFT JOIN FETCH g.host h WHERE g.id = :id AND (h.deletedAt IS NULL OR h.deletedAt IS NOT NULL)")
@@ -103,4 +116,62 @@ public interface GroupBuyRepository extends JpaRepository<GroupBuy, Long>, JpaSp
 
     @Query("SELECT CASE WHEN COUNT(g) > 0 THEN true ELSE false END FROM GroupBuy g WHERE g.host.id = :hostId AND g.status IN :statuses AND g.deletedAt IS NULL")
     boolean existsByHostIdAndStatusInAndNotDeleted(@Param("hostId") Long hostId, @Param("statuses") List<GroupBuyStatus> statuses);
+
+    /**
+     * 후기 집계 증감 반영 (단일 UPDATE로 원자적 처리)
+     * addedRating/removedRating이 0이면 해당 방향의 변화가 없음을 의미
+     * 생성: (rating, 0), 수정: (newRating, oldRating), 삭제: (0, rating)
+     */
+    @Modifying
+    @Query("UPDATE GroupBuy g SET " +
+           "g.reviewCount = g.reviewCount + :countDelta, " +
+           "g.reviewRatingSum = g.reviewRatingSum + :addedRating - :removedRating, " +
+           "g.reviewRating1Count = g.reviewRating1Count + CASE WHEN :addedRating = 1 THEN 1 ELSE 0 END - CASE WHEN :removedRating = 1 THEN 1 ELSE 0 END, " +
+           "g.reviewRating2Count = g.reviewRating2Count + CASE WHEN :addedRating = 2 THEN 1 ELSE 0 END - CASE WHEN :removedRating = 2 THEN 1 ELSE 0 END, " +
+           "g.reviewRating3Count = g.reviewRating3Count + CASE WHEN :addedRating = 3 THEN 1 ELSE 0 END - CASE WHEN :removedRating = 3 THEN 1 ELSE 0 END, " +
+           "g.reviewRating4Count = g.reviewRating4Count + CASE WHEN :addedRating = 4 THEN 1 ELSE 0 END - CASE WHEN :removedRating = 4 THEN 1 ELSE 0 END, " +
+           "g.reviewRating5Count = g.reviewRating5Count + CASE WHEN :addedRating = 5 THEN 1 ELSE 0 END - CASE WHEN :removedRating = 5 THEN 1 ELSE 0 END " +
+           "WHERE g.id = :groupBuyId")
+    int applyReviewDelta(@Param("groupBuyId") Long groupBuyId,
+                         @Param("countDelta") int countDelta,
+                         @Param("addedRating") int addedRating,
+                         @Param("removedRating") int removedRating);
+
+    /**
+     * 후기 집계 전체 재계산 (집계 불일치 보정용)
+     */
+    @Modifying
+    // 2차 캐시 무효화 범위를 group_buys 테이블로 한정 (미지정 시 네이티브 UPDATE가 모든 캐시 영역을 비움)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "group_buys"))
+    @Query(value = "UPDATE group_buys SET " +
+           "review_count = (SELECT COUNT(*) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL), " +
+           "review_rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL), " +
+           "review_rating1_count = (SELECT COUNT(*) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL AND r.rating = 1), " +
+           "review_rating2_count = (SELECT COUNT(*) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL AND r.rating = 2), " +
+           "review_rating3_count = (SELECT COUNT(*) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL AND r.rating = 3), " +
+           "review_rating4_count = (SELECT COUNT(*) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL AND r.rating = 4), " +
+           "review_rating5_count = (SELECT COUNT(*) FROM reviews r WHERE r.group_buy_id = group_buys.id AND r.deleted_at IS NULL AND r.rating = 5)",
+           nativeQuery = true)
+    int rebuildReviewAggregates();
+
+    // 위치 인덱스용 쿼리 메서드
+    @Query("SELECT new com.recipemate.domain.groupbuy.dto.GroupBuyLocationDto(g.id, g.latitude, g.longitude, g.deadline) " +
+           "FROM GroupBuy g WHERE g.status IN :statuses AND g.deadline > :now " +
+           "AND g.latitude IS NOT NULL AND g.longitude IS NOT NULL AND g.deletedAt IS NULL")
+    List<GroupBuyLocationDto> findActiveLocations(@Param("statuses") List<GroupBuyStatus> statuses,
+                                                  @Param("now") LocalDateTime now);
+
+    // 재료 인덱스용 쿼리 메서드
+    @Query("SELECT new com.recipemate.domain.groupbuy.dto.GroupBuyIngredientDto(g.id, g.ingredients, g.deadline) " +
+           "FROM GroupBuy g WHERE g.status IN :statuses AND g.deadline > :now " +
+           "AND g.ingredients IS NOT NULL AND g.deletedAt IS NULL")
+    List<GroupBuyIngredientDto> findActiveIngredients(@Param("statuses") List<GroupBuyStatus> statuses,
+                                                      @Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.recipemate.domain.groupbuy.dto.GroupBuyIngredientDto(g.id, g.ingredients, g.deadline) " +
+           "FROM GroupBuy g WHERE g.id IN :ids AND g.status IN :statuses AND g.deadline > :now " +
+           "AND g.ingredients IS NOT NULL AND g.deletedAt IS NULL")
+    List<GroupBuyIngredientDto> findActiveIngredientsByIdIn(@Param("ids") Collection<Long> ids,
+                                                            @Param("statuses") List<GroupBuyStatus> statuses,
+                                                            @Param("now") LocalDateTime now);
 }
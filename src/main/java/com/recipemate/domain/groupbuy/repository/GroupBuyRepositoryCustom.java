@@ -1,12 +1,13 @@
 package com.recipemate.domain.groupbuy.repository;
 
+import com.recipemate.domain.groupbuy.dto.GroupBuyCardDto;
 import com.recipemate.domain.groupbuy.dto.GroupBuySearchCondition;
-import com.recipemate.domain.groupbuy.dto.GroupBuyWithReviewStatsDto;
 import com.recipemate.domain.groupbuy.entity.GroupBuy;
 import com.recipemate.global.common.GroupBuyStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -25,13 +26,13 @@ public interface GroupBuyRepositoryCustom {
     Page<GroupBuy> searchGroupBuys(GroupBuySearchCondition condition, Pageable pageable);
     
     /**
-     * 검색 조건에 따라 공구 목록을 리뷰 통계와 함께 조회 (N+1 문제 해결)
+     * 검색 조건에 따라 공구 카드 목록을 프로젝션으로 조회 (엔티티 로딩 없음)
      * 
      * @param condition 검색 조건 (keyword, category, status, recipeOnly)
      * @param pageable 페이징 정보
-     * @return 검색 결과 페이지 (리뷰 통계 포함)
+     * @return 검색 결과 페이지
      */
-    Page<GroupBuyWithReviewStatsDto> searchGroupBuysWithReviewStats(GroupBuySearchCondition condition, Pageable pageable);
+    Page<GroupBuyCardDto> searchGroupBuyCards(GroupBuySearchCondition condition, Pageable pageable);
     
     /**
      * 인기 공구 목록 조회 (참여자 수 기준 내림차순)
@@ -43,6 +44,30 @@ public interface GroupBuyRepositoryCustom {
      */
     List<GroupBuy> findPopularGroupBuys(List<GroupBuyStatus> statuses, Pageable pageable);
     
+    /**
+     * 인기 공구 카드 목록 조회 (findPopularGroupBuys와 동일 조건, 프로젝션)
+     */
+    List<GroupBuyCardDto> findPopularGroupBuyCards(List<GroupBuyStatus> statuses, Pageable pageable);
+    
+    /**
+     * 마감 임박(IMMINENT) 공구 카드 목록 조회 (마감일 오름차순)
+     * 
+     * @param start 마감일 범위 시작
+     * @param end 마감일 범위 끝
+     * @param limit 조회할 개수
+     */
+    List<GroupBuyCardDto> findImminentGroupBuyCards(LocalDateTime start, LocalDateTime end, int limit);
+    
+    /**
+     * ID 목록으로 공구 카드 조회 (순서 보장 안 함, 삭제된 공구 제외)
+     */
+    List<GroupBuyCardDto> findGroupBuyCardsByIds(List<Long> ids);
+    
+    /**
+     * 레시피 기반 공구 카드 목록 조회 (모든 상태, 삭제된 공구 제외)
+     */
+    List<GroupBuyCardDto> findGroupBuyCardsByRecipeApiId(String recipeApiId);
+    
     /**
      * 검색 조건에 맞는 공구 개수만 조회 (COUNT 쿼리)
      * 
@@ -1,17 +1,22 @@
 package com.recipemate.domain.groupbuy.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.recipemate.domain.groupbuy.dto.GroupBuyCardDto;
 import com.recipemate.domain.groupbuy.dto.GroupBuySearchCondition;
-import com.recipemate.domain.groupbuy.dto.GroupBuyWithReviewStatsDto;
 import com.recipemate.domain.groupbuy.entity.GroupBuy;
 import com.recipemate.domain.groupbuy.entity.QGroupBuy;
-import com.recipemate.domain.review.entity.QReview;
+import com.recipemate.domain.groupbuy.entity.QGroupBuyImage;
+import com.recipemate.domain.user.entity.QUser;
 import com.recipemate.global.common.GroupBuyStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -20,9 +25,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * GroupBuy 커스텀 Repository 구현체
@@ -39,245 +43,58 @@ public class GroupBuyRepositoryImpl implements GroupBuyRepositoryCustom {
         QGroupBuy groupBuy = QGroupBuy.groupBuy;
 
         // 동적 쿼리 조건 빌드
-        BooleanBuilder builder = new BooleanBuilder();
-
-        // 삭제되지 않은 공구만 조회
-        builder.and(groupBuy.deletedAt.isNull());
-
-        // 키워드 검색 (제목 또는 내용에 포함)
-        if (StringUtils.hasText(condition.getKeyword())) {
-            builder.and(
-                groupBuy.title.containsIgnoreCase(condition.getKeyword())
-                    .or(groupBuy.content.containsIgnoreCase(condition.getKeyword()))
-            );
-        }
-
-        // 재료명 검색
-        if (StringUtils.hasText(condition.getIngredients())) {
-            builder.and(groupBuy.ingredients.containsIgnoreCase(condition.getIngredients()));
-        }
-
-        // 카테고리 필터
-        if (condition.getCategory() != null) {
-            builder.and(groupBuy.category.eq(condition.getCategory()));
-        }
-
-        // 상태 필터
-        if (condition.getStatus() != null) {
-            builder.and(groupBuy.status.eq(condition.getStatus()));
-        }
-
-        // 레시피 기반 공구 필터
-        if (condition.getRecipeOnly() != null && condition.getRecipeOnly()) {
-            builder.and(groupBuy.recipeApiId.isNotNull());
-        }
+        Predicate predicate = searchPredicate(condition);
 
         // 전체 개수 조회 (별도 count 쿼리 실행)
-        Long totalCount = queryFactory
-                .select(groupBuy.count())
-                .from(groupBuy)
-                .where(builder)
-                .fetchOne();
-
-        // null 방지
-        long total = (totalCount != null) ? totalCount : 0L;
+        long total = countByCondition(condition);
 
         // 페이징 및 정렬 적용하여 조회 (host를 fetchJoin으로 함께 조회)
         JPAQuery<GroupBuy> query = queryFactory
                 .selectFrom(groupBuy)
                 .leftJoin(groupBuy.host).fetchJoin()
-                .where(builder)
+                .where(predicate)
+                .orderBy(searchOrder(condition))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize());
 
-        // 커스텀 정렬 로직 (condition의 sortBy, direction 우선 사용)
-        String sortBy = condition.getSortBy() != null ? condition.getSortBy() : "latest";
-        String direction = condition.getDirection() != null ? condition.getDirection() : "desc";
-        Order sortOrder = "asc".equals(direction) ? Order.ASC : Order.DESC;
-
-        OrderSpecifier<?> orderSpecifier = switch (sortBy) {
-            case "latest" -> new OrderSpecifier<>(sortOrder, groupBuy.createdAt);
-            case "deadline" -> new OrderSpecifier<>(sortOrder, groupBuy.deadline);
-            case "participants" -> new OrderSpecifier<>(sortOrder, groupBuy.currentHeadcount);
-            case "price" -> {
-                // 1인당 가격 = targetAmount / targetHeadcount
-                NumberExpression<Double> pricePerPerson = 
-                    groupBuy.targetAmount.doubleValue().divide(groupBuy.targetHeadcount.doubleValue());
-                yield new OrderSpecifier<>(sortOrder, pricePerPerson);
-            }
-            default -> new OrderSpecifier<>(sortOrder, groupBuy.createdAt);
-        };
-
-        query.orderBy(orderSpecifier);
-
         List<GroupBuy> content = query.fetch();
 
         return new PageImpl<>(content, pageable, total);
     }
 
     @Override
-    public Page<GroupBuyWithReviewStatsDto> searchGroupBuysWithReviewStats(GroupBuySearchCondition condition, Pageable pageable) {
+    public Page<GroupBuyCardDto> searchGroupBuyCards(GroupBuySearchCondition condition, Pageable pageable) {
         QGroupBuy groupBuy = QGroupBuy.groupBuy;
-        QReview review = QReview.review;
-
-        // 동적 쿼리 조건 빌드
-        BooleanBuilder builder = new BooleanBuilder();
+        QUser host = QUser.user;
 
-        // 삭제되지 않은 공구만 조회
-        builder.and(groupBuy.deletedAt.isNull());
-
-        // 키워드 검색 (제목 또는 내용에 포함)
-        if (StringUtils.hasText(condition.getKeyword())) {
-            builder.and(
-                groupBuy.title.containsIgnoreCase(condition.getKeyword())
-                    .or(groupBuy.content.containsIgnoreCase(condition.getKeyword()))
-            );
-        }
-
-        // 재료명 검색
-        if (StringUtils.hasText(condition.getIngredients())) {
-            builder.and(groupBuy.ingredients.containsIgnoreCase(condition.getIngredients()));
-        }
-
-        // 카테고리 필터
-        if (condition.getCategory() != null) {
-            builder.and(groupBuy.category.eq(condition.getCategory()));
-        }
-
-        // 상태 필터
-        if (condition.getStatus() != null) {
-            builder.and(groupBuy.status.eq(condition.getStatus()));
-        }
+        long total = countByCondition(condition);
 
-        // 레시피 기반 공구 필터
-        if (condition.getRecipeOnly() != null && condition.getRecipeOnly()) {
-            builder.and(groupBuy.recipeApiId.isNotNull());
-        }
-
-        // 전체 개수 조회
-        Long totalCount = queryFactory
-                .select(groupBuy.count())
+        List<GroupBuyCardDto> content = queryFactory
+                .select(cardProjection(groupBuy, host))
                 .from(groupBuy)
-                .where(builder)
-                .fetchOne();
-
-        long total = (totalCount != null) ? totalCount : 0L;
-
-        // === PostgreSQL GROUP BY 문제 해결: 서브쿼리 방식 ===
-        
-        // 1단계: 리뷰 통계만 먼저 조회 (groupBy는 집계 함수에만 사용)
-        List<ReviewStatsProjection> reviewStatsList = queryFactory
-                .select(Projections.constructor(
-                    ReviewStatsProjection.class,
-                    groupBuy.id,
-                    review.rating.avg().coalesce(0.0),
-                    review.count()
-                ))
-                .from(groupBuy)
-                .leftJoin(review).on(review.groupBuy.eq(groupBuy))
-                .where(builder)
-                .groupBy(groupBuy.id)
-                .fetch();
-
-        // 리뷰 통계를 Map으로 변환 (GroupBuy ID -> ReviewStats)
-        Map<Long, ReviewStatsProjection> reviewStatsMap = reviewStatsList.stream()
-                .collect(Collectors.toMap(
-                    ReviewStatsProjection::getGroupBuyId,
-                    stats -> stats
-                ));
-
-        // 2단계: 실제 엔티티 조회 (정렬 및 페이징 적용)
-        JPAQuery<GroupBuy> entityQuery = queryFactory
-                .selectFrom(groupBuy)
-                .leftJoin(groupBuy.host).fetchJoin()
-                .where(builder)
+                .join(groupBuy.host, host)
+                .where(searchPredicate(condition))
+                .orderBy(searchOrder(condition))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-
-        // 커스텀 정렬 로직
-        String sortBy = condition.getSortBy() != null ? condition.getSortBy() : "latest";
-        String direction = condition.getDirection() != null ? condition.getDirection() : "desc";
-        Order sortOrder = "asc".equals(direction) ? Order.ASC : Order.DESC;
-
-        OrderSpecifier<?> orderSpecifier = switch (sortBy) {
-            case "latest" -> new OrderSpecifier<>(sortOrder, groupBuy.createdAt);
-            case "deadline" -> new OrderSpecifier<>(sortOrder, groupBuy.deadline);
-            case "participants" -> new OrderSpecifier<>(sortOrder, groupBuy.currentHeadcount);
-            case "price" -> {
-                NumberExpression<Double> pricePerPerson = 
-                    groupBuy.targetAmount.doubleValue().divide(groupBuy.targetHeadcount.doubleValue());
-                yield new OrderSpecifier<>(sortOrder, pricePerPerson);
-            }
-            default -> new OrderSpecifier<>(sortOrder, groupBuy.createdAt);
-        };
-
-        entityQuery.orderBy(orderSpecifier);
-
-        List<GroupBuy> groupBuys = entityQuery.fetch();
-
-        // 3단계: 엔티티와 리뷰 통계를 결합하여 DTO 생성
-        List<GroupBuyWithReviewStatsDto> content = groupBuys.stream()
-                .map(gb -> {
-                    ReviewStatsProjection stats = reviewStatsMap.get(gb.getId());
-                    double avgRating = (stats != null) ? stats.getAvgRating() : 0.0;
-                    long reviewCount = (stats != null) ? stats.getReviewCount() : 0L;
-                    
-                    return new GroupBuyWithReviewStatsDto(gb, avgRating, reviewCount);
-                })
-                .collect(Collectors.toList());
+                .limit(pageable.getPageSize())
+                .fetch();
 
         return new PageImpl<>(content, pageable, total);
     }
 
-    /**
-     * 리뷰 통계 조회용 내부 클래스
-     * QueryDSL Projection을 위한 간단한 DTO
-     */
-    public static class ReviewStatsProjection {
-        private final Long groupBuyId;
-        private final Double avgRating;
-        private final Long reviewCount;
-
-        public ReviewStatsProjection(Long groupBuyId, Double avgRating, Long reviewCount) {
-            this.groupBuyId = groupBuyId;
-            this.avgRating = avgRating;
-            this.reviewCount = reviewCount;
-        }
-
-        public Long getGroupBuyId() {
-            return groupBuyId;
-        }
-
-        public Double getAvgRating() {
-            return avgRating;
-        }
-
-        public Long getReviewCount() {
-            return reviewCount;
-        }
-    }
-
     @Override
     public List<GroupBuy> findPopularGroupBuys(List<GroupBuyStatus> statuses, Pageable pageable) {
         QGroupBuy groupBuy = QGroupBuy.groupBuy;
-        
-        // 현재 시간 및 7일 전 시간 계산
-        java.time.LocalDateTime now = java.time.LocalDateTime.now();
-        java.time.LocalDateTime sevenDaysAgo = now.minusDays(7);
-        
+
         // 인기 점수 계산 공식: (참여 인원수 - 1) / (경과 시간 + 2)^1.8
         // 경과 시간 = (현재 시간 - 생성 시간) / 1시간
         // Note: QueryDSL에서 직접 제곱 계산이 어려우므로, 여기서는 단순화된 버전 사용
         // 실제로는 currentHeadcount를 우선순위로 하되, 최신 공구에 가중치를 줌
-        
+
         return queryFactory
                 .selectFrom(groupBuy)
                 .leftJoin(groupBuy.host).fetchJoin()
-                .where(
-                    groupBuy.status.in(statuses)
-                    .and(groupBuy.deletedAt.isNull())
-                    .and(groupBuy.createdAt.goe(sevenDaysAgo)) // 최근 7일 내 생성된 공구만
-                )
+                .where(popularPredicate(groupBuy, statuses))
                 .orderBy(
                     groupBuy.currentHeadcount.desc(),  // 참여자 수 우선
                     groupBuy.createdAt.desc()           // 최신 공구 우선
@@ -286,12 +103,141 @@ public class GroupBuyRepositoryImpl implements GroupBuyRepositoryCustom {
                 .limit(pageable.getPageSize())
                 .fetch();
     }
-    
+
+    @Override
+    public List<GroupBuyCardDto> findPopularGroupBuyCards(List<GroupBuyStatus> statuses, Pageable pageable) {
+        QGroupBuy groupBuy = QGroupBuy.groupBuy;
+        QUser host = QUser.user;
+
+        return queryFactory
+                .select(cardProjection(groupBuy, host))
+                .from(groupBuy)
+                .join(groupBuy.host, host)
+                .where(popularPredicate(groupBuy, statuses))
+                .orderBy(
+                    groupBuy.currentHeadcount.desc(),
+                    groupBuy.createdAt.desc()
+                )
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    @Override
+    public List<GroupBuyCardDto> findImminentGroupBuyCards(LocalDateTime start, LocalDateTime end, int limit) {
+        QGroupBuy groupBuy = QGroupBuy.groupBuy;
+        QUser host = QUser.user;
+
+        return queryFactory
+                .select(cardProjection(groupBuy, host))
+                .from(groupBuy)
+                .join(groupBuy.host, host)
+                .where(
+                    groupBuy.status.eq(GroupBuyStatus.IMMINENT)
+                    .and(groupBuy.deletedAt.isNull())
+                    .and(groupBuy.deadline.between(start, end))
+                )
+                .orderBy(groupBuy.deadline.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<GroupBuyCardDto> findGroupBuyCardsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        QGroupBuy groupBuy = QGroupBuy.groupBuy;
+        QUser host = QUser.user;
+
+        return queryFactory
+                .select(cardProjection(groupBuy, host))
+                .from(groupBuy)
+                .join(groupBuy.host, host)
+                .where(groupBuy.id.in(ids).and(groupBuy.deletedAt.isNull()))
+                .fetch();
+    }
+
+    @Override
+    public List<GroupBuyCardDto> findGroupBuyCardsByRecipeApiId(String recipeApiId) {
+        QGroupBuy groupBuy = QGroupBuy.groupBuy;
+        QUser host = QUser.user;
+
+        return queryFactory
+                .select(cardProjection(groupBuy, host))
+                .from(groupBuy)
+                .join(groupBuy.host, host)
+                .where(groupBuy.recipeApiId.eq(recipeApiId).and(groupBuy.deletedAt.isNull()))
+                .fetch();
+    }
+
     @Override
     public long countByCondition(GroupBuySearchCondition condition) {
         QGroupBuy groupBuy = QGroupBuy.groupBuy;
 
-        // 동적 쿼리 조건 빌드
+        // COUNT 쿼리만 실행
+        Long count = queryFactory
+                .select(groupBuy.count())
+                .from(groupBuy)
+                .where(searchPredicate(condition))
+                .fetchOne();
+
+        return (count != null) ? count : 0L;
+    }
+
+    /**
+     * 공구 카드 프로젝션
+     * 생성자 파라미터 순서는 GroupBuyCardDto의 필드 순서와 동일
+     */
+    private ConstructorExpression<GroupBuyCardDto> cardProjection(QGroupBuy groupBuy, QUser host) {
+        QGroupBuyImage image = QGroupBuyImage.groupBuyImage;
+
+        // 대표 이미지 (display_order = 0, 공구별 유니크)
+        JPQLQuery<String> thumbnailUrl = JPAExpressions
+                .select(image.imageUrl)
+                .from(image)
+                .where(image.groupBuy.id.eq(groupBuy.id).and(image.displayOrder.eq(0)));
+
+        return Projections.constructor(
+                GroupBuyCardDto.class,
+                groupBuy.id,
+                groupBuy.title,
+                groupBuy.content,
+                groupBuy.ingredients,
+                groupBuy.category,
+                groupBuy.targetAmount,
+                groupBuy.currentAmount,
+                groupBuy.targetHeadcount,
+                groupBuy.currentHeadcount,
+                groupBuy.deadline,
+                groupBuy.deliveryMethod,
+                groupBuy.meetupLocation,
+                groupBuy.latitude,
+                groupBuy.longitude,
+                groupBuy.parcelFee,
+                groupBuy.isParticipantListPublic,
+                groupBuy.status,
+                host.id,
+                host.nickname,
+                host.mannerTemperature,
+                groupBuy.recipeApiId,
+                groupBuy.recipeName,
+                groupBuy.recipeImageUrl,
+                thumbnailUrl,
+                groupBuy.reviewCount,
+                groupBuy.reviewRatingSum,
+                groupBuy.createdAt,
+                groupBuy.updatedAt
+        );
+    }
+
+    /**
+     * 검색 조건에 따른 동적 WHERE 절
+     */
+    private Predicate searchPredicate(GroupBuySearchCondition condition) {
+        QGroupBuy groupBuy = QGroupBuy.groupBuy;
+
         BooleanBuilder builder = new BooleanBuilder();
 
         // 삭제되지 않은 공구만 조회
@@ -325,13 +271,41 @@ public class GroupBuyRepositoryImpl implements GroupBuyRepositoryCustom {
             builder.and(groupBuy.recipeApiId.isNotNull());
         }
 
-        // COUNT 쿼리만 실행
-        Long count = queryFactory
-                .select(groupBuy.count())
-                .from(groupBuy)
-                .where(builder)
-                .fetchOne();
+        return builder;
+    }
 
-        return (count != null) ? count : 0L;
+    /**
+     * 커스텀 정렬 로직 (condition의 sortBy, direction 우선 사용)
+     */
+    private OrderSpecifier<?> searchOrder(GroupBuySearchCondition condition) {
+        QGroupBuy groupBuy = QGroupBuy.groupBuy;
+
+        String sortBy = condition.getSortBy() != null ? condition.getSortBy() : "latest";
+        String direction = condition.getDirection() != null ? condition.getDirection() : "desc";
+        Order sortOrder = "asc".equals(direction) ? Order.ASC : Order.DESC;
+
+        return switch (sortBy) {
+            case "latest" -> new OrderSpecifier<>(sortOrder, groupBuy.createdAt);
+            case "deadline" -> new OrderSpecifier<>(sortOrder, groupBuy.deadline);
+            case "participants" -> new OrderSpecifier<>(sortOrder, groupBuy.currentHeadcount);
+            case "price" -> {
+                // 1인당 가격 = targetAmount / targetHeadcount
+                NumberExpression<Double> pricePerPerson =
+                    groupBuy.targetAmount.doubleValue().divide(groupBuy.targetHeadcount.doubleValue());
+                yield new OrderSpecifier<>(sortOrder, pricePerPerson);
+            }
+            default -> new OrderSpecifier<>(sortOrder, groupBuy.createdAt);
+        };
+    }
+
+    /**
+     * 인기 공구 조건: 모집 중 상태, 삭제되지 않음, 최근 7일 내 생성
+     */
+    private Predicate popularPredicate(QGroupBuy groupBuy, List<GroupBuyStatus> statuses) {
+        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
+
+        return groupBuy.status.in(statuses)
+                .and(groupBuy.deletedAt.isNull())
+                .and(groupBuy.createdAt.goe(sevenDaysAgo)); // 최근 7일 내 생성된 공구만
     }
 }
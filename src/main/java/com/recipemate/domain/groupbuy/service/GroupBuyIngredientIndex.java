@@ -0,0 +1,259 @@
+package com.recipemate.domain.groupbuy.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipemate.domain.groupbuy.dto.GroupBuyIngredientDto;
+import com.recipemate.domain.groupbuy.repository.GroupBuyRepository;
+import com.recipemate.domain.recipe.mapper.RecipeMapper;
+import com.recipemate.global.common.GroupBuyStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 모집 중 공구 재료 인덱스 (메모리 기반 역색인)
+ * - 모집 중(RECRUITING, IMMINENT)이며 재료 목록이 있는 공구만 보관
+ * - 공구의 재료 JSON(SelectedIngredient 목록)을 파싱하여 재료명을 RecipeMapper.normalizeIngredientName으로 정규화
+ * - 역색인: 정규화된 재료명 → 해당 재료를 모집하는 공구 ID 배열
+ *
+ * 레시피 상세 화면에서 레시피 재료와 겹치는 공구를 찾을 때 TEXT 컬럼을 LIKE로 훑지 않고 역색인만 조회한다.
+ * 스냅샷은 불변이며, 변경된 공구 ID를 모아 두었다가 다음 조회 시 한 번에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupBuyIngredientIndex {
+
+    private static final List<GroupBuyStatus> ACTIVE_STATUSES = List.of(GroupBuyStatus.RECRUITING, GroupBuyStatus.IMMINENT);
+    private static final int MIN_PARTIAL_MATCH_LENGTH = 2; // 한 글자 재료명은 부분 일치 제외 ("파" → "양파" 오탐 방지)
+
+    private final GroupBuyRepository groupBuyRepository;
+    private final ObjectMapper objectMapper;
+
+    // 쓰기는 synchronized 블록 안에서만 수행
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    private volatile Snapshot snapshot;
+    private final Queue<Long> pendingIds = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 서버 시작 시 재료 인덱스 전체 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * DB의 모집 중 공구 재료로 인덱스를 다시 구성
+     */
+    public synchronized void rebuild() {
+        pendingIds.clear();
+        entries.clear();
+
+        putAll(groupBuyRepository.findActiveIngredients(ACTIVE_STATUSES, LocalDateTime.now()));
+        snapshot = Snapshot.of(entries);
+
+        log.info("공구 재료 인덱스 구성 완료: 공구 {} 건, 재료 {} 종", entries.size(), snapshot.postings().size());
+    }
+
+    /**
+     * 변경된 공구 표시 (다음 조회 시 반영)
+     * 생성/수정/취소/삭제, 목표 달성, 마감 배치 모두 DB 상태를 다시 읽어 모집 중이 아니면 제거된다.
+     */
+    public void markChanged(Long groupBuyId) {
+        pendingIds.add(groupBuyId);
+    }
+
+    public void markChanged(Collection<Long> groupBuyIds) {
+        pendingIds.addAll(groupBuyIds);
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 레시피 재료와 겹치는 모집 중 공구 조회
+     * 정렬: 겹치는 재료 수 내림차순 → 공구 재료 중 겹치는 비율 내림차순 → 마감일 오름차순 → 공구 ID 오름차순
+     * 공구 재료명이 레시피 재료명과 같거나 그 안에 포함되면 일치로 본다. (예: 공구 "간장" → 레시피 "진간장")
+     *
+     * @param recipeIngredients 레시피 재료명 목록
+     * @param excludedIds 결과에서 제외할 공구 ID (레시피 ID로 이미 연결된 공구 등)
+     * @param limit 최대 조회 개수
+     * @return 순위가 매겨진 공구 목록
+     */
+    public List<Match> findMatches(Collection<String> recipeIngredients, Collection<Long> excludedIds, int limit) {
+        Snapshot current = applyPending();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 공구별로 일치한 공구 재료명 누적
+        Map<Long, List<String>> matched = new HashMap<>();
+        for (String term : current.resolve(recipeIngredients)) {
+            for (long groupBuyId : current.postings().get(term)) {
+                matched.computeIfAbsent(groupBuyId, key -> new ArrayList<>()).add(term);
+            }
+        }
+
+        Comparator<Match> order = Comparator.comparingInt((Match match) -> match.matchedIngredients().size()).reversed()
+                .thenComparing(Comparator.comparingDouble(Match::coverage).reversed())
+                .thenComparing(Match::deadline)
+                .thenComparingLong(Match::groupBuyId);
+
+        return matched.entrySet().stream()
+                .filter(e -> !excludedIds.contains(e.getKey()))
+                .map(e -> {
+                    Entry entry = current.entries().get(e.getKey());
+                    return new Match(e.getKey(), e.getValue(), entry.terms().length, entry.deadline());
+                })
+                // 마감 배치 전이라도 마감일이 지난 공구는 제외
+                .filter(match -> match.deadline().isAfter(now))
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 대기 중인 변경 사항 반영
+     */
+    private Snapshot applyPending() {
+        if (pendingIds.isEmpty()) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+            Set<Long> changedIds = new HashSet<>();
+            Long id;
+            while ((id = pendingIds.poll()) != null) {
+                changedIds.add(id);
+            }
+            if (changedIds.isEmpty()) {
+                return snapshot;
+            }
+
+            // 모집 중이 아니거나 삭제된 공구는 조회되지 않으므로 제거만 적용됨
+            changedIds.forEach(entries::remove);
+            putAll(groupBuyRepository.findActiveIngredientsByIdIn(changedIds, ACTIVE_STATUSES, LocalDateTime.now()));
+            snapshot = Snapshot.of(entries);
+            return snapshot;
+        }
+    }
+
+    private void putAll(List<GroupBuyIngredientDto> rows) {
+        for (GroupBuyIngredientDto row : rows) {
+            String[] terms = parseTerms(row.getIngredients());
+            if (terms.length > 0) {
+                entries.put(row.getGroupBuyId(), new Entry(terms, row.getDeadline()));
+            }
+        }
+    }
+
+    /**
+     * 공구 재료 문자열을 정규화된 재료명 배열로 변환
+     * JSON 배열(SelectedIngredient 목록)이 아니면 쉼표/줄바꿈으로 구분된 자유 입력으로 본다.
+     */
+    private String[] parseTerms(String ingredients) {
+        List<String> names = new ArrayList<>();
+        try {
+            JsonNode root = objectMapper.readTree(ingredients);
+            if (root != null && root.isArray()) {
+                for (JsonNode node : root) {
+                    names.add(node.isTextual() ? node.asText() : node.path("name").asText(""));
+                }
+            } else {
+                names.addAll(List.of(ingredients.split("[,\\n]")));
+            }
+        } catch (Exception e) {
+            names.addAll(List.of(ingredients.split("[,\\n]")));
+        }
+
+        Set<String> terms = new LinkedHashSet<>();
+        for (String name : names) {
+            String term = RecipeMapper.normalizeIngredientName(name);
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms.toArray(String[]::new);
+    }
+
+    /**
+     * 공구 재료 매칭 결과 (공구 ID, 일치한 공구 재료명, 공구 재료 수, 마감일)
+     */
+    public record Match(Long groupBuyId, List<String> matchedIngredients, int ingredientCount, LocalDateTime deadline) {
+
+        double coverage() {
+            return ingredientCount == 0 ? 0.0 : (double) matchedIngredients.size() / ingredientCount;
+        }
+    }
+
+    private record Entry(String[] terms, LocalDateTime deadline) {
+    }
+
+    /**
+     * 불변 인덱스 스냅샷
+     */
+    private record Snapshot(Map<Long, Entry> entries, Map<String, long[]> postings) {
+
+        static Snapshot of(Map<Long, Entry> entries) {
+            Map<String, List<Long>> grouped = new HashMap<>();
+            entries.forEach((groupBuyId, entry) -> {
+                for (String term : entry.terms()) {
+                    grouped.computeIfAbsent(term, key -> new ArrayList<>()).add(groupBuyId);
+                }
+            });
+
+            Map<String, long[]> postings = new HashMap<>();
+            grouped.forEach((term, ids) -> postings.put(term, ids.stream().mapToLong(Long::longValue).toArray()));
+            return new Snapshot(Map.copyOf(entries), postings);
+        }
+
+        /**
+         * 레시피 재료명을 사전에 있는 공구 재료명 집합으로 변환
+         * 정확히 일치하는 재료명은 바로 찾고, 부분 일치는 공구 재료 사전(모집 중 공구 재료만 보관하므로 작음)을 순회
+         */
+        Set<String> resolve(Collection<String> recipeIngredients) {
+            Set<String> normalized = new HashSet<>();
+            for (String raw : recipeIngredients) {
+                String term = RecipeMapper.normalizeIngredientName(raw);
+                if (!term.isEmpty()) {
+                    normalized.add(term);
+                }
+            }
+
+            Set<String> matched = new HashSet<>();
+            for (String term : normalized) {
+                if (postings.containsKey(term)) {
+                    matched.add(term);
+                }
+            }
+            for (String dictionaryTerm : postings.keySet()) {
+                if (matched.contains(dictionaryTerm) || dictionaryTerm.length() < MIN_PARTIAL_MATCH_LENGTH) {
+                    continue;
+                }
+                for (String term : normalized) {
+                    if (term.contains(dictionaryTerm)) {
+                        matched.add(dictionaryTerm);
+                        break;
+                    }
+                }
+            }
+            return matched;
+        }
+    }
+}
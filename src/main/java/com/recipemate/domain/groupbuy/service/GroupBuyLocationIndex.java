@@ -0,0 +1,245 @@
+package com.recipemate.domain.groupbuy.service;
+
+import com.recipemate.domain.groupbuy.dto.GroupBuyLocationDto;
+import com.recipemate.domain.groupbuy.entity.GroupBuy;
+import com.recipemate.domain.groupbuy.repository.GroupBuyRepository;
+import com.recipemate.global.common.GroupBuyStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공구 수령 장소 위치 인덱스 (메모리 기반 위경도 격자)
+ * - 모집 중(RECRUITING, IMMINENT)이며 좌표가 있는 공구만 보관
+ * - 위경도를 고정 크기 격자 셀로 나누어, 반경/영역 검색 시 겹치는 셀의 후보만 거리 계산
+ * - 서버 시작 시 DB에서 전체 재구성, 이후 GroupBuyChangedEvent로 개별 갱신
+ *
+ * 쓰기는 드물고 읽기가 잦으므로 쓰기만 동기화하고 읽기는 ConcurrentHashMap을 그대로 순회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupBuyLocationIndex {
+
+    private static final List<GroupBuyStatus> ACTIVE_STATUSES = List.of(GroupBuyStatus.RECRUITING, GroupBuyStatus.IMMINENT);
+    private static final double CELL_SIZE_DEGREES = 0.01; // 위도 기준 약 1.1km
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+    private static final long MAX_SCANNED_CELLS = 40_000; // 이보다 넓은 영역은 셀 대신 전체 항목 순회
+
+    private final GroupBuyRepository groupBuyRepository;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    /**
+     * 서버 시작 시 위치 인덱스 전체 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * DB의 모집 중 공구 좌표로 인덱스를 다시 구성
+     */
+    public synchronized void rebuild() {
+        List<GroupBuyLocationDto> locations = groupBuyRepository.findActiveLocations(ACTIVE_STATUSES, LocalDateTime.now());
+
+        entries.clear();
+        cells.clear();
+        for (GroupBuyLocationDto location : locations) {
+            put(new Entry(location.getGroupBuyId(), location.getLatitude(), location.getLongitude(), location.getDeadline()));
+        }
+
+        log.info("공구 위치 인덱스 구성 완료: {} 건", entries.size());
+    }
+
+    /**
+     * 공구 하나의 인덱스 상태를 DB 기준으로 갱신
+     * 모집 중이 아니거나 좌표가 없거나 삭제된 공구는 인덱스에서 제거
+     */
+    public synchronized void refresh(Long groupBuyId) {
+        GroupBuy groupBuy = groupBuyRepository.findById(groupBuyId).orElse(null);
+        if (groupBuy == null || !isIndexable(groupBuy)) {
+            removeEntry(groupBuyId);
+            return;
+        }
+
+        removeEntry(groupBuyId);
+        put(new Entry(groupBuy.getId(), groupBuy.getLatitude(), groupBuy.getLongitude(), groupBuy.getDeadline()));
+    }
+
+    /**
+     * 인덱스에서 공구 제거 (마감 배치 커밋 후 사용)
+     */
+    public synchronized void removeAll(Collection<Long> groupBuyIds) {
+        groupBuyIds.forEach(this::removeEntry);
+    }
+
+    /**
+     * 기준 좌표로부터 반경 내 가장 가까운 공구 조회
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm 검색 반경 (km)
+     * @param limit 최대 조회 개수
+     * @return 거리 오름차순 정렬된 검색 결과
+     */
+    public List<Hit> findNearest(double latitude, double longitude, double radiusKm, int limit) {
+        double latDelta = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double lngDelta = radiusKm / (KM_PER_DEGREE_LATITUDE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        return search(latitude - latDelta, longitude - lngDelta, latitude + latDelta, longitude + lngDelta,
+                latitude, longitude, radiusKm, limit);
+    }
+
+    /**
+     * 지도 영역(bounding box) 내 공구를 기준 좌표와 가까운 순으로 조회
+     */
+    public List<Hit> findWithinBounds(double minLatitude, double minLongitude,
+                                      double maxLatitude, double maxLongitude,
+                                      double latitude, double longitude, int limit) {
+        return search(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                latitude, longitude, Double.MAX_VALUE, limit);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private List<Hit> search(double minLat, double minLng, double maxLat, double maxLng,
+                             double originLat, double originLng, double radiusKm, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 가장 먼 후보가 head에 오는 최대 힙으로 상위 limit개만 유지
+        PriorityQueue<Hit> nearest = new PriorityQueue<>(Comparator.comparingDouble(Hit::distanceKm).reversed());
+
+        for (Entry entry : candidates(minLat, minLng, maxLat, maxLng)) {
+            if (entry.latitude() < minLat || entry.latitude() > maxLat
+                    || entry.longitude() < minLng || entry.longitude() > maxLng
+                    || !entry.deadline().isAfter(now)) {
+                continue;
+            }
+
+            double distance = haversineKm(originLat, originLng, entry.latitude(), entry.longitude());
+            if (distance > radiusKm) {
+                continue;
+            }
+
+            if (nearest.size() < limit) {
+                nearest.offer(new Hit(entry.groupBuyId(), distance));
+            } else if (distance < nearest.peek().distanceKm()) {
+                nearest.poll();
+                nearest.offer(new Hit(entry.groupBuyId(), distance));
+            }
+        }
+
+        List<Hit> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return result;
+    }
+
+    private Collection<Entry> candidates(double minLat, double minLng, double maxLat, double maxLng) {
+        int minRow = row(minLat);
+        int maxRow = row(maxLat);
+        int minCol = column(minLng);
+        int maxCol = column(maxLng);
+
+        long cellCount = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (cellCount > MAX_SCANNED_CELLS || cellCount > cells.size()) {
+            return entries.values();
+        }
+
+        List<Entry> result = new ArrayList<>();
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                Set<Long> ids = cells.get(cellKey(r, c));
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    Entry entry = entries.get(id);
+                    if (entry != null) {
+                        result.add(entry);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private void put(Entry entry) {
+        entries.put(entry.groupBuyId(), entry);
+        cells.computeIfAbsent(cellKey(row(entry.latitude()), column(entry.longitude())),
+                key -> ConcurrentHashMap.newKeySet()).add(entry.groupBuyId());
+    }
+
+    private void removeEntry(Long groupBuyId) {
+        Entry removed = entries.remove(groupBuyId);
+        if (removed == null) {
+            return;
+        }
+        long key = cellKey(row(removed.latitude()), column(removed.longitude()));
+        Set<Long> ids = cells.get(key);
+        if (ids != null) {
+            ids.remove(groupBuyId);
+            if (ids.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private boolean isIndexable(GroupBuy groupBuy) {
+        return groupBuy.getDeletedAt() == null
+                && ACTIVE_STATUSES.contains(groupBuy.getStatus())
+                && groupBuy.getLatitude() != null
+                && groupBuy.getLongitude() != null
+                && groupBuy.getDeadline().isAfter(LocalDateTime.now());
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((Math.max(-90.0, Math.min(90.0, latitude)) + 90.0) / CELL_SIZE_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return (int) Math.floor((Math.max(-180.0, Math.min(180.0, longitude)) + 180.0) / CELL_SIZE_DEGREES);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    /**
+     * 두 좌표 사이의 대원 거리 (km)
+     */
+    static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private record Entry(Long groupBuyId, double latitude, double longitude, LocalDateTime deadline) {
+    }
+
+    /**
+     * 위치 검색 결과 (공구 ID와 기준 좌표로부터의 거리)
+     */
+    public record Hit(Long groupBuyId, double distanceKm) {
+    }
+}
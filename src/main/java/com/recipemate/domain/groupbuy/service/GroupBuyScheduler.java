@@ -9,9 +9,11 @@ import com.recipemate.domain.wishlist.repository.WishlistRepository;
 import com.recipemate.global.common.EntityType;
 import com.recipemate.global.common.GroupBuyStatus;
 import com.recipemate.global.common.NotificationType;
+import com.recipemate.global.event.GroupBuyStatusesUpdatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -32,6 +34,7 @@ public class GroupBuyScheduler {
     private final GroupBuyRepository groupBuyRepository;
     private final WishlistRepository wishlistRepository;
     private final NotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 서버 시작 시 공구 상태 업데이트
@@ -93,6 +96,9 @@ public class GroupBuyScheduler {
             count++;
         }
 
+        // 마감된 공구는 커밋 후 근처 공구 검색 대상에서 제외됨 (GroupBuyLocationEventListener)
+        publishStatusesUpdated(expiredGroupBuys, GroupBuyStatus.CLOSED);
+
         log.info("마감일이 지난 공구 {} 건을 CLOSED 상태로 변경했습니다.", count);
     }
 
@@ -115,9 +121,20 @@ public class GroupBuyScheduler {
             count++;
         }
 
+        publishStatusesUpdated(imminentGroupBuys, GroupBuyStatus.IMMINENT);
+
         log.info("D-1, D-2 공구 {} 건을 IMMINENT 상태로 변경했습니다.", count);
     }
 
+    /**
+     * 상태가 바뀐 공구가 있으면 파생 캐시(홈 화면 섹션 등) 무효화를 위해 이벤트 발행
+     */
+    private void publishStatusesUpdated(List<GroupBuy> groupBuys, GroupBuyStatus status) {
+        if (!groupBuys.isEmpty()) {
+            eventPublisher.publishEvent(new GroupBuyStatusesUpdatedEvent(groupBuys.stream().map(GroupBuy::getId).toList(), status));
+        }
+    }
+
     /**
      * 찜한 공구 마감 임박 알림 발송
      * - D-1 공구를 찜한 사용자에게 알림 발송
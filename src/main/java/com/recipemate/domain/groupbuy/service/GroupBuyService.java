@@ -1,8 +1,10 @@
 package com.recipemate.domain.groupbuy.service;
 
 import com.recipemate.domain.groupbuy.dto.CreateGroupBuyRequest;
+import com.recipemate.domain.groupbuy.dto.GroupBuyCardDto;
 import com.recipemate.domain.groupbuy.dto.GroupBuyResponse;
 import com.recipemate.domain.groupbuy.dto.GroupBuySearchCondition;
+import com.recipemate.domain.groupbuy.dto.NearbyGroupBuyResponse;
 import com.recipemate.domain.groupbuy.dto.UpdateGroupBuyRequest;
 import com.recipemate.domain.groupbuy.entity.GroupBuy;
 import com.recipemate.domain.groupbuy.entity.GroupBuyImage;
@@ -12,7 +14,9 @@ import com.recipemate.domain.user.entity.User;
 import com.recipemate.domain.user.repository.UserRepository;
 import com.recipemate.global.common.GroupBuyStatus;
 import com.recipemate.global.config.CacheConfig;
+import com.recipemate.global.event.GroupBuyChangedEvent;
 import com.recipemate.global.event.GroupBuyCreatedEvent;
+import com.recipemate.global.event.GroupBuyDeletedEvent;
 import com.recipemate.global.exception.CustomException;
 import com.recipemate.global.exception.ErrorCode;
 import com.recipemate.global.util.ImageUploadUtil;
@@ -29,6 +33,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -43,7 +50,10 @@ public class GroupBuyService {
     private final com.recipemate.domain.recipe.service.RecipeService recipeService;
     private final ApplicationEventPublisher eventPublisher;
     private final com.recipemate.domain.groupbuy.repository.ParticipationRepository participationRepository;
-    private final com.recipemate.domain.review.repository.ReviewRepository reviewRepository;
+    private final GroupBuyLocationIndex groupBuyLocationIndex;
+
+    private static final double MAX_NEARBY_RADIUS_KM = 50.0;
+    private static final int MAX_NEARBY_LIMIT = 50;
 
     /**
      * 일반 공구 생성
@@ -116,6 +126,7 @@ public class GroupBuyService {
 
         // 6. 공구 생성 관련 이벤트 발행 (뱃지, 포인트 등)
         eventPublisher.publishEvent(new GroupBuyCreatedEvent(userId));
+        eventPublisher.publishEvent(new GroupBuyChangedEvent(savedGroupBuy.getId()));
 
         // 7. 응답 DTO 생성
         return mapToResponse(savedGroupBuy, imageUrls);
@@ -141,7 +152,7 @@ public class GroupBuyService {
 
     /**
      * 레시피 정보로 요청 데이터 보강
-     * 선택된 재료만 JSON으로 변환하고, recipeName과 recipeImageUrl이 없으면 레시피 API에서 가져와서 채웁니다.
+     * 선택된 재료만 JSON으로 변환하고, recipeName과 recipeImageUrl이 없으면 DB의 레시피 정보로 채웁니다.
      */
     private CreateGroupBuyRequest enrichWithRecipeInfo(CreateGroupBuyRequest request) {
         // 이미 모든 레시피 정보가 제공된 경우 API 호출 생략
@@ -150,11 +161,13 @@ public class GroupBuyService {
         String recipeName = request.getRecipeName();
         String recipeImageUrl = request.getRecipeImageUrl();
         
-        // 레시피 정보가 없으면 API에서 조회
+        // 레시피 정보가 없으면 DB에서 조회
+        // 공구 생성 트랜잭션 안이므로 외부 API는 호출하지 않음 (생성 폼 진입 시 RecipeDetailLoader가 DB에 저장해 둠)
         if (!hasRecipeInfo) {
             com.recipemate.domain.recipe.dto.RecipeDetailResponse recipeDetail;
             try {
-                recipeDetail = recipeService.getRecipeDetail(request.getRecipeApiId());
+                recipeDetail = recipeService.findRecipeDetailByApiId(request.getRecipeApiId())
+                        .orElseThrow(() -> new CustomException(ErrorCode.RECIPE_NOT_FOUND));
                 recipeName = recipeDetail.getName();
                 recipeImageUrl = recipeDetail.getImageUrl();
             } catch (CustomException e) {
@@ -222,7 +235,7 @@ public class GroupBuyService {
 
     /**
      * 공구 목록 조회 (검색 및 필터링 지원 - QueryDSL 기반)
-     * 리뷰 통계를 함께 조회하여 N+1 문제 해결
+     * 카드 렌더링에 필요한 컬럼만 프로젝션으로 조회 (주최자, 대표 이미지, 후기 집계 포함)
      */
     public Page<GroupBuyResponse> getGroupBuyList(GroupBuySearchCondition condition, Pageable pageable) {
         // condition이 null인 경우 빈 조건으로 초기화
@@ -230,28 +243,9 @@ public class GroupBuyService {
             ? condition 
             : GroupBuySearchCondition.builder().build();
         
-        // QueryDSL 기반 동적 검색 사용 (리뷰 통계 포함)
-        Page<com.recipemate.domain.groupbuy.dto.GroupBuyWithReviewStatsDto> groupBuysWithStats = 
-            groupBuyRepository.searchGroupBuysWithReviewStats(searchCondition, pageable);
-        
-        // N+1 문제 해결: 모든 공구의 이미지를 한 번에 조회
-        List<Long> groupBuyIds = groupBuysWithStats.getContent().stream()
-                .map(dto -> dto.getGroupBuy().getId())
-                .toList();
-        
-        List<GroupBuyImage> allImages = groupBuyImageRepository.findByGroupBuyIdInOrderByGroupBuyIdAndDisplayOrder(groupBuyIds);
-        
-        // GroupBuy ID별로 이미지를 그룹화
-        java.util.Map<Long, List<String>> imageMap = allImages.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                    img -> img.getGroupBuy().getId(),
-                    java.util.stream.Collectors.mapping(GroupBuyImage::getImageUrl, java.util.stream.Collectors.toList())
-                ));
-        
-        return groupBuysWithStats.map(dto -> {
-            List<String> imageUrls = imageMap.getOrDefault(dto.getGroupBuy().getId(), List.of());
-            return mapToResponseWithStats(dto.getGroupBuy(), imageUrls, dto.getAverageRating(), dto.getReviewCountAsInt());
-        });
+        // QueryDSL 기반 동적 검색 (카드 프로젝션, 엔티티 로딩 없음)
+        return groupBuyRepository.searchGroupBuyCards(searchCondition, pageable)
+                .map(GroupBuyResponse::from);
     }
 
     /**
@@ -422,6 +416,7 @@ public class GroupBuyService {
         // 마감일을 기준으로 상태 재계산 및 업데이트
         GroupBuyStatus updatedStatus = determineStatus(groupBuy.getDeadline());
         groupBuy.updateStatus(updatedStatus);
+        eventPublisher.publishEvent(new GroupBuyChangedEvent(groupBuyId));
         
         // 6. 최종 이미지 목록 조회
         List<String> finalImageUrls = groupBuyImageRepository.findByGroupBuyOrderByDisplayOrderAsc(groupBuy)
@@ -468,6 +463,8 @@ public class GroupBuyService {
         
         // 6. 공구 소프트 삭제
         groupBuy.delete();
+        eventPublisher.publishEvent(new GroupBuyChangedEvent(groupBuyId));
+        eventPublisher.publishEvent(new GroupBuyDeletedEvent(userId, groupBuyId));
         log.info("Soft deleted group buy {}", groupBuyId);
     }
 
@@ -502,6 +499,7 @@ public class GroupBuyService {
         
         // 6. 상태를 CANCELLED로 변경 (이미지 및 데이터는 유지)
         groupBuy.updateStatus(GroupBuyStatus.CANCELLED);
+        eventPublisher.publishEvent(new GroupBuyChangedEvent(groupBuyId));
         log.info("Cancelled group buy {} by user {}", groupBuyId, userId);
     }
 
@@ -516,49 +514,10 @@ public class GroupBuyService {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime deadline48Hours = now.plusHours(48);
         
-        // 마감일이 48시간 이내이고 IMMINENT 상태인 공구 조회
-        List<GroupBuy> imminentGroupBuys = groupBuyRepository.findImminentGroupBuys(
-            now, 
-            deadline48Hours
-        );
-        
-        // limit만큼만 반환
-        List<GroupBuy> limitedGroupBuys = imminentGroupBuys.stream()
-            .limit(limit)
-            .toList();
-        
-        // N+1 문제 해결: 모든 공구의 이미지를 한 번에 조회
-        List<Long> groupBuyIds = limitedGroupBuys.stream()
-                .map(GroupBuy::getId)
-                .toList();
-        
-        List<GroupBuyImage> allImages = groupBuyImageRepository.findByGroupBuyIdInOrderByGroupBuyIdAndDisplayOrder(groupBuyIds);
-        
-        // GroupBuy ID별로 이미지를 그룹화
-        java.util.Map<Long, List<String>> imageMap = allImages.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                    img -> img.getGroupBuy().getId(),
-                    java.util.stream.Collectors.mapping(GroupBuyImage::getImageUrl, java.util.stream.Collectors.toList())
-                ));
-        
-        // N+1 문제 해결: 모든 공구의 리뷰 통계를 한 번에 조회
-        java.util.Map<Long, com.recipemate.domain.review.dto.ReviewStatsDto> reviewStatsMap = 
-            reviewRepository.findReviewStatsByGroupBuyIds(groupBuyIds)
+        // 마감일이 48시간 이내이고 IMMINENT 상태인 공구를 limit만큼 조회
+        return groupBuyRepository.findImminentGroupBuyCards(now, deadline48Hours, limit)
                 .stream()
-                .collect(java.util.stream.Collectors.toMap(
-                    com.recipemate.domain.review.dto.ReviewStatsDto::getGroupBuyId, 
-                    java.util.function.Function.identity()
-                ));
-        
-        // Response DTO로 변환
-        return limitedGroupBuys.stream()
-                .map(groupBuy -> {
-                    List<String> imageUrls = imageMap.getOrDefault(groupBuy.getId(), List.of());
-                    com.recipemate.domain.review.dto.ReviewStatsDto stats = reviewStatsMap.get(groupBuy.getId());
-                    Double avgRating = stats != null ? stats.getAverageRating() : 0.0;
-                    int reviewCount = stats != null ? stats.getReviewCount().intValue() : 0;
-                    return mapToResponseWithStats(groupBuy, imageUrls, avgRating, reviewCount);
-                })
+                .map(GroupBuyResponse::from)
                 .toList();
     }
 
@@ -569,50 +528,97 @@ public class GroupBuyService {
      * @param limit 조회할 공구 개수
      * @return 인기 공구 목록
      */
-    @Cacheable(value = CacheConfig.POPULAR_GROUP_BUYS_CACHE, key = "'popular:' + #limit")
+    @Cacheable(value = CacheConfig.POPULAR_GROUP_BUYS_CACHE, key = "'popular:' + #limit", sync = true)
     public List<GroupBuyResponse> getPopularGroupBuys(int limit) {
         // RECRUITING, IMMINENT 상태의 공구 조회
         List<GroupBuyStatus> activeStatuses = List.of(GroupBuyStatus.RECRUITING, GroupBuyStatus.IMMINENT);
         
         // 참여자 수 기준 내림차순 정렬하여 조회
         Pageable pageable = PageRequest.of(0, limit);
-        List<GroupBuy> popularGroupBuys = groupBuyRepository.findPopularGroupBuys(activeStatuses, pageable);
-        
-        // N+1 문제 해결: 모든 공구의 이미지를 한 번에 조회
-        List<Long> groupBuyIds = popularGroupBuys.stream()
-                .map(GroupBuy::getId)
+        return groupBuyRepository.findPopularGroupBuyCards(activeStatuses, pageable)
+                .stream()
+                .map(GroupBuyResponse::from)
                 .toList();
-        
-        List<GroupBuyImage> allImages = groupBuyImageRepository.findByGroupBuyIdInOrderByGroupBuyIdAndDisplayOrder(groupBuyIds);
-        
-        // GroupBuy ID별로 이미지를 그룹화
-        java.util.Map<Long, List<String>> imageMap = allImages.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                    img -> img.getGroupBuy().getId(),
-                    java.util.stream.Collectors.mapping(GroupBuyImage::getImageUrl, java.util.stream.Collectors.toList())
-                ));
-        
-        // N+1 문제 해결: 모든 공구의 리뷰 통계를 한 번에 조회
-        java.util.Map<Long, com.recipemate.domain.review.dto.ReviewStatsDto> reviewStatsMap = 
-            reviewRepository.findReviewStatsByGroupBuyIds(groupBuyIds)
+    }
+
+    /**
+     * 근처 공구 조회 (반경 검색)
+     * 위치 인덱스에서 기준 좌표와 가까운 모집 중 공구를 찾은 뒤, 해당 공구만 배치 조회합니다.
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm 검색 반경 (km, 최대 50km)
+     * @param limit 조회할 공구 개수 (최대 50개)
+     * @return 거리 오름차순 정렬된 근처 공구 목록
+     */
+    public List<NearbyGroupBuyResponse> findNearbyGroupBuys(double latitude, double longitude, double radiusKm, int limit) {
+        validateCoordinate(latitude, longitude);
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new CustomException(ErrorCode.INVALID_LOCATION);
+        }
+
+        List<GroupBuyLocationIndex.Hit> hits = groupBuyLocationIndex.findNearest(
+            latitude, longitude, radiusKm, clampNearbyLimit(limit));
+        return mapToNearbyResponses(hits);
+    }
+
+    /**
+     * 지도 영역 내 공구 조회 (bounding box 검색)
+     * 기준 좌표가 없으면 영역의 중심을 기준으로 가까운 순으로 정렬합니다.
+     */
+    public List<NearbyGroupBuyResponse> findGroupBuysInBounds(double minLatitude, double minLongitude,
+                                                              double maxLatitude, double maxLongitude,
+                                                              Double latitude, Double longitude, int limit) {
+        validateCoordinate(minLatitude, minLongitude);
+        validateCoordinate(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new CustomException(ErrorCode.INVALID_LOCATION);
+        }
+
+        double originLatitude = latitude != null ? latitude : (minLatitude + maxLatitude) / 2;
+        double originLongitude = longitude != null ? longitude : (minLongitude + maxLongitude) / 2;
+        validateCoordinate(originLatitude, originLongitude);
+
+        List<GroupBuyLocationIndex.Hit> hits = groupBuyLocationIndex.findWithinBounds(
+            minLatitude, minLongitude, maxLatitude, maxLongitude,
+            originLatitude, originLongitude, clampNearbyLimit(limit));
+        return mapToNearbyResponses(hits);
+    }
+
+    /**
+     * 위치 검색 결과를 응답 DTO로 변환 (인덱스의 거리 순서 유지)
+     */
+    private List<NearbyGroupBuyResponse> mapToNearbyResponses(List<GroupBuyLocationIndex.Hit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> groupBuyIds = hits.stream()
+                .map(GroupBuyLocationIndex.Hit::groupBuyId)
+                .toList();
+
+        Map<Long, GroupBuyCardDto> cardMap = groupBuyRepository.findGroupBuyCardsByIds(groupBuyIds)
                 .stream()
-                .collect(java.util.stream.Collectors.toMap(
-                    com.recipemate.domain.review.dto.ReviewStatsDto::getGroupBuyId, 
-                    java.util.function.Function.identity()
-                ));
-        
-        // Response DTO로 변환
-        return popularGroupBuys.stream()
-                .map(groupBuy -> {
-                    List<String> imageUrls = imageMap.getOrDefault(groupBuy.getId(), List.of());
-                    com.recipemate.domain.review.dto.ReviewStatsDto stats = reviewStatsMap.get(groupBuy.getId());
-                    Double avgRating = stats != null ? stats.getAverageRating() : 0.0;
-                    int reviewCount = stats != null ? stats.getReviewCount().intValue() : 0;
-                    return mapToResponseWithStats(groupBuy, imageUrls, avgRating, reviewCount);
-                })
+                .collect(Collectors.toMap(GroupBuyCardDto::getId, Function.identity()));
+
+        // 인덱스 반영 전에 삭제된 공구는 건너뜀
+        return hits.stream()
+                .filter(hit -> cardMap.containsKey(hit.groupBuyId()))
+                .map(hit -> new NearbyGroupBuyResponse(GroupBuyResponse.from(cardMap.get(hit.groupBuyId())), hit.distanceKm()))
                 .toList();
     }
 
+    private void validateCoordinate(double latitude, double longitude) {
+        if (Double.isNaN(latitude) || Double.isNaN(longitude)
+                || latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new CustomException(ErrorCode.INVALID_LOCATION);
+        }
+    }
+
+    private int clampNearbyLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_NEARBY_LIMIT));
+    }
+
     /**
      * GroupBuy 이미지 저장
      */
@@ -634,50 +640,9 @@ public class GroupBuyService {
     }
 
     /**
-     * Entity를 Response DTO로 변환 (리뷰 통계 포함)
-     */
-    private GroupBuyResponse mapToResponseWithStats(GroupBuy groupBuy, List<String> imageUrls, Double averageRating, int reviewCount) {
-        return GroupBuyResponse.builder()
-            .id(groupBuy.getId())
-            .title(groupBuy.getTitle())
-            .content(groupBuy.getContent())
-            .ingredients(groupBuy.getIngredients())
-            .category(groupBuy.getCategory())
-            .targetAmount(groupBuy.getTargetAmount())
-            .currentAmount(groupBuy.getCurrentAmount())
-            .targetHeadcount(groupBuy.getTargetHeadcount())
-            .currentHeadcount(groupBuy.getCurrentHeadcount())
-            .deadline(groupBuy.getDeadline())
-            .deliveryMethod(groupBuy.getDeliveryMethod())
-            .meetupLocation(groupBuy.getMeetupLocation())
-            .parcelFee(groupBuy.getParcelFee())
-            .isParticipantListPublic(groupBuy.getParticipantListPublic())
-            .status(groupBuy.getStatus())
-            .hostId(groupBuy.getHost().getId())
-            .hostNickname(groupBuy.getHost().getNickname())
-            .hostMannerTemperature(groupBuy.getHost().getMannerTemperature())
-            .recipeApiId(groupBuy.getRecipeApiId())
-            .recipeName(groupBuy.getRecipeName())
-            .recipeImageUrl(groupBuy.getRecipeImageUrl())
-            .imageUrls(imageUrls)
-            .averageRating(averageRating)
-            .reviewCount(reviewCount)
-            .latitude(groupBuy.getLatitude())
-            .longitude(groupBuy.getLongitude())
-            .createdAt(groupBuy.getCreatedAt())
-            .updatedAt(groupBuy.getUpdatedAt())
-            .build();
-    }
-
-    /**
-     * Entity를 Response DTO로 변환 (단일 공구 조회용)
-     * 주의: 리스트 조회 시에는 mapToResponseWithStats를 사용하여 N+1 문제를 방지해야 함
+     * Entity를 Response DTO로 변환 (단일 공구 조회용, 후기가 없으면 평균 평점 null)
      */
     private GroupBuyResponse mapToResponse(GroupBuy groupBuy, List<String> imageUrls) {
-        // 후기 정보 조회 (단일 공구 조회 시에만 사용)
-        Double averageRating = reviewRepository.findAverageRatingByGroupBuyId(groupBuy.getId());
-        long reviewCount = reviewRepository.countByGroupBuyId(groupBuy.getId());
-        
         return GroupBuyResponse.builder()
             .id(groupBuy.getId())
             .title(groupBuy.getTitle())
@@ -701,8 +666,8 @@ public class GroupBuyService {
             .recipeName(groupBuy.getRecipeName())
             .recipeImageUrl(groupBuy.getRecipeImageUrl())
             .imageUrls(imageUrls)
-            .averageRating(averageRating)
-            .reviewCount((int) reviewCount)
+            .averageRating(groupBuy.getAverageRating())
+            .reviewCount(groupBuy.getReviewCount())
             .latitude(groupBuy.getLatitude())
             .longitude(groupBuy.getLongitude())
             .createdAt(groupBuy.getCreatedAt())
@@ -712,14 +677,9 @@ public class GroupBuyService {
 
     /**
      * Entity를 Response DTO로 변환 (사용자 상태 정보 포함, 단일 공구 조회용)
-     * 주의: 리스트 조회 시에는 배치 조회를 사용하여 N+1 문제를 방지해야 함
      */
     private GroupBuyResponse mapToResponseWithUserStatus(GroupBuy groupBuy, List<String> imageUrls, 
                                                           boolean isHost, boolean isParticipant, boolean isCancellable) {
-        // 후기 정보 조회 (단일 공구 조회 시에만 사용)
-        Double averageRating = reviewRepository.findAverageRatingByGroupBuyId(groupBuy.getId());
-        long reviewCount = reviewRepository.countByGroupBuyId(groupBuy.getId());
-        
         return GroupBuyResponse.builder()
             .id(groupBuy.getId())
             .title(groupBuy.getTitle())
@@ -750,8 +710,8 @@ public class GroupBuyService {
             .isHost(isHost)
             .isParticipant(isParticipant)
             .isCancellable(isCancellable)
-            .averageRating(averageRating)
-            .reviewCount((int) reviewCount)
+            .averageRating(groupBuy.getAverageRating())
+            .reviewCount(groupBuy.getReviewCount())
             .build();
     }
 
@@ -9,6 +9,7 @@ import com.recipemate.domain.like.repository.CommentLikeRepository;
 import com.recipemate.domain.like.repository.PostLikeRepository;
 import com.recipemate.domain.post.entity.Post;
 import com.recipemate.domain.post.repository.PostRepository;
+import com.recipemate.domain.post.service.CommunityCountService;
 import com.recipemate.domain.user.entity.User;
 import com.recipemate.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ public class LikeService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final CommunityCountService communityCountService;
 
     @Transactional
     public LikeResponseDto togglePostLike(Long userId, Long postId) {
@@ -43,7 +45,7 @@ public class LikeService {
                     return true;
                 });
 
-        long likeCount = postLikeRepository.countByPost(post);
+        long likeCount = communityCountService.applyPostLike(postId, isLiked);
         return new LikeResponseDto(isLiked, likeCount);
     }
 
@@ -64,7 +66,7 @@ public class LikeService {
                     return true;
                 });
 
-        long likeCount = commentLikeRepository.countByComment(comment);
+        long likeCount = communityCountService.applyCommentLike(commentId, isLiked);
         return new LikeResponseDto(isLiked, likeCount);
     }
 }
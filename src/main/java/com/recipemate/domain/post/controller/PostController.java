@@ -74,6 +74,9 @@ public class PostController {
             case "comments":
                 sortProperty = "commentCount";
                 break;
+            case "hot":
+                sortProperty = "hotScore";
+                break;
             default:
                 sortProperty = "createdAt";
                 break;
@@ -90,8 +93,10 @@ public class PostController {
             }
         }
         
-        // 게시글 목록 조회
-        Page<PostResponse> posts = postService.getPostList(postCategory, keyword, pageable);
+        // 게시글 목록 조회 (인기순은 인기 점수 인덱스에서 조회)
+        Page<PostResponse> posts = "hot".equals(sort)
+                ? postService.getHotPostList(postCategory, keyword, pageable)
+                : postService.getPostList(postCategory, keyword, pageable);
         
         // 모델에 데이터 추가
         model.addAttribute("posts", posts);
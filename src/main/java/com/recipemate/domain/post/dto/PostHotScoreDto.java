@@ -0,0 +1,23 @@
+package com.recipemate.domain.post.dto;
+
+import com.recipemate.global.common.PostCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 점수 인덱스 구성을 위한 게시글 집계 정보 DTO
+ * 엔티티 전체를 로딩하지 않도록 JPQL 생성자 표현식으로 매핑
+ */
+@Getter
+@AllArgsConstructor
+public class PostHotScoreDto {
+    private Long postId;
+    private PostCategory category;
+    private LocalDateTime createdAt;
+    private Integer likeCount;
+    private Integer commentCount;
+    private Integer viewCount;
+    private Double hotScore; // 마지막으로 저장된 점수
+}
@@ -46,8 +46,8 @@ public class PostResponse {
                 .authorEmail(post.getAuthor().getEmail())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
-                .likeCount(0)
-                .commentCount(0)
+                .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
                 .isLiked(false)
                 .imageUrls(post.getImages().stream()
                         .map(img -> img.getImageUrl())
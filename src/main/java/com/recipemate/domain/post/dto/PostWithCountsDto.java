@@ -10,4 +10,11 @@ public class PostWithCountsDto {
     private Post post;
     private long likeCount;
     private long commentCount;
+
+    /**
+     * 비정규화된 좋아요/댓글 수 컬럼으로 생성
+     */
+    public PostWithCountsDto(Post post) {
+        this(post, post.getLikeCount(), post.getCommentCount());
+    }
 }
@@ -19,7 +19,9 @@ import java.util.List;
         @Index(name = "idx_post_category_created_at", columnList = "category, created_at"),
         @Index(name = "idx_post_author_id", columnList = "author_id"),
         @Index(name = "idx_post_deleted_at_created_at", columnList = "deleted_at, created_at"),
-        @Index(name = "idx_post_category_deleted_at", columnList = "category, deleted_at, created_at")
+        @Index(name = "idx_post_category_deleted_at", columnList = "category, deleted_at, created_at"),
+        @Index(name = "idx_post_deleted_at_like_count", columnList = "deleted_at, like_count"),
+        @Index(name = "idx_post_deleted_at_hot_score", columnList = "deleted_at, hot_score")
 })
 @Getter
 @SuperBuilder
@@ -49,6 +51,22 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private Integer viewCount = 0;
 
+    // == 좋아요/댓글 수 (비정규화) ==//
+    // CommunityCountService의 벌크 UPDATE로만 변경되며, 엔티티 flush가 집계를 덮어쓰지 않도록 updatable = false
+    @Builder.Default
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer likeCount = 0;
+
+    // 삭제되지 않은 댓글 수 (대댓글 포함)
+    @Builder.Default
+    @Column(name = "comment_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer commentCount = 0;
+
+    // 인기 점수 (PostHotScoreIndex가 계산해 PostHotScoreService가 주기적으로 벌크 UPDATE로 저장)
+    @Builder.Default
+    @Column(name = "hot_score", nullable = false, updatable = false, columnDefinition = "float(53) default 0")
+    private Double hotScore = 0.0;
+
     @Builder.Default
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("displayOrder asc")
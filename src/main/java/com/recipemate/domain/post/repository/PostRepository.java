@@ -1,17 +1,23 @@
 package com.recipemate.domain.post.repository;
 
 import com.recipemate.domain.comment.entity.Comment;
+import com.recipemate.domain.post.dto.PostHotScoreDto;
 import com.recipemate.domain.post.dto.PostWithCountsDto;
 import com.recipemate.domain.post.entity.Post;
 import com.recipemate.domain.user.entity.User;
 import com.recipemate.global.common.PostCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,29 +29,20 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     @Query("SELECT p FROM Post p LEFT JOIN FETCH p.author a WHERE p.id = :id AND (a.deletedAt IS NULL OR a.deletedAt IS NOT NULL)")
     Optional<Post> findByIdWithAuthor(@Param("id") Long id);
 
-    // N+1 문제를 해결하기 위해 게시글과 함께 좋아요 수, 댓글 수를 함께 조회
-    @Query("SELECT new com.recipemate.domain.post.dto.PostWithCountsDto(" +
-            "p, " +
-            "(SELECT COUNT(pl.id) FROM PostLike pl WHERE pl.post = p), " +
-            "(SELECT COUNT(c.id) FROM Comment c WHERE c.post = p AND c.deletedAt IS NULL)) " +
+    // 좋아요 수, 댓글 수는 비정규화 컬럼(like_count, comment_count)에서 함께 조회
+    @Query("SELECT new com.recipemate.domain.post.dto.PostWithCountsDto(p) " +
             "FROM Post p " +
             "LEFT JOIN FETCH p.author a " +
             "WHERE p.deletedAt IS NULL AND (a.deletedAt IS NULL OR a.deletedAt IS NOT NULL)")
     Page<PostWithCountsDto> findAllWithCounts(Pageable pageable);
 
-    @Query("SELECT new com.recipemate.domain.post.dto.PostWithCountsDto(" +
-            "p, " +
-            "(SELECT COUNT(pl.id) FROM PostLike pl WHERE pl.post = p), " +
-            "(SELECT COUNT(c.id) FROM Comment c WHERE c.post = p AND c.deletedAt IS NULL)) " +
+    @Query("SELECT new com.recipemate.domain.post.dto.PostWithCountsDto(p) " +
             "FROM Post p " +
             "LEFT JOIN FETCH p.author a " +
             "WHERE p.category = :category AND p.deletedAt IS NULL AND (a.deletedAt IS NULL OR a.deletedAt IS NOT NULL)")
     Page<PostWithCountsDto> findByCategoryWithCounts(@Param("category") PostCategory category, Pageable pageable);
 
-    @Query(value = "SELECT new com.recipemate.domain.post.dto.PostWithCountsDto(" +
-            "p, " +
-            "(SELECT COUNT(pl.id) FROM PostLike pl WHERE pl.post = p), " +
-            "(SELECT COUNT(c2.id) FROM Comment c2 WHERE c2.post = p AND c2.deletedAt IS NULL)) " +
+    @Query(value = "SELECT new com.recipemate.domain.post.dto.PostWithCountsDto(p) " +
             "FROM Post p " +
             "LEFT JOIN FETCH p.author a " +
             "LEFT JOIN Comment c ON c.post = p AND c.deletedAt IS NULL " +
@@ -63,10 +60,7 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
                     "OR (c.id IS NOT NULL AND LOWER(c.content) LIKE LOWER(CONCAT('%', :keyword, '%'))))")
     Page<PostWithCountsDto> searchByKeywordWithCounts(@Param("keyword") String keyword, Pageable pageable);
 
-    @Query(value = "SELECT new com.recipemate.domain.post.dto.PostWithCountsDto(" +
-            "p, " +
-            "(SELECT COUNT(pl.id) FROM PostLike pl WHERE pl.post = p), " +
-            "(SELECT COUNT(c2.id) FROM Comment c2 WHERE c2.post = p AND c2.deletedAt IS NULL)) " +
+    @Query(value = "SELECT new com.recipemate.domain.post.dto.PostWithCountsDto(p) " +
             "FROM Post p " +
             "LEFT JOIN FETCH p.author a " +
             "LEFT JOIN Comment c ON c.post = p AND c.deletedAt IS NULL " +
@@ -88,25 +82,20 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
 
     @Query("SELECT new com.recipemate.domain.user.dto.MyPostDto(" +
             "p.id, p.title, p.createdAt, p.viewCount, " +
-            "(SELECT COUNT(c) FROM Comment c WHERE c.post = p AND c.deletedAt IS NULL), " +
-            "(SELECT COUNT(pl) FROM PostLike pl WHERE pl.post = p)) " +
+            "CAST(p.commentCount AS Long), CAST(p.likeCount AS Long)) " +
             "FROM Post p " +
             "WHERE p.author = :user AND p.deletedAt IS NULL")
     Page<com.recipemate.domain.user.dto.MyPostDto> findPostsByUserWithCounts(@Param("user") User user, Pageable pageable);
 
     @Query("SELECT new com.recipemate.domain.user.dto.MyPostDto(" +
             "p.id, p.title, p.createdAt, p.viewCount, " +
-            "(SELECT COUNT(c) FROM Comment c WHERE c.post = p), " +
-            "(SELECT COUNT(pl) FROM PostLike pl WHERE pl.post = p), " +
+            "CAST(p.commentCount AS Long), CAST(p.likeCount AS Long), " +
             "p.deletedAt) " +
             "FROM Post p " +
             "WHERE p.author = :user")
     Page<com.recipemate.domain.user.dto.MyPostDto> findPostsByUserForMyActivity(@Param("user") User user, Pageable pageable);
 
-    @Query("SELECT new com.recipemate.domain.post.dto.PostWithCountsDto(" +
-            "p, " +
-            "(SELECT COUNT(pl.id) FROM PostLike pl WHERE pl.post = p), " +
-            "(SELECT COUNT(c.id) FROM Comment c WHERE c.post = p AND c.deletedAt IS NULL)) " +
+    @Query("SELECT new com.recipemate.domain.post.dto.PostWithCountsDto(p) " +
             "FROM Post p " +
             "LEFT JOIN FETCH p.author a " +
             "WHERE p.id IN :postIds AND p.deletedAt IS NULL AND (a.deletedAt IS NULL OR a.deletedAt IS NOT NULL)")
@@ -125,5 +114,59 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
             "OR LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
             "OR (c.id IS NOT NULL AND LOWER(c.content) LIKE LOWER(CONCAT('%', :keyword, '%'))))")
     long countByKeyword(@Param("keyword") String keyword);
-}
 
+    /**
+     * 좋아요 수 증감 반영 (단일 UPDATE로 원자적 처리)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId")
+    int applyLikeDelta(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * 댓글 수 증감 반영 (단일 UPDATE로 원자적 처리)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int applyCommentDelta(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * 현재 좋아요 수 조회 (증감 반영 직후 응답용)
+     */
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Integer findLikeCountById(@Param("postId") Long postId);
+
+    /**
+     * 좋아요/댓글 수 전체 재계산 (집계 불일치 보정용)
+     */
+    @Modifying
+    // 2차 캐시 무효화 범위를 posts 테이블로 한정 (미지정 시 네이티브 UPDATE가 모든 캐시 영역을 비움)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "posts"))
+    @Query(value = "UPDATE posts SET " +
+           "like_count = (SELECT COUNT(*) FROM post_likes pl WHERE pl.post_id = posts.id), " +
+           "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = posts.id AND c.deleted_at IS NULL)",
+           nativeQuery = true)
+    int rebuildCounts();
+
+    /**
+     * 인기 점수 인덱스 구성용 최근 게시글 집계 조회
+     */
+    @Query("SELECT new com.recipemate.domain.post.dto.PostHotScoreDto(" +
+           "p.id, p.category, p.createdAt, p.likeCount, p.commentCount, p.viewCount, p.hotScore) " +
+           "FROM Post p WHERE p.deletedAt IS NULL AND p.createdAt >= :since")
+    List<PostHotScoreDto> findHotScoreSources(@Param("since") LocalDateTime since);
+
+    /**
+     * 인기 점수가 저장된 적 없는(컬럼 기본값 0) 게시글 집계 조회 (ID 순, 기존 글 점수 채우기용)
+     */
+    @Query("SELECT new com.recipemate.domain.post.dto.PostHotScoreDto(" +
+           "p.id, p.category, p.createdAt, p.likeCount, p.commentCount, p.viewCount, p.hotScore) " +
+           "FROM Post p WHERE p.deletedAt IS NULL AND p.hotScore = 0 AND p.id > :afterId ORDER BY p.id")
+    List<PostHotScoreDto> findUnscoredHotScoreSources(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 인기 점수 저장 (인덱스에서 계산한 값)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.hotScore = :hotScore WHERE p.id = :postId")
+    int updateHotScore(@Param("postId") Long postId, @Param("hotScore") double hotScore);
+}
@@ -1,14 +1,11 @@
 package com.recipemate.domain.post.repository;
 
 import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.recipemate.domain.comment.entity.QComment;
-import com.recipemate.domain.like.entity.QPostLike;
 import com.recipemate.domain.post.dto.PostWithCountsDto;
+import com.recipemate.domain.post.entity.Post;
 import com.recipemate.domain.post.entity.QPost;
 import com.recipemate.global.common.PostCategory;
 import lombok.RequiredArgsConstructor;
@@ -22,8 +19,8 @@ import java.util.List;
 
 /**
  * QueryDSL을 활용한 PostRepository 커스텀 구현
- * likeCount, commentCount 기준 정렬을 위해 구현
- * LEFT JOIN과 GROUP BY를 사용하여 집계 값 기준 정렬 지원
+ * likeCount, commentCount, hotScore 기준 정렬을 위해 구현
+ * 비정규화 컬럼(like_count, comment_count, hot_score)을 그대로 조회·정렬하여 집계 JOIN 없이 처리
  */
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
@@ -37,30 +34,19 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
             Pageable pageable
     ) {
         QPost post = QPost.post;
-        QPostLike postLike = QPostLike.postLike;
-        QComment comment = QComment.comment;
-
-        // 데이터 조회 쿼리 (LEFT JOIN + GROUP BY로 집계)
-        JPAQuery<PostWithCountsDto> query = queryFactory
-                .select(Projections.constructor(
-                        PostWithCountsDto.class,
-                        post,
-                        postLike.count(),
-                        comment.count()
-                ))
-                .from(post)
+
+        // 데이터 조회 쿼리
+        JPAQuery<Post> query = queryFactory
+                .selectFrom(post)
                 .leftJoin(post.author).fetchJoin()
-                .leftJoin(postLike).on(postLike.post.eq(post))
-                .leftJoin(comment).on(comment.post.eq(post))
                 .where(
                         post.deletedAt.isNull(),
                         categoryEq(category),
                         keywordContains(keyword)
-                )
-                .groupBy(post.id, post.author.id);
+                );
 
         // 동적 정렬 적용
-        for (OrderSpecifier<?> order : getOrderSpecifiers(pageable, post, postLike, comment)) {
+        for (OrderSpecifier<?> order : getOrderSpecifiers(pageable, post)) {
             query.orderBy(order);
         }
 
@@ -68,7 +54,10 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         List<PostWithCountsDto> content = query
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetch();
+                .fetch()
+                .stream()
+                .map(PostWithCountsDto::new)
+                .toList();
 
         // Count 쿼리 (정렬 제외, 성능 최적화)
         Long total = queryFactory
@@ -109,9 +98,7 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
      */
     private List<OrderSpecifier<?>> getOrderSpecifiers(
             Pageable pageable,
-            QPost post,
-            QPostLike postLike,
-            QComment comment
+            QPost post
     ) {
         List<OrderSpecifier<?>> orders = new ArrayList<>();
 
@@ -122,14 +109,17 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
 
             switch (sortOrder.getProperty()) {
                 case "likeCount":
-                    orders.add(new OrderSpecifier<>(direction, postLike.count()));
+                    orders.add(new OrderSpecifier<>(direction, post.likeCount));
                     break;
                 case "commentCount":
-                    orders.add(new OrderSpecifier<>(direction, comment.count()));
+                    orders.add(new OrderSpecifier<>(direction, post.commentCount));
                     break;
                 case "viewCount":
                     orders.add(new OrderSpecifier<>(direction, post.viewCount));
                     break;
+                case "hotScore":
+                    orders.add(new OrderSpecifier<>(direction, post.hotScore));
+                    break;
                 case "createdAt":
                 default:
                     orders.add(new OrderSpecifier<>(direction, post.createdAt));
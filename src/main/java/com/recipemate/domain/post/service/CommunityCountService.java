@@ -0,0 +1,79 @@
+package com.recipemate.domain.post.service;
+
+import com.recipemate.domain.comment.repository.CommentRepository;
+import com.recipemate.domain.post.repository.PostRepository;
+import com.recipemate.global.event.PostEngagementEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 커뮤니티 좋아요/댓글 수(비정규화 컬럼) 관리 서비스
+ * - 게시글별: 좋아요 수, 삭제되지 않은 댓글 수
+ * - 댓글별: 좋아요 수
+ * 좋아요/취소, 댓글 작성/삭제 시 같은 트랜잭션에서 단일 UPDATE로 증감을 반영하고,
+ * 매일 새벽 전체 재계산으로 불일치를 보정한다.
+ * 게시글 좋아요/댓글 수 변경은 PostEngagementEvent로 알려 인기 점수 인덱스에 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommunityCountService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게시글 좋아요 수 증감 후 현재 값 반환
+     */
+    @Transactional
+    public long applyPostLike(Long postId, boolean liked) {
+        int delta = liked ? 1 : -1;
+        postRepository.applyLikeDelta(postId, delta);
+        eventPublisher.publishEvent(new PostEngagementEvent(postId, PostEngagementEvent.Type.LIKE, delta));
+        Integer likeCount = postRepository.findLikeCountById(postId);
+        return likeCount != null ? likeCount : 0;
+    }
+
+    /**
+     * 댓글 좋아요 수 증감 후 현재 값 반환
+     */
+    @Transactional
+    public long applyCommentLike(Long commentId, boolean liked) {
+        commentRepository.applyLikeDelta(commentId, liked ? 1 : -1);
+        Integer likeCount = commentRepository.findLikeCountById(commentId);
+        return likeCount != null ? likeCount : 0;
+    }
+
+    @Transactional
+    public void applyPostCommentCreated(Long postId) {
+        postRepository.applyCommentDelta(postId, 1);
+        eventPublisher.publishEvent(new PostEngagementEvent(postId, PostEngagementEvent.Type.COMMENT, 1));
+    }
+
+    @Transactional
+    public void applyPostCommentDeleted(Long postId) {
+        postRepository.applyCommentDelta(postId, -1);
+        eventPublisher.publishEvent(new PostEngagementEvent(postId, PostEngagementEvent.Type.COMMENT, -1));
+    }
+
+    /**
+     * 좋아요/댓글 수 전체 재계산
+     * 매일 04:30에 실행
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void rebuildAll() {
+        log.info("커뮤니티 좋아요/댓글 수 재계산 배치 시작");
+
+        int postCount = postRepository.rebuildCounts();
+        int commentCount = commentRepository.rebuildLikeCounts();
+
+        log.info("커뮤니티 좋아요/댓글 수 재계산 배치 종료 - 게시글 {} 건, 댓글 {} 건", postCount, commentCount);
+    }
+}
@@ -0,0 +1,249 @@
+package com.recipemate.domain.post.service;
+
+import com.recipemate.domain.post.dto.PostHotScoreDto;
+import com.recipemate.domain.post.entity.Post;
+import com.recipemate.domain.post.repository.PostRepository;
+import com.recipemate.global.common.PostCategory;
+import com.recipemate.global.event.PostEngagementEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 커뮤니티 게시글 인기 점수 인덱스 (메모리 기반 정렬 집합)
+ * - 점수 = log10(max(참여도, 1)) + (작성 시각 - 기준 시각) / 45000초 (Reddit hot 방식)
+ *   참여도 = 좋아요 x 1 + 댓글 x 2 + 조회 x 0.1
+ *   작성 시각 항이 시간 감쇠 역할을 하며, 12.5시간 늦게 작성된 글은 참여도가 10배여야 같은 점수가 된다.
+ * - 점수가 현재 시각에 의존하지 않으므로 참여 이벤트가 들어올 때 해당 글만 다시 계산해 정렬 위치를 옮긴다.
+ * - 최근 7일 내 작성된 글만 보관 (그보다 오래된 글은 참여도가 10^13배 이상이어야 상위에 오름)
+ * - 서버 시작 시와 매일 04:40(좋아요/댓글 수 재계산 후) DB에서 전체 재구성,
+ *   이후 PostChangedEvent로 개별 갱신, PostEngagementEvent로 증감 반영
+ * - 점수가 바뀐 글은 모아 두었다가 PostHotScoreService가 주기적으로 posts.hot_score에 저장
+ *
+ * 쓰기만 동기화하고 읽기는 동시 정렬 집합(ConcurrentSkipListSet)을 그대로 순회한다.
+ * 재구성은 새 집합을 따로 채운 뒤 스냅샷 하나로 교체하므로, 재구성 중에도 읽기는 이전 순위를 온전히 본다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostHotScoreIndex {
+
+    private static final LocalDateTime SCORE_EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final double DECAY_SECONDS = 45_000;
+    private static final double LIKE_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double VIEW_WEIGHT = 0.1;
+    private static final int WINDOW_DAYS = 7;
+    private static final double SCORE_EPSILON = 1e-9;
+
+    // 점수 내림차순, 같은 점수면 최신 글 우선
+    private static final Comparator<Entry> RANKING = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Comparator.comparing(Entry::postId).reversed());
+
+    private final PostRepository postRepository;
+
+    private volatile Snapshot snapshot = Snapshot.empty();
+    private final Set<Long> dirtyIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 서버 시작 시 인덱스 전체 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 매일 04:40 재구성 (7일이 지난 글 제거, 이벤트 누락/중복으로 어긋난 점수 보정)
+     */
+    @Scheduled(cron = "0 40 4 * * *")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * DB의 최근 게시글 집계 컬럼으로 인덱스를 다시 구성
+     * 저장된 점수와 다른 글은 저장 대상으로 표시
+     */
+    public synchronized void rebuild() {
+        List<PostHotScoreDto> posts = postRepository.findHotScoreSources(LocalDateTime.now().minusDays(WINDOW_DAYS));
+
+        Snapshot rebuilt = Snapshot.empty();
+        for (PostHotScoreDto post : posts) {
+            Entry entry = Entry.of(post.getPostId(), post.getCategory(), post.getCreatedAt(),
+                    post.getLikeCount(), post.getCommentCount(), post.getViewCount());
+            rebuilt.put(entry);
+            if (post.getHotScore() == null || Math.abs(post.getHotScore() - entry.score()) > SCORE_EPSILON) {
+                dirtyIds.add(entry.postId());
+            }
+        }
+        snapshot = rebuilt;
+
+        log.info("게시글 인기 점수 인덱스 구성 완료: {} 건", rebuilt.entries().size());
+    }
+
+    /**
+     * 게시글 하나의 인덱스 상태를 DB 기준으로 갱신
+     * 삭제되었거나 보관 기간이 지난 글은 인덱스에서 제거
+     */
+    public synchronized void refresh(Long postId) {
+        Post post = postRepository.findById(postId).orElse(null);
+        snapshot.remove(postId);
+        if (post == null || post.getDeletedAt() != null
+                || post.getCreatedAt().isBefore(LocalDateTime.now().minusDays(WINDOW_DAYS))) {
+            return;
+        }
+
+        snapshot.put(Entry.of(post.getId(), post.getCategory(), post.getCreatedAt(),
+                post.getLikeCount(), post.getCommentCount(), post.getViewCount()));
+        dirtyIds.add(postId);
+    }
+
+    /**
+     * 좋아요/댓글/조회 증감 반영 (인덱스에 없는 글은 무시, 다음 재구성 때 반영)
+     */
+    public synchronized void apply(Long postId, PostEngagementEvent.Type type, int delta) {
+        Snapshot index = snapshot;
+        Entry current = index.entries().get(postId);
+        if (current == null) {
+            return;
+        }
+
+        Entry updated = switch (type) {
+            case LIKE -> current.withCounts(current.likeCount() + delta, current.commentCount(), current.viewCount());
+            case COMMENT -> current.withCounts(current.likeCount(), current.commentCount() + delta, current.viewCount());
+            case VIEW -> current.withCounts(current.likeCount(), current.commentCount(), current.viewCount() + delta);
+        };
+        index.remove(postId);
+        index.put(updated);
+        dirtyIds.add(postId);
+    }
+
+    /**
+     * 인기순 게시글 ID 조회
+     *
+     * @param category 카테고리 (null이면 전체)
+     * @param offset 건너뛸 개수
+     * @param limit 최대 조회 개수
+     * @return 점수 내림차순 게시글 ID 목록
+     */
+    public List<Long> findTop(PostCategory category, long offset, int limit) {
+        List<Long> postIds = new ArrayList<>(limit);
+        Iterator<Entry> iterator = ranking(category).iterator();
+        for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (postIds.size() < limit && iterator.hasNext()) {
+            postIds.add(iterator.next().postId());
+        }
+        return postIds;
+    }
+
+    /**
+     * 카테고리별 인덱스 항목 수 (null이면 전체)
+     */
+    public int count(PostCategory category) {
+        return ranking(category).size();
+    }
+
+    /**
+     * 저장 대상 점수를 꺼내고 표시를 지움 (인덱스에서 빠진 글은 제외)
+     */
+    public Map<Long, Double> drainDirtyScores() {
+        Map<Long, Entry> entries = snapshot.entries();
+        Map<Long, Double> scores = new HashMap<>();
+        Iterator<Long> iterator = dirtyIds.iterator();
+        while (iterator.hasNext()) {
+            Long postId = iterator.next();
+            iterator.remove();
+            Entry entry = entries.get(postId);
+            if (entry != null) {
+                scores.put(postId, entry.score());
+            }
+        }
+        return scores;
+    }
+
+    public int size() {
+        return snapshot.entries().size();
+    }
+
+    /**
+     * 인기 점수 계산
+     */
+    public static double score(LocalDateTime createdAt, int likeCount, int commentCount, int viewCount) {
+        double engagement = likeCount * LIKE_WEIGHT + commentCount * COMMENT_WEIGHT + viewCount * VIEW_WEIGHT;
+        double ageSeconds = Duration.between(SCORE_EPOCH, createdAt).toSeconds();
+        return Math.log10(Math.max(engagement, 1.0)) + ageSeconds / DECAY_SECONDS;
+    }
+
+    private NavigableSet<Entry> ranking(PostCategory category) {
+        Snapshot current = snapshot;
+        if (category == null) {
+            return current.all();
+        }
+        NavigableSet<Entry> entriesOfCategory = current.byCategory().get(category);
+        return entriesOfCategory != null ? entriesOfCategory : Collections.emptyNavigableSet();
+    }
+
+    /**
+     * 인덱스 한 벌 (재구성 시 통째로 교체, 개별 갱신은 현재 스냅샷에 반영)
+     */
+    private record Snapshot(Map<Long, Entry> entries, NavigableSet<Entry> all,
+                            Map<PostCategory, NavigableSet<Entry>> byCategory) {
+
+        static Snapshot empty() {
+            return new Snapshot(new ConcurrentHashMap<>(), new ConcurrentSkipListSet<>(RANKING), new ConcurrentHashMap<>());
+        }
+
+        void put(Entry entry) {
+            entries.put(entry.postId(), entry);
+            all.add(entry);
+            byCategory.computeIfAbsent(entry.category(), key -> new ConcurrentSkipListSet<>(RANKING)).add(entry);
+        }
+
+        void remove(Long postId) {
+            Entry entry = entries.remove(postId);
+            if (entry == null) {
+                return;
+            }
+            all.remove(entry);
+            NavigableSet<Entry> entriesOfCategory = byCategory.get(entry.category());
+            if (entriesOfCategory != null) {
+                entriesOfCategory.remove(entry);
+            }
+        }
+    }
+
+    private record Entry(Long postId, PostCategory category, LocalDateTime createdAt,
+                         int likeCount, int commentCount, int viewCount, double score) {
+
+        static Entry of(Long postId, PostCategory category, LocalDateTime createdAt,
+                        int likeCount, int commentCount, int viewCount) {
+            return new Entry(postId, category, createdAt, likeCount, commentCount, viewCount,
+                    score(createdAt, likeCount, commentCount, viewCount));
+        }
+
+        Entry withCounts(int likeCount, int commentCount, int viewCount) {
+            return of(postId, category, createdAt, Math.max(likeCount, 0), Math.max(commentCount, 0),
+                    Math.max(viewCount, 0));
+        }
+    }
+}
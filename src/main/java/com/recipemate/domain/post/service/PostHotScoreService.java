@@ -0,0 +1,72 @@
+package com.recipemate.domain.post.service;
+
+import com.recipemate.domain.post.dto.PostHotScoreDto;
+import com.recipemate.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 인기 점수 저장 서비스
+ * PostHotScoreIndex에서 점수가 바뀐 글만 모아 1분마다 posts.hot_score에 반영한다.
+ * 저장된 점수는 키워드 검색처럼 인덱스로 처리할 수 없는 인기순 정렬에 사용된다.
+ *
+ * 저장이 실패해 반영되지 않은 점수는 다음 점수 변경 또는 매일 재구성 때 다시 저장 대상이 된다.
+ * 인덱스는 최근 7일 글만 다루므로, 점수가 한 번도 저장되지 않은(기본값 0) 기존 글은 서버 시작 시 한 번 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostHotScoreService {
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+    private final PostHotScoreIndex postHotScoreIndex;
+
+    /**
+     * 점수가 저장되지 않은 기존 글의 인기 점수 채우기 (대상이 없으면 조회 한 번으로 끝남)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillScores() {
+        long afterId = 0;
+        int filled = 0;
+        List<PostHotScoreDto> posts;
+        do {
+            posts = postRepository.findUnscoredHotScoreSources(afterId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            for (PostHotScoreDto post : posts) {
+                double score = PostHotScoreIndex.score(post.getCreatedAt(),
+                        post.getLikeCount(), post.getCommentCount(), post.getViewCount());
+                postRepository.updateHotScore(post.getPostId(), score);
+                afterId = post.getPostId();
+            }
+            filled += posts.size();
+        } while (posts.size() == BACKFILL_BATCH_SIZE);
+
+        if (filled > 0) {
+            log.info("게시글 인기 점수 채우기 완료: {} 건", filled);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${post.hot-score.persist-interval-ms:60000}")
+    @Transactional
+    public void persistScores() {
+        Map<Long, Double> scores = postHotScoreIndex.drainDirtyScores();
+        if (scores.isEmpty()) {
+            return;
+        }
+
+        scores.forEach(postRepository::updateHotScore);
+        log.debug("게시글 인기 점수 저장: {} 건", scores.size());
+    }
+}
@@ -1,6 +1,5 @@
 package com.recipemate.domain.post.service;
 
-import com.recipemate.domain.comment.repository.CommentRepository;
 import com.recipemate.domain.like.repository.PostLikeRepository;
 import com.recipemate.domain.post.dto.CreatePostRequest;
 import com.recipemate.domain.post.dto.PostResponse;
@@ -14,6 +13,8 @@ import com.recipemate.domain.user.entity.User;
 import com.recipemate.domain.user.repository.UserRepository;
 import com.recipemate.global.common.PostCategory;
 import com.recipemate.global.config.CacheConfig;
+import com.recipemate.global.event.PostChangedEvent;
+import com.recipemate.global.event.PostEngagementEvent;
 import com.recipemate.global.exception.CustomException;
 import com.recipemate.global.exception.ErrorCode;
 import com.recipemate.global.util.ImageUploadUtil;
@@ -21,12 +22,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,9 +46,10 @@ public class PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostLikeRepository postLikeRepository;
-    private final CommentRepository commentRepository;
     private final PostImageRepository postImageRepository;
     private final ImageUploadUtil imageUploadUtil;
+    private final PostHotScoreIndex postHotScoreIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @CacheEvict(value = CacheConfig.VIEW_COUNTS_CACHE, allEntries = true)
@@ -71,6 +80,8 @@ public class PostService {
             }
         }
         
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId()));
+
         log.debug("Post created with {} images and cache evicted", 
                 request.getImageFiles() != null ? request.getImageFiles().size() : 0);
         return PostResponse.from(savedPost);
@@ -115,11 +126,13 @@ public class PostService {
         }
         
         post.increaseViewCount();
+        eventPublisher.publishEvent(new PostEngagementEvent(postId, PostEngagementEvent.Type.VIEW, 1));
     }
 
     private PostResponse enrichWithCountsAndLikeInfo(PostResponse response, Post post, Long currentUserId) {
-        long likeCount = postLikeRepository.countByPost(post);
-        long commentCount = commentRepository.countByPostId(post.getId());
+        // 좋아요 수, 댓글 수는 비정규화 컬럼 사용
+        long likeCount = post.getLikeCount();
+        long commentCount = post.getCommentCount();
         boolean isLiked = false;
         
         if (currentUserId != null) {
@@ -207,6 +220,8 @@ public class PostService {
             }
         }
         
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+
         log.debug("Post updated and cache evicted");
         return PostResponse.from(post);
     }
@@ -253,6 +268,7 @@ public class PostService {
         }
         
         post.delete();
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
         log.info("게시글 삭제 완료 - postId: {}, 이미지 수: {}", postId, images.size());
     }
 
@@ -281,26 +297,62 @@ public class PostService {
         );
 
         // DTO 변환 (from develop branch)
-        return postsWithCounts.map(dto -> {
-            Post post = dto.getPost();
-            return PostResponse.builder()
-                    .id(post.getId())
-                    .title(post.getTitle())
-                    .content(post.getContent())
-                    .category(post.getCategory())
-                    .viewCount(post.getViewCount())
-                    .authorId(post.getAuthor().getId())
-                    .authorNickname(post.getAuthor().getNickname())
-                    .authorEmail(post.getAuthor().getEmail())
-                    .createdAt(post.getCreatedAt())
-                    .updatedAt(post.getUpdatedAt())
-                    .likeCount(dto.getLikeCount())
-                    .commentCount(dto.getCommentCount())
-                    .isLiked(false) // 목록에서는 '좋아요' 여부 확인 불가
-                    .imageUrls(post.getImages().stream()
-                            .map(PostImage::getImageUrl)
-                            .collect(Collectors.toList()))
-                    .build();
-        });
+        return postsWithCounts.map(this::toListResponse);
+    }
+
+    /**
+     * 인기순 게시글 목록 조회
+     * 키워드가 없으면 PostHotScoreIndex에서 상위 ID만 꺼내 해당 글만 조회 (집계/정렬 쿼리 없음)
+     * 키워드 검색은 저장된 인기 점수(hot_score) 컬럼으로 DB 정렬
+     * 점수가 계속 바뀌므로 목록 캐시는 사용하지 않는다.
+     * @param category 카테고리 필터 (선택)
+     * @param keyword 검색 키워드 (선택)
+     * @param pageable 페이징 정보 (정렬은 무시)
+     * @return 인기 점수 내림차순 게시글 목록 (페이징)
+     */
+    public Page<PostResponse> getHotPostList(PostCategory category, String keyword, Pageable pageable) {
+        String trimmedKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword.trim() : null;
+
+        if (trimmedKeyword != null) {
+            Pageable byHotScore = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                    Sort.by(Sort.Order.desc("hotScore"), Sort.Order.desc("createdAt")));
+            return postRepository.findAllWithCountsDynamic(category, trimmedKeyword, byHotScore)
+                    .map(this::toListResponse);
+        }
+
+        List<Long> postIds = postHotScoreIndex.findTop(category, pageable.getOffset(), pageable.getPageSize());
+        Map<Long, PostWithCountsDto> postsById = postIds.isEmpty() ? Map.of()
+                : postRepository.findAllWithCountsByIdIn(postIds).stream()
+                        .collect(Collectors.toMap(dto -> dto.getPost().getId(), Function.identity()));
+
+        // 인덱스 순서 유지 (조회 사이 삭제된 글은 제외)
+        List<PostResponse> content = postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(this::toListResponse)
+                .toList();
+        return new PageImpl<>(content, pageable, postHotScoreIndex.count(category));
+    }
+
+    private PostResponse toListResponse(PostWithCountsDto dto) {
+        Post post = dto.getPost();
+        return PostResponse.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .category(post.getCategory())
+                .viewCount(post.getViewCount())
+                .authorId(post.getAuthor().getId())
+                .authorNickname(post.getAuthor().getNickname())
+                .authorEmail(post.getAuthor().getEmail())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .likeCount(dto.getLikeCount())
+                .commentCount(dto.getCommentCount())
+                .isLiked(false) // 목록에서는 '좋아요' 여부 확인 불가
+                .imageUrls(post.getImages().stream()
+                        .map(PostImage::getImageUrl)
+                        .collect(Collectors.toList()))
+                .build();
     }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.recipemate.domain.recipe.dto.CookRecipeListResponse;
 import com.recipemate.domain.recipe.dto.CookRecipeResponse;
+import com.recipemate.global.http.UpstreamRejectedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -128,6 +129,11 @@ public class FoodSafetyClient {
             return parseResponse(response);
             
         } catch (Exception e) {
+            if (UpstreamRejectedException.isCause(e)) {
+                // 회로 차단/동시 요청 한도로 거절된 호출은 예상된 상황이므로 스택 트레이스 없이 경고로 남김
+                log.warn("Food Safety API call rejected: start={}, end={}, reason={}", start, end, e.getMessage());
+                return Collections.emptyList();
+            }
             log.error("Error fetching recipes: start={}, end={}, recipeName={}, ingredient={}, category={}", 
                       start, end, recipeName, ingredient, category, e);
             return Collections.emptyList();
@@ -4,12 +4,14 @@ import com.recipemate.domain.recipe.dto.CategoryListResponse;
 import com.recipemate.domain.recipe.dto.CategoryResponse;
 import com.recipemate.domain.recipe.dto.MealListResponse;
 import com.recipemate.domain.recipe.dto.MealResponse;
+import com.recipemate.global.http.UpstreamRejectedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -42,7 +44,7 @@ public class TheMealDBClient {
             
             return response.getMeals();
         } catch (Exception e) {
-            log.error("레시피 검색 중 오류 발생: keyword={}", keyword, e);
+            logFailure(e, "레시피 검색 중 오류 발생: keyword={}", keyword);
             return Collections.emptyList();
         }
     }
@@ -64,7 +66,7 @@ public class TheMealDBClient {
             
             return response.getMeals().get(0);
         } catch (Exception e) {
-            log.error("레시피 상세 조회 중 오류 발생: mealId={}", mealId, e);
+            logFailure(e, "레시피 상세 조회 중 오류 발생: mealId={}", mealId);
             return null;
         }
     }
@@ -74,24 +76,17 @@ public class TheMealDBClient {
      * @return 랜덤 레시피
      */
     public MealResponse getRandomRecipe() {
-        String url = BASE_URL + "/random.php";
-        
         try {
-            MealListResponse response = restTemplate.getForObject(url, MealListResponse.class);
-            
-            if (response == null || response.getMeals() == null || response.getMeals().isEmpty()) {
-                return null;
-            }
-            
-            return response.getMeals().get(0);
+            return requestRandomRecipe();
         } catch (Exception e) {
-            log.error("랜덤 레시피 조회 중 오류 발생", e);
+            logFailure(e, "랜덤 레시피 조회 중 오류 발생");
             return null;
         }
     }
 
     /**
      * 랜덤 레시피 여러 개 조회
+     * 회로 차단 등으로 호출이 거절되면 남은 요청을 보내지 않고 그때까지 받은 목록을 반환
      * @param count 조회할 레시피 개수
      * @return 랜덤 레시피 목록
      */
@@ -99,15 +94,32 @@ public class TheMealDBClient {
         List<MealResponse> recipes = new ArrayList<>();
         
         for (int i = 0; i < count; i++) {
-            MealResponse recipe = getRandomRecipe();
-            if (recipe != null) {
-                recipes.add(recipe);
+            try {
+                MealResponse recipe = requestRandomRecipe();
+                if (recipe != null) {
+                    recipes.add(recipe);
+                }
+            } catch (Exception e) {
+                logFailure(e, "랜덤 레시피 조회 중 오류 발생");
+                if (UpstreamRejectedException.isCause(e)) {
+                    break;
+                }
             }
         }
         
         return recipes;
     }
 
+    private MealResponse requestRandomRecipe() {
+        MealListResponse response = restTemplate.getForObject(BASE_URL + "/random.php", MealListResponse.class);
+        
+        if (response == null || response.getMeals() == null || response.getMeals().isEmpty()) {
+            return null;
+        }
+        
+        return response.getMeals().get(0);
+    }
+
     /**
      * 카테고리 목록 조회
      * @return 카테고리 목록
@@ -124,7 +136,7 @@ public class TheMealDBClient {
             
             return response.getCategories();
         } catch (Exception e) {
-            log.error("카테고리 목록 조회 중 오류 발생", e);
+            logFailure(e, "카테고리 목록 조회 중 오류 발생");
             return Collections.emptyList();
         }
     }
@@ -157,8 +169,26 @@ public class TheMealDBClient {
             
             return detailedRecipes;
         } catch (Exception e) {
-            log.error("카테고리별 레시피 조회 중 오류 발생: category={}", category, e);
+            logFailure(e, "카테고리별 레시피 조회 중 오류 발생: category={}", category);
             return Collections.emptyList();
         }
     }
+
+    /**
+     * 호출 실패 로깅
+     * 회로 차단/동시 요청 한도로 거절된 호출은 예상된 상황이므로 스택 트레이스 없이 경고로 남김
+     */
+    private void logFailure(Exception e, String message, Object... args) {
+        if (UpstreamRejectedException.isCause(e)) {
+            log.warn(message + " - 호출 거절: {}", appendArg(args, e.getMessage()));
+            return;
+        }
+        log.error(message, appendArg(args, e));
+    }
+
+    private static Object[] appendArg(Object[] args, Object last) {
+        Object[] result = Arrays.copyOf(args, args.length + 1);
+        result[args.length] = last;
+        return result;
+    }
 }
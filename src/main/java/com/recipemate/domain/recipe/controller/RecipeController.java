@@ -4,12 +4,15 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.recipemate.domain.groupbuy.dto.GroupBuyResponse;
 import com.recipemate.domain.recipe.dto.CategoryResponse;
+import com.recipemate.domain.recipe.dto.PantryRecipeResponse;
 import com.recipemate.domain.recipe.dto.RecipeCreateRequest;
 import com.recipemate.domain.recipe.dto.RecipeDetailResponse;
 import com.recipemate.domain.recipe.dto.RecipeListResponse;
+import com.recipemate.domain.recipe.dto.RecipeSyncReport;
 import com.recipemate.domain.recipe.dto.RecipeUpdateRequest;
 import com.recipemate.domain.recipe.entity.Recipe;
 import com.recipemate.domain.recipe.entity.RecipeSource;
+import com.recipemate.domain.recipe.service.RecipeDetailLoader;
 import com.recipemate.domain.recipe.service.RecipeService;
 import com.recipemate.domain.recipe.service.RecipeSyncService;
 import com.recipemate.domain.user.service.CustomUserDetailsService.CustomUserDetails;
@@ -58,11 +61,14 @@ import java.util.stream.Collectors;
 public class RecipeController {
 
     private final RecipeService recipeService;
+    private final RecipeDetailLoader recipeDetailLoader;
     private final RecipeSyncService recipeSyncService;
     private final com.recipemate.domain.recipe.repository.RecipeRepository recipeRepository;
     private final ObjectMapper objectMapper;
 
     private static final int DEFAULT_RANDOM_COUNT = 5;
+    private static final int DEFAULT_SIMILAR_COUNT = 6;
+    private static final int DEFAULT_INGREDIENT_GROUP_BUY_COUNT = 6;
     private static final int DEFAULT_PAGE_SIZE = 20;
     private static final int MAX_PAGE_SIZE = 100;
     private static final String SESSION_KEY_RANDOM_RECIPES = "randomRecipes";
@@ -162,7 +168,7 @@ public class RecipeController {
             recipe = recipeService.getRecipeDetailById(dbId);
         } else {
             // API ID로 조회 (DB 우선, API 폴백)
-            recipe = recipeService.getRecipeDetailByApiId(recipeId);
+            recipe = recipeDetailLoader.getRecipeDetailByApiId(recipeId);
         }
         
         model.addAttribute("recipe", recipe);
@@ -188,6 +194,16 @@ public class RecipeController {
         // 관련 공동구매 조회
         List<GroupBuyResponse> relatedGroupBuys = recipeService.getRelatedGroupBuys(recipe.getId());
         model.addAttribute("relatedGroupBuys", relatedGroupBuys);
+
+        // 레시피 재료와 겹치는 모집 중 공동구매 (레시피 ID로 이미 연결된 공구는 제외)
+        List<String> ingredientNames = recipe.getIngredients() == null ? List.of()
+                : recipe.getIngredients().stream().map(RecipeDetailResponse.IngredientInfo::getName).toList();
+        List<Long> relatedGroupBuyIds = relatedGroupBuys.stream().map(GroupBuyResponse::getId).toList();
+        model.addAttribute("ingredientGroupBuys",
+                recipeService.getIngredientMatchedGroupBuys(ingredientNames, relatedGroupBuyIds, DEFAULT_INGREDIENT_GROUP_BUY_COUNT));
+
+        // 재료 구성이 비슷한 레시피
+        model.addAttribute("similarRecipes", recipeService.getSimilarRecipes(recipe.getDbId(), DEFAULT_SIMILAR_COUNT));
         
         // 현재 URL을 모델에 추가 (리다이렉션에 사용)
         String currentUrl = request.getRequestURI();
@@ -260,6 +276,25 @@ public class RecipeController {
 
 
 
+    /**
+     * 보유 재료(팬트리) 기반 레시피 추천 API
+     * GET /recipes/pantry?ingredients=두부,대파,간장&page=0&size=20
+     * 보유 재료로 충족되는 비율이 높고 부족한 재료가 적은 순으로 반환
+     */
+    @GetMapping("/pantry")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<Page<PantryRecipeResponse>>> findRecipesByPantry(
+            @RequestParam List<String> ingredients,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        size = Math.min(size, MAX_PAGE_SIZE);
+        Page<PantryRecipeResponse> recipes = recipeService.findRecipesByPantry(
+                ingredients, PageRequest.of(Math.max(page, 0), Math.max(size, 1)));
+        
+        return ResponseEntity.ok(ApiResponse.success(recipes));
+    }
+
     /**
      * 레시피 관련 공동구매 목록 조회 API
      * GET /recipes/{recipeId}/group-purchases
@@ -281,7 +316,7 @@ public class RecipeController {
      * POST /recipes/admin/sync-mealdb?count={count}
      * 
      * @param count 동기화할 랜덤 레시피 개수 (기본값: 100)
-     * @return 동기화 결과 (요청 개수, 실제 동기화된 개수)
+     * @return 동기화 결과 (요청 개수, 동기화된 개수, 생성/변경/건너뜀/실패 건수, 기록 바이트)
      */
     @PostMapping("/admin/sync-mealdb")
     @ResponseBody
@@ -289,13 +324,18 @@ public class RecipeController {
             @RequestParam(defaultValue = "100") int count) {
         
         log.info("Manual TheMealDB sync triggered: count={}", count);
-        int syncedCount = recipeSyncService.syncMealDbRandomRecipes(count);
+        RecipeSyncReport report = recipeSyncService.syncMealDbRandomRecipes(count);
         
         Map<String, Object> result = new HashMap<>();
-        result.put("syncedCount", syncedCount);
+        result.put("syncedCount", report.getSyncedCount());
         result.put("requestedCount", count);
+        result.put("createdCount", report.getCreated());
+        result.put("updatedCount", report.getUpdated());
+        result.put("skippedCount", report.getSkipped());
+        result.put("failedCount", report.getFailed());
+        result.put("bytesWritten", report.getBytesWritten());
         
-        log.info("TheMealDB sync completed: requested={}, synced={}", count, syncedCount);
+        log.info("TheMealDB sync completed: requested={}, {}", count, report);
         
         return ResponseEntity.ok(ApiResponse.success(result));
     }
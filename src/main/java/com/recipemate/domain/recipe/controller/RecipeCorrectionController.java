@@ -8,7 +8,7 @@ import com.recipemate.domain.recipe.entity.Recipe;
 import com.recipemate.domain.recipe.entity.RecipeSource;
 import com.recipemate.domain.recipe.repository.RecipeRepository;
 import com.recipemate.domain.recipe.service.RecipeCorrectionService;
-import com.recipemate.domain.recipe.service.RecipeService;
+import com.recipemate.domain.recipe.service.RecipeDetailLoader;
 import com.recipemate.domain.user.entity.User;
 import com.recipemate.domain.user.repository.UserRepository;
 import com.recipemate.global.exception.CustomException;
@@ -36,7 +36,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class RecipeCorrectionController {
 
     private final RecipeCorrectionService correctionService;
-    private final RecipeService recipeService;
+    private final RecipeDetailLoader recipeDetailLoader;
     private final RecipeRepository recipeRepository;
     private final UserRepository userRepository;
 
@@ -52,7 +52,7 @@ public class RecipeCorrectionController {
             Model model
     ) {
         // 레시피 정보 조회 (API ID로 조회 - meal-{id} 또는 food-{id})
-        RecipeDetailResponse recipe = recipeService.getRecipeDetailByApiId(recipeApiId);
+        RecipeDetailResponse recipe = recipeDetailLoader.getRecipeDetailByApiId(recipeApiId);
         
         model.addAttribute("recipe", recipe);
         model.addAttribute("recipeApiId", recipeApiId);
@@ -87,7 +87,7 @@ public class RecipeCorrectionController {
         
         // 유효성 검증 실패 시
         if (bindingResult.hasErrors()) {
-            RecipeDetailResponse recipe = recipeService.getRecipeDetailByApiId(recipeApiId);
+            RecipeDetailResponse recipe = recipeDetailLoader.getRecipeDetailByApiId(recipeApiId);
             model.addAttribute("recipe", recipe);
             model.addAttribute("recipeApiId", recipeApiId);
             model.addAttribute("correctionTypes", CorrectionType.values());
@@ -111,7 +111,7 @@ public class RecipeCorrectionController {
             return "redirect:/recipes/" + recipeApiId;
             
         } catch (CustomException e) {
-            RecipeDetailResponse recipe = recipeService.getRecipeDetailByApiId(recipeApiId);
+            RecipeDetailResponse recipe = recipeDetailLoader.getRecipeDetailByApiId(recipeApiId);
             model.addAttribute("recipe", recipe);
             model.addAttribute("recipeApiId", recipeApiId);
             model.addAttribute("correctionTypes", CorrectionType.values());
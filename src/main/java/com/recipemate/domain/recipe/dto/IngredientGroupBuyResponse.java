@@ -0,0 +1,22 @@
+package com.recipemate.domain.recipe.dto;
+
+import com.recipemate.domain.groupbuy.dto.GroupBuyResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 레시피 재료와 겹치는 모집 중 공동구매 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IngredientGroupBuyResponse {
+    private GroupBuyResponse groupBuy;
+    private int matchedCount;                 // 레시피 재료와 겹치는 공구 재료 수
+    private List<String> matchedIngredients;  // 겹치는 공구 재료명 (정규화된 이름)
+}
@@ -0,0 +1,24 @@
+package com.recipemate.domain.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 보유 재료(팬트리) 기반 레시피 추천 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PantryRecipeResponse {
+    private RecipeListResponse.RecipeSimpleInfo recipe;
+    private int matchedCount;          // 보유 재료로 충족되는 재료 수
+    private int ingredientCount;       // 레시피의 전체 재료 수 (정규화 후 중복 제거)
+    private int missingCount;          // 부족한 재료 수
+    private double coverage;           // 충족 비율 (0.0 ~ 1.0)
+    private List<String> missingIngredients; // 부족한 재료명 (정규화된 이름)
+}
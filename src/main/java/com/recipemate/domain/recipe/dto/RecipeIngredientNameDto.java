@@ -0,0 +1,15 @@
+package com.recipemate.domain.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 재료 사전/팬트리 인덱스 구성을 위한 레시피 재료명 DTO
+ * 엔티티 전체를 로딩하지 않도록 JPQL 생성자 표현식으로 매핑
+ */
+@Getter
+@AllArgsConstructor
+public class RecipeIngredientNameDto {
+    private Long recipeId;
+    private String name;
+}
@@ -0,0 +1,19 @@
+package com.recipemate.domain.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 영양 정보 인덱스 구성을 위한 레시피 영양 정보 DTO
+ * 엔티티 전체를 로딩하지 않도록 JPQL 생성자 표현식으로 매핑
+ */
+@Getter
+@AllArgsConstructor
+public class RecipeNutritionDto {
+    private Long recipeId;
+    private Integer calories;
+    private Integer carbohydrate;
+    private Integer protein;
+    private Integer fat;
+    private Integer sodium;
+}
@@ -0,0 +1,71 @@
+package com.recipemate.domain.recipe.dto;
+
+import lombok.Getter;
+
+/**
+ * 레시피 동기화 결과 집계
+ * - created: 새로 저장된 레시피 수
+ * - updated: 내용 지문(content hash)이 달라 변경분을 반영한 레시피 수
+ * - skipped: 내용 지문이 같아 쓰기 없이 건너뛴 레시피 수
+ * - failed: 매핑/저장에 실패한 레시피 수
+ * - bytesWritten: 기록한 텍스트 컬럼의 UTF-8 바이트 수 (추정치)
+ */
+@Getter
+public class RecipeSyncReport {
+
+    private int created;
+    private int updated;
+    private int skipped;
+    private int failed;
+    private long bytesWritten;
+
+    public void recordCreated(long bytes) {
+        created++;
+        bytesWritten += bytes;
+    }
+
+    public void recordUpdated(long bytes) {
+        updated++;
+        bytesWritten += bytes;
+    }
+
+    public void recordSkipped() {
+        skipped++;
+    }
+
+    public void recordFailed() {
+        failed++;
+    }
+
+    /**
+     * 다른 동기화 결과를 합산
+     */
+    public RecipeSyncReport merge(RecipeSyncReport other) {
+        created += other.created;
+        updated += other.updated;
+        skipped += other.skipped;
+        failed += other.failed;
+        bytesWritten += other.bytesWritten;
+        return this;
+    }
+
+    /**
+     * 정상 처리된 레시피 수 (생성 + 변경 + 변경 없음)
+     */
+    public int getSyncedCount() {
+        return created + updated + skipped;
+    }
+
+    /**
+     * 실제로 쓰기가 일어난 레시피 수 (생성 + 변경)
+     */
+    public int getChangedCount() {
+        return created + updated;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("created=%d, updated=%d, skipped=%d, failed=%d, bytesWritten=%d",
+                created, updated, skipped, failed, bytesWritten);
+    }
+}
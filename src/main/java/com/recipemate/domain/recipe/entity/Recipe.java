@@ -1,9 +1,12 @@
 package com.recipemate.domain.recipe.entity;
 
+import com.recipemate.global.cache.CacheRegions;
 import com.recipemate.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -29,6 +32,8 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @SuperBuilder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.RECIPE)
 @SQLDelete(sql = "UPDATE recipes SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
 public class Recipe extends BaseEntity {
@@ -147,6 +152,13 @@ public class Recipe extends BaseEntity {
     @Column(length = 500)
     private String sourceUrl;
 
+    /**
+     * 외부 API 내용 지문 (SHA-256)
+     * 동기화 시 같은 지문이면 쓰기 없이 건너뜀 (사용자 레시피는 null)
+     */
+    @Column(length = 64)
+    private String contentHash;
+
     /**
      * 마지막 동기화 시간
      */
@@ -157,6 +169,7 @@ public class Recipe extends BaseEntity {
      * 레시피 재료 목록
      */
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.RECIPE_INGREDIENTS)
     @Builder.Default
     private List<RecipeIngredient> ingredients = new ArrayList<>();
 
@@ -164,6 +177,7 @@ public class Recipe extends BaseEntity {
      * 조리 단계 목록
      */
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.RECIPE_STEPS)
     @Builder.Default
     private List<RecipeStep> steps = new ArrayList<>();
 
@@ -190,6 +204,37 @@ public class Recipe extends BaseEntity {
         this.lastSyncedAt = LocalDateTime.now();
     }
 
+    /**
+     * 내용 지문 업데이트
+     */
+    public void updateContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * 외부 API가 제공하는 기본 정보를 동기화된 레시피 값으로 갱신
+     * 재료/조리 단계는 변경분만 반영하도록 RecipeSyncService에서 별도로 처리
+     */
+    public void applySyncedInfo(Recipe source) {
+        this.title = source.title;
+        this.fullImageUrl = source.fullImageUrl;
+        this.thumbnailImageUrl = source.thumbnailImageUrl;
+        this.category = source.category;
+        this.area = source.area;
+        this.instructions = source.instructions;
+        this.calories = source.calories;
+        this.carbohydrate = source.carbohydrate;
+        this.protein = source.protein;
+        this.fat = source.fat;
+        this.sodium = source.sodium;
+        this.servingSize = source.servingSize;
+        this.tips = source.tips;
+        this.youtubeUrl = source.youtubeUrl;
+        this.sourceUrl = source.sourceUrl;
+        this.contentHash = source.contentHash;
+        this.lastSyncedAt = LocalDateTime.now();
+    }
+
     /**
      * 사용자가 작성한 레시피인지 확인
      */
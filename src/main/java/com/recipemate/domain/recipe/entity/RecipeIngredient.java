@@ -1,9 +1,12 @@
 package com.recipemate.domain.recipe.entity;
 
+import com.recipemate.global.cache.CacheRegions;
 import com.recipemate.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -20,6 +23,8 @@ import org.hibernate.annotations.Where;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @SuperBuilder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.RECIPE_INGREDIENT)
 @SQLDelete(sql = "UPDATE recipe_ingredients SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
 public class RecipeIngredient extends BaseEntity {
@@ -50,4 +55,11 @@ public class RecipeIngredient extends BaseEntity {
      */
     @Column(nullable = false, length = 200)
     private String measure;
+
+    /**
+     * 계량 정보 업데이트 (동기화 시 같은 재료의 계량만 바뀐 경우)
+     */
+    public void updateMeasure(String measure) {
+        this.measure = measure;
+    }
 }
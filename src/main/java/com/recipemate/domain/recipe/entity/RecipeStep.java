@@ -1,9 +1,12 @@
 package com.recipemate.domain.recipe.entity;
 
+import com.recipemate.global.cache.CacheRegions;
 import com.recipemate.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -19,6 +22,8 @@ import org.hibernate.annotations.Where;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @SuperBuilder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.RECIPE_STEP)
 @SQLDelete(sql = "UPDATE recipe_steps SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
 public class RecipeStep extends BaseEntity {
@@ -54,4 +59,12 @@ public class RecipeStep extends BaseEntity {
      */
     @Column(length = 500)
     private String imageUrl;
+
+    /**
+     * 단계 내용 업데이트 (동기화 시 같은 번호의 단계가 바뀐 경우)
+     */
+    public void updateContent(String description, String imageUrl) {
+        this.description = description;
+        this.imageUrl = imageUrl;
+    }
 }
@@ -9,9 +9,14 @@ import com.recipemate.domain.recipe.entity.RecipeStep;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -22,6 +27,21 @@ import java.util.regex.Pattern;
 @Component
 public class RecipeMapper {
 
+    // "재료명 숫자..." 형식 (예: "연두부 75g(3/4모)")
+    private static final Pattern SPACE_MEASURE_PATTERN = Pattern.compile("^(.+?)\\s+(\\d+.*)$");
+    // "재료명(계량)" 형식 (예: "배추(20g)")
+    private static final Pattern BRACKET_MEASURE_PATTERN = Pattern.compile("^([^(]+)\\(([^)]+)\\)$");
+    // 괄호/대괄호 부가 설명 (예: "돼지고기(앞다리살)", "[1인분]")
+    private static final Pattern ANNOTATION_PATTERN = Pattern.compile("\\([^)]*\\)|\\[[^\\]]*\\]");
+    // 재료명 앞의 기호 (예: "●", "·", "-")
+    private static final Pattern LEADING_SYMBOL_PATTERN = Pattern.compile("^[^\\p{L}\\p{N}]+");
+
+    // 내용 지문 직렬화용 구분자 (ASCII 제어 문자라 API 텍스트에 나타나지 않음)
+    private static final char UNIT_SEPARATOR = '\u001F';
+    private static final char RECORD_SEPARATOR = '\u001E';
+    private static final char GROUP_SEPARATOR = '\u001D';
+    private static final String NULL_MARKER = "\u0000";
+
     /**
      * TheMealDB API 응답을 Recipe 엔티티로 변환
      */
@@ -59,6 +79,7 @@ public class RecipeMapper {
             recipe.addStep(step);
         }
 
+        recipe.updateContentHash(computeContentHash(recipe));
         return recipe;
     }
 
@@ -109,6 +130,7 @@ public class RecipeMapper {
             recipe.addStep(step);
         }
 
+        recipe.updateContentHash(computeContentHash(recipe));
         return recipe;
     }
 
@@ -191,8 +213,7 @@ public class RecipeMapper {
 
             // 패턴 1 (우선순위 높음): "재료명 숫자..." 형식 처리
             // 예: "연두부 75g(3/4모)", "칵테일새우 20g(5마리)"
-            Pattern spacePattern = Pattern.compile("^(.+?)\\s+(\\d+.*)$");
-            Matcher spaceMatcher = spacePattern.matcher(trimmed);
+            Matcher spaceMatcher = SPACE_MEASURE_PATTERN.matcher(trimmed);
             
             if (spaceMatcher.matches()) {
                 // 공백으로 구분된 형식
@@ -207,8 +228,7 @@ public class RecipeMapper {
             } else {
                 // 패턴 2: "재료명(계량)" 형식 처리
                 // 예: "배추(20g)", "무(10g)"
-                Pattern bracketPattern = Pattern.compile("^([^(]+)\\(([^)]+)\\)$");
-                Matcher bracketMatcher = bracketPattern.matcher(trimmed);
+                Matcher bracketMatcher = BRACKET_MEASURE_PATTERN.matcher(trimmed);
                 
                 if (bracketMatcher.matches()) {
                     // 괄호 형식: "재료명(계량)"
@@ -227,6 +247,91 @@ public class RecipeMapper {
         return ingredients;
     }
 
+    /**
+     * 재료명 정규화 (재료 사전/팬트리 검색용)
+     * - 라벨 구분자(:) 앞부분, 앞쪽 기호, 괄호 설명, 뒤쪽 계량 정보를 제거
+     * - 소문자 변환 및 연속 공백 정리
+     *
+     * 예시 변환:
+     * "●주재료 : 연두부 75g(3/4모)" → "연두부"
+     * "돼지고기(앞다리살)" → "돼지고기"
+     * "Chicken Breast" → "chicken breast"
+     *
+     * @return 정규화된 재료명 (남는 내용이 없으면 빈 문자열)
+     */
+    public static String normalizeIngredientName(String rawName) {
+        if (rawName == null) {
+            return "";
+        }
+
+        String name = rawName.trim();
+        int labelEnd = name.lastIndexOf(':');
+        if (labelEnd >= 0) {
+            name = name.substring(labelEnd + 1).trim();
+        }
+
+        Matcher spaceMatcher = SPACE_MEASURE_PATTERN.matcher(name);
+        if (spaceMatcher.matches()) {
+            name = spaceMatcher.group(1);
+        }
+
+        name = ANNOTATION_PATTERN.matcher(name).replaceAll(" ");
+        name = LEADING_SYMBOL_PATTERN.matcher(name.trim()).replaceFirst("");
+
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 레시피 내용 지문 계산 (SHA-256, 16진수 64자)
+     * 매핑된 엔티티의 API 제공 필드와 재료/조리 단계를 순서대로 직렬화하여 해시하므로,
+     * 응답 JSON의 필드 순서나 빈 값 표현이 달라도 매핑 결과가 같으면 같은 지문이 나온다.
+     * 동기화 시각(lastSyncedAt) 등 매번 바뀌는 값은 포함하지 않는다.
+     */
+    public static String computeContentHash(Recipe recipe) {
+        StringBuilder content = new StringBuilder();
+        appendField(content, recipe.getTitle());
+        appendField(content, recipe.getFullImageUrl());
+        appendField(content, recipe.getThumbnailImageUrl());
+        appendField(content, recipe.getCategory());
+        appendField(content, recipe.getArea());
+        appendField(content, recipe.getInstructions());
+        appendField(content, recipe.getCalories());
+        appendField(content, recipe.getCarbohydrate());
+        appendField(content, recipe.getProtein());
+        appendField(content, recipe.getFat());
+        appendField(content, recipe.getSodium());
+        appendField(content, recipe.getServingSize());
+        appendField(content, recipe.getTips());
+        appendField(content, recipe.getYoutubeUrl());
+        appendField(content, recipe.getSourceUrl());
+
+        for (RecipeIngredient ingredient : recipe.getIngredients()) {
+            content.append(RECORD_SEPARATOR);
+            appendField(content, ingredient.getName());
+            appendField(content, ingredient.getMeasure());
+        }
+        content.append(GROUP_SEPARATOR);
+        for (RecipeStep step : recipe.getSteps()) {
+            content.append(RECORD_SEPARATOR);
+            appendField(content, step.getStepNumber());
+            appendField(content, step.getDescription());
+            appendField(content, step.getImageUrl());
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 제공되므로 발생하지 않음
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private static void appendField(StringBuilder content, Object value) {
+        // null과 빈 문자열을 구분하기 위해 null은 별도 표식 사용
+        content.append(value == null ? NULL_MARKER : value.toString().trim()).append(UNIT_SEPARATOR);
+    }
+
     /**
      * 문자열을 Integer로 파싱 (실패 시 null)
      */
@@ -1,11 +1,13 @@
 package com.recipemate.domain.recipe.repository;
 
+import com.recipemate.domain.recipe.dto.RecipeIngredientNameDto;
 import com.recipemate.domain.recipe.entity.RecipeIngredient;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -56,4 +58,18 @@ public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredie
      */
     @Query("SELECT DISTINCT ri.name FROM RecipeIngredient ri ORDER BY ri.name")
     List<String> findDistinctIngredientNames();
+
+    /**
+     * 삭제되지 않은 레시피의 전체 재료명 조회 (팬트리 인덱스 구성)
+     */
+    @Query("SELECT new com.recipemate.domain.recipe.dto.RecipeIngredientNameDto(r.id, ri.name) " +
+           "FROM RecipeIngredient ri JOIN ri.recipe r WHERE r.deletedAt IS NULL")
+    List<RecipeIngredientNameDto> findAllIngredientNames();
+
+    /**
+     * 레시피 ID 목록으로 재료명 조회 (팬트리 인덱스 증분 갱신)
+     */
+    @Query("SELECT new com.recipemate.domain.recipe.dto.RecipeIngredientNameDto(r.id, ri.name) " +
+           "FROM RecipeIngredient ri JOIN ri.recipe r WHERE r.id IN :recipeIds AND r.deletedAt IS NULL")
+    List<RecipeIngredientNameDto> findIngredientNamesByRecipeIdIn(@Param("recipeIds") Collection<Long> recipeIds);
 }
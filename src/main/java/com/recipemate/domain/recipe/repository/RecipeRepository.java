@@ -1,5 +1,6 @@
 package com.recipemate.domain.recipe.repository;
 
+import com.recipemate.domain.recipe.dto.RecipeNutritionDto;
 import com.recipemate.domain.recipe.entity.Recipe;
 import com.recipemate.domain.recipe.entity.RecipeSource;
 import org.springframework.data.domain.Page;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -122,4 +124,31 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
      * ID와 작성자로 조회 (권한 체크용)
      */
     Optional<Recipe> findByIdAndAuthor(Long id, com.recipemate.domain.user.entity.User author);
+
+    /**
+     * 삭제되지 않은 전체 레시피 ID 조회 (랜덤 추천용 ID 인덱스 구성)
+     */
+    @Query("SELECT r.id FROM Recipe r")
+    List<Long> findAllIds();
+
+    /**
+     * ID 목록으로 작성자와 함께 조회
+     */
+    @Query("SELECT r FROM Recipe r LEFT JOIN FETCH r.author WHERE r.id IN :ids")
+    List<Recipe> findByIdInWithAuthor(@Param("ids") List<Long> ids);
+
+    /**
+     * 영양 정보가 하나라도 있는 레시피의 영양 정보 조회 (영양 정보 인덱스 구성)
+     */
+    @Query("SELECT new com.recipemate.domain.recipe.dto.RecipeNutritionDto(r.id, r.calories, r.carbohydrate, r.protein, r.fat, r.sodium) " +
+           "FROM Recipe r WHERE r.calories IS NOT NULL OR r.carbohydrate IS NOT NULL OR r.protein IS NOT NULL " +
+           "OR r.fat IS NOT NULL OR r.sodium IS NOT NULL")
+    List<RecipeNutritionDto> findAllNutrition();
+
+    /**
+     * ID 목록으로 영양 정보 조회 (영양 정보 인덱스 증분 갱신)
+     */
+    @Query("SELECT new com.recipemate.domain.recipe.dto.RecipeNutritionDto(r.id, r.calories, r.carbohydrate, r.protein, r.fat, r.sodium) " +
+           "FROM Recipe r WHERE r.id IN :ids")
+    List<RecipeNutritionDto> findNutritionByIdIn(@Param("ids") Collection<Long> ids);
 }
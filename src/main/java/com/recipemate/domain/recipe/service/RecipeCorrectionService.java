@@ -8,17 +8,17 @@ import com.recipemate.domain.recipe.entity.*;
 import com.recipemate.domain.recipe.repository.RecipeCorrectionRepository;
 import com.recipemate.domain.recipe.repository.RecipeRepository;
 import com.recipemate.domain.user.entity.MannerTempHistory;
-import com.recipemate.domain.user.entity.PointHistory;
 import com.recipemate.domain.user.entity.User;
 import com.recipemate.domain.user.repository.MannerTempHistoryRepository;
-import com.recipemate.domain.user.repository.PointHistoryRepository;
 import com.recipemate.domain.user.repository.UserRepository;
+import com.recipemate.domain.user.service.PointService;
 import com.recipemate.global.common.EntityType;
 import com.recipemate.global.common.NotificationType;
-import com.recipemate.global.common.PointType;
+import com.recipemate.global.event.UserProfileChangedEvent;
 import com.recipemate.global.exception.CustomException;
 import com.recipemate.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -36,8 +36,9 @@ public class RecipeCorrectionService {
     private final RecipeRepository recipeRepository;
     private final UserRepository userRepository;
     private final MannerTempHistoryRepository mannerTempHistoryRepository;
-    private final PointHistoryRepository pointHistoryRepository;
+    private final PointService pointService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final double CORRECTION_APPROVED_MANNER_TEMP = 0.5;
     private static final int CORRECTION_APPROVED_POINTS = 50;
@@ -209,17 +210,9 @@ public class RecipeCorrectionService {
                 null
         );
         mannerTempHistoryRepository.save(mannerHistory);
+        eventPublisher.publishEvent(UserProfileChangedEvent.mannerTemperatureChanged(proposer.getId()));
 
-        // 포인트 지급
-        proposer.earnPoints(CORRECTION_APPROVED_POINTS);
-
-        // 포인트 이력 저장
-        PointHistory pointHistory = PointHistory.create(
-                proposer,
-                CORRECTION_APPROVED_POINTS,
-                "레시피 개선 제안 승인 보상",
-                PointType.RECIPE_CORRECTION
-        );
-        pointHistoryRepository.save(pointHistory);
+        // 포인트 지급 (이력 저장 포함)
+        pointService.rewardPoints(proposer.getId(), CORRECTION_APPROVED_POINTS, "레시피 개선 제안 승인 보상");
     }
 }
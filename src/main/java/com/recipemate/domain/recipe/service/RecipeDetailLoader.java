@@ -0,0 +1,125 @@
+package com.recipemate.domain.recipe.service;
+
+import com.recipemate.domain.recipe.client.FoodSafetyClient;
+import com.recipemate.domain.recipe.client.TheMealDBClient;
+import com.recipemate.domain.recipe.dto.CookRecipeResponse;
+import com.recipemate.domain.recipe.dto.MealResponse;
+import com.recipemate.domain.recipe.dto.RecipeDetailResponse;
+import com.recipemate.global.exception.CustomException;
+import com.recipemate.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * API ID 기반 레시피 상세 조회 (DB 우선, 외부 API 폴백)
+ * - DB 조회는 RecipeService의 읽기 전용 트랜잭션에서 짧게 수행
+ * - DB에 없으면 트랜잭션 없이 별도 스레드 풀에서 외부 API를 호출하고, 결과는 RecipeSyncService의 짧은 트랜잭션으로 저장
+ * - 같은 apiId에 대한 동시 요청은 하나의 외부 조회를 공유
+ * - 저장 후 DB에서 다시 조회하여 DB 경로와 같은 응답(dbId, 관련 공구 포함)을 반환
+ *
+ * 이 클래스에는 트랜잭션을 걸지 않는다. 외부 API 대기(최대 읽기 타임아웃) 동안 DB 커넥션을 점유하지 않기 위함이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeDetailLoader {
+
+    private static final String MEAL_PREFIX = "meal-";
+    private static final String FOOD_PREFIX = "food-";
+    private static final int FETCH_THREADS = 4;
+    private static final int FETCH_TIMEOUT_SECONDS = 15; // 외부 API 읽기 타임아웃(10초) + 저장 여유
+
+    private final RecipeService recipeService;
+    private final RecipeSyncService recipeSyncService;
+    private final TheMealDBClient theMealDBClient;
+    private final FoodSafetyClient foodSafetyClient;
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(FETCH_THREADS);
+    private final Map<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * API ID로 레시피 상세 조회 (DB 우선)
+     * DB에 없으면 외부 API에서 가져와 저장한 뒤 반환
+     *
+     * @param apiId API ID (meal-{id}, food-{id}, 또는 숫자 ID)
+     * @return 레시피 상세 정보
+     */
+    public RecipeDetailResponse getRecipeDetailByApiId(String apiId) {
+        return recipeService.findRecipeDetailByApiId(apiId)
+                .orElseGet(() -> {
+                    log.warn("레시피가 DB에 없어 API에서 가져옵니다: {}", apiId);
+                    if (!awaitFetch(apiId)) {
+                        throw new CustomException(ErrorCode.RECIPE_NOT_FOUND);
+                    }
+                    return recipeService.findRecipeDetailByApiId(apiId)
+                            .orElseThrow(() -> new CustomException(ErrorCode.RECIPE_NOT_FOUND));
+                });
+    }
+
+    /**
+     * 외부 조회 및 저장 완료 대기 (진행 중인 같은 apiId 조회가 있으면 합류)
+     *
+     * @return 저장 성공 여부 (외부 API에 레시피가 없거나 호출 실패 시 false)
+     */
+    private boolean awaitFetch(String apiId) {
+        CompletableFuture<Boolean> future = inFlight.computeIfAbsent(apiId,
+                key -> CompletableFuture.supplyAsync(() -> fetchAndStore(key), executorService));
+        future.whenComplete((stored, error) -> inFlight.remove(apiId, future));
+
+        try {
+            return future.get(FETCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            // 외부 조회는 계속 진행되어 다음 요청에서 DB로 조회됨
+            log.warn("레시피 외부 조회 시간 초과: {}", apiId);
+            throw new CustomException(ErrorCode.RECIPE_FETCH_TIMEOUT);
+        } catch (ExecutionException e) {
+            log.error("레시피 외부 조회 실패: {} - {}", apiId, e.getCause().getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.RECIPE_FETCH_TIMEOUT);
+        }
+    }
+
+    /**
+     * 외부 API 호출 후 저장 (트랜잭션 밖에서 실행)
+     */
+    private boolean fetchAndStore(String apiId) {
+        if (apiId.startsWith(MEAL_PREFIX)) {
+            MealResponse meal = theMealDBClient.getRecipeById(apiId.substring(MEAL_PREFIX.length()));
+            return meal != null && recipeSyncService.storeFetchedRecipe(meal);
+        }
+        if (apiId.startsWith(FOOD_PREFIX)) {
+            CookRecipeResponse recipe = foodSafetyClient.getRecipeBySeq(apiId.substring(FOOD_PREFIX.length()));
+            return recipe != null && recipeSyncService.storeFetchedRecipe(recipe);
+        }
+        return false;
+    }
+
+    /**
+     * 애플리케이션 종료 시 스레드 풀 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.recipemate.domain.recipe.service;
+
+import com.recipemate.domain.recipe.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 랜덤 추천용 레시피 ID 인덱스 (메모리 기반 밀집 배열)
+ * - 삭제되지 않은 레시피 ID를 long 배열에 빈틈없이 보관하여 O(k)로 k개를 무작위 추출
+ * - 서버 시작 시 DB에서 전체 재구성, 이후 RecipeCreatedEvent/RecipeDeletedEvent로 개별 갱신
+ *
+ * 재구성 중 들어온 추가/삭제는 따로 기록했다가 새 배열로 교체한 뒤 다시 적용하여,
+ * DB 조회 이후 커밋된 레시피가 빠지거나 삭제된 레시피가 남지 않도록 한다.
+ *
+ * ID → 배열 위치 맵을 함께 유지하여 추가 시 중복을 막고,
+ * 삭제는 위치를 O(1)로 찾아 마지막 원소와 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeIdIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final RecipeRepository recipeRepository;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+    private Map<Long, Integer> positions = new HashMap<>(); // ID → ids 배열 위치
+    private List<Change> changesDuringRebuild; // 재구성 중에만 존재
+
+    /**
+     * 서버 시작 시 ID 인덱스 전체 구성
+     * (RecipeDataInitializer의 초기 데이터 적재 이후 실행됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * DB의 전체 레시피 ID로 인덱스를 다시 구성
+     */
+    public void rebuild() {
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        List<Long> allIds;
+        try {
+            allIds = recipeRepository.findAllIds();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        Set<Long> rebuiltIds = new LinkedHashSet<>(allIds);
+        synchronized (this) {
+            // 조회 이후 반영된 변경을 순서대로 다시 적용 (조회 결과에 이미 포함된 추가는 중복되지 않음)
+            for (Change change : changesDuringRebuild) {
+                if (change.added()) {
+                    rebuiltIds.add(change.recipeId());
+                } else {
+                    rebuiltIds.remove(change.recipeId());
+                }
+            }
+            changesDuringRebuild = null;
+
+            long[] rebuilt = new long[Math.max(INITIAL_CAPACITY, rebuiltIds.size())];
+            Map<Long, Integer> rebuiltPositions = HashMap.newHashMap(rebuiltIds.size());
+            int i = 0;
+            for (Long id : rebuiltIds) {
+                rebuiltPositions.put(id, i);
+                rebuilt[i++] = id;
+            }
+            ids = rebuilt;
+            positions = rebuiltPositions;
+            size = rebuiltIds.size();
+        }
+
+        log.info("레시피 ID 인덱스 구성 완료: {} 건", rebuiltIds.size());
+    }
+
+    /**
+     * 새 레시피 ID 추가 (이미 있는 ID면 무시)
+     */
+    public synchronized void add(Long recipeId) {
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(new Change(recipeId, true));
+        }
+        if (positions.putIfAbsent(recipeId, size) != null) {
+            return;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        ids[size++] = recipeId;
+    }
+
+    public synchronized void remove(Long recipeId) {
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(new Change(recipeId, false));
+        }
+        Integer index = positions.remove(recipeId);
+        if (index == null) {
+            return;
+        }
+        // 마지막 원소를 빈 자리로 옮겨 배열을 밀집 상태로 유지
+        long last = ids[--size];
+        if (index != size) {
+            ids[index] = last;
+            positions.put(last, index);
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 중복 없이 무작위로 레시피 ID 추출
+     *
+     * @param count 추출할 개수 (전체 개수보다 크면 전체 반환)
+     * @return 무작위 순서의 레시피 ID 목록
+     */
+    public synchronized List<Long> sample(int count) {
+        int actualCount = Math.min(count, size);
+        List<Long> result = new ArrayList<>(actualCount);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (actualCount * 2 > size) {
+            // 추출 개수가 전체의 절반을 넘으면 부분 Fisher-Yates 셔플 (복사본 사용)
+            long[] copy = Arrays.copyOf(ids, size);
+            for (int i = 0; i < actualCount; i++) {
+                int j = i + random.nextInt(size - i);
+                long picked = copy[j];
+                copy[j] = copy[i];
+                copy[i] = picked;
+                result.add(picked);
+            }
+            return result;
+        }
+
+        // 일반적인 경우(k << n): 위치를 무작위로 뽑고 중복 위치만 다시 뽑음
+        Set<Integer> pickedPositions = new HashSet<>();
+        while (result.size() < actualCount) {
+            int position = random.nextInt(size);
+            if (pickedPositions.add(position)) {
+                result.add(ids[position]);
+            }
+        }
+        return result;
+    }
+
+    private record Change(long recipeId, boolean added) {
+    }
+}
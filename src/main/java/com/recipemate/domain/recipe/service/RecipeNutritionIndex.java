@@ -0,0 +1,296 @@
+package com.recipemate.domain.recipe.service;
+
+import com.recipemate.domain.recipe.dto.RecipeNutritionDto;
+import com.recipemate.domain.recipe.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 영양 정보 범위 검색 인덱스 (메모리 기반 컬럼 저장소)
+ * - 영양 정보가 하나라도 있는 레시피를 (칼로리, ID) 오름차순으로 정렬하여 영양소별 int[] 컬럼에 보관
+ * - 칼로리 상한은 이진 탐색으로 검색 범위를 줄이고, 나머지 영양소는 블록별 최솟값으로 블록 단위 건너뜀
+ * - 검색 결과 ID와 전체 개수를 DB 조회 없이 계산
+ *
+ * 스냅샷은 불변이며, 변경된 레시피 ID를 모아 두었다가 다음 검색 시 한 번에 반영(병합)한다.
+ * 영양 정보는 레시피 생성뿐 아니라 수정(API 동기화 포함)으로도 바뀌므로 생성/수정/삭제 이벤트를 모두 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeNutritionIndex {
+
+    static final int CALORIES = 0;
+    static final int CARBOHYDRATE = 1;
+    static final int PROTEIN = 2;
+    static final int FAT = 3;
+    static final int SODIUM = 4;
+    private static final int COLUMN_COUNT = 5;
+
+    private static final int BLOCK_SIZE = 128;
+    private static final int NULL_VALUE = Integer.MAX_VALUE; // null 영양값: 상한 비교에서 항상 탈락, 칼로리 정렬 시 맨 뒤
+    private static final int NO_LIMIT = -1;
+
+    private final RecipeRepository recipeRepository;
+
+    private volatile Columns columns;
+    private final Queue<Long> pendingIds = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 서버 시작 시 영양 정보 인덱스 전체 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * DB의 영양 정보로 인덱스를 다시 구성
+     */
+    public synchronized void rebuild() {
+        pendingIds.clear();
+        List<Row> rows = recipeRepository.findAllNutrition().stream()
+                .map(Row::from)
+                .sorted(Row.ORDER)
+                .toList();
+        columns = Columns.of(rows);
+
+        log.info("영양 정보 인덱스 구성 완료: {} 건", rows.size());
+    }
+
+    /**
+     * 변경된 레시피 표시 (다음 검색 시 반영)
+     */
+    public void markChanged(Long recipeId) {
+        pendingIds.add(recipeId);
+    }
+
+    public boolean isReady() {
+        return columns != null;
+    }
+
+    /**
+     * 영양소 상한 조건 검색 (칼로리 낮은 순)
+     * 상한이 null이거나 0 이하이면 해당 조건은 사용하지 않으며, 조건이 하나도 없으면 칼로리가 있는 레시피 전체를 대상으로 한다.
+     *
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 ID 수
+     * @return 페이지에 해당하는 레시피 ID와 전체 결과 수
+     */
+    public SearchResult search(Integer maxCalories, Integer maxCarbohydrate, Integer maxProtein,
+                               Integer maxFat, Integer maxSodium, long offset, int limit) {
+        Columns snapshot = applyPending();
+
+        int[] maxima = {
+                toLimit(maxCalories), toLimit(maxCarbohydrate), toLimit(maxProtein), toLimit(maxFat), toLimit(maxSodium)
+        };
+        if (Arrays.stream(maxima).allMatch(max -> max == NO_LIMIT)) {
+            maxima[CALORIES] = NULL_VALUE - 1; // 칼로리가 있는 레시피만
+        }
+
+        // 칼로리 컬럼은 정렬되어 있으므로 상한 이하 구간의 끝만 구하면 됨
+        int end = maxima[CALORIES] == NO_LIMIT ? snapshot.size : snapshot.upperBound(maxima[CALORIES]);
+
+        List<Long> pageIds = new ArrayList<>(Math.max(0, Math.min(limit, end)));
+        int total = 0;
+
+        for (int blockStart = 0; blockStart < end; blockStart += BLOCK_SIZE) {
+            int block = blockStart / BLOCK_SIZE;
+            if (snapshot.canSkip(block, maxima)) {
+                continue;
+            }
+
+            int blockEnd = Math.min(blockStart + BLOCK_SIZE, end);
+            for (int row = blockStart; row < blockEnd; row++) {
+                if (!snapshot.matches(row, maxima)) {
+                    continue;
+                }
+                if (total >= offset && pageIds.size() < limit) {
+                    pageIds.add(snapshot.ids[row]);
+                }
+                total++;
+            }
+        }
+
+        return new SearchResult(pageIds, total);
+    }
+
+    /**
+     * 대기 중인 변경 사항을 스냅샷에 병합
+     */
+    private Columns applyPending() {
+        if (pendingIds.isEmpty()) {
+            return columns;
+        }
+
+        synchronized (this) {
+            Set<Long> changedIds = new HashSet<>();
+            Long id;
+            while ((id = pendingIds.poll()) != null) {
+                changedIds.add(id);
+            }
+            if (changedIds.isEmpty()) {
+                return columns;
+            }
+
+            // 삭제된 레시피는 조회되지 않으므로 기존 행 제거만 적용됨
+            List<Row> changedRows = recipeRepository.findNutritionByIdIn(changedIds).stream()
+                    .map(Row::from)
+                    .filter(Row::hasAnyValue)
+                    .sorted(Row.ORDER)
+                    .toList();
+
+            columns = columns.merge(changedIds, changedRows);
+            return columns;
+        }
+    }
+
+    private static int toLimit(Integer max) {
+        if (max == null || max <= 0) {
+            return NO_LIMIT;
+        }
+        return Math.min(max, NULL_VALUE - 1);
+    }
+
+    /**
+     * 검색 결과 (페이지 레시피 ID, 전체 결과 수)
+     */
+    public record SearchResult(List<Long> recipeIds, int totalCount) {
+    }
+
+    private record Row(long id, int[] values) {
+
+        static final Comparator<Row> ORDER = Comparator.<Row>comparingInt(row -> row.values[CALORIES])
+                .thenComparingLong(Row::id);
+
+        static Row from(RecipeNutritionDto dto) {
+            return new Row(dto.getRecipeId(), new int[]{
+                    valueOf(dto.getCalories()), valueOf(dto.getCarbohydrate()), valueOf(dto.getProtein()),
+                    valueOf(dto.getFat()), valueOf(dto.getSodium())
+            });
+        }
+
+        boolean hasAnyValue() {
+            return Arrays.stream(values).anyMatch(value -> value != NULL_VALUE);
+        }
+
+        private static int valueOf(Integer value) {
+            return value != null ? value : NULL_VALUE;
+        }
+    }
+
+    /**
+     * 불변 컬럼 스냅샷
+     */
+    private static final class Columns {
+        private final int size;
+        private final long[] ids;
+        private final int[][] values;   // [영양소][행]
+        private final int[][] blockMin; // [영양소][블록]
+
+        private Columns(long[] ids, int[][] values) {
+            this.size = ids.length;
+            this.ids = ids;
+            this.values = values;
+
+            int blockCount = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            this.blockMin = new int[COLUMN_COUNT][blockCount];
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                Arrays.fill(blockMin[column], NULL_VALUE);
+                for (int row = 0; row < size; row++) {
+                    int block = row / BLOCK_SIZE;
+                    blockMin[column][block] = Math.min(blockMin[column][block], values[column][row]);
+                }
+            }
+        }
+
+        static Columns of(List<Row> sortedRows) {
+            long[] ids = new long[sortedRows.size()];
+            int[][] values = new int[COLUMN_COUNT][sortedRows.size()];
+            for (int row = 0; row < sortedRows.size(); row++) {
+                Row source = sortedRows.get(row);
+                ids[row] = source.id();
+                for (int column = 0; column < COLUMN_COUNT; column++) {
+                    values[column][row] = source.values()[column];
+                }
+            }
+            return new Columns(ids, values);
+        }
+
+        /**
+         * 변경된 ID의 기존 행을 제거하고 새 행을 정렬 순서대로 병합 (O(n + m))
+         */
+        Columns merge(Set<Long> changedIds, List<Row> sortedChangedRows) {
+            List<Row> merged = new ArrayList<>(size + sortedChangedRows.size());
+            int next = 0;
+            for (int row = 0; row < size; row++) {
+                if (changedIds.contains(ids[row])) {
+                    continue;
+                }
+                Row existing = rowAt(row);
+                while (next < sortedChangedRows.size() && Row.ORDER.compare(sortedChangedRows.get(next), existing) < 0) {
+                    merged.add(sortedChangedRows.get(next++));
+                }
+                merged.add(existing);
+            }
+            while (next < sortedChangedRows.size()) {
+                merged.add(sortedChangedRows.get(next++));
+            }
+            return of(merged);
+        }
+
+        /**
+         * 칼로리가 max 이하인 마지막 행의 다음 위치
+         */
+        int upperBound(int max) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[CALORIES][mid] <= max) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        boolean canSkip(int block, int[] maxima) {
+            for (int column = CARBOHYDRATE; column < COLUMN_COUNT; column++) {
+                if (maxima[column] != NO_LIMIT && blockMin[column][block] > maxima[column]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean matches(int row, int[] maxima) {
+            for (int column = CARBOHYDRATE; column < COLUMN_COUNT; column++) {
+                if (maxima[column] != NO_LIMIT && values[column][row] > maxima[column]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Row rowAt(int row) {
+            int[] rowValues = new int[COLUMN_COUNT];
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                rowValues[column] = values[column][row];
+            }
+            return new Row(ids[row], rowValues);
+        }
+    }
+}
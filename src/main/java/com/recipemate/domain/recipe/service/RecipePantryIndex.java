@@ -0,0 +1,277 @@
+package com.recipemate.domain.recipe.service;
+
+import com.recipemate.domain.recipe.dto.RecipeIngredientNameDto;
+import com.recipemate.domain.recipe.mapper.RecipeMapper;
+import com.recipemate.domain.recipe.repository.RecipeIngredientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 보유 재료(팬트리) 기반 레시피 순위 인덱스
+ * - 재료 사전: 정규화된 재료명(RecipeMapper.normalizeIngredientName)을 정수 ID로 인터닝
+ * - 레시피별 재료 집합: 정렬된 재료 ID 배열 (레시피당 재료가 수십 개 이하이므로 배열이 가장 작은 압축 표현)
+ * - 역색인: 재료 ID → 해당 재료를 쓰는 레시피 위치의 정렬 배열
+ *
+ * 순위 계산은 팬트리 재료의 역색인 목록만 순회하며 레시피별 일치 수를 누적하므로,
+ * 비용은 전체 레시피 수가 아니라 팬트리 재료를 포함하는 레시피 수에 비례한다.
+ *
+ * 스냅샷은 불변이며, 변경된 레시피 ID를 모아 두었다가 다음 검색 시 한 번에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipePantryIndex {
+
+    private static final int MIN_PARTIAL_MATCH_LENGTH = 2; // 한 글자 재료명은 정확히 일치할 때만 인정 ("파" → "양파" 오탐 방지)
+
+    private final RecipeIngredientRepository recipeIngredientRepository;
+
+    // 쓰기는 synchronized 블록 안에서만 수행
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private final Map<Long, int[]> recipeTerms = new HashMap<>();
+
+    private volatile Snapshot snapshot;
+    private final Queue<Long> pendingIds = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 서버 시작 시 팬트리 인덱스 전체 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * DB의 전체 레시피 재료로 인덱스를 다시 구성
+     */
+    public synchronized void rebuild() {
+        pendingIds.clear();
+        termIds.clear();
+        terms.clear();
+        recipeTerms.clear();
+
+        putAll(recipeIngredientRepository.findAllIngredientNames());
+        snapshot = buildSnapshot();
+
+        log.info("팬트리 인덱스 구성 완료: 레시피 {} 건, 재료 사전 {} 건", recipeTerms.size(), terms.size());
+    }
+
+    /**
+     * 변경된 레시피 표시 (다음 검색 시 반영)
+     */
+    public void markChanged(Long recipeId) {
+        pendingIds.add(recipeId);
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 보유 재료로 만들 수 있는 레시피 순위 조회
+     * 정렬: 충족 비율 내림차순 → 부족 재료 수 오름차순 → 충족 재료 수 내림차순 → 레시피 ID 오름차순
+     * 보유 재료명은 사전의 재료명에 포함되면 일치로 본다. (예: "간장" → "간장", "진간장")
+     *
+     * @param pantry 보유 재료명 목록
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @return 페이지 결과와 전체 결과 수
+     */
+    public RankResult rank(Collection<String> pantry, long offset, int limit) {
+        Snapshot current = applyPending();
+
+        boolean[] pantryTerms = current.resolve(pantry);
+
+        // 팬트리 재료의 역색인만 순회하며 레시피별 일치 수 누적
+        int[] matchedCounts = new int[current.recipeIds.length];
+        List<Integer> touched = new ArrayList<>();
+        for (int term = 0; term < pantryTerms.length; term++) {
+            if (!pantryTerms[term]) {
+                continue;
+            }
+            for (int position : current.postings[term]) {
+                if (matchedCounts[position]++ == 0) {
+                    touched.add(position);
+                }
+            }
+        }
+
+        touched.sort(rankOrder(current, matchedCounts));
+
+        List<RankedRecipe> page = new ArrayList<>();
+        for (long i = offset; i < touched.size() && page.size() < limit; i++) {
+            int position = touched.get((int) i);
+            int[] recipeTermIds = current.recipeTermIds[position];
+
+            List<String> missing = new ArrayList<>();
+            for (int term : recipeTermIds) {
+                if (!pantryTerms[term]) {
+                    missing.add(current.terms[term]);
+                }
+            }
+            page.add(new RankedRecipe(current.recipeIds[position], matchedCounts[position], recipeTermIds.length, missing));
+        }
+
+        return new RankResult(page, touched.size());
+    }
+
+    private static Comparator<Integer> rankOrder(Snapshot current, int[] matchedCounts) {
+        return (a, b) -> {
+            int totalA = current.recipeTermIds[a].length;
+            int totalB = current.recipeTermIds[b].length;
+            // 충족 비율 비교 (matchedA / totalA vs matchedB / totalB, 교차 곱으로 나눗셈 회피)
+            int byCoverage = Long.compare((long) matchedCounts[b] * totalA, (long) matchedCounts[a] * totalB);
+            if (byCoverage != 0) {
+                return byCoverage;
+            }
+            int byMissing = Integer.compare(totalA - matchedCounts[a], totalB - matchedCounts[b]);
+            if (byMissing != 0) {
+                return byMissing;
+            }
+            int byMatched = Integer.compare(matchedCounts[b], matchedCounts[a]);
+            if (byMatched != 0) {
+                return byMatched;
+            }
+            return Long.compare(current.recipeIds[a], current.recipeIds[b]);
+        };
+    }
+
+    /**
+     * 대기 중인 변경 사항 반영
+     */
+    private Snapshot applyPending() {
+        if (pendingIds.isEmpty()) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+            Set<Long> changedIds = new HashSet<>();
+            Long id;
+            while ((id = pendingIds.poll()) != null) {
+                changedIds.add(id);
+            }
+            if (changedIds.isEmpty()) {
+                return snapshot;
+            }
+
+            // 삭제된 레시피는 조회되지 않으므로 제거만 적용됨
+            changedIds.forEach(recipeTerms::remove);
+            putAll(recipeIngredientRepository.findIngredientNamesByRecipeIdIn(changedIds));
+            snapshot = buildSnapshot();
+            return snapshot;
+        }
+    }
+
+    private void putAll(List<RecipeIngredientNameDto> rows) {
+        Map<Long, Set<Integer>> grouped = new HashMap<>();
+        for (RecipeIngredientNameDto row : rows) {
+            String term = RecipeMapper.normalizeIngredientName(row.getName());
+            if (term.isEmpty()) {
+                continue;
+            }
+            grouped.computeIfAbsent(row.getRecipeId(), key -> new HashSet<>()).add(intern(term));
+        }
+
+        grouped.forEach((recipeId, ids) -> {
+            int[] sorted = ids.stream().mapToInt(Integer::intValue).toArray();
+            Arrays.sort(sorted);
+            recipeTerms.put(recipeId, sorted);
+        });
+    }
+
+    private int intern(String term) {
+        Integer existing = termIds.get(term);
+        if (existing != null) {
+            return existing;
+        }
+        int id = terms.size();
+        terms.add(term);
+        termIds.put(term, id);
+        return id;
+    }
+
+    private Snapshot buildSnapshot() {
+        int recipeCount = recipeTerms.size();
+        long[] recipeIds = new long[recipeCount];
+        int[][] recipeTermIds = new int[recipeCount][];
+        int[] postingSizes = new int[terms.size()];
+
+        int position = 0;
+        for (Map.Entry<Long, int[]> entry : recipeTerms.entrySet()) {
+            recipeIds[position] = entry.getKey();
+            recipeTermIds[position] = entry.getValue();
+            for (int term : entry.getValue()) {
+                postingSizes[term]++;
+            }
+            position++;
+        }
+
+        int[][] postings = new int[terms.size()][];
+        for (int term = 0; term < postings.length; term++) {
+            postings[term] = new int[postingSizes[term]];
+        }
+        int[] fill = new int[terms.size()];
+        for (int recipe = 0; recipe < recipeCount; recipe++) {
+            for (int term : recipeTermIds[recipe]) {
+                postings[term][fill[term]++] = recipe;
+            }
+        }
+
+        return new Snapshot(recipeIds, recipeTermIds, postings, terms.toArray(String[]::new));
+    }
+
+    /**
+     * 순위 결과 (페이지 레시피, 전체 결과 수)
+     */
+    public record RankResult(List<RankedRecipe> recipes, int totalCount) {
+    }
+
+    /**
+     * 순위가 매겨진 레시피 (레시피 ID, 충족 재료 수, 전체 재료 수, 부족한 재료명)
+     */
+    public record RankedRecipe(Long recipeId, int matchedCount, int ingredientCount, List<String> missingIngredients) {
+    }
+
+    /**
+     * 불변 인덱스 스냅샷
+     */
+    private record Snapshot(long[] recipeIds, int[][] recipeTermIds, int[][] postings, String[] terms) {
+
+        /**
+         * 보유 재료명을 사전 재료 ID 집합으로 변환 (사전 재료명에 포함되면 일치)
+         * 한 글자 재료명은 부분 일치 시 여러 재료와 겹치므로 사전 재료명과 같을 때만 일치
+         */
+        boolean[] resolve(Collection<String> pantry) {
+            boolean[] matched = new boolean[terms.length];
+            for (String raw : pantry) {
+                String normalized = RecipeMapper.normalizeIngredientName(raw);
+                if (normalized.isEmpty()) {
+                    continue;
+                }
+                boolean partial = normalized.length() >= MIN_PARTIAL_MATCH_LENGTH;
+                for (int term = 0; term < terms.length; term++) {
+                    if (!matched[term] && (partial ? terms[term].contains(normalized) : terms[term].equals(normalized))) {
+                        matched[term] = true;
+                    }
+                }
+            }
+            return matched;
+        }
+    }
+}
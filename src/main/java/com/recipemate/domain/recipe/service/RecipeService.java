@@ -1,8 +1,8 @@
 package com.recipemate.domain.recipe.service;
 
 import com.recipemate.domain.groupbuy.dto.GroupBuyResponse;
-import com.recipemate.domain.groupbuy.entity.GroupBuy;
 import com.recipemate.domain.groupbuy.repository.GroupBuyRepository;
+import com.recipemate.domain.groupbuy.service.GroupBuyIngredientIndex;
 import com.recipemate.domain.recipe.client.FoodSafetyClient;
 import com.recipemate.domain.recipe.client.TheMealDBClient;
 import com.recipemate.domain.recipe.dto.*;
@@ -15,6 +15,9 @@ import com.recipemate.domain.recipe.repository.RecipeRepository;
 import com.recipemate.domain.recipe.repository.RecipeStepRepository;
 import com.recipemate.global.common.GroupBuyStatus;
 import com.recipemate.global.config.CacheConfig;
+import com.recipemate.global.event.RecipeCreatedEvent;
+import com.recipemate.global.event.RecipeDeletedEvent;
+import com.recipemate.global.event.RecipeUpdatedEvent;
 import com.recipemate.global.exception.CustomException;
 import com.recipemate.global.exception.ErrorCode;
 import com.querydsl.core.BooleanBuilder;
@@ -24,17 +27,23 @@ import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -54,12 +63,20 @@ public class RecipeService {
     private final RecipeIngredientRepository recipeIngredientRepository;
     private final RecipeStepRepository recipeStepRepository;
     private final JPAQueryFactory queryFactory;
-    private final com.recipemate.domain.review.repository.ReviewRepository reviewRepository;
     private final com.recipemate.global.util.ImageUploadUtil imageUploadUtil;
+    private final RecipeIdIndex recipeIdIndex;
+    private final RecipeNutritionIndex recipeNutritionIndex;
+    private final RecipePantryIndex recipePantryIndex;
+    private final RecipeSimilarityIndex recipeSimilarityIndex;
+    private final GroupBuyIngredientIndex groupBuyIngredientIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String MEAL_PREFIX = "meal-";
     private static final String FOOD_PREFIX = "food-";
     private static final int MAX_RANDOM_COUNT = 100;
+    private static final int MAX_PANTRY_SIZE = 30;
+    private static final int MAX_SIMILAR_COUNT = 10;
+    private static final int MAX_INGREDIENT_GROUP_BUY_COUNT = 12;
     private static final int FOOD_SAFETY_SEARCH_SIZE = 100;
     private static final int DEFAULT_PAGE_SIZE = 20;
 
@@ -71,7 +88,8 @@ public class RecipeService {
      * @return 통합된 레시피 목록
      */
     @Deprecated
-    @Cacheable(value = CacheConfig.RECIPES_CACHE, key = "'search:' + #keyword")
+    @Cacheable(value = CacheConfig.RECIPES_CACHE, key = "'search:' + #keyword", sync = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 외부 API만 호출하므로 DB 커넥션을 잡지 않음
     public RecipeListResponse searchRecipes(String keyword) {
         validateKeyword(keyword);
 
@@ -108,7 +126,8 @@ public class RecipeService {
      * @param apiId API ID (meal-{id} 또는 food-{id} 형식)
      * @return 레시피 상세 정보
      */
-    @Cacheable(value = CacheConfig.RECIPES_CACHE, key = "'detail:' + #apiId")
+    @Cacheable(value = CacheConfig.RECIPES_CACHE, key = "'detail:' + #apiId", sync = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 외부 API만 호출하므로 DB 커넥션을 잡지 않음
     public RecipeDetailResponse getRecipeDetail(String apiId) {
         validateApiId(apiId);
 
@@ -147,7 +166,7 @@ public class RecipeService {
      * @param size 조회할 레시피 개수
      * @return 인기 레시피 목록
      */
-    @Cacheable(value = CacheConfig.RECIPES_CACHE, key = "'popular:' + #size")
+    @Cacheable(value = CacheConfig.RECIPES_CACHE, key = "'popular:' + #size", sync = true)
     public RecipeListResponse findPopularRecipes(int size) {
         validateRandomCount(size); // 동일한 유효성 검증 재사용
         
@@ -215,7 +234,8 @@ public class RecipeService {
 
     /**
      * 랜덤 레시피 조회 (DB 기반)
-     * DB에 저장된 레시피 중에서 랜덤으로 조회
+     * 메모리의 레시피 ID 인덱스에서 무작위로 ID를 뽑은 뒤 작성자와 함께 한 번에 조회
+     * (ORDER BY RANDOM()으로 전체 테이블을 정렬하지 않음)
      * 매번 새로운 랜덤 레시피를 제공하기 위해 캐싱하지 않음
      * @param count 조회할 레시피 개수
      * @return 랜덤 레시피 목록
@@ -225,10 +245,10 @@ public class RecipeService {
         
         log.info("DB 기반 랜덤 레시피 조회 요청: count={}", count);
         
-        // 전체 레시피 개수 조회
-        long totalCount = recipeRepository.count();
+        // 인덱스에서 중복 없이 무작위 ID 추출 (count가 전체 개수보다 크면 전체)
+        List<Long> sampledIds = recipeIdIndex.sample(count);
         
-        if (totalCount == 0) {
+        if (sampledIds.isEmpty()) {
             log.warn("DB에 레시피가 없습니다");
             return RecipeListResponse.builder()
                     .recipes(List.of())
@@ -237,22 +257,15 @@ public class RecipeService {
                     .build();
         }
         
-        // count가 전체 개수보다 크면 전체 개수로 제한
-        int actualCount = (int) Math.min(count, totalCount);
-        
-        // QueryDSL로 랜덤 레시피 조회
-        // H2 데이터베이스의 RANDOM() 함수 사용
-        com.recipemate.domain.recipe.entity.QRecipe recipe = 
-            com.recipemate.domain.recipe.entity.QRecipe.recipe;
-        
-        List<Recipe> randomRecipes = queryFactory
-                .selectFrom(recipe)
-                .orderBy(com.querydsl.core.types.dsl.Expressions.numberTemplate(Double.class, "RANDOM()").asc())
-                .limit(actualCount)
-                .fetch();
+        // IN 조회 결과는 ID 순이므로 추출 순서대로 재정렬
+        // 인덱스 반영 전에 삭제된 레시피는 조회되지 않으므로 건너뜀
+        Map<Long, Recipe> recipeMap = recipeRepository.findByIdInWithAuthor(sampledIds).stream()
+                .collect(Collectors.toMap(Recipe::getId, r -> r));
         
         // RecipeSimpleInfo로 변환
-        List<RecipeListResponse.RecipeSimpleInfo> recipes = randomRecipes.stream()
+        List<RecipeListResponse.RecipeSimpleInfo> recipes = sampledIds.stream()
+                .map(recipeMap::get)
+                .filter(Objects::nonNull)
                 .map(this::convertRecipeEntityToSimpleInfo)
                 .collect(Collectors.toList());
         
@@ -268,7 +281,7 @@ public class RecipeService {
      * DB에 저장된 레시피의 카테고리 목록 반환
      * @return 카테고리 목록
      */
-    @Cacheable(value = CacheConfig.RECIPES_CACHE, key = "'categories'")
+    @Cacheable(value = CacheConfig.RECIPES_CACHE, key = "'categories'", sync = true)
     public List<CategoryResponse> getCategories() {
         log.info("DB 기반 카테고리 목록 조회");
         
@@ -297,7 +310,8 @@ public class RecipeService {
      * @param category 카테고리 이름
      * @return 해당 카테고리의 레시피 목록
      */
-    @Cacheable(value = CacheConfig.RECIPES_CACHE, key = "'category:' + #category")
+    @Cacheable(value = CacheConfig.RECIPES_CACHE, key = "'category:' + #category", sync = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 외부 API만 호출하므로 DB 커넥션을 잡지 않음
     public RecipeListResponse getRecipesByCategory(String category) {
         validateCategory(category);
 
@@ -316,75 +330,57 @@ public class RecipeService {
 
     /**
      * 레시피 관련 공동구매 조회
-     * 특정 레시피 ID와 연결된 모든 공동구매 목록 반환 (평점 정보 포함)
+     * 특정 레시피 ID와 연결된 모든 공동구매 목록 반환 (평점 정보 포함, 카드 프로젝션)
      * @param recipeApiId 레시피 API ID (meal-{id} 또는 food-{id} 형식)
      * @return 모든 상태의 공동구매 목록 (삭제되지 않은 것만, 평점 정보 포함)
      */
     public List<GroupBuyResponse> getRelatedGroupBuys(String recipeApiId) {
         validateRecipeApiId(recipeApiId);
 
-        // 레시피 ID로 삭제되지 않은 공동구매 조회 (host도 함께 fetch)
-        List<GroupBuy> groupBuys = groupBuyRepository.findByRecipeApiIdAndNotDeleted(recipeApiId);
+        // 레시피 ID로 삭제되지 않은 공동구매 카드 조회 (주최자, 대표 이미지, 후기 집계를 단일 쿼리로)
+        // 모든 상태의 공동구매를 반환 (마감된 공구의 평점도 표시)
+        return groupBuyRepository.findGroupBuyCardsByRecipeApiId(recipeApiId)
+                .stream()
+                .map(GroupBuyResponse::from)
+                .collect(Collectors.toList());
+    }
 
-        if (groupBuys.isEmpty()) {
+    /**
+     * 레시피 재료와 겹치는 모집 중 공동구매 조회
+     * 레시피 ID로 직접 연결되지 않았더라도 같은 재료를 모집하는 공구를 재료 인덱스로 찾아 겹치는 재료 수 순으로 반환
+     *
+     * @param ingredientNames 레시피 재료명 목록
+     * @param excludedGroupBuyIds 제외할 공구 ID (레시피 ID로 이미 연결된 공구)
+     * @param limit 최대 조회 개수
+     * @return 겹치는 재료 정보를 포함한 공동구매 목록 (인덱스 준비 전이면 빈 목록)
+     */
+    public List<IngredientGroupBuyResponse> getIngredientMatchedGroupBuys(List<String> ingredientNames,
+                                                                           Collection<Long> excludedGroupBuyIds,
+                                                                           int limit) {
+        if (ingredientNames == null || ingredientNames.isEmpty() || !groupBuyIngredientIndex.isReady()) {
             return List.of();
         }
 
-        // 모든 공동구매 ID 수집
-        List<Long> groupBuyIds = groupBuys.stream()
-                .map(GroupBuy::getId)
-                .collect(Collectors.toList());
+        List<GroupBuyIngredientIndex.Match> matches = groupBuyIngredientIndex.findMatches(
+                ingredientNames, excludedGroupBuyIds, Math.min(limit, MAX_INGREDIENT_GROUP_BUY_COUNT));
+        if (matches.isEmpty()) {
+            return List.of();
+        }
 
-        // 리뷰 통계를 한 번에 조회
-        java.util.Map<Long, com.recipemate.domain.review.dto.ReviewStatsDto> statsMap = 
-                reviewRepository.findReviewStatsByGroupBuyIds(groupBuyIds)
-                        .stream()
-                        .collect(Collectors.toMap(
-                                com.recipemate.domain.review.dto.ReviewStatsDto::getGroupBuyId,
-                                java.util.function.Function.identity()
-                        ));
-
-        // 모든 상태의 공동구매를 변환 (마감된 공구의 평점도 표시)
-        return groupBuys.stream()
-                .map(gb -> {
-                    // 이미지 URL 목록 수집
-                    List<String> imageUrls = gb.getImages().stream()
-                            .map(img -> img.getImageUrl())
-                            .collect(Collectors.toList());
-                    
-                    // 리뷰 통계 가져오기 (없으면 기본값 0)
-                    com.recipemate.domain.review.dto.ReviewStatsDto stats = statsMap.get(gb.getId());
-                    Double averageRating = stats != null ? stats.getAverageRating() : 0.0;
-                    int reviewCount = stats != null ? stats.getReviewCount().intValue() : 0;
-                    
-                    return GroupBuyResponse.builder()
-                            .id(gb.getId())
-                            .title(gb.getTitle())
-                            .content(gb.getContent())
-                            .ingredients(gb.getIngredients())
-                            .category(gb.getCategory())
-                            .targetAmount(gb.getTargetAmount())
-                            .targetHeadcount(gb.getTargetHeadcount())
-                            .currentHeadcount(gb.getCurrentHeadcount())
-                            .deadline(gb.getDeadline())
-                            .deliveryMethod(gb.getDeliveryMethod())
-                            .meetupLocation(gb.getMeetupLocation())
-                            .parcelFee(gb.getParcelFee())
-                            .isParticipantListPublic(gb.getParticipantListPublic())
-                            .status(gb.getStatus())
-                            .hostId(gb.getHost().getId())
-                            .hostNickname(gb.getHost().getNickname())
-                            .hostMannerTemperature(gb.getHost().getMannerTemperature())
-                            .recipeApiId(gb.getRecipeApiId())
-                            .recipeName(gb.getRecipeName())
-                            .recipeImageUrl(gb.getRecipeImageUrl())
-                            .imageUrls(imageUrls)
-                            .averageRating(averageRating)
-                            .reviewCount(reviewCount)
-                            .createdAt(gb.getCreatedAt())
-                            .updatedAt(gb.getUpdatedAt())
-                            .build();
-                })
+        // 카드 프로젝션으로 한 번에 조회 후 매칭 순서대로 재정렬
+        Map<Long, GroupBuyResponse> cardMap = groupBuyRepository.findGroupBuyCardsByIds(
+                        matches.stream().map(GroupBuyIngredientIndex.Match::groupBuyId).toList())
+                .stream()
+                .map(GroupBuyResponse::from)
+                .collect(Collectors.toMap(GroupBuyResponse::getId, card -> card));
+
+        return matches.stream()
+                .filter(match -> cardMap.containsKey(match.groupBuyId()))
+                .map(match -> IngredientGroupBuyResponse.builder()
+                        .groupBuy(cardMap.get(match.groupBuyId()))
+                        .matchedCount(match.matchedIngredients().size())
+                        .matchedIngredients(match.matchedIngredients())
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -664,7 +660,81 @@ public class RecipeService {
     }
 
     /**
-     * 영양 정보 기반 레시피 검색 (DB 기반)
+     * 유사 레시피 조회 (재료 구성 기반, 메모리 인덱스)
+     * 
+     * @param recipeId 기준 레시피 DB ID (API 폴백으로 조회된 레시피처럼 DB ID가 없으면 빈 목록)
+     * @param limit 최대 조회 개수
+     * @return 재료 유사도가 높은 순서의 레시피 목록
+     */
+    public List<RecipeListResponse.RecipeSimpleInfo> getSimilarRecipes(Long recipeId, int limit) {
+        if (recipeId == null || !recipeSimilarityIndex.isReady()) {
+            return List.of();
+        }
+        
+        List<Long> similarIds = recipeSimilarityIndex.findSimilar(recipeId, Math.min(limit, MAX_SIMILAR_COUNT)).stream()
+                .map(RecipeSimilarityIndex.Neighbor::recipeId)
+                .toList();
+        if (similarIds.isEmpty()) {
+            return List.of();
+        }
+        
+        // 작성자와 함께 한 번에 조회 후 유사도 순서대로 재정렬
+        Map<Long, Recipe> recipeMap = recipeRepository.findByIdInWithAuthor(similarIds).stream()
+                .collect(Collectors.toMap(Recipe::getId, r -> r));
+        
+        return similarIds.stream()
+                .map(recipeMap::get)
+                .filter(Objects::nonNull)
+                .map(this::convertRecipeEntityToSimpleInfo)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 보유 재료(팬트리) 기반 레시피 추천
+     * 보유 재료로 충족되는 재료 비율이 높고 부족한 재료가 적은 순으로 정렬
+     * 
+     * @param pantry 보유 재료명 목록
+     * @param pageable 페이징 정보
+     * @return 충족/부족 재료 정보를 포함한 레시피 목록
+     */
+    public Page<PantryRecipeResponse> findRecipesByPantry(List<String> pantry, Pageable pageable) {
+        List<String> ingredients = validatePantry(pantry);
+        
+        log.info("팬트리 기반 레시피 추천: ingredients={}", ingredients);
+        
+        if (!recipePantryIndex.isReady()) {
+            throw new CustomException(ErrorCode.RECIPE_INDEX_NOT_READY);
+        }
+        
+        RecipePantryIndex.RankResult result = recipePantryIndex.rank(
+                ingredients, pageable.getOffset(), pageable.getPageSize());
+        
+        // 페이지 레시피만 작성자와 함께 조회 (인덱스 반영 전에 삭제된 레시피는 건너뜀)
+        List<Long> recipeIds = result.recipes().stream()
+                .map(RecipePantryIndex.RankedRecipe::recipeId)
+                .toList();
+        Map<Long, Recipe> recipeMap = recipeIds.isEmpty()
+                ? Map.of()
+                : recipeRepository.findByIdInWithAuthor(recipeIds).stream()
+                        .collect(Collectors.toMap(Recipe::getId, r -> r));
+        
+        List<PantryRecipeResponse> content = result.recipes().stream()
+                .filter(ranked -> recipeMap.containsKey(ranked.recipeId()))
+                .map(ranked -> PantryRecipeResponse.builder()
+                        .recipe(convertRecipeEntityToSimpleInfo(recipeMap.get(ranked.recipeId())))
+                        .matchedCount(ranked.matchedCount())
+                        .ingredientCount(ranked.ingredientCount())
+                        .missingCount(ranked.ingredientCount() - ranked.matchedCount())
+                        .coverage((double) ranked.matchedCount() / ranked.ingredientCount())
+                        .missingIngredients(ranked.missingIngredients())
+                        .build())
+                .collect(Collectors.toList());
+        
+        return new PageImpl<>(content, pageable, result.totalCount());
+    }
+
+    /**
+     * 영양 정보 기반 레시피 검색 (메모리 영양 정보 인덱스 기반)
      * 
      * @param maxCalories 최대 열량
      * @param maxCarbohydrate 최대 탄수화물
@@ -685,6 +755,46 @@ public class RecipeService {
         log.info("영양정보 기반 레시피 검색: calories<={}, carbs<={}, protein<={}, fat<={}, sodium<={}",
                  maxCalories, maxCarbohydrate, maxProtein, maxFat, maxSodium);
         
+        // 영양 정보 인덱스가 준비되지 않은 경우(서버 시작 직후)에만 DB 검색 사용
+        if (!recipeNutritionIndex.isReady()) {
+            return findRecipesByNutritionFromDb(maxCalories, maxCarbohydrate, maxProtein, maxFat, maxSodium, pageable);
+        }
+        
+        // 메모리 인덱스에서 페이지 ID와 전체 개수를 함께 계산 (COUNT 쿼리 없음)
+        RecipeNutritionIndex.SearchResult result = recipeNutritionIndex.search(
+                maxCalories, maxCarbohydrate, maxProtein, maxFat, maxSodium,
+                pageable.getOffset(), pageable.getPageSize());
+        
+        // 페이지 레시피만 작성자와 함께 조회 후 칼로리 순서대로 재정렬
+        Map<Long, Recipe> recipeMap = result.recipeIds().isEmpty()
+                ? Map.of()
+                : recipeRepository.findByIdInWithAuthor(result.recipeIds()).stream()
+                        .collect(Collectors.toMap(Recipe::getId, r -> r));
+        
+        List<RecipeListResponse.RecipeSimpleInfo> recipeInfos = result.recipeIds().stream()
+                .map(recipeMap::get)
+                .filter(Objects::nonNull)
+                .map(this::convertRecipeEntityToSimpleInfo)
+                .collect(Collectors.toList());
+        
+        return RecipeListResponse.builder()
+                .recipes(recipeInfos)
+                .totalCount(result.totalCount())
+                .source("foodsafety") // 영양 정보는 식품안전나라만 제공
+                .build();
+    }
+
+    /**
+     * 영양 정보 기반 레시피 검색 (QueryDSL, 인덱스 준비 전 대체 경로)
+     */
+    private RecipeListResponse findRecipesByNutritionFromDb(
+            Integer maxCalories,
+            Integer maxCarbohydrate,
+            Integer maxProtein,
+            Integer maxFat,
+            Integer maxSodium,
+            Pageable pageable) {
+        
         // QueryDSL을 사용한 동적 쿼리 생성
         com.recipemate.domain.recipe.entity.QRecipe recipe = 
             com.recipemate.domain.recipe.entity.QRecipe.recipe;
@@ -772,26 +882,26 @@ public class RecipeService {
     }
 
     /**
-     * API ID로 레시피 상세 조회 (DB 우선)
-     * DB에 있으면 DB에서 조회, 없으면 외부 API 호출
+     * API ID로 DB에 저장된 레시피 상세 조회
+     * 외부 API는 호출하지 않으며, DB에 없을 때의 외부 조회와 저장은 RecipeDetailLoader가
+     * 트랜잭션 밖에서 처리한다. (외부 API 대기 중 DB 커넥션을 점유하지 않도록)
      * 
      * @param apiId API ID (meal-{id}, food-{id}, 또는 숫자 ID)
-     * @return 레시피 상세 정보
+     * @return 레시피 상세 정보 (API 레시피가 DB에 없으면 빈 값)
      */
-    public RecipeDetailResponse getRecipeDetailByApiId(String apiId) {
+    public Optional<RecipeDetailResponse> findRecipeDetailByApiId(String apiId) {
         validateApiId(apiId);
         
         // 사용자 레시피인 경우 (숫자 ID)
         if (!apiId.startsWith(MEAL_PREFIX) && !apiId.startsWith(FOOD_PREFIX)) {
             try {
                 Long recipeId = Long.parseLong(apiId);
-                return getRecipeDetailById(recipeId);
+                return Optional.of(getRecipeDetailById(recipeId));
             } catch (NumberFormatException e) {
                 throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
             }
         }
         
-        // DB에서 먼저 조회 시도
         RecipeSource source;
         String sourceApiId;
         
@@ -803,14 +913,8 @@ public class RecipeService {
             sourceApiId = apiId.substring(FOOD_PREFIX.length());
         }
         
-        // DB에서 조회 시도
         return recipeRepository.findBySourceApiAndSourceApiIdWithIngredients(source, sourceApiId)
-                .map(this::convertRecipeEntityToDetailResponse)
-                .orElseGet(() -> {
-                    // DB에 없으면 기존 API 호출 방식 사용 (fallback)
-                    log.warn("레시피가 DB에 없어 API를 직접 호출합니다: {}", apiId);
-                    return getRecipeDetail(apiId);
-                });
+                .map(this::convertRecipeEntityToDetailResponse);
     }
 
     // ========== 변환 메서드 ==========
@@ -1055,6 +1159,27 @@ public class RecipeService {
         }
     }
 
+    /**
+     * 팬트리 재료 목록 검증 (공백 제거, 중복 제거)
+     */
+    private List<String> validatePantry(List<String> pantry) {
+        if (pantry == null) {
+            throw new CustomException(ErrorCode.INVALID_PANTRY);
+        }
+        
+        List<String> ingredients = pantry.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+        
+        if (ingredients.isEmpty() || ingredients.size() > MAX_PANTRY_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_PANTRY);
+        }
+        return ingredients;
+    }
+
     /**
      * 랜덤 레시피 개수 유효성 검증
      */
@@ -1152,6 +1277,7 @@ public class RecipeService {
 
         // 5. 저장
         Recipe savedRecipe = recipeRepository.save(recipe);
+        eventPublisher.publishEvent(new RecipeCreatedEvent(savedRecipe.getId()));
 
         // 6. 응답 DTO 변환 후 반환
         return convertRecipeEntityToDetailResponse(savedRecipe);
@@ -1230,6 +1356,7 @@ public class RecipeService {
 
         // 7. 저장 및 반환
         Recipe updatedRecipe = recipeRepository.save(recipe);
+        eventPublisher.publishEvent(new RecipeUpdatedEvent(updatedRecipe.getId()));
         return convertRecipeEntityToDetailResponse(updatedRecipe);
     }
 
@@ -1247,6 +1374,8 @@ public class RecipeService {
 
         recipeRepository.delete(recipe);
         // orphanRemoval = true 설정 덕분에 재료와 조리단계도 자동 삭제됨
+
+        eventPublisher.publishEvent(new RecipeDeletedEvent(recipeId));
     }
 
     /**
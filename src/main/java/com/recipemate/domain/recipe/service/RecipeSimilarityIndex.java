@@ -0,0 +1,427 @@
+package com.recipemate.domain.recipe.service;
+
+import com.recipemate.domain.recipe.dto.RecipeIngredientNameDto;
+import com.recipemate.domain.recipe.mapper.RecipeMapper;
+import com.recipemate.domain.recipe.repository.RecipeIngredientRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 재료 기반 유사 레시피 인덱스 (MinHash + LSH)
+ * - 레시피별 정규화 재료 집합을 MinHash 서명(64개 해시)으로 요약
+ * - 서명을 16개 밴드(밴드당 4행)로 나누어 버킷에 등록, 같은 버킷을 공유하는 레시피만 후보로 사용
+ *   (자카드 유사도 약 0.5 이상인 쌍이 후보가 될 확률이 높음)
+ * - 후보는 실제 재료 집합의 자카드 유사도로 정렬
+ *
+ * 전체 레시피의 이웃 목록은 매일 새벽 병렬(fork-join) 배치로 미리 계산하고,
+ * 배치 결과가 없거나 무효화된 레시피는 요청 시 LSH 후보로 계산하여 캐싱한다.
+ * 변경된 레시피 ID는 모아 두었다가 스케줄러가 주기적으로 한 번에 반영한다.
+ * 재료 조회(DB)는 인덱스 잠금 밖에서 수행하고, 인덱스 갱신만 잠금 안에서 처리하여 조회 요청을 막지 않는다.
+ *
+ * 변경을 반영할 때마다 세대 번호를 올려, 계산 도중 무효화가 일어난 이웃 목록은 캐싱하지 않는다.
+ * 배치 도중 무효화된 레시피는 따로 모아 두었다가, 해당 레시피와 이를 이웃으로 가진 배치 결과를 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeSimilarityIndex {
+
+    private static final int BANDS = 16;
+    private static final int ROWS_PER_BAND = 4;
+    private static final int SIGNATURE_SIZE = BANDS * ROWS_PER_BAND;
+    private static final long[] HASH_SEEDS = createSeeds();
+
+    private static final double MIN_SIMILARITY = 0.2;
+    private static final int PRECOMPUTED_NEIGHBORS = 10;
+
+    private final RecipeIngredientRepository recipeIngredientRepository;
+
+    // 쓰기는 synchronized 블록 안에서만 수행, 읽기는 동시 맵을 그대로 사용
+    private final Map<Long, long[]> recipeTerms = new ConcurrentHashMap<>();      // 정렬된 재료 해시
+    private final Map<Long, long[]> signatures = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+    private final Map<Long, List<Neighbor>> neighborCache = new ConcurrentHashMap<>();
+    private final Queue<Long> pendingIds = new ConcurrentLinkedQueue<>();
+    private final Object applyLock = new Object(); // 변경 반영/재구성 직렬화 (잠금 순서: applyLock → this)
+    private final ForkJoinPool batchPool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+    private volatile boolean ready;
+    private volatile long generation;           // 변경 반영이 끝날 때마다 증가
+    private Set<Long> invalidatedDuringBatch;   // 배치 실행 중에만 존재 (null이 되면 배치 결과 전체 폐기)
+
+    /**
+     * 서버 시작 시 서명과 버킷 전체 구성 (이웃 목록은 요청 시 또는 배치에서 계산)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * DB의 전체 레시피 재료로 서명과 버킷을 다시 구성
+     */
+    public void rebuild() {
+        synchronized (applyLock) {
+            synchronized (this) {
+                pendingIds.clear();
+                recipeTerms.clear();
+                signatures.clear();
+                buckets.clear();
+                neighborCache.clear();
+                invalidatedDuringBatch = null;
+
+                groupTerms(recipeIngredientRepository.findAllIngredientNames()).forEach(this::put);
+                generation++;
+                ready = true;
+            }
+        }
+
+        log.info("유사 레시피 인덱스 구성 완료: {} 건", signatures.size());
+    }
+
+    /**
+     * 변경된 레시피 표시 (다음 반영 주기에 적용)
+     */
+    public void markChanged(Long recipeId) {
+        pendingIds.add(recipeId);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 유사 레시피 조회
+     *
+     * @param recipeId 기준 레시피 DB ID
+     * @param limit 최대 조회 개수 (배치 계산 개수 이내)
+     * @return 유사도 내림차순 이웃 목록
+     */
+    public List<Neighbor> findSimilar(Long recipeId, int limit) {
+        List<Neighbor> neighbors = neighborCache.get(recipeId);
+        if (neighbors == null) {
+            long computedAt = generation;
+            neighbors = computeNeighbors(recipeId);
+            synchronized (this) {
+                // 계산 도중 변경이 반영되었으면 이전 상태로 계산했을 수 있으므로 캐싱하지 않음
+                if (generation == computedAt) {
+                    neighborCache.putIfAbsent(recipeId, neighbors);
+                }
+            }
+        }
+        return neighbors.subList(0, Math.min(limit, neighbors.size()));
+    }
+
+    /**
+     * 전체 레시피 이웃 목록 배치 계산 (매일 04:30, fork-join 병렬 처리)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void precomputeAll() {
+        if (!ready) {
+            return;
+        }
+        applyPending();
+        List<Long> recipeIds;
+        synchronized (this) {
+            invalidatedDuringBatch = new HashSet<>();
+            recipeIds = new ArrayList<>(signatures.keySet());
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Map<Long, List<Neighbor>> computed = new ConcurrentHashMap<>();
+
+        try {
+            batchPool.submit(() -> recipeIds.parallelStream()
+                    .forEach(id -> computed.put(id, computeNeighbors(id))))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("유사 레시피 배치 계산 중단");
+            clearBatch();
+            return;
+        } catch (ExecutionException e) {
+            log.error("유사 레시피 배치 계산 실패", e.getCause());
+            clearBatch();
+            return;
+        }
+
+        // 배치 도중 무효화된 레시피와 이를 이웃으로 가진 결과는 버리고 요청 시 다시 계산
+        applyPending();
+        int published;
+        synchronized (this) {
+            Set<Long> invalidated = invalidatedDuringBatch;
+            invalidatedDuringBatch = null;
+            if (invalidated == null) {
+                log.info("유사 레시피 배치 도중 인덱스가 재구성되어 결과를 버림");
+                return;
+            }
+
+            computed.keySet().removeAll(invalidated);
+            if (!invalidated.isEmpty()) {
+                computed.values().removeIf(neighbors -> neighbors.stream()
+                        .anyMatch(neighbor -> invalidated.contains(neighbor.recipeId())));
+            }
+            // 요청 시 계산되어 캐싱된 목록은 무효화 대상이 아니므로 그대로 두고 배치 결과로 덮어씀
+            neighborCache.putAll(computed);
+            published = computed.size();
+        }
+
+        log.info("유사 레시피 배치 계산 완료: {} 건, {} ms", published, System.currentTimeMillis() - startedAt);
+    }
+
+    private List<Neighbor> computeNeighbors(Long recipeId) {
+        long[] signature = signatures.get(recipeId);
+        long[] terms = recipeTerms.get(recipeId);
+        if (signature == null || terms == null) {
+            return List.of();
+        }
+
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<Long> bucket = buckets.get(bandKey(band, signature));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        candidates.remove(recipeId);
+
+        // 최소 힙으로 상위 PRECOMPUTED_NEIGHBORS개만 유지
+        PriorityQueue<Neighbor> top = new PriorityQueue<>(Comparator.comparingDouble(Neighbor::similarity));
+        for (Long candidateId : candidates) {
+            long[] candidateTerms = recipeTerms.get(candidateId);
+            if (candidateTerms == null) {
+                continue;
+            }
+            double similarity = jaccard(terms, candidateTerms);
+            if (similarity < MIN_SIMILARITY) {
+                continue;
+            }
+            if (top.size() < PRECOMPUTED_NEIGHBORS) {
+                top.offer(new Neighbor(candidateId, similarity));
+            } else if (similarity > top.peek().similarity()) {
+                top.poll();
+                top.offer(new Neighbor(candidateId, similarity));
+            }
+        }
+
+        List<Neighbor> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingDouble(Neighbor::similarity).reversed()
+                .thenComparing(Neighbor::recipeId));
+        return List.copyOf(result);
+    }
+
+    /**
+     * 대기 중인 변경 사항 반영 (기본 1초 간격)
+     * 변경된 레시피와, 변경 전후 버킷을 공유하는 레시피의 이웃 캐시를 무효화
+     * 재료 조회는 applyLock만 잡고 수행하므로 그동안 조회 요청의 캐시 저장을 막지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${recipe.similarity.apply-interval-ms:1000}")
+    public void applyPending() {
+        if (!ready || pendingIds.isEmpty()) {
+            return;
+        }
+
+        synchronized (applyLock) {
+            Set<Long> changedIds = new HashSet<>();
+            Long id;
+            while ((id = pendingIds.poll()) != null) {
+                changedIds.add(id);
+            }
+            if (changedIds.isEmpty()) {
+                return;
+            }
+
+            // 삭제된 레시피는 조회되지 않으므로 제거만 적용됨
+            Map<Long, long[]> changedTerms = groupTerms(
+                    recipeIngredientRepository.findIngredientNamesByRecipeIdIn(changedIds));
+
+            synchronized (this) {
+                Set<Long> affected = new HashSet<>(changedIds);
+                for (Long changedId : changedIds) {
+                    affected.addAll(remove(changedId));
+                }
+                changedTerms.forEach((recipeId, terms) -> affected.addAll(put(recipeId, terms)));
+
+                affected.forEach(neighborCache::remove);
+                if (invalidatedDuringBatch != null) {
+                    invalidatedDuringBatch.addAll(affected);
+                }
+                generation++;
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 배치 스레드 풀 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        batchPool.shutdownNow();
+    }
+
+    private synchronized void clearBatch() {
+        invalidatedDuringBatch = null;
+    }
+
+    /**
+     * 레시피 등록 후 같은 버킷을 공유하는 레시피 ID 반환
+     */
+    private Set<Long> put(Long recipeId, long[] terms) {
+        long[] signature = minHash(terms);
+        recipeTerms.put(recipeId, terms);
+        signatures.put(recipeId, signature);
+
+        Set<Long> neighbors = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<Long> bucket = buckets.computeIfAbsent(bandKey(band, signature), key -> ConcurrentHashMap.newKeySet());
+            neighbors.addAll(bucket);
+            bucket.add(recipeId);
+        }
+        return neighbors;
+    }
+
+    /**
+     * 레시피 제거 후 같은 버킷을 공유하던 레시피 ID 반환
+     */
+    private Set<Long> remove(Long recipeId) {
+        recipeTerms.remove(recipeId);
+        long[] signature = signatures.remove(recipeId);
+        if (signature == null) {
+            return Set.of();
+        }
+
+        Set<Long> neighbors = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(band, signature);
+            Set<Long> bucket = buckets.get(key);
+            if (bucket == null) {
+                continue;
+            }
+            bucket.remove(recipeId);
+            neighbors.addAll(bucket);
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+        return neighbors;
+    }
+
+    private static Map<Long, long[]> groupTerms(List<RecipeIngredientNameDto> rows) {
+        Map<Long, Set<Long>> grouped = new HashMap<>();
+        for (RecipeIngredientNameDto row : rows) {
+            String term = RecipeMapper.normalizeIngredientName(row.getName());
+            if (!term.isEmpty()) {
+                grouped.computeIfAbsent(row.getRecipeId(), key -> new HashSet<>()).add(hashTerm(term));
+            }
+        }
+
+        Map<Long, long[]> result = new HashMap<>();
+        grouped.forEach((recipeId, hashes) -> {
+            long[] sorted = hashes.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            result.put(recipeId, sorted);
+        });
+        return result;
+    }
+
+    private static long[] minHash(long[] terms) {
+        long[] signature = new long[SIGNATURE_SIZE];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long term : terms) {
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                long hash = mix(term ^ HASH_SEEDS[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static long bandKey(int band, long[] signature) {
+        long key = band;
+        for (int row = 0; row < ROWS_PER_BAND; row++) {
+            key = mix(key * 31 + signature[band * ROWS_PER_BAND + row]);
+        }
+        return key;
+    }
+
+    /**
+     * 정렬된 두 집합의 자카드 유사도 (교집합 / 합집합)
+     */
+    private static double jaccard(long[] a, long[] b) {
+        int i = 0;
+        int j = 0;
+        int intersection = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        int union = a.length + b.length - intersection;
+        return union == 0 ? 0.0 : (double) intersection / union;
+    }
+
+    private static long hashTerm(String term) {
+        // FNV-1a 64비트 (String.hashCode()보다 충돌이 적음)
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : term.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * SplitMix64 최종 혼합 함수
+     */
+    private static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long[] createSeeds() {
+        long[] seeds = new long[SIGNATURE_SIZE];
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            seed = mix(seed);
+            seeds[i] = seed;
+        }
+        return seeds;
+    }
+
+    /**
+     * 유사 레시피 (레시피 ID, 재료 자카드 유사도)
+     */
+    public record Neighbor(Long recipeId, double similarity) {
+    }
+}
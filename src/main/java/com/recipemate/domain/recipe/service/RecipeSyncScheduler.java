@@ -1,5 +1,6 @@
 package com.recipemate.domain.recipe.service;
 
+import com.recipemate.domain.recipe.dto.RecipeSyncReport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -42,8 +43,8 @@ public class RecipeSyncScheduler {
         try {
             // TheMealDB만 동기화 (새 레시피 추가 가능성)
             log.info("Syncing TheMealDB recipes...");
-            int mealDbCount = recipeSyncService.syncMealDbRandomRecipes(50);
-            log.info("TheMealDB sync completed: {} recipes", mealDbCount);
+            RecipeSyncReport mealDbReport = recipeSyncService.syncMealDbRandomRecipes(50);
+            log.info("TheMealDB sync completed: {}", mealDbReport);
             
             // 식품안전나라는 필요 시에만 (설정 변경 가능)
             // int foodSafetyCount = recipeSyncService.syncFoodSafetyRecipes();
@@ -72,8 +73,8 @@ public class RecipeSyncScheduler {
         log.info("Starting scheduled TheMealDB hourly synchronization");
         
         try {
-            int syncedCount = recipeSyncService.syncMealDbRandomRecipes(10);
-            log.info("Scheduled TheMealDB hourly sync completed: synced={}", syncedCount);
+            RecipeSyncReport report = recipeSyncService.syncMealDbRandomRecipes(10);
+            log.info("Scheduled TheMealDB hourly sync completed: {}", report);
             
         } catch (Exception e) {
             log.error("Scheduled TheMealDB hourly sync failed", e);
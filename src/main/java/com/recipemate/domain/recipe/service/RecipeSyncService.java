@@ -4,21 +4,38 @@ import com.recipemate.domain.recipe.client.FoodSafetyClient;
 import com.recipemate.domain.recipe.client.TheMealDBClient;
 import com.recipemate.domain.recipe.dto.CookRecipeResponse;
 import com.recipemate.domain.recipe.dto.MealResponse;
+import com.recipemate.domain.recipe.dto.RecipeSyncReport;
 import com.recipemate.domain.recipe.entity.Recipe;
+import com.recipemate.domain.recipe.entity.RecipeIngredient;
 import com.recipemate.domain.recipe.entity.RecipeSource;
+import com.recipemate.domain.recipe.entity.RecipeStep;
 import com.recipemate.domain.recipe.mapper.RecipeMapper;
 import com.recipemate.domain.recipe.repository.RecipeRepository;
+import com.recipemate.global.event.RecipeCreatedEvent;
+import com.recipemate.global.event.RecipeSyncCompletedEvent;
+import com.recipemate.global.event.RecipeUpdatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
  * 레시피 동기화 서비스
  * 외부 API로부터 레시피 데이터를 가져와 DB에 저장/업데이트
+ *
+ * 기존 레시피는 매핑 결과의 내용 지문(RecipeMapper.computeContentHash)을 저장된 지문과 비교하여
+ * 같으면 쓰기 없이 건너뛰고, 다르면 기본 정보와 재료/조리 단계의 변경분만 반영한다.
  */
 @Slf4j
 @Service
@@ -29,6 +46,7 @@ public class RecipeSyncService {
     private final FoodSafetyClient foodSafetyClient;
     private final RecipeRepository recipeRepository;
     private final RecipeMapper recipeMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // FoodSafety API는 최대 1000건까지 조회 가능
     private static final int FOOD_SAFETY_MAX_SIZE = 1000;
@@ -38,120 +56,118 @@ public class RecipeSyncService {
      * TheMealDB 레시피 동기화 (랜덤 레시피)
      * 
      * @param count 가져올 레시피 개수
-     * @return 동기화 성공한 레시피 개수
+     * @return 동기화 결과 (생성/변경/건너뜀/실패 건수, 기록 바이트)
      */
     @Transactional
-    public int syncMealDbRandomRecipes(int count) {
+    public RecipeSyncReport syncMealDbRandomRecipes(int count) {
         log.info("Starting TheMealDB random recipes sync: count={}", count);
         
-        int syncedCount = 0;
+        RecipeSyncReport report = new RecipeSyncReport();
         
         try {
             List<MealResponse> mealResponses = theMealDBClient.getRandomRecipes(count);
             
             if (mealResponses.isEmpty()) {
                 log.warn("No recipes fetched from TheMealDB");
-                return 0;
+                return report;
             }
             
             for (MealResponse mealResponse : mealResponses) {
-                try {
-                    if (syncMealDbRecipe(mealResponse)) {
-                        syncedCount++;
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to sync recipe: mealId={}, name={}", 
-                             mealResponse.getId(), mealResponse.getName(), e);
-                }
+                syncMealDbRecipe(mealResponse, report);
             }
             
-            log.info("TheMealDB sync completed: total={}, synced={}", mealResponses.size(), syncedCount);
+            log.info("TheMealDB sync completed: total={}, {}", mealResponses.size(), report);
+            publishSyncCompleted(report);
             
         } catch (Exception e) {
             log.error("Error during TheMealDB sync", e);
         }
         
-        return syncedCount;
+        return report;
     }
 
     /**
      * TheMealDB 특정 카테고리 레시피 동기화
      * 
      * @param category 카테고리명
-     * @return 동기화 성공한 레시피 개수
+     * @return 동기화 결과 (생성/변경/건너뜀/실패 건수, 기록 바이트)
      */
     @Transactional
-    public int syncMealDbRecipesByCategory(String category) {
+    public RecipeSyncReport syncMealDbRecipesByCategory(String category) {
         log.info("Starting TheMealDB category sync: category={}", category);
         
-        int syncedCount = 0;
+        RecipeSyncReport report = new RecipeSyncReport();
         
         try {
             List<MealResponse> mealResponses = theMealDBClient.getRecipesByCategory(category);
             
             if (mealResponses.isEmpty()) {
                 log.warn("No recipes fetched from TheMealDB for category: {}", category);
-                return 0;
+                return report;
             }
             
             for (MealResponse mealResponse : mealResponses) {
-                try {
-                    if (syncMealDbRecipe(mealResponse)) {
-                        syncedCount++;
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to sync recipe: mealId={}, name={}", 
-                             mealResponse.getId(), mealResponse.getName(), e);
-                }
+                syncMealDbRecipe(mealResponse, report);
             }
             
-            log.info("TheMealDB category sync completed: category={}, total={}, synced={}", 
-                     category, mealResponses.size(), syncedCount);
+            log.info("TheMealDB category sync completed: category={}, total={}, {}", 
+                     category, mealResponses.size(), report);
+            publishSyncCompleted(report);
             
         } catch (Exception e) {
             log.error("Error during TheMealDB category sync: category={}", category, e);
         }
         
-        return syncedCount;
+        return report;
     }
 
     /**
      * TheMealDB 단일 레시피 동기화
      * 
      * @param mealResponse TheMealDB API 응답
-     * @return 동기화 성공 여부
+     * @param report 결과를 누적할 동기화 결과
      */
-    private boolean syncMealDbRecipe(MealResponse mealResponse) {
+    private void syncMealDbRecipe(MealResponse mealResponse, RecipeSyncReport report) {
         if (mealResponse == null || mealResponse.getId() == null) {
             log.warn("Invalid meal response: null or missing ID");
-            return false;
+            report.recordFailed();
+            return;
         }
         
-        String sourceApiId = mealResponse.getId();
-        
-        // 기존 레시피 확인
-        Optional<Recipe> existingRecipe = recipeRepository.findBySourceApiAndSourceApiId(
-                RecipeSource.MEAL_DB, sourceApiId);
-        
-        if (existingRecipe.isPresent()) {
-            // 기존 레시피 업데이트
-            return updateExistingRecipe(existingRecipe.get(), mealResponse);
-        } else {
-            // 새 레시피 생성
-            return createNewRecipe(mealResponse);
+        try {
+            Recipe mappedRecipe = recipeMapper.toEntity(mealResponse);
+            if (mappedRecipe == null) {
+                log.warn("Failed to map meal response to entity: mealId={}", mealResponse.getId());
+                report.recordFailed();
+                return;
+            }
+            
+            // 기존 레시피 확인
+            Optional<Recipe> existingRecipe = recipeRepository.findBySourceApiAndSourceApiId(
+                    RecipeSource.MEAL_DB, mealResponse.getId());
+            
+            if (existingRecipe.isPresent()) {
+                syncExistingRecipe(existingRecipe.get(), mappedRecipe, report);
+            } else {
+                createNewRecipe(mappedRecipe, report);
+            }
+        } catch (Exception e) {
+            log.error("Failed to sync recipe: mealId={}, name={}", 
+                     mealResponse.getId(), mealResponse.getName(), e);
+            report.recordFailed();
         }
     }
 
     /**
      * 식품안전나라 레시피 전체 동기화
      * 
-     * @return 동기화 성공한 레시피 개수
+     * @return 동기화 결과 (생성/변경/건너뜀/실패 건수, 기록 바이트)
      */
     @Transactional
-    public int syncFoodSafetyRecipes() {
+    public RecipeSyncReport syncFoodSafetyRecipes() {
         log.info("Starting FoodSafety full sync");
         
-        int syncedCount = 0;
+        RecipeSyncReport report = new RecipeSyncReport();
         
         try {
             // 식품안전나라 API는 최대 1000건 조회 가능
@@ -159,27 +175,21 @@ public class RecipeSyncService {
             
             if (cookRecipes.isEmpty()) {
                 log.warn("No recipes fetched from FoodSafety");
-                return 0;
+                return report;
             }
             
             for (CookRecipeResponse cookRecipe : cookRecipes) {
-                try {
-                    if (syncFoodSafetyRecipe(cookRecipe)) {
-                        syncedCount++;
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to sync recipe: rcpSeq={}, name={}", 
-                             cookRecipe.getRcpSeq(), cookRecipe.getRcpNm(), e);
-                }
+                syncFoodSafetyRecipe(cookRecipe, report);
             }
             
-            log.info("FoodSafety sync completed: total={}, synced={}", cookRecipes.size(), syncedCount);
+            log.info("FoodSafety sync completed: total={}, {}", cookRecipes.size(), report);
+            publishSyncCompleted(report);
             
         } catch (Exception e) {
             log.error("Error during FoodSafety sync", e);
         }
         
-        return syncedCount;
+        return report;
     }
 
     /**
@@ -187,212 +197,264 @@ public class RecipeSyncService {
      * 
      * @param start 시작 위치
      * @param end 종료 위치
-     * @return 동기화 성공한 레시피 개수
+     * @return 동기화 결과 (생성/변경/건너뜀/실패 건수, 기록 바이트)
      */
     @Transactional
-    public int syncFoodSafetyRecipesBatch(int start, int end) {
+    public RecipeSyncReport syncFoodSafetyRecipesBatch(int start, int end) {
         log.info("Starting FoodSafety batch sync: start={}, end={}", start, end);
         
-        int syncedCount = 0;
+        RecipeSyncReport report = new RecipeSyncReport();
         
         try {
             List<CookRecipeResponse> cookRecipes = foodSafetyClient.getKoreanRecipes(start, end);
             
             if (cookRecipes.isEmpty()) {
                 log.warn("No recipes fetched from FoodSafety: start={}, end={}", start, end);
-                return 0;
+                return report;
             }
             
             for (CookRecipeResponse cookRecipe : cookRecipes) {
-                try {
-                    if (syncFoodSafetyRecipe(cookRecipe)) {
-                        syncedCount++;
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to sync recipe: rcpSeq={}, name={}", 
-                             cookRecipe.getRcpSeq(), cookRecipe.getRcpNm(), e);
-                }
+                syncFoodSafetyRecipe(cookRecipe, report);
             }
             
-            log.info("FoodSafety batch sync completed: start={}, end={}, total={}, synced={}", 
-                     start, end, cookRecipes.size(), syncedCount);
+            log.info("FoodSafety batch sync completed: start={}, end={}, total={}, {}", 
+                     start, end, cookRecipes.size(), report);
+            publishSyncCompleted(report);
             
         } catch (Exception e) {
             log.error("Error during FoodSafety batch sync: start={}, end={}", start, end, e);
         }
         
-        return syncedCount;
+        return report;
     }
 
     /**
      * 식품안전나라 단일 레시피 동기화
      * 
      * @param cookRecipe 식품안전나라 API 응답
-     * @return 동기화 성공 여부
+     * @param report 결과를 누적할 동기화 결과
      */
-    private boolean syncFoodSafetyRecipe(CookRecipeResponse cookRecipe) {
+    private void syncFoodSafetyRecipe(CookRecipeResponse cookRecipe, RecipeSyncReport report) {
         if (cookRecipe == null || cookRecipe.getRcpSeq() == null) {
             log.warn("Invalid cook recipe response: null or missing RCP_SEQ");
-            return false;
+            report.recordFailed();
+            return;
         }
         
-        String sourceApiId = cookRecipe.getRcpSeq();
+        try {
+            Recipe mappedRecipe = recipeMapper.toEntity(cookRecipe);
+            if (mappedRecipe == null) {
+                log.warn("Failed to map cook recipe response to entity: rcpSeq={}", cookRecipe.getRcpSeq());
+                report.recordFailed();
+                return;
+            }
+            
+            // 기존 레시피 확인
+            Optional<Recipe> existingRecipe = recipeRepository.findBySourceApiAndSourceApiId(
+                    RecipeSource.FOOD_SAFETY, cookRecipe.getRcpSeq());
+            
+            if (existingRecipe.isPresent()) {
+                syncExistingRecipe(existingRecipe.get(), mappedRecipe, report);
+            } else {
+                createNewRecipe(mappedRecipe, report);
+            }
+        } catch (Exception e) {
+            log.error("Failed to sync recipe: rcpSeq={}, name={}", 
+                     cookRecipe.getRcpSeq(), cookRecipe.getRcpNm(), e);
+            report.recordFailed();
+        }
+    }
+
+    /**
+     * 기존 레시피 동기화
+     * - 내용 지문이 같으면 아무것도 쓰지 않음 (lastSyncedAt도 유지)
+     * - 다르면 기본 정보를 갱신하고 재료/조리 단계는 변경분만 반영
+     */
+    private void syncExistingRecipe(Recipe existingRecipe, Recipe mappedRecipe, RecipeSyncReport report) {
+        if (Objects.equals(existingRecipe.getContentHash(), mappedRecipe.getContentHash())) {
+            report.recordSkipped();
+            return;
+        }
         
-        // 기존 레시피 확인
-        Optional<Recipe> existingRecipe = recipeRepository.findBySourceApiAndSourceApiId(
-                RecipeSource.FOOD_SAFETY, sourceApiId);
+        log.debug("Updating existing recipe: id={}, sourceApiId={}", 
+                 existingRecipe.getId(), existingRecipe.getSourceApiId());
         
-        if (existingRecipe.isPresent()) {
-            // 기존 레시피 업데이트
-            return updateExistingRecipe(existingRecipe.get(), cookRecipe);
-        } else {
-            // 새 레시피 생성
-            return createNewRecipe(cookRecipe);
-        }
+        long bytesWritten = recipeRowBytes(mappedRecipe);
+        existingRecipe.applySyncedInfo(mappedRecipe);
+        bytesWritten += syncIngredients(existingRecipe, mappedRecipe.getIngredients());
+        bytesWritten += syncSteps(existingRecipe, mappedRecipe.getSteps());
+        
+        // 영속 상태이므로 변경 감지로 반영됨 (추가된 재료/단계는 cascade로 저장)
+        eventPublisher.publishEvent(new RecipeUpdatedEvent(existingRecipe.getId()));
+        report.recordUpdated(bytesWritten);
+        log.debug("Recipe updated successfully: id={}, bytesWritten={}", existingRecipe.getId(), bytesWritten);
     }
 
     /**
-     * 기존 레시피 업데이트 (TheMealDB)
+     * 재료 변경분 반영
+     * 재료명이 같은 기존 재료는 유지(계량이 다르면 계량만 수정)하고, 없어진 재료만 삭제, 새 재료만 추가
+     *
+     * @return 기록한 바이트 수
      */
-    private boolean updateExistingRecipe(Recipe existingRecipe, MealResponse mealResponse) {
-        try {
-            log.debug("Updating existing recipe: id={}, mealId={}", 
-                     existingRecipe.getId(), mealResponse.getId());
-            
-            // 기존 재료와 단계 삭제 (orphanRemoval=true로 자동 삭제됨)
-            existingRecipe.getIngredients().clear();
-            existingRecipe.getSteps().clear();
-            
-            // 새 데이터로 매핑
-            Recipe updatedRecipe = recipeMapper.toEntity(mealResponse);
-            
-            // 기존 레시피 정보 업데이트 (ID는 유지)
-            // TODO: 필요한 필드만 업데이트하도록 개선 가능
-            for (var ingredient : updatedRecipe.getIngredients()) {
-                existingRecipe.addIngredient(ingredient);
-            }
-            
-            for (var step : updatedRecipe.getSteps()) {
-                existingRecipe.addStep(step);
+    private long syncIngredients(Recipe existingRecipe, List<RecipeIngredient> newIngredients) {
+        Map<String, Deque<RecipeIngredient>> existingByName = new HashMap<>();
+        for (RecipeIngredient ingredient : existingRecipe.getIngredients()) {
+            existingByName.computeIfAbsent(ingredient.getName(), key -> new ArrayDeque<>()).add(ingredient);
+        }
+        
+        long bytesWritten = 0;
+        List<RecipeIngredient> added = new ArrayList<>();
+        for (RecipeIngredient newIngredient : newIngredients) {
+            Deque<RecipeIngredient> candidates = existingByName.get(newIngredient.getName());
+            RecipeIngredient existing = candidates != null ? candidates.poll() : null;
+            if (existing == null) {
+                added.add(newIngredient);
+            } else if (!Objects.equals(existing.getMeasure(), newIngredient.getMeasure())) {
+                existing.updateMeasure(newIngredient.getMeasure());
+                bytesWritten += byteLength(newIngredient.getMeasure());
             }
-            
-            existingRecipe.updateSyncTime();
-            
-            recipeRepository.save(existingRecipe);
-            log.debug("Recipe updated successfully: id={}", existingRecipe.getId());
-            
-            return true;
-            
-        } catch (Exception e) {
-            log.error("Failed to update recipe: id={}", existingRecipe.getId(), e);
-            return false;
         }
+        
+        // 짝이 없는 기존 재료 삭제 (orphanRemoval)
+        List<RecipeIngredient> removed = new ArrayList<>();
+        existingByName.values().forEach(removed::addAll);
+        existingRecipe.getIngredients().removeAll(removed);
+        
+        for (RecipeIngredient ingredient : added) {
+            existingRecipe.addIngredient(ingredient);
+            bytesWritten += byteLength(ingredient.getName()) + byteLength(ingredient.getMeasure());
+        }
+        return bytesWritten;
     }
 
     /**
-     * 기존 레시피 업데이트 (식품안전나라)
+     * 조리 단계 변경분 반영
+     * 같은 번호의 단계는 내용이 다를 때만 수정하고, 없어진 번호만 삭제, 새 번호만 추가
+     *
+     * @return 기록한 바이트 수
      */
-    private boolean updateExistingRecipe(Recipe existingRecipe, CookRecipeResponse cookRecipe) {
-        try {
-            log.debug("Updating existing recipe: id={}, rcpSeq={}", 
-                     existingRecipe.getId(), cookRecipe.getRcpSeq());
-            
-            // 기존 재료와 단계 삭제
-            existingRecipe.getIngredients().clear();
-            existingRecipe.getSteps().clear();
-            
-            // 새 데이터로 매핑
-            Recipe updatedRecipe = recipeMapper.toEntity(cookRecipe);
-            
-            // 기존 레시피 정보 업데이트
-            for (var ingredient : updatedRecipe.getIngredients()) {
-                existingRecipe.addIngredient(ingredient);
+    private long syncSteps(Recipe existingRecipe, List<RecipeStep> newSteps) {
+        Map<Integer, RecipeStep> existingByNumber = new HashMap<>();
+        List<RecipeStep> removed = new ArrayList<>();
+        for (RecipeStep step : existingRecipe.getSteps()) {
+            // 같은 번호가 중복 저장된 경우 첫 단계만 남김
+            if (existingByNumber.putIfAbsent(step.getStepNumber(), step) != null) {
+                removed.add(step);
             }
-            
-            for (var step : updatedRecipe.getSteps()) {
-                existingRecipe.addStep(step);
+        }
+        
+        long bytesWritten = 0;
+        List<RecipeStep> added = new ArrayList<>();
+        for (RecipeStep newStep : newSteps) {
+            RecipeStep existing = existingByNumber.remove(newStep.getStepNumber());
+            if (existing == null) {
+                added.add(newStep);
+            } else if (!Objects.equals(existing.getDescription(), newStep.getDescription())
+                    || !Objects.equals(existing.getImageUrl(), newStep.getImageUrl())) {
+                existing.updateContent(newStep.getDescription(), newStep.getImageUrl());
+                bytesWritten += byteLength(newStep.getDescription()) + byteLength(newStep.getImageUrl());
             }
-            
-            existingRecipe.updateSyncTime();
-            
-            recipeRepository.save(existingRecipe);
-            log.debug("Recipe updated successfully: id={}", existingRecipe.getId());
-            
-            return true;
-            
-        } catch (Exception e) {
-            log.error("Failed to update recipe: id={}", existingRecipe.getId(), e);
-            return false;
         }
+        
+        removed.addAll(existingByNumber.values());
+        existingRecipe.getSteps().removeAll(removed);
+        
+        for (RecipeStep step : added) {
+            existingRecipe.addStep(step);
+            bytesWritten += byteLength(step.getDescription()) + byteLength(step.getImageUrl());
+        }
+        return bytesWritten;
     }
 
     /**
-     * 새 레시피 생성 (TheMealDB)
+     * 새 레시피 생성
      */
-    private boolean createNewRecipe(MealResponse mealResponse) {
-        try {
-            Recipe recipe = recipeMapper.toEntity(mealResponse);
-            
-            if (recipe == null) {
-                log.warn("Failed to map meal response to entity: mealId={}", mealResponse.getId());
-                return false;
-            }
-            
-            recipeRepository.save(recipe);
-            log.debug("New recipe created: mealId={}, title={}", 
-                     mealResponse.getId(), recipe.getTitle());
-            
-            return true;
-            
-        } catch (Exception e) {
-            log.error("Failed to create recipe: mealId={}", mealResponse.getId(), e);
-            return false;
+    private void createNewRecipe(Recipe recipe, RecipeSyncReport report) {
+        recipeRepository.save(recipe);
+        eventPublisher.publishEvent(new RecipeCreatedEvent(recipe.getId()));
+        
+        long bytesWritten = recipeRowBytes(recipe);
+        for (RecipeIngredient ingredient : recipe.getIngredients()) {
+            bytesWritten += byteLength(ingredient.getName()) + byteLength(ingredient.getMeasure());
+        }
+        for (RecipeStep step : recipe.getSteps()) {
+            bytesWritten += byteLength(step.getDescription()) + byteLength(step.getImageUrl());
         }
+        report.recordCreated(bytesWritten);
+        
+        log.debug("New recipe created: sourceApi={}, sourceApiId={}, title={}", 
+                 recipe.getSourceApi(), recipe.getSourceApiId(), recipe.getTitle());
     }
 
     /**
-     * 새 레시피 생성 (식품안전나라)
+     * 레시피 행의 텍스트 컬럼 바이트 수 (기록 바이트 추정용)
      */
-    private boolean createNewRecipe(CookRecipeResponse cookRecipe) {
-        try {
-            Recipe recipe = recipeMapper.toEntity(cookRecipe);
-            
-            if (recipe == null) {
-                log.warn("Failed to map cook recipe response to entity: rcpSeq={}", cookRecipe.getRcpSeq());
-                return false;
-            }
-            
-            recipeRepository.save(recipe);
-            log.debug("New recipe created: rcpSeq={}, title={}", 
-                     cookRecipe.getRcpSeq(), recipe.getTitle());
-            
-            return true;
-            
-        } catch (Exception e) {
-            log.error("Failed to create recipe: rcpSeq={}", cookRecipe.getRcpSeq(), e);
-            return false;
+    private long recipeRowBytes(Recipe recipe) {
+        return byteLength(recipe.getTitle()) + byteLength(recipe.getFullImageUrl())
+                + byteLength(recipe.getThumbnailImageUrl()) + byteLength(recipe.getCategory())
+                + byteLength(recipe.getArea()) + byteLength(recipe.getInstructions())
+                + byteLength(recipe.getServingSize()) + byteLength(recipe.getTips())
+                + byteLength(recipe.getYoutubeUrl()) + byteLength(recipe.getSourceUrl())
+                + byteLength(recipe.getContentHash());
+    }
+
+    private static long byteLength(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * 상세 조회 중 외부 API에서 가져온 단건 레시피 저장 (TheMealDB)
+     * RecipeDetailLoader가 트랜잭션 밖에서 API를 호출한 뒤, 저장만 짧은 트랜잭션으로 수행
+     *
+     * @return 저장(생성/변경/변경 없음) 성공 여부
+     */
+    @Transactional
+    public boolean storeFetchedRecipe(MealResponse mealResponse) {
+        RecipeSyncReport report = new RecipeSyncReport();
+        syncMealDbRecipe(mealResponse, report);
+        return report.getSyncedCount() > 0;
+    }
+
+    /**
+     * 상세 조회 중 외부 API에서 가져온 단건 레시피 저장 (식품안전나라)
+     *
+     * @return 저장(생성/변경/변경 없음) 성공 여부
+     */
+    @Transactional
+    public boolean storeFetchedRecipe(CookRecipeResponse cookRecipe) {
+        RecipeSyncReport report = new RecipeSyncReport();
+        syncFoodSafetyRecipe(cookRecipe, report);
+        return report.getSyncedCount() > 0;
+    }
+
+    /**
+     * 동기화로 레시피가 생성/변경되었으면 완료 이벤트 발행 (커밋 후 캐시 예열)
+     */
+    private void publishSyncCompleted(RecipeSyncReport report) {
+        if (report.getChangedCount() > 0) {
+            eventPublisher.publishEvent(new RecipeSyncCompletedEvent(report));
         }
     }
 
     /**
      * 전체 레시피 동기화 (모든 소스)
      * 
-     * @return 총 동기화된 레시피 개수
+     * @return 모든 소스의 동기화 결과 합계
      */
     @Transactional
-    public int syncAllRecipes() {
+    public RecipeSyncReport syncAllRecipes() {
         log.info("Starting full recipe synchronization");
         
-        int totalSynced = 0;
+        RecipeSyncReport report = new RecipeSyncReport();
         
         // 식품안전나라 전체 동기화
-        totalSynced += syncFoodSafetyRecipes();
+        report.merge(syncFoodSafetyRecipes());
         
         // TheMealDB 랜덤 레시피 동기화 (100개)
-        totalSynced += syncMealDbRandomRecipes(100);
+        report.merge(syncMealDbRandomRecipes(100));
         
-        log.info("Full synchronization completed: total synced={}", totalSynced);
+        log.info("Full synchronization completed: {}", report);
         
-        return totalSynced;
+        return report;
     }
 }
@@ -4,9 +4,11 @@ import com.recipemate.domain.review.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -90,5 +92,15 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
            "WHERE r.groupBuy.id IN :groupBuyIds AND r.deletedAt IS NULL " +
            "GROUP BY r.groupBuy.id")
     List<com.recipemate.domain.review.dto.ReviewStatsDto> findReviewStatsByGroupBuyIds(@Param("groupBuyIds") List<Long> groupBuyIds);
-}
 
+    /**
+     * 후기 소프트 삭제 (삭제되지 않은 후기만)
+     * 같은 후기를 동시에/반복 삭제하면 한 번만 1을 반환하므로, 반환값으로 집계 반영 여부를 판단
+     * 영속성 컨텍스트는 비우지 않으므로, 이미 조회한 후기는 호출한 쪽에서 다시 읽어야 함
+     *
+     * @return 삭제된 행 수 (이미 삭제된 후기면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Review r SET r.deletedAt = :now WHERE r.id = :reviewId AND r.deletedAt IS NULL")
+    int softDeleteIfLive(@Param("reviewId") Long reviewId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,68 @@
+package com.recipemate.domain.review.service;
+
+import com.recipemate.domain.groupbuy.repository.GroupBuyRepository;
+import com.recipemate.domain.user.entity.User;
+import com.recipemate.domain.user.repository.UserRepository;
+import com.recipemate.global.cache.HibernateCacheSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 후기 집계(비정규화 컬럼) 관리 서비스
+ * - 공구별: 후기 수, 평점 합계, 평점별 개수
+ * - 주최자별: 받은 후기 수, 평점 합계
+ * 후기 이벤트마다 단일 UPDATE로 증감을 반영하고, 매일 새벽 전체 재계산으로 불일치를 보정한다.
+ * 삭제 이벤트는 소프트 삭제 UPDATE가 실제로 행을 갱신한 경우에만 발행되므로 같은 후기가 두 번 차감되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReviewAggregateService {
+
+    private final GroupBuyRepository groupBuyRepository;
+    private final UserRepository userRepository;
+    private final HibernateCacheSupport hibernateCacheSupport;
+
+    @Transactional
+    public void applyReviewCreated(Long groupBuyId, Long hostId, int rating) {
+        apply(groupBuyId, hostId, 1, rating, 0);
+    }
+
+    @Transactional
+    public void applyReviewUpdated(Long groupBuyId, Long hostId, int oldRating, int newRating) {
+        if (oldRating == newRating) {
+            return;
+        }
+        apply(groupBuyId, hostId, 0, newRating, oldRating);
+    }
+
+    @Transactional
+    public void applyReviewDeleted(Long groupBuyId, Long hostId, int rating) {
+        apply(groupBuyId, hostId, -1, 0, rating);
+    }
+
+    /**
+     * 후기 집계 전체 재계산
+     * 매일 04:00에 실행
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void rebuildAll() {
+        log.info("후기 집계 재계산 배치 시작");
+
+        int groupBuyCount = groupBuyRepository.rebuildReviewAggregates();
+        int userCount = userRepository.rebuildReceivedReviewAggregates();
+
+        log.info("후기 집계 재계산 배치 종료 - 공구 {} 건, 사용자 {} 건", groupBuyCount, userCount);
+    }
+
+    private void apply(Long groupBuyId, Long hostId, int countDelta, int addedRating, int removedRating) {
+        groupBuyRepository.applyReviewDelta(groupBuyId, countDelta, addedRating, removedRating);
+        userRepository.applyReceivedReviewDelta(hostId, countDelta, addedRating - removedRating);
+        hibernateCacheSupport.evictEntityAfterCommit(User.class, hostId);
+    }
+}
@@ -11,8 +11,10 @@ import com.recipemate.domain.review.repository.ReviewRepository;
 import com.recipemate.domain.user.entity.User;
 import com.recipemate.domain.user.repository.UserRepository;
 import com.recipemate.global.event.ReviewCreatedEvent;
+import com.recipemate.global.event.ReviewDeletedEvent;
 import com.recipemate.global.exception.CustomException;
 import com.recipemate.global.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -21,7 +23,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -37,6 +39,7 @@ public class ReviewService {
     private final GroupBuyRepository groupBuyRepository;
     private final ParticipationRepository participationRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     /**
      * 후기 작성
@@ -142,13 +145,19 @@ public class ReviewService {
             throw new CustomException(ErrorCode.UNAUTHORIZED_REVIEW_ACCESS);
         }
 
-        // 4. 후기 삭제 이벤트 발행 (매너온도 원상복귀)
-        eventPublisher.publishEvent(new com.recipemate.global.event.ReviewDeletedEvent(review));
-        log.info("ReviewDeletedEvent 발행 - ReviewId: {}, HostId: {}, Rating: {}", 
-            review.getId(), review.getGroupBuy().getHost().getId(), review.getRating());
+        // 4. 후기 소프트 삭제 (삭제되지 않은 후기만)
+        // 동시/반복 삭제 시 한 요청만 행을 갱신하므로, 갱신한 요청만 이벤트를 발행하여 집계가 두 번 차감되지 않도록 함
+        if (reviewRepository.softDeleteIfLive(reviewId, LocalDateTime.now()) == 0) {
+            throw new CustomException(ErrorCode.REVIEW_NOT_FOUND);
+        }
+        entityManager.refresh(review); // 벌크 UPDATE 결과(deletedAt)를 이 후기에만 반영
+
+        // 5. 후기 삭제 이벤트 발행 (매너온도 원상복귀, 후기 집계 차감)
+        ReviewDeletedEvent event = new ReviewDeletedEvent(review);
 
-        // 5. 후기 소프트 삭제
-        review.softDelete();
+        eventPublisher.publishEvent(event);
+        log.info("ReviewDeletedEvent 발행 - ReviewId: {}, HostId: {}, Rating: {}",
+            event.getReviewId(), event.getHostId(), event.getRating());
     }
 
     /**
@@ -192,45 +201,25 @@ public class ReviewService {
     }
 
     /**
-     * 특정 공구의 평점 분포 계산
+     * 특정 공구의 평점 분포 조회 (공구의 평점별 집계 컬럼 사용)
      * @return Map<평점(1-5), 해당 평점의 후기 개수>
      */
     public Map<Integer, Long> getRatingDistribution(Long groupBuyId) {
-        // 1. 공구 존재 여부 확인
-        if (!groupBuyRepository.existsById(groupBuyId)) {
-            throw new CustomException(ErrorCode.GROUP_BUY_NOT_FOUND);
-        }
-
-        // 2. 평점별 후기 개수 조회
-        List<Object[]> results = reviewRepository.countByRatingForGroupBuy(groupBuyId);
-
-        // 3. Map으로 변환 (1~5점 모두 초기화)
-        Map<Integer, Long> distribution = new HashMap<>();
-        for (int i = 1; i <= 5; i++) {
-            distribution.put(i, 0L);
-        }
-
-        // 4. 실제 데이터 채우기
-        for (Object[] result : results) {
-            Integer rating = (Integer) result[0];
-            Long count = (Long) result[1];
-            distribution.put(rating, count);
-        }
+        GroupBuy groupBuy = groupBuyRepository.findById(groupBuyId)
+                .orElseThrow(() -> new CustomException(ErrorCode.GROUP_BUY_NOT_FOUND));
 
-        return distribution;
+        return groupBuy.getRatingDistribution();
     }
 
     /**
-     * 특정 공구의 평균 평점 조회
+     * 특정 공구의 평균 평점 조회 (공구의 집계 컬럼 사용)
      */
     public Double getAverageRating(Long groupBuyId) {
-        // 1. 공구 존재 여부 확인
-        if (!groupBuyRepository.existsById(groupBuyId)) {
-            throw new CustomException(ErrorCode.GROUP_BUY_NOT_FOUND);
-        }
+        GroupBuy groupBuy = groupBuyRepository.findById(groupBuyId)
+                .orElseThrow(() -> new CustomException(ErrorCode.GROUP_BUY_NOT_FOUND));
 
-        // 2. 평균 평점 조회 (null이면 0.0 반환)
-        Double averageRating = reviewRepository.findAverageRatingByGroupBuyId(groupBuyId);
+        // 후기가 없으면 0.0 반환
+        Double averageRating = groupBuy.getAverageRating();
         return averageRating != null ? averageRating : 0.0;
     }
 }
@@ -21,6 +21,8 @@ import com.recipemate.domain.user.dto.UserResponse;
 import com.recipemate.domain.user.entity.User;
 import com.recipemate.domain.user.repository.UserRepository;
 import com.recipemate.domain.user.service.PointService;
+import com.recipemate.domain.user.service.RewardCalendarService;
+import com.recipemate.domain.user.service.UserProfileCache;
 import com.recipemate.domain.user.service.UserService;
 import com.recipemate.domain.recipe.dto.RecipeCorrectionResponse;
 import com.recipemate.domain.recipe.dto.RecipeListResponse;
@@ -48,6 +50,8 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -64,6 +68,7 @@ public class UserController {
     private final UserRepository userRepository;
     private final BadgeService badgeService;
     private final PointService pointService;
+    private final RewardCalendarService rewardCalendarService;
     private final RecipeService recipeService;
     private final RecipeCorrectionService recipeCorrectionService;
     private final GroupBuyRepository groupBuyRepository;
@@ -267,6 +272,8 @@ public class UserController {
         Page<PointHistoryResponse> pointHistory = pointService.getPointHistory(user.getId(), pageable);
         model.addAttribute("pointHistory", pointHistory);
         model.addAttribute("currentPoints", user.getPoints());
+        model.addAttribute("checkInCalendar",
+                rewardCalendarService.getCheckInCalendar(user.getId(), YearMonth.now(), LocalDate.now()));
         return "user/points";
     }
 
@@ -541,7 +548,7 @@ public class UserController {
     public String userProfile(
             @PathVariable String nickname,
             @AuthenticationPrincipal UserDetails userDetails,
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @PageableDefault(size = UserProfileCache.PAGE_SIZE, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             Model model) {
         UserProfileResponseDto userProfile = userService.getUserProfile(nickname, pageable);
         model.addAttribute("userProfile", userProfile);
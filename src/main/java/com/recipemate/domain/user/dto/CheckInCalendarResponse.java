@@ -0,0 +1,28 @@
+package com.recipemate.domain.user.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 출석 달력 응답
+ *
+ * @param month 조회 월
+ * @param leadingBlanks 1일 앞의 빈 칸 수 (일요일 시작 달력 기준)
+ * @param lengthOfMonth 해당 월 일수
+ * @param checkedDays 출석한 날짜 (일)
+ * @param checkedToday 오늘 출석 여부
+ * @param streak 연속 출석 일수 (오늘 출석 전이면 어제까지)
+ */
+public record CheckInCalendarResponse(
+        YearMonth month,
+        int leadingBlanks,
+        int lengthOfMonth,
+        List<Integer> checkedDays,
+        boolean checkedToday,
+        int streak
+) {
+    public static CheckInCalendarResponse of(YearMonth month, List<Integer> checkedDays, boolean checkedToday, int streak) {
+        int leadingBlanks = month.atDay(1).getDayOfWeek().getValue() % 7;
+        return new CheckInCalendarResponse(month, leadingBlanks, month.lengthOfMonth(), checkedDays, checkedToday, streak);
+    }
+}
@@ -0,0 +1,49 @@
+package com.recipemate.domain.user.entity;
+
+import com.recipemate.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 사용자별 포인트 잔액 스냅샷
+ * point_histories(원장)를 lastHistoryId까지 합산한 잔액으로, 매일 이후 내역만 더해 갱신한다.
+ * users.points와 비교하여 원장을 거치지 않은 잔액 변경을 찾는 데 사용
+ */
+@Entity
+@Table(name = "point_balance_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_balance_snapshot_user", columnNames = "user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@SuperBuilder
+public class PointBalanceSnapshot extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_point_balance_snapshot_user"))
+    private User user;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    // 잔액에 반영된 마지막 포인트 내역 ID
+    @Column(name = "last_history_id", nullable = false)
+    private Long lastHistoryId;
+
+    public static PointBalanceSnapshot create(User user, long balance, long lastHistoryId) {
+        return new PointBalanceSnapshot(null, user, balance, lastHistoryId);
+    }
+
+    public void advance(long delta, long lastHistoryId) {
+        this.balance += delta;
+        this.lastHistoryId = lastHistoryId;
+    }
+}
@@ -0,0 +1,47 @@
+package com.recipemate.domain.user.entity;
+
+import com.recipemate.global.common.BaseEntity;
+import com.recipemate.global.common.DailyReward;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 사용자별 월간 보상 달력 (일별 비트맵)
+ * 보상 종류와 월(yyyyMM)마다 한 행이며, days의 (일 - 1)번째 비트가 그날 보상 지급 여부
+ * 비트 설정은 RewardCalendarRepository의 단일 UPDATE로만 수행한다.
+ */
+@Entity
+@Table(name = "reward_calendars", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reward_calendar_user_reward_month", columnNames = {"user_id", "reward", "month_key"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@SuperBuilder
+public class RewardCalendar extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_reward_calendar_user"))
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private DailyReward reward;
+
+    // yyyyMM (예: 202610)
+    @Column(name = "month_key", nullable = false)
+    private Integer monthKey;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer days = 0;
+}
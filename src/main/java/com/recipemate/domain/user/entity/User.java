@@ -1,5 +1,6 @@
 package com.recipemate.domain.user.entity;
 
+import com.recipemate.global.cache.CacheRegions;
 import com.recipemate.global.common.BaseEntity;
 import com.recipemate.global.common.UserRole;
 import jakarta.persistence.*;
@@ -11,6 +12,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 
 import java.time.LocalDateTime;
@@ -20,6 +23,8 @@ import java.time.LocalDateTime;
         @Index(name = "idx_user_email", columnList = "email"),
         @Index(name = "idx_user_nickname", columnList = "nickname")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER)
 @SQLDelete(sql = "UPDATE users SET deleted_at = NOW() WHERE id = ?")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -52,10 +57,20 @@ public class User extends BaseEntity {
     @Column(nullable = false)
     private Double mannerTemperature = 36.5;
 
+    // 포인트 잔액 (PointService의 단일 UPDATE로만 변경, 엔티티 flush가 잔액을 덮어쓰지 않도록 updatable = false)
     @Builder.Default
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer points = 0;
 
+    // 주최한 공구에 달린 후기 집계 (ReviewAggregateService의 벌크 UPDATE로만 변경)
+    @Builder.Default
+    @Column(name = "received_review_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer receivedReviewCount = 0;
+
+    @Builder.Default
+    @Column(name = "received_review_rating_sum", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer receivedReviewRatingSum = 0;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private UserRole role;
@@ -96,6 +111,16 @@ public class User extends BaseEntity {
                 .build();
     }
 
+    /**
+     * 주최한 공구에 달린 후기의 평균 평점 (후기가 없으면 0.0)
+     */
+    public double getReceivedAverageRating() {
+        if (this.receivedReviewCount == null || this.receivedReviewCount == 0) {
+            return 0.0;
+        }
+        return (double) this.receivedReviewRatingSum / this.receivedReviewCount;
+    }
+
     public void updateMannerTemperature(double delta) {
         this.mannerTemperature += delta;
     }
@@ -116,20 +141,6 @@ public class User extends BaseEntity {
         this.password = encodedPassword;
     }
 
-    public void earnPoints(int amount) {
-        if (amount > 0) {
-            this.points += amount;
-        }
-    }
-
-    public boolean usePoints(int amount) {
-        if (amount <= 0 || this.points < amount) {
-            return false;
-        }
-        this.points -= amount;
-        return true;
-    }
-
     public void updateNotificationSettings(Boolean commentNotification, Boolean groupPurchaseNotification) {
         this.commentNotification = commentNotification;
         this.groupPurchaseNotification = groupPurchaseNotification;
@@ -0,0 +1,12 @@
+package com.recipemate.domain.user.repository;
+
+import com.recipemate.domain.user.entity.PointBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PointBalanceSnapshotRepository extends JpaRepository<PointBalanceSnapshot, Long> {
+
+    List<PointBalanceSnapshot> findByUserIdIn(Collection<Long> userIds);;
+}
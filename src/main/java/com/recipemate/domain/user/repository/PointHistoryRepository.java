@@ -5,17 +5,50 @@ import com.recipemate.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
-public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
+public interface PointHistoryRepository extends JpaRepository<PointHistory, Long>, PointHistoryRepositoryCustom {
 
     Page<PointHistory> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
-    
-    boolean existsByUserAndDescriptionAndCreatedAtBetween(
-            User user,
-            String description,
-            LocalDateTime startOfDay,
-            LocalDateTime endOfDay
-    );
+
+    /**
+     * 기준 시각 이전에 기록된 마지막 내역 ID (잔액 스냅샷 기준점)
+     */
+    @Query("SELECT MAX(h.id) FROM PointHistory h WHERE h.createdAt < :before")
+    Long findMaxIdCreatedBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * 사용자별 스냅샷 이후 ~ 기준점까지의 잔액 증감 (사용자 ID, 증감 합계, 마지막 내역 ID)
+     * 스냅샷이 없는 사용자는 처음부터 집계
+     */
+    @Query(value = "SELECT h.user_id, " +
+           "SUM(CASE WHEN h.type = 'USE' THEN -h.amount ELSE h.amount END), MAX(h.id) " +
+           "FROM point_histories h " +
+           "LEFT JOIN point_balance_snapshots s ON s.user_id = h.user_id " +
+           "WHERE h.id > COALESCE(s.last_history_id, 0) AND h.id <= :upToId " +
+           "GROUP BY h.user_id",
+           nativeQuery = true)
+    List<Object[]> sumDeltasSinceSnapshots(@Param("upToId") Long upToId);
+
+    /**
+     * 사용자별 기준점 시점 잔액 (사용자 ID, 현재 잔액 - 기준점 이후 증감) - 첫 스냅샷 기준값
+     * 원장을 거치지 않은 과거 잔액 변경이 있어도 첫 스냅샷은 현재 잔액과 맞춰지고, 이후 변경부터 비교된다.
+     * 잔액과 이후 내역을 한 문장으로 읽어, 그 사이 커밋된 변경이 한쪽에만 반영되지 않도록 함
+     */
+    @Query(value = "SELECT u.id, u.points - COALESCE((SELECT SUM(CASE WHEN h.type = 'USE' THEN -h.amount ELSE h.amount END) " +
+           "FROM point_histories h WHERE h.user_id = u.id AND h.id > :upToId), 0) " +
+           "FROM users u WHERE u.id IN (:userIds)",
+           nativeQuery = true)
+    List<Object[]> findBalancesAt(@Param("userIds") Collection<Long> userIds, @Param("upToId") Long upToId);
+
+    /**
+     * 기준점 이후 내역이 있는 사용자 ID (스냅샷과 현재 잔액 비교에서 제외)
+     */
+    @Query("SELECT DISTINCT h.user.id FROM PointHistory h WHERE h.user.id IN :userIds AND h.id > :afterId")
+    List<Long> findUserIdsWithHistoryAfter(@Param("userIds") Collection<Long> userIds, @Param("afterId") Long afterId);
 }
@@ -0,0 +1,18 @@
+package com.recipemate.domain.user.repository;
+
+import com.recipemate.domain.user.entity.PointHistory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PointHistoryRepositoryCustom {
+
+    /**
+     * 포인트 내역 일괄 저장 (JDBC 배치 INSERT)
+     * IDENTITY 전략 엔티티는 Hibernate가 INSERT를 묶지 않으므로 적립 배치에서 사용
+     *
+     * @param histories 저장할 내역 (user는 ID만 사용)
+     * @param createdAt 생성 시각
+     */
+    void batchInsert(List<PointHistory> histories, LocalDateTime createdAt);
+}
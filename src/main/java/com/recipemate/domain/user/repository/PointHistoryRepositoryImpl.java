@@ -0,0 +1,38 @@
+package com.recipemate.domain.user.repository;
+
+import com.recipemate.domain.user.entity.PointHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JdbcTemplate을 활용한 PointHistoryRepository 커스텀 구현
+ * 적립 배치의 내역을 한 번의 JDBC 배치로 저장
+ */
+@RequiredArgsConstructor
+public class PointHistoryRepositoryImpl implements PointHistoryRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO point_histories " +
+            "(created_at, updated_at, amount, description, type, user_id) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<PointHistory> histories, LocalDateTime createdAt) {
+        if (histories.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, histories, histories.size(), (ps, history) -> {
+            ps.setTimestamp(1, timestamp);
+            ps.setTimestamp(2, timestamp);
+            ps.setInt(3, history.getAmount());
+            ps.setString(4, history.getDescription());
+            ps.setString(5, history.getType().name());
+            ps.setLong(6, history.getUser().getId());
+        });
+    }
+}
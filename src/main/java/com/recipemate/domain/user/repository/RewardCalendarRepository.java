@@ -0,0 +1,96 @@
+package com.recipemate.domain.user.repository;
+
+import com.recipemate.domain.user.entity.RewardCalendar;
+import com.recipemate.global.common.DailyReward;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface RewardCalendarRepository extends JpaRepository<RewardCalendar, Long> {
+
+    /**
+     * 달력 행(c)의 보상/월에 해당하는 적립 내역 중 비트가 아직 설정되지 않은 날짜
+     */
+    String MISSING_DAYS_FROM_HISTORIES = "FROM point_histories h " +
+            "WHERE h.user_id = c.user_id AND h.type = 'EARN' " +
+            "AND h.description = CASE c.reward WHEN 'CHECK_IN' THEN '출석 체크' WHEN 'GROUP_BUY_CREATED' THEN '공동구매 생성' " +
+            "WHEN 'PARTICIPATION' THEN '공동구매 참여' WHEN 'REVIEW' THEN '후기 작성' ELSE '댓글 작성' END " +
+            "AND CAST(EXTRACT(YEAR FROM h.created_at) * 100 + EXTRACT(MONTH FROM h.created_at) AS INTEGER) = c.month_key " +
+            "AND MOD(c.days / CAST(POWER(2, EXTRACT(DAY FROM h.created_at) - 1) AS INTEGER), 2) = 0";
+
+    /**
+     * 해당 일 비트 설정 (이미 설정되어 있거나 달력 행이 없으면 0건)
+     * 비트 연산자가 JPQL에 없으므로 (days / bit) % 2 로 비트를 확인하고 덧셈으로 설정
+     */
+    @Modifying
+    @Query("UPDATE RewardCalendar c SET c.days = c.days + :bit " +
+           "WHERE c.user.id = :userId AND c.reward = :reward AND c.monthKey = :monthKey " +
+           "AND MOD(c.days / :bit, 2) = 0")
+    int markDay(@Param("userId") Long userId,
+                @Param("reward") DailyReward reward,
+                @Param("monthKey") int monthKey,
+                @Param("bit") int bit);
+
+    /**
+     * 빈 달력 행 생성 (이미 있으면 무시)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reward_calendars"))
+    @Query(value = "INSERT INTO reward_calendars (created_at, updated_at, days, month_key, reward, user_id) " +
+           "VALUES (CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0, :monthKey, :reward, :userId) " +
+           "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("reward") String reward,
+                       @Param("monthKey") int monthKey);
+
+    /**
+     * 기준 월 이후 월별 비트맵 (월, 비트맵)
+     */
+    @Query("SELECT c.monthKey, c.days FROM RewardCalendar c " +
+           "WHERE c.user.id = :userId AND c.reward = :reward AND c.monthKey >= :fromMonthKey")
+    List<Object[]> findDaysSince(@Param("userId") Long userId,
+                                 @Param("reward") DailyReward reward,
+                                 @Param("fromMonthKey") int fromMonthKey);
+
+    /**
+     * 포인트 내역으로 달력 생성 (달력 도입 전 내역 이관용)
+     * 같은 날 여러 번 적립된 경우도 비트는 한 번만 더해지도록 날짜별 비트 값을 DISTINCT 합산
+     * 이미 있는 달력 행은 건너뛰고(mergeFromHistories에서 병합), 반복 실행해도 같은 결과
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reward_calendars"))
+    @Query(value = "INSERT INTO reward_calendars (created_at, updated_at, days, month_key, reward, user_id) " +
+           "SELECT CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, " +
+           "CAST(SUM(DISTINCT CAST(POWER(2, EXTRACT(DAY FROM h.created_at) - 1) AS INTEGER)) AS INTEGER), " +
+           "CAST(EXTRACT(YEAR FROM h.created_at) * 100 + EXTRACT(MONTH FROM h.created_at) AS INTEGER), " +
+           "CASE h.description WHEN '출석 체크' THEN 'CHECK_IN' WHEN '공동구매 생성' THEN 'GROUP_BUY_CREATED' " +
+           "WHEN '공동구매 참여' THEN 'PARTICIPATION' WHEN '후기 작성' THEN 'REVIEW' ELSE 'COMMENT' END, " +
+           "h.user_id " +
+           "FROM point_histories h " +
+           "WHERE h.type = 'EARN' AND h.description IN ('출석 체크', '공동구매 생성', '공동구매 참여', '후기 작성', '댓글 작성') " +
+           "GROUP BY h.user_id, h.description, EXTRACT(YEAR FROM h.created_at), EXTRACT(MONTH FROM h.created_at) " +
+           "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int backfillFromHistories();
+
+    /**
+     * 이관 전에 생성된 달력 행에 포인트 내역의 빠진 날짜 비트를 더함
+     * (이관보다 먼저 보상을 받은 사용자의 해당 월 이전 기록 보존)
+     * 아직 설정되지 않은 비트만 DISTINCT 합산하므로 반복 실행해도 같은 결과
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reward_calendars"))
+    @Query(value = "UPDATE reward_calendars c SET updated_at = CURRENT_TIMESTAMP, days = c.days + (" +
+           "SELECT COALESCE(SUM(DISTINCT CAST(POWER(2, EXTRACT(DAY FROM h.created_at) - 1) AS INTEGER)), 0) " +
+           MISSING_DAYS_FROM_HISTORIES + ") " +
+           "WHERE EXISTS (SELECT 1 " + MISSING_DAYS_FROM_HISTORIES + ")",
+           nativeQuery = true)
+    int mergeFromHistories();
+}
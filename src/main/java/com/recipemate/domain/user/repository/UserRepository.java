@@ -1,14 +1,25 @@
 package com.recipemate.domain.user.repository;
 
 import com.recipemate.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * 사용자 단건 카운터 UPDATE의 쿼리 공간 (엔티티와 매핑되지 않아 2차 캐시 영역을 비우지 않음)
+     */
+    String POINT_BALANCE_SPACE = "user_counters";
+
     @Query("SELECT u FROM User u WHERE u.email = :email AND u.deletedAt IS NULL")
     Optional<User> findByEmail(@Param("email") String email);
 
@@ -36,6 +47,58 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.nickname = :nickname")
     Optional<User> findByNicknameIncludingDeleted(@Param("nickname") String nickname);
 
+    /**
+     * 포인트 적립 (단일 UPDATE로 원자적 처리, 탈퇴한 사용자는 0건)
+     * 벌크 UPDATE는 2차 캐시의 user 영역 전체를 비우므로, 엔티티와 매핑되지 않은 공간을 지정하고
+     * 호출자가 해당 사용자 항목만 제거한다 (HibernateCacheSupport.evictEntityAfterCommit)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = POINT_BALANCE_SPACE))
+    @Query(value = "UPDATE users SET points = points + :amount WHERE id = :userId AND deleted_at IS NULL",
+           nativeQuery = true)
+    int addPoints(@Param("userId") Long userId, @Param("amount") int amount);
+
+    /**
+     * 포인트 차감 (잔액이 부족하거나 탈퇴한 사용자는 0건)
+     * 캐시 처리는 addPoints와 동일
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = POINT_BALANCE_SPACE))
+    @Query(value = "UPDATE users SET points = points - :amount " +
+           "WHERE id = :userId AND deleted_at IS NULL AND points >= :amount",
+           nativeQuery = true)
+    int deductPoints(@Param("userId") Long userId, @Param("amount") int amount);
+
+    @Query("SELECT u.id, u.points FROM User u WHERE u.id IN :userIds")
+    List<Object[]> findPointsByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 주최자가 받은 후기 집계 증감 반영 (단일 UPDATE로 원자적 처리)
+     * 캐시 처리는 addPoints와 동일
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = POINT_BALANCE_SPACE))
+    @Query(value = "UPDATE users SET received_review_count = received_review_count + :countDelta, " +
+           "received_review_rating_sum = received_review_rating_sum + :ratingSumDelta WHERE id = :userId",
+           nativeQuery = true)
+    int applyReceivedReviewDelta(@Param("userId") Long userId,
+                                 @Param("countDelta") int countDelta,
+                                 @Param("ratingSumDelta") int ratingSumDelta);
+
+    /**
+     * 주최자가 받은 후기 집계 전체 재계산 (집계 불일치 보정용)
+     */
+    @Modifying
+    // 2차 캐시 무효화 범위를 users 테이블로 한정 (미지정 시 네이티브 UPDATE가 모든 캐시 영역을 비움)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = "UPDATE users SET " +
+           "received_review_count = (SELECT COUNT(*) FROM reviews r JOIN group_buys g ON r.group_buy_id = g.id " +
+           "WHERE g.host_id = users.id AND r.deleted_at IS NULL), " +
+           "received_review_rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r JOIN group_buys g ON r.group_buy_id = g.id " +
+           "WHERE g.host_id = users.id AND r.deleted_at IS NULL)",
+           nativeQuery = true)
+    int rebuildReceivedReviewAggregates();
+
     // 이메일과 전화번호로 사용자 조회 (비밀번호 찾기용)
     @Query("SELECT u FROM User u WHERE u.email = :email AND u.phoneNumber = :phoneNumber AND u.deletedAt IS NULL")
     Optional<User> findByEmailAndPhoneNumber(@Param("email") String email, @Param("phoneNumber") String phoneNumber);
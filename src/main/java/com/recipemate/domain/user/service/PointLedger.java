@@ -0,0 +1,147 @@
+package com.recipemate.domain.user.service;
+
+import com.recipemate.global.common.DailyReward;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포인트 적립 큐 (단일 작성자)
+ * - 활동 보상 적립(공구 생성/참여, 후기, 댓글)은 커밋 후 이벤트에서 큐에 넣기만 하고 바로 반환
+ * - 전용 스레드 하나가 최대 100ms 동안 모은 요청을 한 트랜잭션으로 반영
+ *   (보상 달력으로 하루 1회 제한 확인, 사용자별 잔액 UPDATE 1회, 내역은 JDBC 배치 INSERT)
+ * - 같은 사용자의 적립이 한 스레드에서 합쳐지므로 동시에 들어온 적립끼리 사용자 행 잠금을 다투지 않음
+ * - 배치 반영이 실패하면 요청별로 다시 반영하여 한 요청의 오류가 나머지를 막지 않도록 함
+ *
+ * 큐는 메모리에만 있으므로 비정상 종료 시 반영 전 적립은 유실된다 (정상 종료 시에는 남은 요청을 모두 반영).
+ * 사용/충전/환불/출석 체크처럼 호출자에게 결과를 돌려줘야 하는 명령은 PointService에서 동기로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointLedger {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final long LINGER_MS = 100;
+    private static final long POLL_TIMEOUT_MS = 500;
+
+    private final PointLedgerWriter pointLedgerWriter;
+
+    private final BlockingQueue<EarnCommand> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private volatile boolean running = true;
+
+    // 지표
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        executorService.execute(this::drainLoop);
+    }
+
+    /**
+     * 적립 요청 (큐가 가득 찼거나 종료 중이면 호출 스레드에서 바로 반영)
+     */
+    public void submit(EarnCommand command) {
+        if (running && queue.offer(command)) {
+            return;
+        }
+        flush(List.of(command));
+    }
+
+    public Stats stats() {
+        return new Stats(queue.size(), batches.sum(), applied.sum(), failed.sum());
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                EarnCommand first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<EarnCommand> batch = new ArrayList<>();
+                batch.add(first);
+                if (running) {
+                    // 함께 반영할 요청이 더 들어오도록 잠시 대기
+                    Thread.sleep(LINGER_MS);
+                }
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private void flush(List<EarnCommand> batch) {
+        batches.increment();
+        try {
+            pointLedgerWriter.applyEarnings(batch);
+            applied.add(batch.size());
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                failed.increment();
+                log.error("포인트 적립 실패: {} - {}", batch.get(0), e.getMessage());
+                return;
+            }
+            log.warn("포인트 적립 배치 실패, 요청별로 다시 반영: {} 건 - {}", batch.size(), e.getMessage());
+        }
+
+        for (EarnCommand command : batch) {
+            try {
+                pointLedgerWriter.applyEarnings(List.of(command));
+                applied.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.error("포인트 적립 실패: {} - {}", command, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 적립을 반영한 뒤 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+                log.warn("포인트 적립 큐 종료 시간 초과, 미반영 {} 건", queue.size());
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 적립 요청 (사용자 ID, 보상 종류, 금액) - 같은 보상은 하루 1회만 적립
+     */
+    public record EarnCommand(Long userId, DailyReward reward, int amount) {
+    }
+
+    /**
+     * 큐 지표 (대기 중인 요청 수, 반영한 배치 수, 반영/실패한 요청 수)
+     */
+    public record Stats(int pending, long batches, long applied, long failed) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.recipemate.domain.user.service;
+
+import com.recipemate.domain.user.entity.PointHistory;
+import com.recipemate.domain.user.entity.User;
+import com.recipemate.domain.user.repository.PointHistoryRepository;
+import com.recipemate.domain.user.repository.UserRepository;
+import com.recipemate.global.cache.HibernateCacheSupport;
+import com.recipemate.global.common.PointType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 포인트 적립 배치 반영 (PointLedger의 작성자 스레드에서만 호출)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PointLedgerWriter {
+
+    private final UserRepository userRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final RewardCalendarService rewardCalendarService;
+    private final HibernateCacheSupport hibernateCacheSupport;
+
+    /**
+     * 적립 요청 일괄 반영
+     * - 배치 안에서 중복되었거나 보상 달력에 오늘 이미 기록된 요청은 제외 (하루 1회 제한)
+     * - 사용자별 합계를 한 번의 UPDATE로 반영 (교착 방지를 위해 사용자 ID 순)
+     * - 탈퇴 등으로 잔액이 반영되지 않은 사용자의 내역은 저장하지 않음
+     */
+    @Transactional
+    public void applyEarnings(List<PointLedger.EarnCommand> commands) {
+        LocalDateTime now = LocalDateTime.now();
+
+        Set<String> seen = new HashSet<>();
+        Map<Long, Integer> sums = new TreeMap<>();
+        List<PointLedger.EarnCommand> accepted = new ArrayList<>();
+        for (PointLedger.EarnCommand command : commands) {
+            if (command.amount() <= 0 || !seen.add(command.userId() + ":" + command.reward())) {
+                continue;
+            }
+            if (!rewardCalendarService.markRewarded(command.userId(), command.reward(), now.toLocalDate())) {
+                continue;
+            }
+            sums.merge(command.userId(), command.amount(), Integer::sum);
+            accepted.add(command);
+        }
+
+        Set<Long> appliedUserIds = new HashSet<>();
+        sums.forEach((userId, amount) -> {
+            if (userRepository.addPoints(userId, amount) > 0) {
+                appliedUserIds.add(userId);
+                hibernateCacheSupport.evictEntityAfterCommit(User.class, userId);
+            }
+        });
+
+        List<PointHistory> histories = accepted.stream()
+                .filter(command -> appliedUserIds.contains(command.userId()))
+                .map(command -> PointHistory.create(userRepository.getReferenceById(command.userId()),
+                        command.amount(), command.reward().getDescription(), PointType.EARN))
+                .toList();
+        pointHistoryRepository.batchInsert(histories, now);
+    }
+}
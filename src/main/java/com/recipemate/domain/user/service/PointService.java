@@ -5,6 +5,8 @@ import com.recipemate.domain.user.entity.PointHistory;
 import com.recipemate.domain.user.entity.User;
 import com.recipemate.domain.user.repository.PointHistoryRepository;
 import com.recipemate.domain.user.repository.UserRepository;
+import com.recipemate.global.cache.HibernateCacheSupport;
+import com.recipemate.global.common.DailyReward;
 import com.recipemate.global.common.PointType;
 import com.recipemate.global.exception.CustomException;
 import com.recipemate.global.exception.ErrorCode;
@@ -12,82 +14,71 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 
+/**
+ * 포인트 서비스
+ * - 잔액(users.points)은 단일 UPDATE로만 증감하여 동시 요청 간 갱신 유실이 없도록 함
+ *   (차감은 잔액이 충분할 때만 UPDATE되며, 행 잠금은 UPDATE부터 커밋까지만 유지)
+ * - 내역(point_histories)은 추가만 하는 원장으로, 잔액 변경과 같은 트랜잭션에 기록
+ * - 활동 보상 적립은 PointLedger 큐를 거쳐 모아서 반영
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class PointService {
 
+    private static final int CHECK_IN_POINTS = 5;
+
     private final UserRepository userRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final PointLedger pointLedger;
+    private final RewardCalendarService rewardCalendarService;
+    private final HibernateCacheSupport hibernateCacheSupport;
 
     /**
-     * 포인트 적립 (하루 1회 제한)
+     * 포인트 적립 (보상 종류별 하루 1회 제한)
+     * 큐에 넣기만 하므로 트랜잭션 없이 실행되며, 실제 반영은 PointLedger가 모아서 처리
      */
-    public void earnPoints(Long userId, int amount, String description) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        if (hasEarnedPointsToday(user, description)) {
-            return;
-        }
-
-        user.earnPoints(amount);
-
-        PointHistory history = PointHistory.create(user, amount, description, PointType.EARN);
-        pointHistoryRepository.save(history);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void earnPoints(Long userId, DailyReward reward, int amount) {
+        pointLedger.submit(new PointLedger.EarnCommand(userId, reward, amount));
     }
 
     /**
      * 출석 체크 포인트 적립
+     * 오늘 출석 비트를 설정하지 못하면 이미 출석한 것으로 보고 예외로 롤백
      */
     public void dailyCheckIn(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        credit(userId, CHECK_IN_POINTS);
 
-        String description = "출석 체크";
-        
-        if (hasEarnedPointsToday(user, description)) {
+        if (!rewardCalendarService.markRewarded(userId, DailyReward.CHECK_IN, LocalDate.now())) {
             throw new CustomException(ErrorCode.ALREADY_CHECKED_IN_TODAY);
         }
 
-        user.earnPoints(5);
-
-        PointHistory history = PointHistory.create(user, 5, description, PointType.EARN);
-        pointHistoryRepository.save(history);
-    }
-
-    /**
-     * 오늘 이미 특정 사유로 포인트를 획득했는지 확인
-     */
-    private boolean hasEarnedPointsToday(User user, String description) {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = LocalDate.now().atTime(LocalTime.MAX);
-        
-        return pointHistoryRepository.existsByUserAndDescriptionAndCreatedAtBetween(
-                user, description, startOfDay, endOfDay
-        );
+        record(userId, CHECK_IN_POINTS, DailyReward.CHECK_IN.getDescription(), PointType.EARN);
     }
 
     /**
      * 포인트 사용
      */
     public void usePoints(Long userId, int amount, String description) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        if (amount <= 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
 
-        boolean success = user.usePoints(amount);
-        if (!success) {
+        if (userRepository.deductPoints(userId, amount) == 0) {
+            if (userRepository.findById(userId).isEmpty()) {
+                throw new CustomException(ErrorCode.USER_NOT_FOUND);
+            }
             throw new CustomException(ErrorCode.INSUFFICIENT_POINTS);
         }
+        hibernateCacheSupport.evictEntityAfterCommit(User.class, userId);
 
-        PointHistory history = PointHistory.create(user, amount, description, PointType.USE);
-        pointHistoryRepository.save(history);
+        record(userId, amount, description, PointType.USE);
     }
 
     /**
@@ -98,13 +89,8 @@ public class PointService {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        user.earnPoints(amount);
-
-        PointHistory history = PointHistory.create(user, amount, description, PointType.CHARGE);
-        pointHistoryRepository.save(history);
+        credit(userId, amount);
+        record(userId, amount, description, PointType.CHARGE);
     }
 
     /**
@@ -115,13 +101,20 @@ public class PointService {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        credit(userId, amount);
+        record(userId, amount, description, PointType.REFUND);
+    }
 
-        user.earnPoints(amount);
+    /**
+     * 레시피 개선 제안 승인 보상 지급
+     */
+    public void rewardPoints(Long userId, int amount, String description) {
+        if (amount <= 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
 
-        PointHistory history = PointHistory.create(user, amount, description, PointType.REFUND);
-        pointHistoryRepository.save(history);
+        credit(userId, amount);
+        record(userId, amount, description, PointType.RECIPE_CORRECTION);
     }
 
     /**
@@ -137,4 +130,16 @@ public class PointService {
 
         return historyPage.map(PointHistoryResponse::from);
     }
+
+    private void credit(Long userId, int amount) {
+        if (userRepository.addPoints(userId, amount) == 0) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+        hibernateCacheSupport.evictEntityAfterCommit(User.class, userId);
+    }
+
+    private void record(Long userId, int amount, String description, PointType type) {
+        pointHistoryRepository.save(
+                PointHistory.create(userRepository.getReferenceById(userId), amount, description, type));
+    }
 }
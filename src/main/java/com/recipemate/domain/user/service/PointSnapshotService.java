@@ -0,0 +1,133 @@
+package com.recipemate.domain.user.service;
+
+import com.recipemate.domain.user.entity.PointBalanceSnapshot;
+import com.recipemate.domain.user.repository.PointBalanceSnapshotRepository;
+import com.recipemate.domain.user.repository.PointHistoryRepository;
+import com.recipemate.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 잔액 스냅샷 서비스
+ * - 매일 05:00 사용자별 스냅샷에 이후 원장(point_histories) 증감만 더해 갱신
+ * - 갱신한 잔액을 users.points와 비교하여 원장을 거치지 않은 잔액 변경을 찾아 로그로 남김
+ *   (기준점 이후 내역이 있는 사용자는 잔액이 이미 움직였으므로 비교하지 않음)
+ * - 첫 스냅샷은 원장 합계가 아닌 기준점 시점 잔액(현재 잔액 - 이후 증감)으로 만든다.
+ *   원장 도입 전이나 원장을 거치지 않고 바뀐 과거 잔액(예: 레시피 개선 제안 보상)이 매일 불일치로 보고되지 않도록 하기 위함
+ *
+ * 기준점은 5분 전까지 기록된 마지막 내역 ID로 잡아, 아직 커밋되지 않은 트랜잭션의 내역을 건너뛰지 않도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PointSnapshotService {
+
+    private static final int SETTLE_MINUTES = 5;
+    private static final int MAX_LOGGED_MISMATCHES = 20;
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+    private final UserRepository userRepository;
+
+    private volatile Result lastResult;
+
+    @Scheduled(cron = "0 0 5 * * *")
+    @Transactional
+    public void takeSnapshots() {
+        long start = System.currentTimeMillis();
+        Long upToId = pointHistoryRepository.findMaxIdCreatedBefore(LocalDateTime.now().minusMinutes(SETTLE_MINUTES));
+        if (upToId == null) {
+            return;
+        }
+
+        List<Object[]> deltas = pointHistoryRepository.sumDeltasSinceSnapshots(upToId);
+        Set<Long> userIds = deltas.stream()
+                .map(row -> ((Number) row[0]).longValue())
+                .collect(Collectors.toSet());
+        if (userIds.isEmpty()) {
+            lastResult = new Result(start, System.currentTimeMillis() - start, upToId, 0, 0);
+            return;
+        }
+
+        Map<Long, PointBalanceSnapshot> snapshots = pointBalanceSnapshotRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(snapshot -> snapshot.getUser().getId(), Function.identity()));
+        Set<Long> newUserIds = new HashSet<>(userIds);
+        newUserIds.removeAll(snapshots.keySet());
+        Map<Long, Long> initialBalances = findBalancesAt(newUserIds, upToId);
+
+        for (Object[] row : deltas) {
+            Long userId = ((Number) row[0]).longValue();
+            long delta = ((Number) row[1]).longValue();
+            long lastHistoryId = ((Number) row[2]).longValue();
+
+            PointBalanceSnapshot snapshot = snapshots.get(userId);
+            if (snapshot != null) {
+                snapshot.advance(delta, lastHistoryId);
+            } else if (initialBalances.containsKey(userId)) {
+                // 첫 스냅샷은 원장 합계가 아닌 기준점 시점 잔액으로 시작 (비교는 다음 갱신부터)
+                pointBalanceSnapshotRepository.save(PointBalanceSnapshot.create(
+                        userRepository.getReferenceById(userId), initialBalances.get(userId), lastHistoryId));
+            }
+        }
+
+        int mismatches = verify(snapshots, upToId);
+        lastResult = new Result(start, System.currentTimeMillis() - start, upToId, userIds.size(), mismatches);
+        log.info("포인트 잔액 스냅샷 완료: {}", lastResult);
+    }
+
+    public Result getLastResult() {
+        return lastResult;
+    }
+
+    private Map<Long, Long> findBalancesAt(Set<Long> userIds, Long upToId) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return pointHistoryRepository.findBalancesAt(userIds, upToId).stream()
+                .collect(Collectors.toMap(row -> ((Number) row[0]).longValue(), row -> ((Number) row[1]).longValue()));
+    }
+
+    /**
+     * 기존 스냅샷 잔액과 현재 잔액 비교 (이번에 처음 만든 스냅샷은 현재 잔액 기준이므로 제외)
+     *
+     * @return 일치하지 않는 사용자 수
+     */
+    private int verify(Map<Long, PointBalanceSnapshot> snapshots, Long upToId) {
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+        Set<Long> moved = new HashSet<>(pointHistoryRepository.findUserIdsWithHistoryAfter(snapshots.keySet(), upToId));
+
+        int mismatches = 0;
+        for (Object[] row : userRepository.findPointsByIdIn(snapshots.keySet())) {
+            Long userId = (Long) row[0];
+            long points = ((Number) row[1]).longValue();
+            long balance = snapshots.get(userId).getBalance();
+            if (moved.contains(userId) || points == balance) {
+                continue;
+            }
+            if (mismatches++ < MAX_LOGGED_MISMATCHES) {
+                log.warn("포인트 잔액 불일치: userId={}, 잔액={}, 원장 합계={}", userId, points, balance);
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * 스냅샷 결과 (시작 시각, 소요 시간, 기준 내역 ID, 갱신한 사용자 수, 잔액 불일치 사용자 수)
+     */
+    public record Result(long startedAt, long elapsedMs, long upToHistoryId, int users, int mismatches) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.recipemate.domain.user.service;
+
+import com.recipemate.domain.user.dto.CheckInCalendarResponse;
+import com.recipemate.domain.user.repository.RewardCalendarRepository;
+import com.recipemate.global.common.DailyReward;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 하루 1회 보상 달력 서비스 (월별 일 비트맵)
+ * - 지급 여부 확인과 기록을 달력 행 하나의 조건부 UPDATE로 처리 (포인트 내역 범위 조회 없음)
+ *   UPDATE가 행을 잠그므로 같은 사용자의 동시 요청 중 하나만 지급된다.
+ * - 연속 일수는 최근 월 비트맵을 한 번에 읽어 비트 연산으로 계산
+ * - 서버 시작 시 기존 포인트 내역을 달력에 이관 (반복 실행해도 같은 결과이므로 매번 실행)
+ *   이관 전에 보상을 받아 이미 생긴 달력 행은 충돌 없이 건너뛴 뒤 빠진 날짜 비트를 병합한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RewardCalendarService {
+
+    private static final int STREAK_MONTHS = 12; // 연속 일수 계산 범위
+
+    private final RewardCalendarRepository rewardCalendarRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void onApplicationReady() {
+        int created = rewardCalendarRepository.backfillFromHistories();
+        int merged = rewardCalendarRepository.mergeFromHistories();
+        if (created > 0 || merged > 0) {
+            log.info("보상 달력 이관 완료: 생성 {} 건, 병합 {} 건", created, merged);
+        }
+    }
+
+    /**
+     * 보상 지급 기록
+     *
+     * @return 처음 기록되었으면 true, 그날 이미 지급되었으면 false
+     */
+    @Transactional
+    public boolean markRewarded(Long userId, DailyReward reward, LocalDate date) {
+        int monthKey = monthKey(YearMonth.from(date));
+        int bit = 1 << (date.getDayOfMonth() - 1);
+
+        if (rewardCalendarRepository.markDay(userId, reward, monthKey, bit) > 0) {
+            return true;
+        }
+        // 달력 행이 없어 0건일 수 있으므로 생성 후 다시 시도
+        if (rewardCalendarRepository.insertIfAbsent(userId, reward.name(), monthKey) == 0) {
+            return false;
+        }
+        return rewardCalendarRepository.markDay(userId, reward, monthKey, bit) > 0;
+    }
+
+    /**
+     * 출석 달력 조회 (해당 월 출석일, 오늘 출석 여부, 연속 출석 일수)
+     */
+    public CheckInCalendarResponse getCheckInCalendar(Long userId, YearMonth month, LocalDate today) {
+        YearMonth from = YearMonth.from(today).minusMonths(STREAK_MONTHS - 1);
+        if (month.isBefore(from)) {
+            from = month;
+        }
+        Map<Integer, Integer> daysByMonth = loadDays(userId, DailyReward.CHECK_IN, from);
+
+        int days = daysByMonth.getOrDefault(monthKey(month), 0);
+        List<Integer> checkedDays = new ArrayList<>();
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            if ((days & (1 << (day - 1))) != 0) {
+                checkedDays.add(day);
+            }
+        }
+
+        boolean checkedToday = isMarked(daysByMonth, today);
+        int streak = streak(daysByMonth, checkedToday ? today : today.minusDays(1));
+        return CheckInCalendarResponse.of(month, checkedDays, checkedToday, streak);
+    }
+
+    private Map<Integer, Integer> loadDays(Long userId, DailyReward reward, YearMonth from) {
+        Map<Integer, Integer> daysByMonth = new HashMap<>();
+        for (Object[] row : rewardCalendarRepository.findDaysSince(userId, reward, monthKey(from))) {
+            daysByMonth.put((Integer) row[0], (Integer) row[1]);
+        }
+        return daysByMonth;
+    }
+
+    /**
+     * 기준일부터 거꾸로 연속으로 기록된 일수
+     * 월마다 기준일 아래 비트를 최상위로 옮긴 뒤 앞쪽 1의 개수를 세고, 1일까지 이어지면 이전 달로 넘어감
+     */
+    private int streak(Map<Integer, Integer> daysByMonth, LocalDate from) {
+        int streak = 0;
+        YearMonth month = YearMonth.from(from);
+        int day = from.getDayOfMonth();
+        while (true) {
+            Integer days = daysByMonth.get(monthKey(month));
+            if (days == null) {
+                return streak;
+            }
+            int run = Integer.numberOfLeadingZeros(~(days << (32 - day)));
+            streak += Math.min(run, day);
+            if (run < day) {
+                return streak;
+            }
+            month = month.minusMonths(1);
+            day = month.lengthOfMonth();
+        }
+    }
+
+    private boolean isMarked(Map<Integer, Integer> daysByMonth, LocalDate date) {
+        int days = daysByMonth.getOrDefault(monthKey(YearMonth.from(date)), 0);
+        return (days & (1 << (date.getDayOfMonth() - 1))) != 0;
+    }
+
+    private static int monthKey(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+}
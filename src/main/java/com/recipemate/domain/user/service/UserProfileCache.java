@@ -0,0 +1,137 @@
+package com.recipemate.domain.user.service;
+
+import com.recipemate.domain.user.dto.UserProfileResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 공개 프로필 캐시 (노드 메모리)
+ * - 닉네임별로 프로필 스냅샷(매너온도, 배지, 주최한 공구 첫 페이지와 대표 이미지)을 보관
+ * - 첫 페이지 요청만 캐싱하며, 다른 페이지와 정렬은 매번 DB에서 조회
+ * - 도메인 이벤트로 사용자 단위 무효화 (UserProfileCacheEventListener), TTL은 놓친 무효화에 대한 안전장치
+ *
+ * 조회 도중 무효화가 일어나면 결과를 저장하지 않아, 무효화 이전 데이터가 다시 캐싱되지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class UserProfileCache {
+
+    public static final int PAGE_SIZE = 10;
+    private static final Sort PAGE_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final long ttlMs;
+    private final int maxEntries;
+
+    private final Map<String, Entry> profiles = new ConcurrentHashMap<>();
+    private final Map<Long, String> nicknames = new ConcurrentHashMap<>(); // 사용자 ID → 캐시 키 (닉네임 변경 무효화용)
+    private final AtomicLong version = new AtomicLong();
+
+    // 지표
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public UserProfileCache(@Value("${user.profile-cache.ttl-seconds:300}") long ttlSeconds,
+                            @Value("${user.profile-cache.max-entries:5000}") int maxEntries) {
+        this.ttlMs = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐싱 대상 요청인지 (주최한 공구 첫 페이지, 기본 정렬)
+     */
+    public boolean isCacheable(Pageable pageable) {
+        return pageable.isPaged()
+                && pageable.getPageNumber() == 0
+                && pageable.getPageSize() == PAGE_SIZE
+                && (pageable.getSort().isUnsorted() || pageable.getSort().equals(PAGE_SORT));
+    }
+
+    /**
+     * 캐시된 프로필 반환, 없으면 loader로 조회 후 저장
+     */
+    public UserProfileResponseDto get(String nickname, Supplier<UserProfileResponseDto> loader) {
+        long now = System.currentTimeMillis();
+        Entry cached = profiles.get(nickname);
+        if (cached != null && now < cached.expiresAt()) {
+            hits.increment();
+            return cached.profile();
+        }
+
+        misses.increment();
+        long loadingVersion = version.get();
+        UserProfileResponseDto profile = loader.get();
+        store(nickname, profile, loadingVersion, now);
+        return profile;
+    }
+
+    /**
+     * 사용자 프로필 무효화
+     */
+    public synchronized void invalidate(Long userId) {
+        version.incrementAndGet();
+        String nickname = nicknames.remove(userId);
+        if (nickname != null) {
+            profiles.remove(nickname);
+        }
+        invalidations.increment();
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public synchronized void invalidateAll() {
+        version.incrementAndGet();
+        profiles.clear();
+        nicknames.clear();
+        invalidations.increment();
+    }
+
+    public Stats stats() {
+        return new Stats(profiles.size(), hits.sum(), misses.sum(), invalidations.sum());
+    }
+
+    /**
+     * 조회 시작 이후 무효화가 없었을 때만 저장 (무효화와 같은 잠금으로 보호)
+     */
+    private synchronized void store(String nickname, UserProfileResponseDto profile, long loadingVersion, long now) {
+        if (version.get() != loadingVersion) {
+            return;
+        }
+        if (profiles.size() >= maxEntries) {
+            evict(now);
+        }
+        nicknames.put(profile.getId(), nickname);
+        profiles.put(nickname, new Entry(profile, now + ttlMs));
+    }
+
+    /**
+     * 만료된 항목 제거, 그래도 가득 차 있으면 전체 비움 (인기 프로필은 곧 다시 채워짐)
+     */
+    private void evict(long now) {
+        profiles.entrySet().removeIf(e -> now >= e.getValue().expiresAt());
+        if (profiles.size() >= maxEntries) {
+            log.info("공개 프로필 캐시 용량 초과로 비움: {} 건", profiles.size());
+            profiles.clear();
+            nicknames.clear();
+        }
+    }
+
+    private record Entry(UserProfileResponseDto profile, long expiresAt) {
+    }
+
+    /**
+     * 캐시 지표 (항목 수, 적중, 미스, 무효화 횟수)
+     */
+    public record Stats(int size, long hits, long misses, long invalidations) {
+    }
+}
@@ -17,6 +17,7 @@ import com.recipemate.domain.post.dto.PostWithCountsDto;
 import com.recipemate.domain.post.repository.PostRepository;
 import com.recipemate.global.common.BadgeType;
 import com.recipemate.global.common.GroupBuyStatus;
+import com.recipemate.global.event.UserProfileChangedEvent;
 import com.recipemate.global.exception.CustomException;
 import com.recipemate.global.exception.ErrorCode;
 import com.recipemate.domain.user.dto.*;
@@ -24,6 +25,7 @@ import com.recipemate.domain.user.entity.User;
 import com.recipemate.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -57,6 +59,8 @@ public class UserService {
     private final BadgeRepository badgeRepository;
     private final CustomUserDetailsService customUserDetailsService;
     private final MannerTempHistoryService mannerTempHistoryService;
+    private final UserProfileCache userProfileCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public UserResponse signup(SignupRequest request) {
@@ -120,6 +124,7 @@ public class UserService {
         }
 
         user.updateProfile(request.getNickname(), request.getPhoneNumber(), request.getProfileImageUrl());
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
 
         return UserResponse.from(user);
     }
@@ -237,6 +242,7 @@ public class UserService {
         log.info("새 매너온도: {} (DB 저장 완료)", user.getMannerTemperature());
         
         mannerTempHistoryService.recordHistory(user, delta, previousTemperature, reason, relatedReviewId);
+        eventPublisher.publishEvent(UserProfileChangedEvent.mannerTemperatureChanged(userId));
         
         log.info("매너온도 내역 저장 완료");
     }
@@ -301,7 +307,18 @@ public class UserService {
         });
     }
 
+    /**
+     * 공개 프로필 조회
+     * 주최한 공구 첫 페이지 요청은 UserProfileCache에서 반환하고, 그 외 페이지는 DB에서 조회
+     */
     public UserProfileResponseDto getUserProfile(String nickname, Pageable pageable) {
+        if (userProfileCache.isCacheable(pageable)) {
+            return userProfileCache.get(nickname, () -> loadUserProfile(nickname, pageable));
+        }
+        return loadUserProfile(nickname, pageable);
+    }
+
+    private UserProfileResponseDto loadUserProfile(String nickname, Pageable pageable) {
         User user = userRepository.findByNickname(nickname)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
@@ -402,6 +419,7 @@ public class UserService {
         }
 
         userRepository.deleteById(user.getId());
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
     }
 
     /**
@@ -443,6 +461,7 @@ public class UserService {
                 "관리자 조정: " + reason, 
                 null
         );
+        eventPublisher.publishEvent(UserProfileChangedEvent.mannerTemperatureChanged(userId));
         
         log.info("관리자가 사용자 {}(ID: {})의 매너온도를 {}°C 조정했습니다. (이전: {}°C, 현재: {}°C, 사유: {})",
                 user.getNickname(), userId, changeValue, previousTemp, user.getMannerTemperature(), reason);
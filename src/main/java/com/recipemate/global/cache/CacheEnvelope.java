@@ -0,0 +1,27 @@
+package com.recipemate.global.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 저장 값 래퍼 (SingleFlightCache 전용)
+ * 조기 갱신 확률 계산에 필요한 계산 소요 시간과 만료 시각을 값과 함께 저장
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEnvelope {
+
+    private Object value;
+
+    /**
+     * 값을 계산하는 데 걸린 시간 (ms)
+     */
+    private long computeMs;
+
+    /**
+     * 만료 시각 (epoch ms)
+     */
+    private long expiresAt;
+}
@@ -0,0 +1,17 @@
+package com.recipemate.global.cache;
+
+/**
+ * Hibernate 2차 캐시 영역 이름 (src/main/resources/ehcache.xml의 cache alias와 일치해야 함)
+ */
+public final class CacheRegions {
+
+    public static final String RECIPE = "recipe";
+    public static final String RECIPE_INGREDIENTS = "recipe.ingredients";
+    public static final String RECIPE_STEPS = "recipe.steps";
+    public static final String RECIPE_INGREDIENT = "recipeIngredient";
+    public static final String RECIPE_STEP = "recipeStep";
+    public static final String USER = "user";
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,190 @@
+package com.recipemate.global.cache;
+
+import com.recipemate.domain.recipe.service.RecipeService;
+import com.recipemate.global.config.CacheConfig;
+import com.recipemate.global.home.HomePageComposer;
+import com.recipemate.global.home.HomeSection;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 캐시 예열
+ * - 서버 시작 직후(ApplicationReadyEvent)와 레시피 동기화 커밋 후 자주 조회되는 키를 미리 조회
+ * - 대상: 캐시(@Cacheable, HomePageComposer)에 결과가 남는 홈 화면 섹션, 카테고리 목록
+ *   (레시피 상세와 통합 검색은 캐시를 거치지 않으므로 미리 조회해도 남는 것이 없어 제외)
+ * - 작업은 별도 스레드 풀에서 동시에 실행하며, 전체 대기 시간을 넘기면 남은 작업은 그대로 두고 종료
+ * - 시작 직후 예열이 끝나거나 시간 초과될 때까지 준비 상태(GET /health/readiness)를 내려 트래픽 유입을 막음
+ *
+ * 동기화 후 예열은 레시피 캐시를 비운 뒤 다시 채우며, 그동안 들어온 요청은 SingleFlightCache로 합류한다.
+ * 실행 중 다시 요청되면 한 번만 이어서 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheWarmer {
+
+    private static final int WARMUP_THREADS = 4;
+
+    private final HomePageComposer homePageComposer;
+    private final RecipeService recipeService;
+    private final ObjectProvider<CacheManager> cacheManagerProvider; // Redis 캐시 사용 시에만 존재
+
+    @Value("${cache.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.warmup.timeout-seconds:60}")
+    private long timeoutSeconds;
+
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor();
+    private final ExecutorService executorService = Executors.newFixedThreadPool(WARMUP_THREADS);
+
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private final AtomicBoolean evictRequested = new AtomicBoolean();
+    private volatile boolean startupComplete;
+    private volatile Result lastResult;
+
+    /**
+     * 서버 시작 직후 예열 (완료 또는 시간 초과 시 준비 상태로 전환)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            startupComplete = true;
+            return;
+        }
+        request("startup", false);
+        coordinator.execute(() -> startupComplete = true);
+    }
+
+    /**
+     * 레시피 동기화 후 예열 요청 (레시피 캐시를 비운 뒤 다시 채움)
+     */
+    public void requestAfterSync() {
+        if (enabled) {
+            request("sync", true);
+        }
+    }
+
+    /**
+     * 시작 직후 예열 완료 여부 (완료 전에는 준비되지 않은 상태로 응답)
+     */
+    public boolean isStartupComplete() {
+        return startupComplete;
+    }
+
+    public Result getLastResult() {
+        return lastResult;
+    }
+
+    private void request(String reason, boolean evict) {
+        if (evict) {
+            evictRequested.set(true);
+        }
+        // 대기 중인 실행이 이미 있으면 합류
+        if (pending.compareAndSet(false, true)) {
+            coordinator.execute(() -> {
+                pending.set(false);
+                run(reason, evictRequested.getAndSet(false));
+            });
+        }
+    }
+
+    private void run(String reason, boolean evict) {
+        long start = System.currentTimeMillis();
+        if (evict) {
+            evictRecipeCaches();
+        }
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+        tasks.add(task("home", succeeded, failed, () -> {
+            if (homePageComposer.preload() > 0) {
+                throw new IllegalStateException("일부 홈 섹션 조회 실패");
+            }
+        }));
+        tasks.add(task("categories", succeeded, failed, recipeService::getCategories));
+
+        boolean timedOut = false;
+        try {
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            timedOut = true;
+        } catch (ExecutionException e) {
+            log.warn("캐시 예열 중 오류: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut = true;
+        }
+
+        lastResult = new Result(reason, start, System.currentTimeMillis() - start, succeeded.get(), failed.get(), timedOut);
+        log.info("캐시 예열 완료: {}", lastResult);
+    }
+
+    private CompletableFuture<Void> task(String name, AtomicInteger succeeded, AtomicInteger failed, Runnable action) {
+        return CompletableFuture.runAsync(action, executorService)
+                .handle((ignored, e) -> {
+                    if (e == null) {
+                        succeeded.incrementAndGet();
+                    } else {
+                        failed.incrementAndGet();
+                        log.warn("캐시 예열 실패: {} - {}", name, e.getMessage());
+                    }
+                    return null;
+                });
+    }
+
+    private void evictRecipeCaches() {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (cacheManager != null) {
+            Cache recipes = cacheManager.getCache(CacheConfig.RECIPES_CACHE);
+            if (recipes != null) {
+                recipes.clear();
+            }
+        }
+        homePageComposer.invalidate(HomeSection.POPULAR_RECIPES, HomeSection.RANDOM_RECIPES);
+    }
+
+    /**
+     * 애플리케이션 종료 시 스레드 풀 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 예열 결과 (사유, 시작 시각, 소요 시간, 성공/실패 작업 수, 시간 초과 여부)
+     */
+    public record Result(String reason, long startedAt, long elapsedMs, int succeeded, int failed, boolean timedOut) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.recipemate.global.cache;
+
+import com.recipemate.domain.recipe.entity.Recipe;
+import com.recipemate.domain.recipe.entity.RecipeIngredient;
+import com.recipemate.domain.recipe.entity.RecipeStep;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 보조
+ * - 재료/조리 단계가 레시피 컬렉션을 거치지 않고 저장·수정·삭제(@SQLDelete 소프트 삭제 포함)되어도
+ *   커밋 후 레시피의 재료/조리 단계 컬렉션 캐시를 제거
+ * - 클러스터 무효화(선택): 캐시 대상 엔티티 변경을 Redis 채널로 알려 다른 노드의 로컬 캐시에서도 제거
+ * - 영역별 적중률 등 Hibernate 통계 조회
+ *
+ * - 단건 카운터 UPDATE(포인트, 후기 집계) 후 해당 엔티티만 커밋 후 제거 (다른 노드에도 전파)
+ *
+ * 그 외 벌크 UPDATE(JPQL/네이티브)는 Hibernate가 해당 영역 전체를 로컬에서 비우며, 다른 노드는 ehcache.xml의 TTL로 만료된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheSupport implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    public static final String INVALIDATION_CHANNEL = "hibernate-cache-invalidation";
+
+    private static final String INGREDIENTS_ROLE = Recipe.class.getName() + ".ingredients";
+    private static final String STEPS_ROLE = Recipe.class.getName() + ".steps";
+    private static final String ENTITY = "E";
+    private static final String COLLECTION = "C";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    @Value("${cache.l2.cluster-invalidation:false}")
+    private boolean clusterInvalidation;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private SessionFactoryImplementor sessionFactory;
+
+    /**
+     * 커밋 후 이벤트 리스너 등록
+     */
+    @PostConstruct
+    public void register() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        // 새 엔티티는 다른 노드 캐시에 없으므로 부모 컬렉션만 처리
+        evictOwnerCollection(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        evictOwnerCollection(event.getEntity());
+        broadcast(ENTITY, event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        evictOwnerCollection(event.getEntity());
+        broadcast(ENTITY, event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    /**
+     * 다른 노드에서 받은 무효화 메시지 처리 (형식: 노드ID|E 또는 C|엔티티명 또는 컬렉션 role|ID)
+     */
+    public void onInvalidation(String message) {
+        String[] parts = message.split("\\|", 4);
+        if (parts.length != 4 || parts[0].equals(nodeId)) {
+            return;
+        }
+        try {
+            Long id = Long.valueOf(parts[3]);
+            if (ENTITY.equals(parts[1])) {
+                sessionFactory.getCache().evictEntityData(parts[2], id);
+            } else if (COLLECTION.equals(parts[1])) {
+                sessionFactory.getCache().evictCollectionData(parts[2], id);
+            }
+        } catch (RuntimeException e) {
+            log.warn("2차 캐시 무효화 메시지 처리 실패: message={}, error={}", message, e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋 후 엔티티 하나만 2차 캐시에서 제거 (트랜잭션 밖이면 즉시 제거)
+     * 영역 전체를 비우지 않도록 쿼리 공간을 따로 지정한 단건 UPDATE 뒤에 호출
+     * 커밋 전에 다른 트랜잭션이 이전 값을 다시 캐싱할 수 있으므로 커밋 후에 제거한다.
+     */
+    public void evictEntityAfterCommit(Class<?> entityClass, Object id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictEntity(entityClass, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictEntity(entityClass, id);
+            }
+        });
+    }
+
+    private void evictEntity(Class<?> entityClass, Object id) {
+        sessionFactory.getCache().evictEntityData(entityClass, id);
+        broadcast(ENTITY, entityClass.getName(), id);
+    }
+
+    /**
+     * 2차 캐시 영역별 통계 (hibernate.generate_statistics 활성 시에만 집계됨)
+     */
+    public List<RegionStats> getRegionStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> {
+                    CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+                    if (stats == null) {
+                        return null;
+                    }
+                    long hits = stats.getHitCount();
+                    long misses = stats.getMissCount();
+                    double hitRatio = hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+                    return new RegionStats(region, hits, misses, stats.getPutCount(), hitRatio,
+                            stats.getElementCountInMemory());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 재료/조리 단계 변경 시 레시피 컬렉션 캐시 제거
+     */
+    private void evictOwnerCollection(Object entity) {
+        if (entity instanceof RecipeIngredient ingredient && ingredient.getRecipe() != null) {
+            evictCollection(INGREDIENTS_ROLE, ingredient.getRecipe().getId());
+        } else if (entity instanceof RecipeStep step && step.getRecipe() != null) {
+            evictCollection(STEPS_ROLE, step.getRecipe().getId());
+        }
+    }
+
+    private void evictCollection(String role, Long ownerId) {
+        sessionFactory.getCache().evictCollectionData(role, ownerId);
+        broadcast(COLLECTION, role, ownerId);
+    }
+
+    private void broadcast(String type, String name, Object id) {
+        if (!clusterInvalidation) {
+            return;
+        }
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.join("|", nodeId, type, name, String.valueOf(id)));
+        } catch (DataAccessException e) {
+            // 전달 실패 시 다른 노드는 TTL 만료까지 이전 값을 볼 수 있음
+            log.warn("2차 캐시 무효화 메시지 발행 실패: {}={}, error={}", name, id, e.getMessage());
+        }
+    }
+
+    /**
+     * 영역별 2차 캐시 통계 (영역, 적중, 미스, 저장, 적중률, 메모리 내 항목 수)
+     */
+    public record RegionStats(String region, long hits, long misses, long puts, double hitRatio,
+                              long elementsInMemory) {
+    }
+}
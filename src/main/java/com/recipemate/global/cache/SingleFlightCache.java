@@ -0,0 +1,320 @@
+package com.recipemate.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 미스 폭주(stampede) 방지 캐시 래퍼
+ * - 노드 내 단일 계산: 같은 키의 동시 미스는 하나의 계산 결과를 공유
+ * - 노드 간 단일 계산(선택): Redis 잠금(SET NX PX)을 얻은 노드만 계산하고, 나머지 노드는 캐시가 채워질 때까지 대기
+ * - 확률적 조기 갱신: 만료가 가까울수록, 계산이 오래 걸리는 값일수록 높은 확률로 만료 전에 한 요청이 미리 갱신
+ *   (XFetch: now - computeMs * beta * ln(rand) >= expiresAt 이면 갱신, 갱신 중인 동안 다른 요청은 기존 값 사용)
+ *
+ * @Cacheable(sync = true)로 선언된 메서드만 get(key, valueLoader) 경로를 타므로 단일 계산이 적용된다.
+ */
+@Slf4j
+public class SingleFlightCache implements Cache {
+
+    private static final String LOCK_KEY_PREFIX = "cache-lock:";
+    private static final long POLL_INTERVAL_MS = 50;
+    private static final String NO_LOCK = ""; // Redis 장애 등으로 잠금 없이 진행
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final Cache delegate;
+    private final long ttlMs;
+    private final StringRedisTemplate redisTemplate; // null이면 노드 간 잠금 비활성
+    private final long lockTimeoutMs;
+    private final long lockWaitMs;
+    private final double earlyRefreshBeta;
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // 지표
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder earlyRefreshes = new LongAdder();
+    private final LongAdder lockWaits = new LongAdder();
+    private final LongAdder lockTimeouts = new LongAdder();
+
+    public SingleFlightCache(Cache delegate, Duration ttl, StringRedisTemplate redisTemplate,
+                             long lockTimeoutMs, long lockWaitMs, double earlyRefreshBeta) {
+        this.delegate = delegate;
+        this.ttlMs = ttl.toMillis();
+        this.redisTemplate = redisTemplate;
+        this.lockTimeoutMs = lockTimeoutMs;
+        this.lockWaitMs = lockWaitMs;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CacheEnvelope envelope = lookup(key);
+        return envelope == null ? null : new SimpleValueWrapper(envelope.getValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        CacheEnvelope envelope = lookup(key);
+        Object value = envelope == null ? null : envelope.getValue();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheEnvelope cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            if (!shouldRefreshEarly(cached)) {
+                return (T) cached.getValue();
+            }
+            return (T) refreshEarly(key, cached, valueLoader);
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) join(existing);
+        }
+
+        try {
+            // 조회와 등록 사이에 앞선 계산이 끝나 캐시가 채워졌을 수 있음
+            CacheEnvelope filled = lookup(key);
+            Object value;
+            if (filled != null) {
+                hits.increment();
+                value = filled.getValue();
+            } else {
+                value = loadWithLock(key, valueLoader);
+            }
+            mine.complete(value);
+            return (T) value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value != null) {
+            delegate.put(key, new CacheEnvelope(value, 0, System.currentTimeMillis() + ttlMs));
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    public Stats stats() {
+        return new Stats(getName(), hits.sum(), loads.sum(), coalesced.sum(), earlyRefreshes.sum(),
+                lockWaits.sum(), lockTimeouts.sum(), inFlight.size());
+    }
+
+    /**
+     * 만료 전 조기 갱신
+     * 이미 이 노드나 다른 노드에서 갱신 중이면 기존 값을 그대로 반환하며, 갱신 실패 시에도 기존 값을 반환
+     */
+    private Object refreshEarly(Object key, CacheEnvelope cached, Callable<?> valueLoader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            return cached.getValue();
+        }
+
+        String token = tryLock(key);
+        try {
+            if (token == null) {
+                mine.complete(cached.getValue());
+                return cached.getValue();
+            }
+            earlyRefreshes.increment();
+            Object value = loadAndStore(key, valueLoader);
+            Object result = value != null ? value : cached.getValue();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            log.warn("캐시 조기 갱신 실패, 기존 값 사용: cache={}, key={}, error={}", getName(), key, e.getMessage());
+            mine.complete(cached.getValue());
+            return cached.getValue();
+        } finally {
+            unlock(key, token);
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 노드 간 잠금을 얻어 계산
+     * 다른 노드가 잠금을 보유 중이면 캐시가 채워질 때까지 대기하고, 대기 시간을 넘기면 직접 계산 (잠금 보유 노드 장애 대비)
+     */
+    private Object loadWithLock(Object key, Callable<?> valueLoader) {
+        String token = tryLock(key);
+        if (token == null) {
+            lockWaits.increment();
+            long deadline = System.currentTimeMillis() + lockWaitMs;
+            while (System.currentTimeMillis() < deadline) {
+                try {
+                    Thread.sleep(POLL_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ValueRetrievalException(key, valueLoader, e);
+                }
+                CacheEnvelope filled = lookup(key);
+                if (filled != null) {
+                    return filled.getValue();
+                }
+            }
+            lockTimeouts.increment();
+            return loadAndStore(key, valueLoader);
+        }
+
+        try {
+            // 잠금을 기다리는 사이 다른 노드가 채웠을 수 있음
+            CacheEnvelope filled = token.equals(NO_LOCK) ? null : lookup(key);
+            return filled != null ? filled.getValue() : loadAndStore(key, valueLoader);
+        } finally {
+            unlock(key, token);
+        }
+    }
+
+    private Object loadAndStore(Object key, Callable<?> valueLoader) {
+        loads.increment();
+        long start = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long now = System.currentTimeMillis();
+        if (value != null) {
+            delegate.put(key, new CacheEnvelope(value, now - start, now + ttlMs));
+        }
+        return value;
+    }
+
+    private CacheEnvelope lookup(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            return null;
+        }
+        if (wrapper.get() instanceof CacheEnvelope envelope) {
+            return envelope;
+        }
+        // 래퍼 도입 전에 저장된 값: 조기 갱신 없이 TTL 만료까지 사용
+        return new CacheEnvelope(wrapper.get(), 0, Long.MAX_VALUE);
+    }
+
+    private boolean shouldRefreshEarly(CacheEnvelope envelope) {
+        if (envelope.getComputeMs() <= 0 || envelope.getExpiresAt() == Long.MAX_VALUE) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        double gap = -envelope.getComputeMs() * earlyRefreshBeta * Math.log(random);
+        return System.currentTimeMillis() + gap >= envelope.getExpiresAt();
+    }
+
+    private Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 노드 간 잠금 획득 시도 (대기하지 않음)
+     *
+     * @return 잠금 토큰, 잠금 비활성/Redis 오류 시 NO_LOCK, 다른 노드가 보유 중이면 null
+     */
+    private String tryLock(Object key) {
+        if (redisTemplate == null) {
+            return NO_LOCK;
+        }
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey(key), token, Duration.ofMillis(lockTimeoutMs));
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (DataAccessException e) {
+            log.warn("캐시 잠금 획득 실패, 잠금 없이 진행: cache={}, key={}, error={}", getName(), key, e.getMessage());
+            return NO_LOCK;
+        }
+    }
+
+    private void unlock(Object key, String token) {
+        if (token == null || token.equals(NO_LOCK)) {
+            return;
+        }
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey(key)), token);
+        } catch (DataAccessException e) {
+            // 잠금은 만료 시간이 지나면 자동 해제됨
+            log.warn("캐시 잠금 해제 실패: cache={}, key={}, error={}", getName(), key, e.getMessage());
+        }
+    }
+
+    private String lockKey(Object key) {
+        return LOCK_KEY_PREFIX + getName() + "::" + key;
+    }
+
+    /**
+     * 캐시별 지표 (적중, 실제 계산 횟수, 노드 내 합류, 조기 갱신, 노드 간 잠금 대기/대기 초과, 진행 중 계산 수)
+     */
+    public record Stats(String name, long hits, long loads, long coalesced, long earlyRefreshes,
+                        long lockWaits, long lockTimeouts, int inFlight) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.recipemate.global.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 하위 CacheManager의 캐시를 SingleFlightCache로 감싸는 CacheManager
+ */
+public class SingleFlightCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final BiFunction<String, Cache, SingleFlightCache> decorator;
+    private final Map<String, SingleFlightCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate 실제 저장소 CacheManager
+     * @param decorator 캐시 이름과 하위 캐시로 SingleFlightCache 생성
+     */
+    public SingleFlightCacheManager(CacheManager delegate, BiFunction<String, Cache, SingleFlightCache> decorator) {
+        this.delegate = delegate;
+        this.decorator = decorator;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        SingleFlightCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> decorator.apply(key, target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    public Collection<SingleFlightCache> getCaches() {
+        return caches.values();
+    }
+}
@@ -0,0 +1,12 @@
+package com.recipemate.global.common;
+
+/**
+ * 배지 조건에 쓰이는 사용자 활동 지표
+ * 매너온도를 제외한 지표는 user_achievements 카운터에 이벤트로 누적된다.
+ */
+public enum AchievementMetric {
+    GROUP_BUYS_HOSTED,   // 주최한 공동구매 수
+    PARTICIPATIONS,      // 참여 중인 공동구매 수 (취소 시 감소)
+    REVIEWS_WRITTEN,     // 작성한 후기 수 (삭제 시 감소)
+    MANNER_TEMPERATURE   // 매너온도 (users 컬럼)
+}
@@ -0,0 +1,20 @@
+package com.recipemate.global.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 하루 1회만 지급되는 포인트 보상 종류
+ * description은 포인트 내역(point_histories)에 기록되는 사유
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DailyReward {
+    CHECK_IN("출석 체크"),
+    GROUP_BUY_CREATED("공동구매 생성"),
+    PARTICIPATION("공동구매 참여"),
+    REVIEW("후기 작성"),
+    COMMENT("댓글 작성");
+
+    private final String description;
+}
@@ -4,14 +4,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recipemate.global.cache.SingleFlightCache;
+import com.recipemate.global.cache.SingleFlightCacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -27,6 +30,9 @@ import java.util.Map;
  * - recipes: 1시간 (외부 API 데이터, 자주 변경되지 않음)
  * - popularGroupBuys: 5분 (자주 조회되는 인기 공구 목록)
  * - viewCounts: 1분 (조회수는 실시간성이 중요하지 않음)
+ *
+ * 모든 캐시는 SingleFlightCache로 감싸 만료 시점의 미스 폭주를 막는다.
+ * (@Cacheable(sync = true) 메서드에 노드 내 단일 계산, Redis 잠금 기반 노드 간 단일 계산, 확률적 조기 갱신 적용)
  */
 @Configuration
 @EnableCaching
@@ -37,8 +43,23 @@ public class CacheConfig {
     public static final String POPULAR_GROUP_BUYS_CACHE = "popularGroupBuys";
     public static final String VIEW_COUNTS_CACHE = "viewCounts";
     
+    private static final Duration DEFAULT_TTL = Duration.ofHours(1);
+    
+    @Value("${cache.single-flight.distributed-lock:true}")
+    private boolean distributedLock;
+    
+    @Value("${cache.single-flight.lock-timeout-ms:10000}")
+    private long lockTimeoutMs;
+    
+    @Value("${cache.single-flight.lock-wait-ms:3000}")
+    private long lockWaitMs;
+    
+    @Value("${cache.single-flight.early-refresh-beta:1.0}")
+    private double earlyRefreshBeta;
+    
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public SingleFlightCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                                 StringRedisTemplate stringRedisTemplate) {
         // 다형성 타입을 안전하게 처리하고 Java 8 시간 타입을 지원하는 ObjectMapper 설정
         // 메모리 최적화를 위해 애플리케이션 패키지로 범위 제한
         PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
@@ -54,7 +75,7 @@ public class CacheConfig {
         
         // 기본 캐시 설정 (1시간 TTL)
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(1))
+                .entryTtl(DEFAULT_TTL)
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
@@ -75,9 +96,18 @@ public class CacheConfig {
         // 조회수 캐시: 1분
         cacheConfigurations.put(VIEW_COUNTS_CACHE, defaultConfig.entryTtl(Duration.ofMinutes(1)));
         
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        // 빈으로 등록되지 않으므로 캐시별 설정 로딩을 직접 수행
+        redisCacheManager.afterPropertiesSet();
+        
+        StringRedisTemplate lockTemplate = distributedLock ? stringRedisTemplate : null;
+        return new SingleFlightCacheManager(redisCacheManager, (name, cache) -> {
+            RedisCacheConfiguration config = cacheConfigurations.get(name);
+            Duration ttl = config != null ? config.getTtlFunction().getTimeToLive(null, null) : DEFAULT_TTL;
+            return new SingleFlightCache(cache, ttl, lockTemplate, lockTimeoutMs, lockWaitMs, earlyRefreshBeta);
+        });
     }
 }
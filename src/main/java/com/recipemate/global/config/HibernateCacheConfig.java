@@ -0,0 +1,33 @@
+package com.recipemate.global.config;
+
+import com.recipemate.global.cache.HibernateCacheSupport;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Hibernate 2차 캐시 클러스터 무효화 설정
+ * 다른 노드가 발행한 엔티티/컬렉션 무효화 메시지를 구독하여 로컬 캐시(ehcache)에서 제거
+ *
+ * 로컬 캐시 자체는 application.yml의 hibernate.cache 설정과 ehcache.xml로 구성된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cache.l2.cluster-invalidation", havingValue = "true")
+public class HibernateCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer hibernateCacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, HibernateCacheSupport hibernateCacheSupport) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> hibernateCacheSupport.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(HibernateCacheSupport.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -49,12 +49,12 @@ public class RecipeDataInitializer implements ApplicationRunner {
         try {
             // 식품안전나라 전체 데이터 동기화
             log.info("Syncing FoodSafety recipes...");
-            int foodSafetyCount = recipeSyncService.syncFoodSafetyRecipes();
+            int foodSafetyCount = recipeSyncService.syncFoodSafetyRecipes().getSyncedCount();
             log.info("FoodSafety sync completed: {} recipes", foodSafetyCount);
 
             // TheMealDB 랜덤 레시피 100개 동기화
             log.info("Syncing TheMealDB random recipes...");
-            int mealDbCount = recipeSyncService.syncMealDbRandomRecipes(100);
+            int mealDbCount = recipeSyncService.syncMealDbRandomRecipes(100).getSyncedCount();
             log.info("TheMealDB sync completed: {} recipes", mealDbCount);
             
             int totalCount = foodSafetyCount + mealDbCount;
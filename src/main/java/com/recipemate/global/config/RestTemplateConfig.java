@@ -1,23 +1,99 @@
 package com.recipemate.global.config;
 
+import com.recipemate.global.http.GzipResponseInterceptor;
+import com.recipemate.global.http.TransactionalIoMonitor;
+import com.recipemate.global.http.UpstreamGuardInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
 /**
  * RestTemplate 설정
  * 외부 API 호출 시 사용되는 RestTemplate을 빈으로 등록
+ *
+ * - JDK HttpClient 기반: 호스트별 커넥션 재사용(keep-alive 풀), HTTPS는 HTTP/2 협상
+ *   (평문 HTTP는 h2c 업그레이드를 지원하지 않는 서버가 있어 HTTP/1.1 고정)
+ * - gzip 응답 압축 협상 (GzipResponseInterceptor)
+ * - 호스트별 동시 요청 한도(벌크헤드)와 회로 차단기, 지표 수집 (UpstreamGuardInterceptor)
+ *   느린 외부 API가 요청 스레드를 모두 붙잡지 않도록 한도를 넘는 호출은 즉시 거절된다.
+ * - DB 트랜잭션 안에서 일어난 외부 호출 감시 (TransactionalIoMonitor)
  */
 @Configuration
 public class RestTemplateConfig {
 
+    private static final String MEAL_DB_HOST = "www.themealdb.com";
+
+    @Value("${http.client.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${http.client.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
+    @Value("${http.client.acquire-timeout-ms:200}")
+    private long acquireTimeoutMs;
+
+    @Value("${http.client.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${http.client.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${http.client.default-max-concurrent:10}")
+    private int defaultMaxConcurrent;
+
+    @Value("${http.client.food-safety-max-concurrent:4}")
+    private int foodSafetyMaxConcurrent;
+
+    @Value("${http.client.mealdb-max-concurrent:8}")
+    private int mealDbMaxConcurrent;
+
+    @Value("${food.safety.api.base-url}")
+    private String foodSafetyBaseUrl;
+
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);  // 연결 타임아웃: 5초
-        factory.setReadTimeout(10000);     // 읽기 타임아웃: 10초
-        
-        return new RestTemplate(factory);
+    public TransactionalIoMonitor transactionalIoMonitor() {
+        return new TransactionalIoMonitor();
+    }
+
+    @Bean
+    public UpstreamGuardInterceptor upstreamGuardInterceptor(TransactionalIoMonitor transactionalIoMonitor) {
+        UpstreamGuardInterceptor interceptor = new UpstreamGuardInterceptor(
+                defaultMaxConcurrent, acquireTimeoutMs, failureThreshold, openDurationMs, transactionalIoMonitor);
+        interceptor.register("food-safety", URI.create(foodSafetyBaseUrl).getHost(), foodSafetyMaxConcurrent);
+        interceptor.register("themealdb", MEAL_DB_HOST, mealDbMaxConcurrent);
+        return interceptor;
+    }
+
+    @Bean
+    public RestTemplate restTemplate(UpstreamGuardInterceptor upstreamGuardInterceptor) {
+        ClientHttpRequestFactory secureFactory = requestFactory(HttpClient.Version.HTTP_2);
+        ClientHttpRequestFactory plainFactory = requestFactory(HttpClient.Version.HTTP_1_1);
+        ClientHttpRequestFactory factory = (uri, method) ->
+                ("https".equalsIgnoreCase(uri.getScheme()) ? secureFactory : plainFactory).createRequest(uri, method);
+
+        RestTemplate restTemplate = new RestTemplate(factory);
+        // 보호 장치가 가장 바깥에서 압축 해제까지 포함한 전체 호출을 감쌈
+        restTemplate.setInterceptors(List.of(upstreamGuardInterceptor, new GzipResponseInterceptor()));
+        return restTemplate;
+    }
+
+    private ClientHttpRequestFactory requestFactory(HttpClient.Version version) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))   // 연결 타임아웃
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));     // 응답 타임아웃
+        return factory;
     }
 }
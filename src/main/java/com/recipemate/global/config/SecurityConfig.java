@@ -42,7 +42,8 @@ public class SecurityConfig {
                             "/js/**",             // Static JS
                             "/images/**",         // Static images
                             "/h2-console/**",     // H2 console
-                            "/.well-known/**"     // Browser internal requests (prevent SavedRequest storage)
+                            "/.well-known/**",    // Browser internal requests (prevent SavedRequest storage)
+                            "/health/**"          // Readiness probe
                         ).permitAll()
                         
                         // Auth pages and API endpoints
@@ -64,16 +65,20 @@ public class SecurityConfig {
                             "/recipes",                           // Recipe search page
                             "/recipes/list",                      // Recipe list page
                             "/recipes/random",                    // Random recipe page
+                            "/recipes/pantry",                    // Pantry-based recipe ranking API
                             "/recipes/{recipeId}",                // Recipe detail pages (e.g., /recipes/123, /recipes/meal-52772)
                             "/recipes/{recipeId}/group-purchases", // Recipe related group-buys
                             "/group-purchases/list",              // Group purchase list
                             "/group-purchases/{id:[0-9]+}",       // Group purchase detail
+                            "/group-purchases/nearby",            // Nearby group purchases (radius search)
+                            "/group-purchases/nearby/bounds",     // Group purchases within map bounds
                             "/community-posts/list",              // Community post list
                             "/community-posts/{id:[0-9]+}",       // Community post detail
                             "/reviews",                           // Review list page
                             "/reviews/fragments",                 // Review list fragments (HTMX)
                             "/search/**",                         // Search pages
                             "/comments/fragments",                // Comment list fragments (HTMX)
+                            "/comments/fragments/more",           // Comment list "load more" fragments (HTMX)
                             "/recipes/*/bookmarks/status",        // Recipe bookmark status check (returns false for non-auth)
                             "/group-purchases/*/bookmarks/status", // Group-buy bookmark status check (returns false for non-auth)
                             "/users/profile/**"                   // User profile pages
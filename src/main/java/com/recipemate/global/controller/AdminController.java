@@ -9,17 +9,33 @@ import com.recipemate.domain.report.service.ReportService;
 import com.recipemate.domain.user.dto.MannerTempAdjustRequest;
 import com.recipemate.domain.user.dto.UserProfileResponseDto;
 import com.recipemate.domain.user.service.CustomUserDetailsService.CustomUserDetails;
+import com.recipemate.domain.user.service.PointLedger;
+import com.recipemate.domain.user.service.PointSnapshotService;
+import com.recipemate.domain.user.service.UserProfileCache;
 import com.recipemate.domain.user.service.UserService;
+import com.recipemate.global.cache.CacheWarmer;
+import com.recipemate.global.cache.HibernateCacheSupport;
+import com.recipemate.global.cache.SingleFlightCache;
+import com.recipemate.global.cache.SingleFlightCacheManager;
+import com.recipemate.global.common.ApiResponse;
 import com.recipemate.global.exception.CustomException;
 import com.recipemate.global.exception.ErrorCode;
+import com.recipemate.global.http.TransactionalIoMonitor;
+import com.recipemate.global.http.UpstreamGuard;
+import com.recipemate.global.http.UpstreamGuardInterceptor;
+import com.recipemate.global.util.ImageDecodeGovernor;
+import com.recipemate.global.util.ImageUploadUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -27,6 +43,8 @@ import java.util.List;
  * - 레시피 개선 제안 관리
  * - 신고 관리
  * - 사용자 매너온도 조정
+ * - 외부 API 호출 지표 조회
+ * - 캐시 지표 조회
  */
 @Controller
 @RequestMapping("/admin")
@@ -36,6 +54,16 @@ public class AdminController {
     private final RecipeCorrectionService correctionService;
     private final ReportService reportService;
     private final UserService userService;
+    private final UpstreamGuardInterceptor upstreamGuardInterceptor;
+    private final TransactionalIoMonitor transactionalIoMonitor;
+    private final HibernateCacheSupport hibernateCacheSupport;
+    private final CacheWarmer cacheWarmer;
+    private final PointLedger pointLedger;
+    private final PointSnapshotService pointSnapshotService;
+    private final UserProfileCache userProfileCache;
+    private final ImageUploadUtil imageUploadUtil;
+    private final ImageDecodeGovernor imageDecodeGovernor;
+    private final ObjectProvider<SingleFlightCacheManager> cacheManagerProvider; // Redis 캐시 사용 시에만 존재
 
     /**
      * 관리자 대시보드 (향후 구현)
@@ -279,4 +307,125 @@ public class AdminController {
 
         return "redirect:/admin/users/" + userId + "/manner-temp";
     }
+
+    // ========== 외부 API 상태 ==========
+
+    /**
+     * 외부 API 호출 지표 조회 (호스트별 지연 시간, 실패/거절 건수, 동시 요청 포화도, 회로 상태)
+     * GET /admin/upstreams
+     */
+    @GetMapping("/upstreams")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<List<UpstreamGuard.Stats>>> upstreamStats() {
+        List<UpstreamGuard.Stats> stats = upstreamGuardInterceptor.getGuards().stream()
+                .map(UpstreamGuard::stats)
+                .sorted(Comparator.comparing(UpstreamGuard.Stats::name))
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+
+    /**
+     * 트랜잭션 안에서 외부 API를 호출한 서비스 메서드 지표 조회 (커넥션 최대 점유 시간 내림차순)
+     * GET /admin/upstreams/transactions
+     */
+    @GetMapping("/upstreams/transactions")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<List<TransactionalIoMonitor.Stats>>> transactionalIoStats() {
+        List<TransactionalIoMonitor.Stats> stats = transactionalIoMonitor.getStats().stream()
+                .sorted(Comparator.comparingLong(TransactionalIoMonitor.Stats::maxHoldMs).reversed())
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+
+    // ========== 캐시 상태 ==========
+
+    /**
+     * 캐시별 지표 조회 (적중, 실제 계산 횟수, 단일 계산 합류, 조기 갱신, 노드 간 잠금 대기)
+     * 캐시 만료 시점에 loads가 키 수만큼만 늘어나면 미스 폭주가 막히고 있는 것
+     * GET /admin/caches
+     */
+    @GetMapping("/caches")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<List<SingleFlightCache.Stats>>> cacheStats() {
+        SingleFlightCacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        List<SingleFlightCache.Stats> stats = cacheManager == null ? List.of() : cacheManager.getCaches().stream()
+                .map(SingleFlightCache::stats)
+                .sorted(Comparator.comparing(SingleFlightCache.Stats::name))
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+
+    /**
+     * 마지막 캐시 예열 결과 조회 (예열 전이면 data가 null)
+     * GET /admin/caches/warmup
+     */
+    @GetMapping("/caches/warmup")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<CacheWarmer.Result>> cacheWarmupResult() {
+        return ResponseEntity.ok(ApiResponse.success(cacheWarmer.getLastResult()));
+    }
+
+    /**
+     * 공개 프로필 캐시 지표 조회 (항목 수, 적중, 미스, 무효화 횟수)
+     * GET /admin/caches/profiles
+     */
+    @GetMapping("/caches/profiles")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<UserProfileCache.Stats>> profileCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(userProfileCache.stats()));
+    }
+
+    /**
+     * Hibernate 2차 캐시 영역별 지표 조회 (적중, 미스, 저장, 적중률, 메모리 내 항목 수)
+     * GET /admin/hibernate-cache
+     */
+    @GetMapping("/hibernate-cache")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<List<HibernateCacheSupport.RegionStats>>> hibernateCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(hibernateCacheSupport.getRegionStats()));
+    }
+
+    // ========== 이미지 업로드 상태 ==========
+
+    /**
+     * 이미지 업로드 파이프라인 지표 조회 (전처리 절감 용량, 디코딩/리사이즈/인코딩/업로드 단계별 소요 시간)
+     * GET /admin/images/pipeline
+     */
+    @GetMapping("/images/pipeline")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<ImageUploadUtil.Stats>> imagePipelineStats() {
+        return ResponseEntity.ok(ApiResponse.success(imageUploadUtil.stats()));
+    }
+
+    /**
+     * 이미지 디코딩 메모리 지표 조회 (예산, 사용 중인 용량, 대기 스레드 수, 대기 시간)
+     * GET /admin/images/decode
+     */
+    @GetMapping("/images/decode")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<ImageDecodeGovernor.Stats>> imageDecodeStats() {
+        return ResponseEntity.ok(ApiResponse.success(imageDecodeGovernor.stats()));
+    }
+
+    // ========== 포인트 원장 상태 ==========
+
+    /**
+     * 포인트 적립 큐 지표 조회 (대기 중인 요청 수, 반영한 배치 수, 반영/실패한 요청 수)
+     * GET /admin/points/ledger
+     */
+    @GetMapping("/points/ledger")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<PointLedger.Stats>> pointLedgerStats() {
+        return ResponseEntity.ok(ApiResponse.success(pointLedger.stats()));
+    }
+
+    /**
+     * 마지막 포인트 잔액 스냅샷 결과 조회 (실행 전이면 data가 null)
+     * GET /admin/points/snapshots
+     */
+    @GetMapping("/points/snapshots")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<PointSnapshotService.Result>> pointSnapshotResult() {
+        return ResponseEntity.ok(ApiResponse.success(pointSnapshotService.getLastResult()));
+    }
 }
@@ -0,0 +1,39 @@
+package com.recipemate.global.controller;
+
+import com.recipemate.global.cache.CacheWarmer;
+import com.recipemate.global.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 상태 확인 컨트롤러 (로드 밸런서 / 오케스트레이터 프로브용)
+ */
+@RestController
+@RequestMapping("/health")
+@RequiredArgsConstructor
+public class HealthController {
+
+    private final ApplicationAvailability applicationAvailability;
+    private final CacheWarmer cacheWarmer;
+
+    /**
+     * 준비 상태 확인
+     * 애플리케이션이 트래픽을 받을 수 있고 시작 직후 캐시 예열이 끝났을(또는 시간 초과된) 때만 200, 그 외 503
+     * GET /health/readiness
+     */
+    @GetMapping("/readiness")
+    public ResponseEntity<ApiResponse<String>> readiness() {
+        boolean accepting = applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+        if (accepting && cacheWarmer.isStartupComplete()) {
+            return ResponseEntity.ok(ApiResponse.success("READY"));
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error("NOT_READY", accepting ? "캐시 예열 중입니다." : "트래픽을 받을 수 없는 상태입니다."));
+    }
+}
@@ -0,0 +1,17 @@
+package com.recipemate.global.event;
+
+import lombok.Getter;
+
+/**
+ * 공구 변경 이벤트
+ * 공구가 생성/수정/취소/삭제되거나 상태가 바뀌었을 때 발행되어
+ * 위치 인덱스 등 공구로부터 파생된 데이터를 갱신하기 위한 이벤트
+ */
+@Getter
+public class GroupBuyChangedEvent {
+    private final Long groupBuyId;
+
+    public GroupBuyChangedEvent(Long groupBuyId) {
+        this.groupBuyId = groupBuyId;
+    }
+}
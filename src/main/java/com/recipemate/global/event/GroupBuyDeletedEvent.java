@@ -0,0 +1,18 @@
+package com.recipemate.global.event;
+
+import lombok.Getter;
+
+/**
+ * 공구 삭제 이벤트
+ * 주최자의 공구 개설 지표 등 공구 수에 따라 누적된 값을 되돌리기 위한 이벤트
+ */
+@Getter
+public class GroupBuyDeletedEvent {
+    private final Long userId;
+    private final Long groupBuyId;
+
+    public GroupBuyDeletedEvent(Long userId, Long groupBuyId) {
+        this.userId = userId;
+        this.groupBuyId = groupBuyId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.recipemate.global.event;
+
+import com.recipemate.global.common.GroupBuyStatus;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 공구 상태 일괄 변경 이벤트
+ * 배치 스케줄러가 마감/임박 상태를 일괄 변경했을 때 발행되어
+ * 공구 목록에서 파생된 캐시를 무효화하기 위한 이벤트
+ */
+@Getter
+public class GroupBuyStatusesUpdatedEvent {
+    private final List<Long> groupBuyIds;
+    private final GroupBuyStatus status; // 변경된 상태 (CLOSED 또는 IMMINENT)
+
+    public GroupBuyStatusesUpdatedEvent(List<Long> groupBuyIds, GroupBuyStatus status) {
+        this.groupBuyIds = groupBuyIds;
+        this.status = status;
+    }
+}
@@ -0,0 +1,17 @@
+package com.recipemate.global.event;
+
+import lombok.Getter;
+
+/**
+ * 게시글 변경 이벤트
+ * 게시글이 작성/수정/삭제되었을 때 발행되어
+ * 인기 점수 인덱스 등 게시글로부터 파생된 데이터를 갱신하기 위한 이벤트
+ */
+@Getter
+public class PostChangedEvent {
+    private final Long postId;
+
+    public PostChangedEvent(Long postId) {
+        this.postId = postId;
+    }
+}
@@ -0,0 +1,26 @@
+package com.recipemate.global.event;
+
+import lombok.Getter;
+
+/**
+ * 게시글 참여 이벤트
+ * 좋아요/취소, 댓글 작성/삭제, 조회가 반영되었을 때 증감량과 함께 발행되어
+ * 인기 점수 인덱스가 DB 조회 없이 점수를 갱신하도록 하는 이벤트
+ */
+@Getter
+public class PostEngagementEvent {
+
+    public enum Type {
+        LIKE, COMMENT, VIEW
+    }
+
+    private final Long postId;
+    private final Type type;
+    private final int delta;
+
+    public PostEngagementEvent(Long postId, Type type, int delta) {
+        this.postId = postId;
+        this.type = type;
+        this.delta = delta;
+    }
+}
@@ -0,0 +1,17 @@
+package com.recipemate.global.event;
+
+import lombok.Getter;
+
+/**
+ * 레시피 생성 이벤트
+ * 사용자 작성 또는 외부 API 동기화로 레시피가 생성되었을 때 발행되어
+ * 랜덤 추천용 ID 인덱스 등 레시피로부터 파생된 데이터를 갱신하기 위한 이벤트
+ */
+@Getter
+public class RecipeCreatedEvent {
+    private final Long recipeId;
+
+    public RecipeCreatedEvent(Long recipeId) {
+        this.recipeId = recipeId;
+    }
+}
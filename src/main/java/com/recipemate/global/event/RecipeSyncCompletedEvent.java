@@ -0,0 +1,18 @@
+package com.recipemate.global.event;
+
+import com.recipemate.domain.recipe.dto.RecipeSyncReport;
+import lombok.Getter;
+
+/**
+ * 레시피 동기화 완료 이벤트
+ * 외부 API 일괄 동기화로 레시피가 생성/변경되었을 때 발행되어
+ * 레시피 캐시를 다시 채우기 위한 이벤트
+ */
+@Getter
+public class RecipeSyncCompletedEvent {
+    private final RecipeSyncReport report;
+
+    public RecipeSyncCompletedEvent(RecipeSyncReport report) {
+        this.report = report;
+    }
+}
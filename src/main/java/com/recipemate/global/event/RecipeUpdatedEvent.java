@@ -0,0 +1,17 @@
+package com.recipemate.global.event;
+
+import lombok.Getter;
+
+/**
+ * 레시피 수정 이벤트
+ * 사용자 수정 또는 외부 API 재동기화로 레시피 내용(재료 등)이 바뀌었을 때 발행되어
+ * 재료 인덱스 등 레시피로부터 파생된 데이터를 갱신하기 위한 이벤트
+ */
+@Getter
+public class RecipeUpdatedEvent {
+    private final Long recipeId;
+
+    public RecipeUpdatedEvent(Long recipeId) {
+        this.recipeId = recipeId;
+    }
+}
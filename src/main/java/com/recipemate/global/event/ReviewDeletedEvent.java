@@ -6,11 +6,15 @@ import lombok.Getter;
 @Getter
 public class ReviewDeletedEvent {
     private final Long reviewId;
+    private final Long reviewerId;
+    private final Long groupBuyId;
     private final Long hostId;
     private final Integer rating;
 
     public ReviewDeletedEvent(Review review) {
         this.reviewId = review.getId();
+        this.reviewerId = review.getReviewer().getId();
+        this.groupBuyId = review.getGroupBuy().getId();
         this.hostId = review.getGroupBuy().getHost().getId();
         this.rating = review.getRating();
     }
@@ -0,0 +1,30 @@
+package com.recipemate.global.event;
+
+import lombok.Getter;
+
+/**
+ * 사용자 프로필 변경 이벤트
+ * 닉네임/프로필 이미지, 매너온도, 배지가 바뀌었거나 탈퇴했을 때 발행되어
+ * 공개 프로필 캐시 등 사용자 정보로부터 파생된 데이터를 갱신하기 위한 이벤트
+ */
+@Getter
+public class UserProfileChangedEvent {
+    private final Long userId;
+    private final boolean mannerTemperatureChanged; // 매너온도 조건 배지 확인용
+
+    public UserProfileChangedEvent(Long userId) {
+        this(userId, false);
+    }
+
+    private UserProfileChangedEvent(Long userId, boolean mannerTemperatureChanged) {
+        this.userId = userId;
+        this.mannerTemperatureChanged = mannerTemperatureChanged;
+    }
+
+    /**
+     * 매너온도 변경 (후기, 관리자 조정, 레시피 개선 제안 보상)
+     */
+    public static UserProfileChangedEvent mannerTemperatureChanged(Long userId) {
+        return new UserProfileChangedEvent(userId, true);
+    }
+}
@@ -1,69 +1,74 @@
 package com.recipemate.global.event.listeners;
 
 import com.recipemate.domain.badge.service.BadgeService;
-import com.recipemate.domain.groupbuy.repository.GroupBuyRepository;
-import com.recipemate.domain.groupbuy.repository.ParticipationRepository;
-import com.recipemate.domain.review.entity.Review;
-import com.recipemate.domain.review.repository.ReviewRepository;
-import com.recipemate.global.common.BadgeType;
-import com.recipemate.global.common.GroupBuyStatus;
+import com.recipemate.global.common.AchievementMetric;
 import com.recipemate.global.event.GroupBuyCreatedEvent;
+import com.recipemate.global.event.GroupBuyDeletedEvent;
+import com.recipemate.global.event.ParticipationCancelledEvent;
 import com.recipemate.global.event.ParticipationCreatedEvent;
 import com.recipemate.global.event.ReviewCreatedEvent;
+import com.recipemate.global.event.ReviewDeletedEvent;
+import com.recipemate.global.event.UserProfileChangedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.List;
-
+/**
+ * 배지 지표 누적 및 획득 확인 리스너
+ * 매너온도 조건(POPULAR_HOST)은 매너온도가 바뀐 커밋 후에 확인한다.
+ * (후기로 인한 변경, 관리자 조정, 레시피 개선 제안 보상 모두 UserProfileChangedEvent로 전달됨)
+ * 이벤트 누락으로 어긋난 지표는 BadgeService의 매일 재계산에서 보정된다.
+ */
 @Component
 @RequiredArgsConstructor
 public class BadgeEventListener {
 
     private final BadgeService badgeService;
-    private final GroupBuyRepository groupBuyRepository;
-    private final ParticipationRepository participationRepository;
-    private final ReviewRepository reviewRepository;
 
     @TransactionalEventListener
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleGroupBuyCreatedEvent(GroupBuyCreatedEvent event) {
-        long groupBuyCount = groupBuyRepository.countByHostIdAndStatus(event.getUserId(), GroupBuyStatus.RECRUITING);
-        if (groupBuyCount == 1) {
-            badgeService.checkAndAwardBadge(event.getUserId(), BadgeType.FIRST_GROUP_BUY);
-        }
+        badgeService.record(event.getUserId(), AchievementMetric.GROUP_BUYS_HOSTED, 1);
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleGroupBuyDeletedEvent(GroupBuyDeletedEvent event) {
+        badgeService.record(event.getUserId(), AchievementMetric.GROUP_BUYS_HOSTED, -1);
     }
 
     @TransactionalEventListener
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleParticipationCreatedEvent(ParticipationCreatedEvent event) {
-        long count = participationRepository.countByUserId(event.getUserId());
-        if (count >= 10) {
-            badgeService.checkAndAwardBadge(event.getUserId(), BadgeType.TEN_PARTICIPATIONS);
-        }
+        badgeService.record(event.getUserId(), AchievementMetric.PARTICIPATIONS, 1);
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleParticipationCancelledEvent(ParticipationCancelledEvent event) {
+        badgeService.record(event.getUserId(), AchievementMetric.PARTICIPATIONS, -1);
     }
 
     @TransactionalEventListener
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleReviewCreatedEvent(ReviewCreatedEvent event) {
-        // 후기 작성자에게 REVIEWER 배지 확인 및 수여
-        long reviewCount = reviewRepository.countByReviewerId(event.getReviewerId());
-        if (reviewCount >= 5) {
-            badgeService.checkAndAwardBadge(event.getReviewerId(), BadgeType.REVIEWER);
-        }
+        // 후기 작성자 REVIEWER 지표 누적
+        badgeService.record(event.getReviewerId(), AchievementMetric.REVIEWS_WRITTEN, 1);
+    }
 
-        // 공구 주최자에게 POPULAR_HOST 배지 확인 및 수여
-        List<Review> hostReviews = reviewRepository.findByGroupBuyHostId(event.getHostId());
-        if (hostReviews.size() >= 10) {
-            double avgRating = hostReviews.stream()
-                    .mapToInt(Review::getRating)
-                    .average()
-                    .orElse(0.0);
-            if (avgRating >= 4.5) {
-                badgeService.checkAndAwardBadge(event.getHostId(), BadgeType.POPULAR_HOST);
-            }
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleReviewDeletedEvent(ReviewDeletedEvent event) {
+        badgeService.record(event.getReviewerId(), AchievementMetric.REVIEWS_WRITTEN, -1);
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleUserProfileChangedEvent(UserProfileChangedEvent event) {
+        if (event.isMannerTemperatureChanged()) {
+            badgeService.evaluate(event.getUserId());
         }
     }
 }
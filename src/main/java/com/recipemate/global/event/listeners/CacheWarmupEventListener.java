@@ -0,0 +1,23 @@
+package com.recipemate.global.event.listeners;
+
+import com.recipemate.global.cache.CacheWarmer;
+import com.recipemate.global.event.RecipeSyncCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 캐시 예열 리스너
+ * 커밋된 레시피 동기화 결과로 캐시를 다시 채우며, 예열은 CacheWarmer의 스레드 풀에서 비동기로 실행된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupEventListener {
+
+    private final CacheWarmer cacheWarmer;
+
+    @TransactionalEventListener
+    public void handleRecipeSyncCompletedEvent(RecipeSyncCompletedEvent event) {
+        cacheWarmer.requestAfterSync();
+    }
+}
@@ -0,0 +1,37 @@
+package com.recipemate.global.event.listeners;
+
+import com.recipemate.domain.groupbuy.service.GroupBuyIngredientIndex;
+import com.recipemate.global.event.GroupBuyChangedEvent;
+import com.recipemate.global.event.GroupBuyCompletedEvent;
+import com.recipemate.global.event.GroupBuyStatusesUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공구 재료 인덱스 갱신 리스너
+ * 커밋된 공구 생성/수정/취소/삭제와 상태 변경을 변경 대기 목록에 추가하고, 실제 반영은 다음 조회 시 일괄 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupBuyIngredientIndexEventListener {
+
+    private final GroupBuyIngredientIndex groupBuyIngredientIndex;
+
+    @TransactionalEventListener
+    public void handleGroupBuyChangedEvent(GroupBuyChangedEvent event) {
+        groupBuyIngredientIndex.markChanged(event.getGroupBuyId());
+    }
+
+    @TransactionalEventListener
+    public void handleGroupBuyCompletedEvent(GroupBuyCompletedEvent event) {
+        // 목표 인원 달성으로 COMPLETED 전환된 공구는 더 이상 모집 중이 아니므로 제거됨
+        groupBuyIngredientIndex.markChanged(event.getGroupBuyId());
+    }
+
+    @TransactionalEventListener
+    public void handleGroupBuyStatusesUpdatedEvent(GroupBuyStatusesUpdatedEvent event) {
+        // 마감 배치로 CLOSED 전환된 공구 제거 (IMMINENT 전환은 다시 읽어도 그대로 유지)
+        groupBuyIngredientIndex.markChanged(event.getGroupBuyIds());
+    }
+}
@@ -0,0 +1,44 @@
+package com.recipemate.global.event.listeners;
+
+import com.recipemate.domain.groupbuy.service.GroupBuyLocationIndex;
+import com.recipemate.global.common.GroupBuyStatus;
+import com.recipemate.global.event.GroupBuyChangedEvent;
+import com.recipemate.global.event.GroupBuyCompletedEvent;
+import com.recipemate.global.event.GroupBuyStatusesUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공구 위치 인덱스 갱신 리스너
+ * 커밋된 공구 변경 사항만 인덱스에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupBuyLocationEventListener {
+
+    private final GroupBuyLocationIndex groupBuyLocationIndex;
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handleGroupBuyChangedEvent(GroupBuyChangedEvent event) {
+        groupBuyLocationIndex.refresh(event.getGroupBuyId());
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handleGroupBuyCompletedEvent(GroupBuyCompletedEvent event) {
+        // 목표 인원 달성으로 COMPLETED 전환된 공구는 더 이상 모집 중이 아니므로 제거
+        groupBuyLocationIndex.refresh(event.getGroupBuyId());
+    }
+
+    @TransactionalEventListener
+    public void handleGroupBuyStatusesUpdatedEvent(GroupBuyStatusesUpdatedEvent event) {
+        // 마감 배치로 CLOSED 전환된 공구 제거 (IMMINENT 전환은 모집 중이므로 그대로 유지)
+        if (event.getStatus() == GroupBuyStatus.CLOSED) {
+            groupBuyLocationIndex.removeAll(event.getGroupBuyIds());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.recipemate.global.event.listeners;
+
+import com.recipemate.global.event.GroupBuyChangedEvent;
+import com.recipemate.global.event.GroupBuyCompletedEvent;
+import com.recipemate.global.event.GroupBuyStatusesUpdatedEvent;
+import com.recipemate.global.event.ParticipationCancelledEvent;
+import com.recipemate.global.event.ParticipationCreatedEvent;
+import com.recipemate.global.home.HomePageComposer;
+import com.recipemate.global.home.HomeSection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 홈 화면 섹션 캐시 무효화 리스너
+ * 커밋된 변경만 반영하며, DB 작업이 없으므로 별도 트랜잭션을 열지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HomeSectionCacheEventListener {
+
+    private final HomePageComposer homePageComposer;
+
+    @TransactionalEventListener
+    public void handleGroupBuyChangedEvent(GroupBuyChangedEvent event) {
+        // 인기 레시피는 연결된 공구 수 기준이므로 함께 무효화
+        homePageComposer.invalidate(HomeSection.POPULAR_RECIPES, HomeSection.IMMINENT_GROUP_BUYS, HomeSection.HOT_GROUP_BUYS);
+    }
+
+    @TransactionalEventListener
+    public void handleParticipationCreatedEvent(ParticipationCreatedEvent event) {
+        homePageComposer.invalidate(HomeSection.IMMINENT_GROUP_BUYS, HomeSection.HOT_GROUP_BUYS);
+    }
+
+    @TransactionalEventListener
+    public void handleParticipationCancelledEvent(ParticipationCancelledEvent event) {
+        homePageComposer.invalidate(HomeSection.IMMINENT_GROUP_BUYS, HomeSection.HOT_GROUP_BUYS);
+    }
+
+    @TransactionalEventListener
+    public void handleGroupBuyCompletedEvent(GroupBuyCompletedEvent event) {
+        homePageComposer.invalidate(HomeSection.IMMINENT_GROUP_BUYS, HomeSection.HOT_GROUP_BUYS);
+    }
+
+    @TransactionalEventListener
+    public void handleGroupBuyStatusesUpdatedEvent(GroupBuyStatusesUpdatedEvent event) {
+        homePageComposer.invalidate(HomeSection.IMMINENT_GROUP_BUYS, HomeSection.HOT_GROUP_BUYS);
+    }
+}
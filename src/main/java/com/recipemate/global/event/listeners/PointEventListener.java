@@ -1,5 +1,6 @@
 package com.recipemate.global.event.listeners;
 
+import com.recipemate.global.common.DailyReward;
 import com.recipemate.global.event.CommentCreatedEvent;
 import com.recipemate.global.event.GroupBuyCreatedEvent;
 import com.recipemate.global.event.ParticipationCreatedEvent;
@@ -7,10 +8,12 @@ import com.recipemate.global.event.ReviewCreatedEvent;
 import com.recipemate.domain.user.service.PointService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 활동 보상 포인트 적립 리스너
+ * 적립은 PointLedger 큐에 넣기만 하므로 별도 트랜잭션을 열지 않는다.
+ */
 @Component
 @RequiredArgsConstructor
 public class PointEventListener {
@@ -18,26 +21,22 @@ public class PointEventListener {
     private final PointService pointService;
 
     @TransactionalEventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleGroupBuyCreatedEvent(GroupBuyCreatedEvent event) {
-        pointService.earnPoints(event.getUserId(), 100, "공동구매 생성");
+        pointService.earnPoints(event.getUserId(), DailyReward.GROUP_BUY_CREATED, 100);
     }
 
     @TransactionalEventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleParticipationCreatedEvent(ParticipationCreatedEvent event) {
-        pointService.earnPoints(event.getUserId(), 50, "공동구매 참여");
+        pointService.earnPoints(event.getUserId(), DailyReward.PARTICIPATION, 50);
     }
 
     @TransactionalEventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleReviewCreatedEvent(ReviewCreatedEvent event) {
-        pointService.earnPoints(event.getReviewerId(), 30, "후기 작성");
+        pointService.earnPoints(event.getReviewerId(), DailyReward.REVIEW, 30);
     }
 
     @TransactionalEventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleCommentCreatedEvent(CommentCreatedEvent event) {
-        pointService.earnPoints(event.getComment().getAuthor().getId(), 10, "댓글 작성");
+        pointService.earnPoints(event.getComment().getAuthor().getId(), DailyReward.COMMENT, 10);
     }
 }
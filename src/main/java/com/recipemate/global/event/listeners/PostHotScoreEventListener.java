@@ -0,0 +1,33 @@
+package com.recipemate.global.event.listeners;
+
+import com.recipemate.domain.post.service.PostHotScoreIndex;
+import com.recipemate.global.event.PostChangedEvent;
+import com.recipemate.global.event.PostEngagementEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 인기 점수 인덱스 갱신 리스너
+ * 커밋된 게시글 변경과 좋아요/댓글/조회 증감만 인덱스에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostHotScoreEventListener {
+
+    private final PostHotScoreIndex postHotScoreIndex;
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handlePostChangedEvent(PostChangedEvent event) {
+        postHotScoreIndex.refresh(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void handlePostEngagementEvent(PostEngagementEvent event) {
+        // 증감량만 반영하므로 DB 조회 없음
+        postHotScoreIndex.apply(event.getPostId(), event.getType(), event.getDelta());
+    }
+}
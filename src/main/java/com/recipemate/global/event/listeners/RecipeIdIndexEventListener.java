@@ -0,0 +1,29 @@
+package com.recipemate.global.event.listeners;
+
+import com.recipemate.domain.recipe.service.RecipeIdIndex;
+import com.recipemate.global.event.RecipeCreatedEvent;
+import com.recipemate.global.event.RecipeDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 레시피 ID 인덱스 갱신 리스너
+ * 커밋된 레시피 생성/삭제만 인덱스에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecipeIdIndexEventListener {
+
+    private final RecipeIdIndex recipeIdIndex;
+
+    @TransactionalEventListener
+    public void handleRecipeCreatedEvent(RecipeCreatedEvent event) {
+        recipeIdIndex.add(event.getRecipeId());
+    }
+
+    @TransactionalEventListener
+    public void handleRecipeDeletedEvent(RecipeDeletedEvent event) {
+        recipeIdIndex.remove(event.getRecipeId());
+    }
+}
@@ -0,0 +1,35 @@
+package com.recipemate.global.event.listeners;
+
+import com.recipemate.domain.recipe.service.RecipePantryIndex;
+import com.recipemate.global.event.RecipeCreatedEvent;
+import com.recipemate.global.event.RecipeDeletedEvent;
+import com.recipemate.global.event.RecipeUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팬트리 인덱스 갱신 리스너
+ * 커밋된 레시피 생성/수정/삭제를 변경 대기 목록에 추가하고, 실제 반영은 다음 검색 시 일괄 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecipePantryIndexEventListener {
+
+    private final RecipePantryIndex recipePantryIndex;
+
+    @TransactionalEventListener
+    public void handleRecipeCreatedEvent(RecipeCreatedEvent event) {
+        recipePantryIndex.markChanged(event.getRecipeId());
+    }
+
+    @TransactionalEventListener
+    public void handleRecipeUpdatedEvent(RecipeUpdatedEvent event) {
+        recipePantryIndex.markChanged(event.getRecipeId());
+    }
+
+    @TransactionalEventListener
+    public void handleRecipeDeletedEvent(RecipeDeletedEvent event) {
+        recipePantryIndex.markChanged(event.getRecipeId());
+    }
+}
@@ -0,0 +1,35 @@
+package com.recipemate.global.event.listeners;
+
+import com.recipemate.domain.recipe.service.RecipeSimilarityIndex;
+import com.recipemate.global.event.RecipeCreatedEvent;
+import com.recipemate.global.event.RecipeDeletedEvent;
+import com.recipemate.global.event.RecipeUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 유사 레시피 인덱스 갱신 리스너
+ * 커밋된 레시피 생성/수정/삭제를 변경 대기 목록에 추가하고, 실제 반영은 인덱스의 반영 주기에 일괄 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecipeSimilarityIndexEventListener {
+
+    private final RecipeSimilarityIndex recipeSimilarityIndex;
+
+    @TransactionalEventListener
+    public void handleRecipeCreatedEvent(RecipeCreatedEvent event) {
+        recipeSimilarityIndex.markChanged(event.getRecipeId());
+    }
+
+    @TransactionalEventListener
+    public void handleRecipeUpdatedEvent(RecipeUpdatedEvent event) {
+        recipeSimilarityIndex.markChanged(event.getRecipeId());
+    }
+
+    @TransactionalEventListener
+    public void handleRecipeDeletedEvent(RecipeDeletedEvent event) {
+        recipeSimilarityIndex.markChanged(event.getRecipeId());
+    }
+}
@@ -0,0 +1,39 @@
+package com.recipemate.global.event.listeners;
+
+import com.recipemate.domain.review.entity.Review;
+import com.recipemate.domain.review.service.ReviewAggregateService;
+import com.recipemate.global.event.ReviewCreatedEvent;
+import com.recipemate.global.event.ReviewDeletedEvent;
+import com.recipemate.global.event.ReviewUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 후기 집계 갱신 리스너
+ * 집계가 후기 변경과 함께 커밋/롤백되도록 커밋 직전(BEFORE_COMMIT)에 같은 트랜잭션에서 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewAggregateEventListener {
+
+    private final ReviewAggregateService reviewAggregateService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleReviewCreatedEvent(ReviewCreatedEvent event) {
+        Review review = event.getReview();
+        reviewAggregateService.applyReviewCreated(review.getGroupBuy().getId(), event.getHostId(), review.getRating());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleReviewUpdatedEvent(ReviewUpdatedEvent event) {
+        reviewAggregateService.applyReviewUpdated(event.getReview().getGroupBuy().getId(), event.getHostId(),
+                event.getOldRating(), event.getNewRating());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleReviewDeletedEvent(ReviewDeletedEvent event) {
+        reviewAggregateService.applyReviewDeleted(event.getGroupBuyId(), event.getHostId(), event.getRating());
+    }
+}
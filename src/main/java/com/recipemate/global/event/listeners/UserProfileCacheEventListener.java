@@ -0,0 +1,79 @@
+package com.recipemate.global.event.listeners;
+
+import com.recipemate.domain.groupbuy.repository.GroupBuyRepository;
+import com.recipemate.domain.user.service.UserProfileCache;
+import com.recipemate.global.event.GroupBuyChangedEvent;
+import com.recipemate.global.event.GroupBuyCompletedEvent;
+import com.recipemate.global.event.GroupBuyStatusesUpdatedEvent;
+import com.recipemate.global.event.ParticipationCancelledEvent;
+import com.recipemate.global.event.ParticipationCreatedEvent;
+import com.recipemate.global.event.UserProfileChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 공개 프로필 캐시 무효화 리스너
+ * 공구 관련 변경은 해당 공구 주최자의 프로필(주최한 공구 목록)을 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileCacheEventListener {
+
+    private static final int MAX_HOST_LOOKUP = 500;
+
+    private final UserProfileCache userProfileCache;
+    private final GroupBuyRepository groupBuyRepository;
+
+    @TransactionalEventListener
+    public void handleUserProfileChangedEvent(UserProfileChangedEvent event) {
+        userProfileCache.invalidate(event.getUserId());
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handleGroupBuyChangedEvent(GroupBuyChangedEvent event) {
+        invalidateHosts(List.of(event.getGroupBuyId()));
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handleParticipationCreatedEvent(ParticipationCreatedEvent event) {
+        invalidateHosts(List.of(event.getGroupBuyId()));
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handleParticipationCancelledEvent(ParticipationCancelledEvent event) {
+        invalidateHosts(List.of(event.getGroupBuyId()));
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handleGroupBuyCompletedEvent(GroupBuyCompletedEvent event) {
+        invalidateHosts(List.of(event.getGroupBuyId()));
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handleGroupBuyStatusesUpdatedEvent(GroupBuyStatusesUpdatedEvent event) {
+        invalidateHosts(event.getGroupBuyIds());
+    }
+
+    private void invalidateHosts(Collection<Long> groupBuyIds) {
+        if (groupBuyIds.isEmpty()) {
+            return;
+        }
+        // 마감 배치처럼 대량 변경이면 주최자 조회 없이 전체 무효화
+        if (groupBuyIds.size() > MAX_HOST_LOOKUP) {
+            userProfileCache.invalidateAll();
+            return;
+        }
+        groupBuyRepository.findHostIdsByIdIn(groupBuyIds).forEach(userProfileCache::invalidate);
+    }
+}
@@ -40,11 +40,15 @@ public enum ErrorCode {
     IMAGE_COUNT_EXCEEDED(HttpStatus.BAD_REQUEST, "GROUP-024", "이미지는 최대 3장까지만 업로드할 수 있습니다."),
     CANNOT_MODIFY_GROUP_BUY(HttpStatus.BAD_REQUEST, "GROUP-025", "마감 또는 마감 임박 상태의 공동구매는 수정할 수 없습니다."),
     ADDRESS_REQUIRED_FOR_PARCEL(HttpStatus.BAD_REQUEST, "GROUP-026", "택배 수령 방법을 선택한 경우 배송지는 필수입니다."),
+    INVALID_LOCATION(HttpStatus.BAD_REQUEST, "GROUP-027", "위치 검색 조건이 올바르지 않습니다."),
     
     ADDRESS_NOT_FOUND(HttpStatus.NOT_FOUND, "ADDRESS-001", "배송지를 찾을 수 없습니다."),
     UNAUTHORIZED_ADDRESS_ACCESS(HttpStatus.FORBIDDEN, "ADDRESS-002", "배송지 접근 권한이 없습니다."),
     
     RECIPE_NOT_FOUND(HttpStatus.NOT_FOUND, "RECIPE-001", "레시피를 찾을 수 없습니다."),
+    INVALID_PANTRY(HttpStatus.BAD_REQUEST, "RECIPE-002", "보유 재료는 1개 이상 30개 이하로 입력해주세요."),
+    RECIPE_INDEX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "RECIPE-003", "레시피 검색 준비 중입니다. 잠시 후 다시 시도해주세요."),
+    RECIPE_FETCH_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "RECIPE-004", "레시피 정보를 불러오는 중입니다. 잠시 후 다시 시도해주세요."),
     
     CORRECTION_NOT_FOUND(HttpStatus.NOT_FOUND, "CORRECTION-001", "제안을 찾을 수 없습니다."),
     DUPLICATE_CORRECTION_REQUEST(HttpStatus.CONFLICT, "CORRECTION-002", "동일한 레시피에 대한 제안이 이미 대기 중입니다."),
@@ -82,6 +86,8 @@ public enum ErrorCode {
     REPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "REPORT-001", "신고를 찾을 수 없습니다."),
     ALREADY_PROCESSED_REPORT(HttpStatus.BAD_REQUEST, "REPORT-002", "이미 처리된 신고입니다."),
 
+    IMAGE_PROCESSING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "IMAGE-001", "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
     UNAUTHORIZED(HttpStatus.FORBIDDEN, "COMMON-004", "권한이 없습니다."),
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "COMMON-001", "입력값이 올바르지 않습니다."),
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "COMMON-003", "입력값이 유효하지 않습니다."),
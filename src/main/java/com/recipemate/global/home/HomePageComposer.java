@@ -0,0 +1,230 @@
+package com.recipemate.global.home;
+
+import com.recipemate.domain.groupbuy.service.GroupBuyService;
+import com.recipemate.domain.recipe.service.RecipeService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.support.RequestContextUtils;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.web.IWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 홈 화면 섹션 조합기
+ * - 캐시에 없는 섹션의 데이터를 별도 스레드 풀에서 동시에 조회
+ * - 섹션별로 렌더링된 HTML을 (섹션, 로그인 여부) 단위로 메모리에 캐싱
+ * - 도메인 이벤트로 섹션 버전을 올려 무효화 (HomeSectionCacheEventListener)
+ *
+ * 무효화는 버전 비교로 처리하므로, 조회 도중 무효화된 섹션은 저장되더라도 다음 요청에서 다시 렌더링된다.
+ * 섹션 조회는 타임아웃과 같은 시간 제한의 읽기 전용 트랜잭션에서 실행되어 DB 쿼리도 같은 시간 안에 취소되며,
+ * 시간 초과 시 작업 스레드를 인터럽트하여 멈춘 조회가 풀 스레드를 계속 점유하지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomePageComposer {
+
+    private static final String SECTIONS_TEMPLATE = "fragments/home-sections";
+    private static final int SECTION_TIMEOUT_SECONDS = 5; // 섹션별 조회 타임아웃
+
+    private static final int POPULAR_RECIPE_COUNT = 5;
+    private static final int RANDOM_RECIPE_COUNT = 3;
+    private static final int IMMINENT_GROUP_BUY_COUNT = 3;
+    private static final int HOT_GROUP_BUY_COUNT = 3;
+
+    private final RecipeService recipeService;
+    private final GroupBuyService groupBuyService;
+    private final SpringTemplateEngine templateEngine;
+    private final ApplicationContext applicationContext;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(HomeSection.values().length);
+    private final Map<CacheKey, CachedFragment> fragments = new ConcurrentHashMap<>();
+    private final Map<HomeSection, AtomicLong> versions = initVersions();
+    private TransactionTemplate sectionTransaction;
+
+    @PostConstruct
+    public void init() {
+        // 트랜잭션 제한 시간이 JDBC 쿼리 타임아웃으로 적용되어, 느린 쿼리가 섹션 타임아웃을 넘겨 계속 실행되지 않음
+        sectionTransaction = new TransactionTemplate(transactionManager);
+        sectionTransaction.setReadOnly(true);
+        sectionTransaction.setTimeout(SECTION_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * 홈 화면 섹션 HTML 조합
+     *
+     * @return 프래그먼트 이름 → 렌더링된 HTML
+     */
+    public Map<String, String> compose(HttpServletRequest request, HttpServletResponse response) {
+        boolean authenticated = isAuthenticated();
+        long now = System.currentTimeMillis();
+
+        Map<String, String> result = new HashMap<>();
+        Map<HomeSection, Long> loadingVersions = new EnumMap<>(HomeSection.class);
+        Map<HomeSection, Future<Object>> loading = new EnumMap<>(HomeSection.class);
+
+        // 1. 캐시 적중 섹션은 그대로 사용하고, 나머지는 데이터 조회를 동시에 시작
+        for (HomeSection section : HomeSection.values()) {
+            long version = versions.get(section).get();
+            CachedFragment cached = fragments.get(new CacheKey(section, authenticated));
+            if (cached != null && cached.isValid(version, now)) {
+                result.put(section.getFragmentName(), cached.html());
+                continue;
+            }
+
+            loadingVersions.put(section, version);
+            loading.put(section, executorService.submit(() -> load(section)));
+        }
+
+        if (loading.isEmpty()) {
+            return result;
+        }
+
+        // 2. 렌더링은 요청 스레드에서 수행 (링크, sec:authorize가 현재 요청 정보를 사용)
+        WebContext context = createContext(request, response);
+        loading.forEach((section, future) -> {
+            Object data = await(section, future);
+            context.setVariable(section.getModelAttribute(), data);
+            String html = templateEngine.process(SECTIONS_TEMPLATE, Set.of(section.getFragmentName()), context);
+            result.put(section.getFragmentName(), html);
+
+            // 조회 실패한 섹션은 캐싱하지 않음
+            if (data != null) {
+                fragments.put(new CacheKey(section, authenticated),
+                        new CachedFragment(html, loadingVersions.get(section), now + section.getTtl().toMillis()));
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * 섹션 데이터 미리 조회 (캐시 예열용)
+     * 렌더링된 HTML은 요청 정보가 필요하므로 만들지 않고, 섹션 데이터 조회로 하위 캐시(Redis, 2차 캐시)만 채운다.
+     *
+     * @return 조회에 실패한 섹션 수
+     */
+    public int preload() {
+        Map<HomeSection, Future<Object>> loading = new EnumMap<>(HomeSection.class);
+        for (HomeSection section : HomeSection.values()) {
+            loading.put(section, executorService.submit(() -> load(section)));
+        }
+
+        int failed = 0;
+        for (Map.Entry<HomeSection, Future<Object>> entry : loading.entrySet()) {
+            if (await(entry.getKey(), entry.getValue()) == null) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 섹션 캐시 무효화
+     */
+    public void invalidate(HomeSection... sections) {
+        for (HomeSection section : sections) {
+            versions.get(section).incrementAndGet();
+            fragments.remove(new CacheKey(section, true));
+            fragments.remove(new CacheKey(section, false));
+        }
+    }
+
+    private Object load(HomeSection section) {
+        return sectionTransaction.execute(status -> switch (section) {
+            case POPULAR_RECIPES -> recipeService.findPopularRecipes(POPULAR_RECIPE_COUNT).getRecipes();
+            case RANDOM_RECIPES -> recipeService.getRandomRecipes(RANDOM_RECIPE_COUNT).getRecipes();
+            case IMMINENT_GROUP_BUYS -> groupBuyService.findImminentGroupPurchases(IMMINENT_GROUP_BUY_COUNT);
+            case HOT_GROUP_BUYS -> groupBuyService.getPopularGroupBuys(HOT_GROUP_BUY_COUNT);
+        });
+    }
+
+    private Object await(HomeSection section, Future<Object> future) {
+        try {
+            return future.get(SECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true); // 작업 스레드 인터럽트 (submit으로 만든 FutureTask)
+            log.warn("홈 섹션 조회 시간 초과: {}", section);
+        } catch (ExecutionException e) {
+            log.warn("홈 섹션 조회 실패: {} - {}", section, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("홈 섹션 조회 중단: {}", section);
+        }
+        // 실패한 섹션은 빈 상태로 렌더링 (섹션 템플릿이 null을 처리)
+        return null;
+    }
+
+    private WebContext createContext(HttpServletRequest request, HttpServletResponse response) {
+        IWebExchange exchange = JakartaServletWebApplication.buildApplication(request.getServletContext())
+                .buildExchange(request, response);
+        WebContext context = new WebContext(exchange, RequestContextUtils.getLocale(request));
+        context.setVariable(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                new ThymeleafEvaluationContext(applicationContext, null));
+        return context;
+    }
+
+    private boolean isAuthenticated() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken);
+    }
+
+    private static Map<HomeSection, AtomicLong> initVersions() {
+        Map<HomeSection, AtomicLong> map = new EnumMap<>(HomeSection.class);
+        Arrays.stream(HomeSection.values()).forEach(section -> map.put(section, new AtomicLong()));
+        return map;
+    }
+
+    /**
+     * 애플리케이션 종료 시 스레드 풀 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record CacheKey(HomeSection section, boolean authenticated) {
+    }
+
+    private record CachedFragment(String html, long version, long expiresAt) {
+        boolean isValid(long currentVersion, long now) {
+            return version == currentVersion && now < expiresAt;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.recipemate.global.home;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 홈 화면 섹션
+ * 각 섹션은 fragments/home-sections.html의 프래그먼트 하나와 대응하며, 렌더링된 HTML 단위로 캐싱된다.
+ * TTL은 이벤트로 감지되지 않는 변경(시간 경과에 따른 마감 임박 범위, 랜덤 추천 교체 등)에 대한 상한이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum HomeSection {
+
+    POPULAR_RECIPES("popular-recipes", "popularRecipes", Duration.ofMinutes(10)),
+    RANDOM_RECIPES("random-recipes", "randomRecipes", Duration.ofMinutes(5)),
+    IMMINENT_GROUP_BUYS("imminent-group-buys", "imminentGroupBuys", Duration.ofMinutes(1)),
+    HOT_GROUP_BUYS("hot-group-buys", "hotGroupBuys", Duration.ofMinutes(1));
+
+    private final String fragmentName;
+    private final String modelAttribute;
+    private final Duration ttl;
+}
@@ -0,0 +1,140 @@
+package com.recipemate.global.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 트랜잭션 안에서 수행된 외부 API 호출 감시
+ * - 외부 호출이 DB 트랜잭션 안에서 일어나면 트랜잭션이 끝날 때까지 JDBC 커넥션이 응답 대기에 묶인다.
+ * - 트랜잭션별로 외부 호출 수, 호출 시간, 커넥션 점유 시간(첫 외부 호출 시작 ~ 트랜잭션 종료)을 모아
+ *   트랜잭션 종료 시 경고 로그를 남기고 트랜잭션 이름(서비스 메서드)별 지표로 누적
+ *
+ * UpstreamGuardInterceptor가 외부 호출마다 기록하며, 트랜잭션 밖의 호출은 무시한다.
+ */
+@Slf4j
+public class TransactionalIoMonitor {
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 외부 호출 기록 (현재 스레드에 활성 트랜잭션이 있을 때만)
+     *
+     * @param host 호출한 호스트
+     * @param startedAt 호출 시작 시각 (System.currentTimeMillis)
+     * @param elapsedMs 호출 소요 시간
+     */
+    public void record(String host, long startedAt, long elapsedMs) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionIo io = (TransactionIo) TransactionSynchronizationManager.getResource(this);
+        if (io == null) {
+            io = new TransactionIo(TransactionSynchronizationManager.getCurrentTransactionName(), startedAt);
+            TransactionSynchronizationManager.bindResource(this, io);
+            TransactionSynchronizationManager.registerSynchronization(new IoSynchronization(io));
+        }
+        io.calls++;
+        io.ioMs += elapsedMs;
+        io.hosts.add(host);
+    }
+
+    public Collection<Stats> getStats() {
+        return counters.entrySet().stream()
+                .map(e -> e.getValue().toStats(e.getKey()))
+                .toList();
+    }
+
+    private void complete(TransactionIo io, int status) {
+        long holdMs = System.currentTimeMillis() - io.firstCallAt;
+        String name = io.name != null ? io.name : "(unnamed)";
+
+        counters.computeIfAbsent(name, key -> new Counter()).add(io, holdMs);
+        log.warn("트랜잭션 내 외부 API 호출: tx={}, 결과={}, 호출={}건, 호스트={}, 호출 시간={}ms, 커넥션 점유={}ms",
+                name, status == TransactionSynchronization.STATUS_COMMITTED ? "COMMIT" : "ROLLBACK",
+                io.calls, io.hosts, io.ioMs, holdMs);
+    }
+
+    /**
+     * 트랜잭션 하나의 외부 호출 누적 (트랜잭션 스레드에서만 접근)
+     */
+    private static final class TransactionIo {
+        private final String name;
+        private final long firstCallAt;
+        private final Set<String> hosts = new LinkedHashSet<>();
+        private int calls;
+        private long ioMs;
+
+        private TransactionIo(String name, long firstCallAt) {
+            this.name = name;
+            this.firstCallAt = firstCallAt;
+        }
+    }
+
+    private final class IoSynchronization implements TransactionSynchronization {
+
+        private final TransactionIo io;
+
+        private IoSynchronization(TransactionIo io) {
+            this.io = io;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalIoMonitor.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(TransactionalIoMonitor.this, io);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalIoMonitor.this);
+            complete(io, status);
+        }
+    }
+
+    /**
+     * 트랜잭션 이름별 누적 지표
+     */
+    private static final class Counter {
+        private final LongAdder transactions = new LongAdder();
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalIoMs = new LongAdder();
+        private final LongAdder totalHoldMs = new LongAdder();
+        private final LongAccumulator maxHoldMs = new LongAccumulator(Math::max, 0);
+
+        private void add(TransactionIo io, long holdMs) {
+            transactions.increment();
+            calls.add(io.calls);
+            totalIoMs.add(io.ioMs);
+            totalHoldMs.add(holdMs);
+            maxHoldMs.accumulate(holdMs);
+        }
+
+        private Stats toStats(String name) {
+            long count = transactions.sum();
+            return new Stats(name, count, calls.sum(), totalIoMs.sum(),
+                    count == 0 ? 0 : totalHoldMs.sum() / count, maxHoldMs.get());
+        }
+    }
+
+    /**
+     * 트랜잭션별 외부 호출 지표 (트랜잭션 이름, 건수, 외부 호출 수, 누적 호출 시간, 평균/최대 커넥션 점유 시간)
+     */
+    public record Stats(String transaction, long transactions, long outboundCalls, long totalIoMs,
+                        long avgHoldMs, long maxHoldMs) {
+    }
+}
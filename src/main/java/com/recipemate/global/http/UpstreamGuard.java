@@ -0,0 +1,205 @@
+package com.recipemate.global.http;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 API 호스트별 보호 장치
+ * - 벌크헤드: 호스트별 동시 요청 수 제한 (느린 API가 요청 스레드를 모두 점유하지 못하도록)
+ * - 회로 차단기: 연속 실패가 임계치를 넘으면 일정 시간 호출을 즉시 거절하고, 이후 한 건만 시험 호출
+ * - 지표: 요청/실패/거절 건수, 지연 시간 분포, 동시 요청 수(포화도)
+ *
+ * 회로 상태는 CLOSED → (연속 실패) → OPEN → (대기 시간 경과) → HALF_OPEN → 성공 시 CLOSED / 실패 시 OPEN
+ */
+public class UpstreamGuard {
+
+    private static final long[] LATENCY_BUCKET_BOUNDS_MS = {100, 500, 1_000, 3_000};
+
+    private final String name;
+    private final int maxConcurrent;
+    private final long acquireTimeoutMs;
+    private final int failureThreshold;
+    private final long openDurationMs;
+
+    private final Semaphore permits;
+
+    // 회로 차단기 상태
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openUntil = new AtomicLong();  // 0이면 닫힘
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    // 지표
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder bulkheadRejections = new LongAdder();
+    private final LongAdder circuitRejections = new LongAdder();
+    private final LongAdder totalLatencyMs = new LongAdder();
+    private final LongAccumulator maxLatencyMs = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] latencyBuckets = new LongAdder[LATENCY_BUCKET_BOUNDS_MS.length + 1];
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAccumulator peakInFlight = new LongAccumulator(Math::max, 0);
+    private final LongAdder circuitOpenCount = new LongAdder();
+
+    public UpstreamGuard(String name, int maxConcurrent, long acquireTimeoutMs, int failureThreshold, long openDurationMs) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.permits = new Semaphore(maxConcurrent);
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            latencyBuckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 호출 허가 획득
+     * 회로가 열려 있거나 동시 요청 한도를 대기 시간 내에 얻지 못하면 거절
+     *
+     * @return 호출 완료 시 반드시 한 번 finish를 호출해야 하는 허가
+     * @throws UpstreamRejectedException 호출이 거절된 경우
+     */
+    public Permit acquire() throws UpstreamRejectedException {
+        boolean trial = checkCircuit();
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            if (trial) {
+                trialInFlight.set(false);
+            }
+            bulkheadRejections.increment();
+            throw new UpstreamRejectedException(name + " 동시 요청 한도 초과 (" + maxConcurrent + ")");
+        }
+
+        requests.increment();
+        peakInFlight.accumulate(inFlight.incrementAndGet());
+        return new Permit(trial);
+    }
+
+    /**
+     * 회로 상태 확인
+     *
+     * @return 반열림(HALF_OPEN) 상태의 시험 호출이면 true
+     */
+    private boolean checkCircuit() throws UpstreamRejectedException {
+        long until = openUntil.get();
+        if (until == 0) {
+            return false;
+        }
+        if (System.currentTimeMillis() < until || !trialInFlight.compareAndSet(false, true)) {
+            circuitRejections.increment();
+            throw new UpstreamRejectedException(name + " 회로 차단 중");
+        }
+        return true;
+    }
+
+    private void onSuccess(boolean trial) {
+        consecutiveFailures.set(0);
+        if (trial) {
+            openUntil.set(0);
+            trialInFlight.set(false);
+        }
+    }
+
+    private void onFailure(boolean trial) {
+        failures.increment();
+        if (trial || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            if (openUntil.getAndSet(System.currentTimeMillis() + openDurationMs) == 0) {
+                circuitOpenCount.increment();
+            }
+            consecutiveFailures.set(0);
+            if (trial) {
+                trialInFlight.set(false);
+            }
+        }
+    }
+
+    private void recordLatency(long elapsedMs) {
+        totalLatencyMs.add(elapsedMs);
+        maxLatencyMs.accumulate(elapsedMs);
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKET_BOUNDS_MS.length && elapsedMs >= LATENCY_BUCKET_BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        latencyBuckets[bucket].increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 현재 지표 스냅샷
+     */
+    public Stats stats() {
+        long requestCount = requests.sum();
+        long[] buckets = new long[latencyBuckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = latencyBuckets[i].sum();
+        }
+        long until = openUntil.get();
+        String circuit = until == 0 ? "CLOSED" : (System.currentTimeMillis() < until ? "OPEN" : "HALF_OPEN");
+
+        return new Stats(
+                name, circuit, requestCount, failures.sum(), bulkheadRejections.sum(), circuitRejections.sum(),
+                circuitOpenCount.sum(),
+                requestCount == 0 ? 0 : totalLatencyMs.sum() / requestCount, maxLatencyMs.get(), buckets,
+                inFlight.get(), (int) peakInFlight.get(), maxConcurrent,
+                (double) inFlight.get() / maxConcurrent
+        );
+    }
+
+    /**
+     * 호출 허가 (호출 결과를 한 번만 기록)
+     */
+    public final class Permit {
+        private final boolean trial;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private Permit(boolean trial) {
+            this.trial = trial;
+        }
+
+        /**
+         * 호출 종료 기록 및 동시 요청 허가 반환
+         *
+         * @param success 정상 응답 여부 (5xx, 429, 입출력 오류는 실패)
+         */
+        public void finish(boolean success) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            inFlight.decrementAndGet();
+            permits.release();
+            if (success) {
+                onSuccess(trial);
+            } else {
+                onFailure(trial);
+            }
+        }
+    }
+
+    /**
+     * 외부 API 지표 스냅샷
+     * latencyBuckets: [0,100), [100,500), [500,1000), [1000,3000), [3000,∞) ms 구간별 건수
+     * saturation: 동시 요청 수 / 동시 요청 한도
+     */
+    public record Stats(String name, String circuit, long requests, long failures,
+                        long bulkheadRejections, long circuitRejections, long circuitOpenCount,
+                        long avgLatencyMs, long maxLatencyMs, long[] latencyBuckets,
+                        int inFlight, int peakInFlight, int maxConcurrent, double saturation) {
+    }
+}
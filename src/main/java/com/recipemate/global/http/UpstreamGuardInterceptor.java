@@ -0,0 +1,109 @@
+package com.recipemate.global.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 API 호출을 호스트별 UpstreamGuard로 감싸는 인터셉터
+ * - 등록된 호스트는 지정된 한도로, 그 외 호스트는 기본 한도로 보호
+ * - 동시 요청 허가는 응답 본문을 다 읽고 응답을 닫을 때 반환 (본문 전송 중인 연결도 한도에 포함)
+ * - DB 트랜잭션 안에서 일어난 호출은 TransactionalIoMonitor에 기록
+ */
+public class UpstreamGuardInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Map<String, UpstreamGuard> guards = new ConcurrentHashMap<>();
+    private final int defaultMaxConcurrent;
+    private final long acquireTimeoutMs;
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final TransactionalIoMonitor transactionalIoMonitor;
+
+    public UpstreamGuardInterceptor(int defaultMaxConcurrent, long acquireTimeoutMs, int failureThreshold, long openDurationMs,
+                                    TransactionalIoMonitor transactionalIoMonitor) {
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.transactionalIoMonitor = transactionalIoMonitor;
+    }
+
+    /**
+     * 호스트별 동시 요청 한도 등록
+     */
+    public void register(String name, String host, int maxConcurrent) {
+        guards.put(host, new UpstreamGuard(name, maxConcurrent, acquireTimeoutMs, failureThreshold, openDurationMs));
+    }
+
+    public Collection<UpstreamGuard> getGuards() {
+        return guards.values();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        String host = request.getURI().getHost();
+        UpstreamGuard guard = guards.computeIfAbsent(host,
+                key -> new UpstreamGuard(key, defaultMaxConcurrent, acquireTimeoutMs, failureThreshold, openDurationMs));
+
+        UpstreamGuard.Permit permit = guard.acquire();
+        long startedAt = System.currentTimeMillis();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            transactionalIoMonitor.record(host, startedAt, System.currentTimeMillis() - startedAt);
+            int status = response.getStatusCode().value();
+            if (status >= 500 || status == 429) {
+                permit.finish(false);
+                return response;
+            }
+            return new GuardedResponse(response, permit);
+        } catch (IOException | RuntimeException e) {
+            transactionalIoMonitor.record(host, startedAt, System.currentTimeMillis() - startedAt);
+            permit.finish(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 응답을 닫을 때 호출 성공을 기록하는 응답 래퍼
+     */
+    private record GuardedResponse(ClientHttpResponse delegate, UpstreamGuard.Permit permit) implements ClientHttpResponse {
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                permit.finish(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.recipemate.global.http;
+
+import java.io.IOException;
+
+/**
+ * 외부 API 호출 거절 예외
+ * 회로가 열려 있거나 동시 요청 한도(bulkhead)가 가득 차 실제 요청을 보내지 않았을 때 발생
+ * RestTemplate은 IOException을 ResourceAccessException으로 감싸므로 isCause로 판별한다.
+ */
+public class UpstreamRejectedException extends IOException {
+
+    public UpstreamRejectedException(String message) {
+        super(message);
+    }
+
+    /**
+     * 예외 원인 체인에 호출 거절이 포함되어 있는지 확인
+     */
+    public static boolean isCause(Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof UpstreamRejectedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,126 @@
+package com.recipemate.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이미지 디코딩 메모리 제한
+ * - 디코딩 전에 헤더의 크기로 예상 픽셀 메모리를 계산해 그만큼 허가(1MB 단위)를 받아야 디코딩
+ * - 전체 예산을 넘는 동시 디코딩은 먼저 들어온 순서대로 대기하며, 대기 시간이 지나면 실패
+ * - 예산보다 큰 이미지는 예산 전체를 받아 혼자 디코딩
+ *
+ * 예산을 지정하지 않으면 최대 힙의 1/8 (최소 64MB)
+ */
+@Slf4j
+@Component
+public class ImageDecodeGovernor {
+
+    private static final long MB = 1024 * 1024;
+    private static final int MIN_BUDGET_MB = 64;
+
+    private final int budgetMb;
+    private final long acquireTimeoutMs;
+    private final Semaphore permits;
+
+    // 지표
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder waitMillis = new LongAdder();
+    private final LongAccumulator maxWaitMillis = new LongAccumulator(Long::max, 0);
+
+    public ImageDecodeGovernor(@Value("${image.decode.memory-budget-mb:0}") int budgetMb,
+                               @Value("${image.decode.acquire-timeout-ms:10000}") long acquireTimeoutMs) {
+        this.budgetMb = budgetMb > 0
+                ? budgetMb
+                : (int) Math.max(MIN_BUDGET_MB, Runtime.getRuntime().maxMemory() / MB / 8);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.permits = new Semaphore(this.budgetMb, true);
+        log.info("이미지 디코딩 메모리 예산: {}MB", this.budgetMb);
+    }
+
+    /**
+     * 디코딩 허가 획득 (사용 후 반드시 close)
+     *
+     * @param estimatedBytes 예상 픽셀 메모리
+     * @throws DecodeBusyException 대기 시간 초과 (요청이 몰림, 잠시 후 재시도 가능)
+     * @throws InterruptedIOException 대기 중 중단
+     */
+    public Permit acquire(long estimatedBytes) throws IOException {
+        int needed = (int) Math.min(budgetMb, Math.max(1, (estimatedBytes + MB - 1) / MB));
+        long start = System.currentTimeMillis();
+        try {
+            if (!permits.tryAcquire(needed, acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new DecodeBusyException(String.format("이미지 디코딩 대기 시간 초과 (%dMB, 대기 %d건)", needed, permits.getQueueLength()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("이미지 디코딩 대기 중 중단되었습니다.");
+        }
+
+        long waited = System.currentTimeMillis() - start;
+        acquired.increment();
+        waitMillis.add(waited);
+        maxWaitMillis.accumulate(waited);
+        return new Permit(needed);
+    }
+
+    public Stats stats() {
+        long acquiredCount = acquired.sum();
+        return new Stats(
+                budgetMb,
+                budgetMb - permits.availablePermits(),
+                permits.getQueueLength(),
+                acquiredCount,
+                timeouts.sum(),
+                acquiredCount == 0 ? 0 : (double) waitMillis.sum() / acquiredCount,
+                maxWaitMillis.get()
+        );
+    }
+
+    /**
+     * 디코딩 허가 (여러 번 close해도 한 번만 반납)
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final int megabytes;
+        private boolean released;
+
+        private Permit(int megabytes) {
+            this.megabytes = megabytes;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                permits.release(megabytes);
+            }
+        }
+    }
+
+    /**
+     * 디코딩 메모리 예산 대기 시간 초과
+     * 이미지 자체의 문제가 아니므로 호출자는 잘못된 이미지가 아닌 일시적 과부하로 처리한다.
+     */
+    public static class DecodeBusyException extends IOException {
+        public DecodeBusyException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 디코딩 지표 (예산, 사용 중, 대기 중인 스레드 수, 허가/시간 초과 건수, 평균/최대 대기 시간)
+     */
+    public record Stats(int budgetMb, int inUseMb, int waiting, long acquired, long timeouts,
+                        double avgWaitMs, long maxWaitMs) {
+    }
+}
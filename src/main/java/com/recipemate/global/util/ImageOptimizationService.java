@@ -1,15 +1,33 @@
 package com.recipemate.global.util;
 
+import com.recipemate.global.exception.CustomException;
+import com.recipemate.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
 import net.coobird.thumbnailator.geometry.Positions;
 import org.springframework.stereotype.Service;
+import org.w3c.dom.NodeList;
 
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
 
 /**
  * 이미지 최적화 서비스
@@ -18,15 +36,30 @@ import java.io.IOException;
  * - 이미지 압축 (품질 조정)
  * - 썸네일 생성
  * - WebP 형식 변환
+ * - 업로드 전처리 (서브샘플링 디코딩, 리사이즈, 메타데이터 제거 후 재인코딩)
+ *
+ * 모든 변환은 이미지를 한 번만, 결과 크기에 맞춰 서브샘플링하여 디코딩하며
+ * 동시 디코딩 메모리는 ImageDecodeGovernor로 제한한다.
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class ImageOptimizationService {
 
     private static final int MAX_WIDTH = 1920;
     private static final int MAX_HEIGHT = 1920;
     private static final double COMPRESSION_QUALITY = 0.85; // 85% 품질
     private static final double THUMBNAIL_QUALITY = 0.8; // 썸네일 80% 품질
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final String APP1_MARKER = "225"; // 0xE1 (Exif)
+    private static final int JPEG_SOI = 0xD8;
+    private static final int JPEG_SOS = 0xDA;
+    private static final int JPEG_APP1 = 0xE1;
+    private static final int JPEG_APP13 = 0xED;
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+    private static final int BYTES_PER_PIXEL = 4; // 디코딩 메모리 추정 (INT_ARGB 기준)
+
+    private final ImageDecodeGovernor decodeGovernor;
 
     /**
      * 이미지를 최적화합니다.
@@ -37,28 +70,25 @@ public class ImageOptimizationService {
      * @param fileName 파일명 (확장자 판별용)
      * @return 최적화된 이미지 데이터
      * @throws IllegalArgumentException 잘못된 입력값
+     * @throws CustomException 디코딩 메모리 예산 대기 시간 초과 (IMAGE_PROCESSING_BUSY, 503)
      */
     public byte[] optimizeImage(byte[] imageData, String fileName) {
         validateInput(imageData, fileName);
 
-        try {
-            BufferedImage originalImage = ImageIO.read(new ByteArrayInputStream(imageData));
-            if (originalImage == null) {
-                throw new IllegalArgumentException("유효하지 않은 이미지 데이터입니다.");
-            }
-
-            int originalWidth = originalImage.getWidth();
-            int originalHeight = originalImage.getHeight();
+        try (DecodedImage decoded = decode(imageData, MAX_WIDTH, MAX_HEIGHT)) {
+            BufferedImage image = decoded.image();
+            int originalWidth = decoded.originalWidth();
+            int originalHeight = decoded.originalHeight();
 
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             String format = getImageFormat(fileName);
 
             // 큰 이미지는 리사이즈, 작은 이미지는 압축만 적용
-            if (originalWidth > MAX_WIDTH || originalHeight > MAX_HEIGHT) {
+            if (image.getWidth() > MAX_WIDTH || image.getHeight() > MAX_HEIGHT) {
                 log.debug("이미지 리사이즈: {}x{} -> 최대 {}x{}", 
                         originalWidth, originalHeight, MAX_WIDTH, MAX_HEIGHT);
                 
-                Thumbnails.of(originalImage)
+                Thumbnails.of(image)
                         .size(MAX_WIDTH, MAX_HEIGHT)
                         .outputQuality(COMPRESSION_QUALITY)
                         .outputFormat(format)
@@ -66,7 +96,7 @@ public class ImageOptimizationService {
             } else {
                 log.debug("이미지 압축만 적용: {}x{}", originalWidth, originalHeight);
                 
-                Thumbnails.of(originalImage)
+                Thumbnails.of(image)
                         .scale(1.0) // 크기 유지
                         .outputQuality(COMPRESSION_QUALITY)
                         .outputFormat(format)
@@ -80,12 +110,70 @@ public class ImageOptimizationService {
 
             return optimizedData;
 
+        } catch (ImageDecodeGovernor.DecodeBusyException e) {
+            log.warn("이미지 디코딩 대기 시간 초과: {}", e.getMessage());
+            throw new CustomException(ErrorCode.IMAGE_PROCESSING_BUSY);
         } catch (IOException e) {
             log.error("이미지 최적화 실패: {}", fileName, e);
             throw new IllegalArgumentException("이미지 최적화 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 업로드 전 이미지를 전처리합니다. (한 번만 디코딩)
+     * - 헤더만 읽어 크기를 확인하고, 최대 크기의 2배 이상이면 서브샘플링으로 디코딩하여 메모리와 시간을 줄임
+     * - 최대 크기(1920x1920)를 넘으면 리사이즈, EXIF 방향은 픽셀에 반영
+     * - 메타데이터(EXIF, GPS 등) 없이 다시 인코딩 (JPEG 85% 품질, PNG는 무손실이며 원본보다 커지면 원본 유지)
+     *
+     * @param imageData 원본 이미지 데이터
+     * @param fileName 파일명 (확장자 판별용)
+     * @return 전처리된 이미지와 단계별 소요 시간
+     * @throws IllegalArgumentException 이미지가 아닌 데이터
+     * @throws IOException 디코딩/인코딩 실패 (CMYK JPEG 등 ImageIO 미지원 형식)
+     *                     또는 디코딩 메모리 예산 대기 시간 초과 (ImageDecodeGovernor.DecodeBusyException)
+     */
+    public OptimizedImage optimizeForUpload(byte[] imageData, String fileName) throws IOException {
+        validateInput(imageData, fileName);
+        String format = getImageFormat(fileName);
+
+        // 1. 디코딩 (서브샘플링, EXIF 방향 확인) - 인코딩이 끝날 때까지 디코딩 허가 유지
+        long decodeStart = System.nanoTime();
+        try (DecodedImage decoded = decode(imageData, MAX_WIDTH, MAX_HEIGHT)) {
+            BufferedImage image = decoded.image();
+            int orientation = decoded.orientation();
+            long decodeNanos = System.nanoTime() - decodeStart;
+
+            // 2. 리사이즈 및 방향 보정
+            long resizeStart = System.nanoTime();
+            boolean transformed = false;
+            if (image.getWidth() > MAX_WIDTH || image.getHeight() > MAX_HEIGHT) {
+                image = Thumbnails.of(image)
+                        .size(MAX_WIDTH, MAX_HEIGHT)
+                        .asBufferedImage();
+                transformed = true;
+            }
+            if (orientation > 1 && orientation <= 8) {
+                image = applyOrientation(image, orientation);
+                transformed = true;
+            }
+            long resizeNanos = System.nanoTime() - resizeStart;
+
+            // 3. 메타데이터 없이 인코딩
+            long encodeStart = System.nanoTime();
+            byte[] encoded = encode(image, format);
+            if (!transformed && !"jpg".equals(format) && encoded.length >= imageData.length) {
+                encoded = imageData; // 무손실 형식은 이미 작은 원본 유지
+            }
+            long encodeNanos = System.nanoTime() - encodeStart;
+
+            log.debug("업로드 전처리 완료: {} -> {} bytes, {}x{}, 서브샘플링 후 디코딩 {}ms",
+                    imageData.length, encoded.length, image.getWidth(), image.getHeight(), decodeNanos / 1_000_000);
+
+            return new OptimizedImage(encoded, format, image.getWidth(), image.getHeight(),
+                    decodeNanos, resizeNanos, encodeNanos);
+        }
+    }
+
     /**
      * 썸네일 이미지를 생성합니다.
      * 비율을 유지하면서 지정된 크기 이내로 축소합니다.
@@ -103,15 +191,11 @@ public class ImageOptimizationService {
             throw new IllegalArgumentException("썸네일 크기는 0보다 커야 합니다.");
         }
 
-        try {
-            BufferedImage originalImage = ImageIO.read(new ByteArrayInputStream(imageData));
-            if (originalImage == null) {
-                throw new IllegalArgumentException("유효하지 않은 이미지 데이터입니다.");
-            }
-
+        // 썸네일 크기 기준으로 서브샘플링하여 원본 해상도로 디코딩하지 않음
+        try (DecodedImage decoded = decode(imageData, width, height)) {
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
-            Thumbnails.of(originalImage)
+            Thumbnails.of(decoded.image())
                     .size(width, height)
                     .outputQuality(THUMBNAIL_QUALITY)
                     .outputFormat("jpg")
@@ -122,6 +206,9 @@ public class ImageOptimizationService {
 
             return thumbnailData;
 
+        } catch (ImageDecodeGovernor.DecodeBusyException e) {
+            log.warn("이미지 디코딩 대기 시간 초과: {}", e.getMessage());
+            throw new CustomException(ErrorCode.IMAGE_PROCESSING_BUSY);
         } catch (IOException e) {
             log.error("썸네일 생성 실패", e);
             throw new IllegalArgumentException("썸네일 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
@@ -144,17 +231,12 @@ public class ImageOptimizationService {
             throw new IllegalArgumentException("이미지 데이터가 비어있습니다.");
         }
 
-        try {
-            BufferedImage originalImage = ImageIO.read(new ByteArrayInputStream(imageData));
-            if (originalImage == null) {
-                throw new IllegalArgumentException("유효하지 않은 이미지 데이터입니다.");
-            }
-
+        try (DecodedImage decoded = decode(imageData, Integer.MAX_VALUE, Integer.MAX_VALUE)) {
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
             // WebP 라이브러리가 없으므로 고품질 JPEG로 변환
             // TODO: webp-imageio 라이브러리 추가 시 실제 WebP 변환 구현
-            Thumbnails.of(originalImage)
+            Thumbnails.of(decoded.image())
                     .scale(1.0)
                     .outputQuality(0.9) // 높은 품질 유지
                     .outputFormat("jpg")
@@ -166,12 +248,241 @@ public class ImageOptimizationService {
 
             return convertedData;
 
+        } catch (ImageDecodeGovernor.DecodeBusyException e) {
+            log.warn("이미지 디코딩 대기 시간 초과: {}", e.getMessage());
+            throw new CustomException(ErrorCode.IMAGE_PROCESSING_BUSY);
         } catch (IOException e) {
             log.error("WebP 변환 실패", e);
             throw new IllegalArgumentException("이미지 변환 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 디코딩 없이 JPEG 메타데이터 세그먼트를 제거합니다. (전처리에 실패해 원본을 올릴 때 사용)
+     * - APP1(Exif, XMP - GPS 포함)과 APP13(IPTC)만 제거하고, 색 변환에 필요한 APP2(ICC)/APP14(Adobe)는 유지
+     * - 스캔 데이터(SOS 이후)는 그대로 복사
+     *
+     * @return 메타데이터를 제거한 데이터, JPEG가 아니거나 세그먼트 구조가 깨졌으면 원본 그대로
+     */
+    public byte[] stripJpegMetadata(byte[] imageData) {
+        if (imageData == null || imageData.length < 4
+                || (imageData[0] & 0xFF) != 0xFF || (imageData[1] & 0xFF) != JPEG_SOI) {
+            return imageData;
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(imageData.length);
+        output.write(imageData, 0, 2);
+        int offset = 2;
+        while (offset + 4 <= imageData.length) {
+            if ((imageData[offset] & 0xFF) != 0xFF) {
+                return imageData;
+            }
+            int marker = imageData[offset + 1] & 0xFF;
+            if (marker == 0xFF) { // 채움 바이트
+                offset++;
+                continue;
+            }
+            if (marker == JPEG_SOS) {
+                output.write(imageData, offset, imageData.length - offset);
+                return output.toByteArray();
+            }
+            int length = ((imageData[offset + 2] & 0xFF) << 8) | (imageData[offset + 3] & 0xFF);
+            if (length < 2 || offset + 2 + length > imageData.length) {
+                return imageData;
+            }
+            if (marker != JPEG_APP1 && marker != JPEG_APP13) {
+                output.write(imageData, offset, 2 + length);
+            }
+            offset += 2 + length;
+        }
+        return imageData;
+    }
+
+    /**
+     * 이미지를 한 번 디코딩합니다.
+     * - 헤더의 크기로 목표 크기 이상이 남는 최대 서브샘플링 배율을 정해 디코딩 해상도를 낮춤
+     * - 디코딩 전에 예상 픽셀 메모리만큼 ImageDecodeGovernor 허가를 받으며, 허가는 반환값을 close할 때 반납
+     *
+     * @param targetWidth 결과 최대 너비 (제한 없으면 Integer.MAX_VALUE)
+     * @param targetHeight 결과 최대 높이
+     * @throws IllegalArgumentException 이미지가 아닌 데이터
+     */
+    private DecodedImage decode(byte[] imageData, int targetWidth, int targetHeight) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(imageData))) {
+            Iterator<ImageReader> readers = input == null ? Collections.emptyIterator() : ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("유효하지 않은 이미지 데이터입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width / targetWidth, height / targetHeight));
+                if (subsampling > 1) {
+                    // 긴 변이 목표 크기 이상으로 남는 배율만 적용하여 이후 리사이즈는 축소만 수행
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                int orientation = readExifOrientation(reader.getImageMetadata(0));
+
+                // 디코딩 결과와 리사이즈/인코딩 작업본 하나
+                long pixels = (long) ceilDiv(width, subsampling) * ceilDiv(height, subsampling);
+                ImageDecodeGovernor.Permit permit = decodeGovernor.acquire(pixels * BYTES_PER_PIXEL * 2);
+                try {
+                    BufferedImage image = reader.read(0, param);
+                    return new DecodedImage(image, width, height, orientation, permit);
+                } catch (IOException | RuntimeException e) {
+                    permit.close();
+                    throw e;
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트에서 방향(0x0112) 값을 읽습니다. 없거나 읽을 수 없으면 1(정방향)
+     */
+    private int readExifOrientation(IIOMetadata metadata) {
+        if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+            return 1;
+        }
+        NodeList markers = ((IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT)).getElementsByTagName("unknown");
+        for (int i = 0; i < markers.getLength(); i++) {
+            IIOMetadataNode marker = (IIOMetadataNode) markers.item(i);
+            if (APP1_MARKER.equals(marker.getAttribute("MarkerTag")) && marker.getUserObject() instanceof byte[] exif) {
+                return parseOrientation(exif);
+            }
+        }
+        return 1;
+    }
+
+    private int parseOrientation(byte[] exif) {
+        // "Exif\0\0" 다음부터 TIFF 헤더 (바이트 순서, 42, IFD0 오프셋)
+        int tiff = 6;
+        if (exif.length < tiff + 8 || exif[0] != 'E' || exif[1] != 'x' || exif[2] != 'i' || exif[3] != 'f') {
+            return 1;
+        }
+        boolean littleEndian = exif[tiff] == 'I';
+        int ifd = tiff + readInt(exif, tiff + 4, littleEndian);
+        if (ifd < tiff || ifd + 2 > exif.length) {
+            return 1;
+        }
+        int entries = readShort(exif, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > exif.length) {
+                return 1;
+            }
+            if (readShort(exif, entry, littleEndian) == EXIF_ORIENTATION_TAG) {
+                return readShort(exif, entry + 8, littleEndian);
+            }
+        }
+        return 1;
+    }
+
+    private int readShort(byte[] data, int offset, boolean littleEndian) {
+        int b0 = data[offset] & 0xFF;
+        int b1 = data[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private int readInt(byte[] data, int offset, boolean littleEndian) {
+        int high = readShort(data, offset + (littleEndian ? 2 : 0), littleEndian);
+        int low = readShort(data, offset + (littleEndian ? 0 : 2), littleEndian);
+        return (high << 16) | low;
+    }
+
+    /**
+     * EXIF 방향(2~8)을 픽셀에 반영합니다. (메타데이터를 제거해도 방향이 유지되도록)
+     */
+    private BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swap = orientation >= 5;
+
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { transform.scale(-1.0, 1.0); transform.translate(-width, 0); }
+            case 3 -> { transform.translate(width, height); transform.rotate(Math.PI); }
+            case 4 -> { transform.scale(1.0, -1.0); transform.translate(0, -height); }
+            case 5 -> { transform.rotate(-Math.PI / 2); transform.scale(-1.0, 1.0); }
+            case 6 -> { transform.translate(height, 0); transform.rotate(Math.PI / 2); }
+            case 7 -> { transform.scale(-1.0, 1.0); transform.translate(-height, width); transform.rotate(3 * Math.PI / 2); }
+            case 8 -> { transform.translate(0, width); transform.rotate(3 * Math.PI / 2); }
+            default -> { return image; }
+        }
+
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage rotated = new BufferedImage(swap ? height : width, swap ? width : height, type);
+        Graphics2D graphics = rotated.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rotated;
+    }
+
+    /**
+     * 메타데이터 없이 인코딩합니다. (JPEG는 알파 채널을 제거하고 지정 품질로 압축)
+     */
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (!"jpg".equals(format)) {
+            ImageIO.write(image, format, outputStream);
+            return outputStream.toByteArray();
+        }
+
+        if (image.getColorModel().hasAlpha()) {
+            BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = rgb.createGraphics();
+            try {
+                graphics.drawImage(image, 0, 0, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+            image = rgb;
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality((float) COMPRESSION_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 디코딩 결과 (원본 크기, EXIF 방향, 디코딩 허가)
+     */
+    private record DecodedImage(BufferedImage image, int originalWidth, int originalHeight, int orientation,
+                                ImageDecodeGovernor.Permit permit) implements AutoCloseable {
+        @Override
+        public void close() {
+            permit.close();
+        }
+    }
+
+    /**
+     * 업로드 전처리 결과 (인코딩된 데이터, 형식, 크기, 단계별 소요 시간)
+     */
+    public record OptimizedImage(byte[] data, String format, int width, int height,
+                                 long decodeNanos, long resizeNanos, long encodeNanos) {
+    }
+
     /**
      * 입력값을 검증합니다.
      */
@@ -3,6 +3,8 @@ package com.recipemate.global.util;
 import com.cloudinary.Cloudinary;
 import com.cloudinary.Transformation;
 import com.cloudinary.utils.ObjectUtils;
+import com.recipemate.global.exception.CustomException;
+import com.recipemate.global.exception.ErrorCode;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,17 +16,45 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 이미지 업로드 유틸리티 (Cloudinary 사용 + 병렬 업로드)
+ * - 업로드 전 전처리 스레드 풀에서 서브샘플링 디코딩, 리사이즈, 메타데이터 제거 후 재인코딩 (ImageOptimizationService)
+ * - 전처리 풀은 CPU 코어 수 이내로 제한하고, 대기열이 차면 요청 스레드에서 처리하여 동시 디코딩 메모리를 억제
+ * - 전처리에 실패한 이미지(CMYK JPEG 등 ImageIO 미지원 형식)는 디코딩 없이 JPEG 메타데이터 세그먼트(Exif, XMP, IPTC)만 제거하고 업로드
+ * - 디코딩 메모리 예산 대기 시간이 지나면 원본(메타데이터 포함)을 올리지 않고 업로드 전체를 실패 처리 (IMAGE_PROCESSING_BUSY, 503)
+ * - 단계별 소요 시간과 절감 용량을 지표로 집계 (GET /admin/images/pipeline)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ImageUploadUtil {
 
+    private static final int PROCESSING_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    private static final int PROCESSING_QUEUE_CAPACITY = 12;
+
     private final Cloudinary cloudinary;
+    private final ImageOptimizationService imageOptimizationService;
     private final ExecutorService executorService = Executors.newFixedThreadPool(3); // 최대 3개 이미지 동시 업로드
+    private final ExecutorService processingExecutor = new ThreadPoolExecutor(
+            PROCESSING_THREADS, PROCESSING_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(PROCESSING_QUEUE_CAPACITY), new ThreadPoolExecutor.CallerRunsPolicy());
+
+    // 지표
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder busyRejections = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder decodeNanos = new LongAdder();
+    private final LongAdder resizeNanos = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder uploads = new LongAdder();
+    private final LongAdder uploadFailures = new LongAdder();
+    private final LongAdder uploadMillis = new LongAdder();
+    private final LongAccumulator maxUploadMillis = new LongAccumulator(Long::max, 0);
 
     private static final int MAX_IMAGE_COUNT = 3;
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
@@ -37,6 +67,7 @@ public class ImageUploadUtil {
      * 이미지 파일 목록 병렬 업로드
      * @param imageFiles 업로드할 이미지 파일 목록
      * @return 업로드된 이미지 URL 목록
+     * @throws CustomException 디코딩 메모리 예산 대기 시간 초과 (IMAGE_PROCESSING_BUSY, 503) - 이미 올라간 이미지는 삭제
      */
     public List<String> uploadImages(List<MultipartFile> imageFiles) {
         if (imageFiles == null || imageFiles.isEmpty()) {
@@ -66,47 +97,107 @@ public class ImageUploadUtil {
                 continue;
             }
             
-            // 병렬 업로드 작업 생성
-            CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
-                try {
-                    return uploadSingleImage(file);
-                } catch (IOException e) {
-                    log.error("Failed to upload image {}: {}", file.getOriginalFilename(), e.getMessage());
-                    return null;
-                }
-            }, executorService);
+            // 전처리 후 병렬 업로드 작업 생성
+            CompletableFuture<String> future = CompletableFuture
+                .supplyAsync(() -> preprocess(file), processingExecutor)
+                .thenApplyAsync(data -> {
+                    if (data == null) {
+                        return null;
+                    }
+                    try {
+                        return uploadSingleImage(file.getOriginalFilename(), data);
+                    } catch (IOException e) {
+                        uploadFailures.increment();
+                        log.error("Failed to upload image {}: {}", file.getOriginalFilename(), e.getMessage());
+                        return null;
+                    }
+                }, executorService);
             
             futures.add(future);
         }
         
         // 모든 업로드 작업 완료 대기
-        List<String> imageUrls = futures.stream()
-            .map(future -> {
-                try {
-                    return future.get(UPLOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-                } catch (TimeoutException e) {
-                    log.error("Image upload timeout after {} seconds", UPLOAD_TIMEOUT_SECONDS);
-                    return null;
-                } catch (Exception e) {
+        List<String> imageUrls = new ArrayList<>();
+        CustomException busy = null;
+        for (CompletableFuture<String> future : futures) {
+            try {
+                String url = future.get(UPLOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                if (url != null) { // null 제외 (실패한 업로드)
+                    imageUrls.add(url);
+                }
+            } catch (TimeoutException e) {
+                log.error("Image upload timeout after {} seconds", UPLOAD_TIMEOUT_SECONDS);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CustomException customException) {
+                    busy = customException;
+                } else {
                     log.error("Image upload failed: {}", e.getMessage());
-                    return null;
                 }
-            })
-            .filter(url -> url != null) // null 제거 (실패한 업로드)
-            .toList();
+            } catch (Exception e) {
+                log.error("Image upload failed: {}", e.getMessage());
+            }
+        }
+
+        // 디코딩 대기 시간 초과 시 일부만 올라간 상태로 두지 않음
+        if (busy != null) {
+            deleteImages(imageUrls);
+            throw busy;
+        }
         
         log.info("Successfully uploaded {} out of {} images (parallel)", imageUrls.size(), maxImages);
         return imageUrls;
     }
 
+    /**
+     * 업로드 전처리 (전처리 스레드 풀에서 실행)
+     * @return 업로드할 데이터, 이미지가 아니면 null
+     */
+    private byte[] preprocess(MultipartFile file) {
+        byte[] original;
+        try {
+            original = file.getBytes();
+        } catch (IOException e) {
+            log.error("Failed to read image {}: {}", file.getOriginalFilename(), e.getMessage());
+            return null;
+        }
+
+        try {
+            ImageOptimizationService.OptimizedImage optimized =
+                imageOptimizationService.optimizeForUpload(original, file.getOriginalFilename());
+            processed.increment();
+            bytesIn.add(original.length);
+            bytesOut.add(optimized.data().length);
+            decodeNanos.add(optimized.decodeNanos());
+            resizeNanos.add(optimized.resizeNanos());
+            encodeNanos.add(optimized.encodeNanos());
+            return optimized.data();
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid image {}: {}", file.getOriginalFilename(), e.getMessage());
+            return null;
+        } catch (ImageDecodeGovernor.DecodeBusyException e) {
+            // 원본을 올리면 메타데이터(EXIF, GPS)가 그대로 남으므로 업로드하지 않고 재시도를 안내
+            busyRejections.increment();
+            log.warn("Image preprocessing busy, rejecting upload {}: {}", file.getOriginalFilename(), e.getMessage());
+            throw new CustomException(ErrorCode.IMAGE_PROCESSING_BUSY);
+        } catch (IOException | RuntimeException e) {
+            // 전처리할 수 없는 형식이면 메타데이터 세그먼트만 제거한 원본 업로드 (Cloudinary가 처리)
+            byte[] stripped = imageOptimizationService.stripJpegMetadata(original);
+            fallbacks.increment();
+            bytesIn.add(original.length);
+            bytesOut.add(stripped.length);
+            log.warn("Image preprocessing failed, uploading original without metadata {}: {}", file.getOriginalFilename(), e.getMessage());
+            return stripped;
+        }
+    }
+
     /**
      * 단일 이미지 업로드 (Cloudinary)
-     * 업로드 시에는 원본을 저장하고, 변환은 URL로 동적으로 처리 (CDN 캐시 활용)
+     * 전처리된 이미지를 저장하고, 표시용 변환은 URL로 동적으로 처리 (CDN 캐시 활용)
      */
-    private String uploadSingleImage(MultipartFile file) throws IOException {
+    private String uploadSingleImage(String fileName, byte[] data) throws IOException {
         long startTime = System.currentTimeMillis();
         
-        // 1. Cloudinary 업로드 옵션 설정 (변환 없이 원본 저장)
+        // 1. Cloudinary 업로드 옵션 설정 (변환 없이 저장)
         Map<String, Object> uploadParams = ObjectUtils.asMap(
             "folder", "recipemate/group-purchases",      // 저장 폴더
             "resource_type", "image"                     // 리소스 타입
@@ -114,9 +205,9 @@ public class ImageUploadUtil {
         );
         
         // 2. Cloudinary에 업로드
-        log.info("Uploading image to Cloudinary: {}", file.getOriginalFilename());
+        log.info("Uploading image to Cloudinary: {} ({} bytes)", fileName, data.length);
         Map uploadResult = cloudinary.uploader().upload(
-            file.getBytes(), 
+            data, 
             uploadParams
         );
         
@@ -125,11 +216,41 @@ public class ImageUploadUtil {
         String optimizedUrl = baseUrl.replace("/upload/", "/upload/w_800,h_600,c_limit,q_auto,f_auto/");
         
         long elapsedTime = System.currentTimeMillis() - startTime;
+        uploads.increment();
+        uploadMillis.add(elapsedTime);
+        maxUploadMillis.accumulate(elapsedTime);
         log.info("Image uploaded successfully in {}ms: {}", elapsedTime, optimizedUrl);
         
         return optimizedUrl;
     }
 
+    /**
+     * 전처리/업로드 지표
+     */
+    public Stats stats() {
+        long processedCount = processed.sum();
+        long uploadCount = uploads.sum();
+        return new Stats(
+            processedCount,
+            fallbacks.sum(),
+            busyRejections.sum(),
+            bytesIn.sum(),
+            bytesOut.sum(),
+            bytesIn.sum() - bytesOut.sum(),
+            averageMillis(decodeNanos.sum(), processedCount),
+            averageMillis(resizeNanos.sum(), processedCount),
+            averageMillis(encodeNanos.sum(), processedCount),
+            uploadCount,
+            uploadFailures.sum(),
+            uploadCount == 0 ? 0 : (double) uploadMillis.sum() / uploadCount,
+            maxUploadMillis.get()
+        );
+    }
+
+    private static double averageMillis(long totalNanos, long count) {
+        return count == 0 ? 0 : totalNanos / 1_000_000.0 / count;
+    }
+
     /**
      * 이미지 파일 개수 검증
      */
@@ -228,16 +349,29 @@ public class ImageUploadUtil {
     @PreDestroy
     public void shutdown() {
         log.info("Shutting down ImageUploadUtil executor service");
+        processingExecutor.shutdown();
         executorService.shutdown();
         try {
+            if (!processingExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                processingExecutor.shutdownNow();
+            }
             if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
                 executorService.shutdownNow();
                 log.warn("Executor service did not terminate in 60 seconds, forcing shutdown");
             }
         } catch (InterruptedException e) {
+            processingExecutor.shutdownNow();
             executorService.shutdownNow();
             Thread.currentThread().interrupt();
             log.error("Executor service shutdown interrupted", e);
         }
     }
+
+    /**
+     * 전처리/업로드 지표 (전처리/원본 업로드/과부하 거절 건수, 입출력 용량과 절감량, 단계별 평균 소요 시간, 업로드 건수/실패/평균/최대 시간)
+     */
+    public record Stats(long processed, long fallbacks, long busyRejections, long bytesIn, long bytesOut, long bytesSaved,
+                        double avgDecodeMs, double avgResizeMs, double avgEncodeMs,
+                        long uploads, long uploadFailures, double avgUploadMs, long maxUploadMs) {
+    }
 }
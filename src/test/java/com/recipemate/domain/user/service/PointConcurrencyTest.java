@@ -0,0 +1,169 @@
+package com.recipemate.domain.user.service;
+
+import com.recipemate.domain.user.entity.User;
+import com.recipemate.domain.user.repository.PointHistoryRepository;
+import com.recipemate.domain.user.repository.RewardCalendarRepository;
+import com.recipemate.domain.user.repository.UserRepository;
+import com.recipemate.global.cache.HibernateCacheSupport;
+import com.recipemate.global.common.DailyReward;
+import com.recipemate.global.config.QueryDslConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포인트 동시성 테스트
+ * 동시에 들어온 잔액 변경이 유실되지 않고, 잔액과 원장(point_histories)이 일치하는지 검증합니다.
+ * 각 작업이 자기 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:pointtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+@Import({QueryDslConfig.class, HibernateCacheSupport.class, PointService.class, PointLedger.class,
+        PointLedgerWriter.class, RewardCalendarService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("포인트 동시성 테스트")
+class PointConcurrencyTest {
+
+    private static final int OPERATIONS = 1000;
+    private static final int THREADS = 32;
+    private static final int INITIAL_POINTS = 10_000;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointLedger pointLedger;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    private RewardCalendarRepository rewardCalendarRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.create("test@example.com", "password", "테스터", "010-1234-5678"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryRepository.deleteAllInBatch();
+        rewardCalendarRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("충전/사용 1000건 동시 요청 - 잔액 변경 유실 없음, 원장 건수 일치")
+    void chargeAndUse_Concurrently_NoLostUpdates() throws Exception {
+        // given
+        Long userId = testUser.getId();
+        pointService.chargePoints(userId, INITIAL_POINTS, "초기 충전");
+
+        // when: 짝수 번째는 3포인트 충전, 홀수 번째는 2포인트 사용
+        runConcurrently(i -> {
+            if (i % 2 == 0) {
+                pointService.chargePoints(userId, 3, "충전");
+            } else {
+                pointService.usePoints(userId, 2, "사용");
+            }
+        });
+
+        // then
+        int expected = INITIAL_POINTS + (OPERATIONS / 2) * 3 - (OPERATIONS / 2) * 2;
+        assertThat(currentPoints(userId)).isEqualTo(expected);
+        assertThat(historyCount()).isEqualTo(OPERATIONS + 1);
+    }
+
+    @Test
+    @DisplayName("같은 보상 1000건 동시 적립 - 하루 1회만 적립")
+    void earnPoints_Concurrently_AppliedOnce() throws Exception {
+        // given
+        Long userId = testUser.getId();
+        long appliedBefore = pointLedger.stats().applied() + pointLedger.stats().failed();
+
+        // when
+        runConcurrently(i -> pointService.earnPoints(userId, DailyReward.COMMENT, 10));
+        awaitLedger(appliedBefore + OPERATIONS);
+
+        // then
+        assertThat(currentPoints(userId)).isEqualTo(10);
+        assertThat(historyCount()).isEqualTo(1);
+        assertThat(pointLedger.stats().failed()).isZero();
+    }
+
+    private void runConcurrently(Operation operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < OPERATIONS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    operation.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            // 작업 중 예외가 있으면 여기서 실패
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void awaitLedger(long expectedProcessed) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (System.currentTimeMillis() < deadline) {
+            PointLedger.Stats stats = pointLedger.stats();
+            if (stats.pending() == 0 && stats.applied() + stats.failed() >= expectedProcessed) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private int currentPoints(Long userId) {
+        return userRepository.findById(userId).orElseThrow().getPoints();
+    }
+
+    private long historyCount() {
+        return pointHistoryRepository.findByUserOrderByCreatedAtDesc(testUser, PageRequest.of(0, 1))
+                .getTotalElements();
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(int index);
+    }
+}
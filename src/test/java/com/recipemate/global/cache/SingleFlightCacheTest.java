@@ -0,0 +1,70 @@
+package com.recipemate.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SingleFlightCache 동시성 테스트
+ * 차가운 키에 동시에 몰린 요청이 한 번의 계산 결과를 공유하는지 검증합니다.
+ */
+@DisplayName("SingleFlightCache 테스트")
+class SingleFlightCacheTest {
+
+    private static final int READERS = 500;
+
+    @Test
+    @DisplayName("캐시 미스 폭주 - 500개 동시 요청에도 로더는 한 번만 실행")
+    void get_ColdKeyStampede_LoadsOnce() throws Exception {
+        // given
+        SingleFlightCache cache = new SingleFlightCache(
+                new ConcurrentMapCache("recipes"), Duration.ofMinutes(5), null, 0, 0, 1.0);
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(READERS);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < READERS; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return cache.get("popular", () -> {
+                        loaderCalls.incrementAndGet();
+                        Thread.sleep(200); // 느린 조회
+                        return "value";
+                    });
+                }));
+            }
+            assertThat(ready.await(10, TimeUnit.SECONDS)).isTrue();
+            start.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(loaderCalls.get()).isEqualTo(1);
+        SingleFlightCache.Stats stats = cache.stats();
+        assertThat(stats.loads()).isEqualTo(1);
+        assertThat(stats.hits() + stats.coalesced() + stats.loads()).isEqualTo(READERS);
+        assertThat(stats.inFlight()).isZero();
+    }
+}
@@ -0,0 +1,219 @@
+package com.recipemate.global.util;
+
+import com.recipemate.global.exception.CustomException;
+import com.recipemate.global.exception.ErrorCode;
+import net.coobird.thumbnailator.Thumbnails;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 이미지 디코딩 메모리 벤치마크
+ * 12MP 사진 기준으로 서브샘플링 디코딩의 할당량과, 동시 디코딩이 메모리 예산 안에서 처리되는지 측정합니다.
+ * 할당량은 스레드별 할당 바이트로 측정하여 GC 시점과 무관하게 비교하고, 힙 최대 사용량은 참고용으로 출력합니다.
+ */
+@DisplayName("이미지 디코딩 메모리 벤치마크")
+class ImageDecodeBenchmarkTest {
+
+    private static final int PHOTO_WIDTH = 4000;
+    private static final int PHOTO_HEIGHT = 3000;
+    private static final int THUMBNAIL_SIZE = 300;
+    private static final int BURST = 16;
+    private static final long MB = 1024 * 1024;
+
+    private static byte[] photo;
+
+    @BeforeAll
+    static void createPhoto() throws IOException {
+        photo = createJpeg(PHOTO_WIDTH, PHOTO_HEIGHT);
+    }
+
+    @Test
+    @DisplayName("썸네일 - 서브샘플링 디코딩은 원본 해상도 디코딩보다 할당량이 1/4 미만")
+    void createThumbnail_AllocatesFractionOfFullDecode() throws Exception {
+        // given
+        ImageOptimizationService service = new ImageOptimizationService(new ImageDecodeGovernor(256, 10_000));
+        fullDecodeThumbnail(photo); // 워밍업
+        service.createThumbnail(photo, THUMBNAIL_SIZE, THUMBNAIL_SIZE);
+
+        // when
+        long fullDecode = allocatedBytes(() -> fullDecodeThumbnail(photo));
+        long subsampled = allocatedBytes(() -> service.createThumbnail(photo, THUMBNAIL_SIZE, THUMBNAIL_SIZE));
+
+        // then
+        System.out.printf("[benchmark] thumbnail %dx%d: full decode %.1fMB, subsampled %.1fMB%n",
+                PHOTO_WIDTH, PHOTO_HEIGHT, (double) fullDecode / MB, (double) subsampled / MB);
+        assertThat(subsampled).isLessThan(fullDecode / 4);
+    }
+
+    @Test
+    @DisplayName("업로드 전처리 - 서브샘플링 디코딩은 원본 해상도 디코딩보다 할당량이 적음")
+    void optimizeForUpload_AllocatesLessThanFullDecode() throws Exception {
+        // given
+        ImageOptimizationService service = new ImageOptimizationService(new ImageDecodeGovernor(256, 10_000));
+        fullDecodeResize(photo); // 워밍업
+        service.optimizeForUpload(photo, "photo.jpg");
+
+        // when
+        long fullDecode = allocatedBytes(() -> fullDecodeResize(photo));
+        long subsampled = allocatedBytes(() -> service.optimizeForUpload(photo, "photo.jpg"));
+
+        // then
+        System.out.printf("[benchmark] upload %dx%d -> 1920: full decode %.1fMB, subsampled %.1fMB%n",
+                PHOTO_WIDTH, PHOTO_HEIGHT, (double) fullDecode / MB, (double) subsampled / MB);
+        assertThat(subsampled).isLessThan(fullDecode);
+    }
+
+    @Test
+    @DisplayName("동시 전처리 16건 - 사용 중인 디코딩 메모리가 예산을 넘지 않음")
+    void optimizeForUpload_Burst_StaysWithinBudget() throws Exception {
+        // given: 12MP 사진 한 장의 디코딩 허가는 약 23MB이므로 64MB 예산이면 동시에 2건
+        int budgetMb = 64;
+        ImageDecodeGovernor governor = new ImageDecodeGovernor(budgetMb, 60_000);
+        ImageOptimizationService service = new ImageOptimizationService(governor);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baselineHeap = memory.getHeapMemoryUsage().getUsed();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong peakInUseMb = new AtomicLong();
+        AtomicLong peakHeap = new AtomicLong();
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peakInUseMb.accumulateAndGet(governor.stats().inUseMb(), Math::max);
+                peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                LockSupport.parkNanos(100_000);
+            }
+        });
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(BURST);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        long startedAt = System.nanoTime();
+        try {
+            sampler.start();
+            for (int i = 0; i < BURST; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return service.optimizeForUpload(photo, "photo.jpg");
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            running.set(false);
+            sampler.join();
+            executor.shutdownNow();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        ImageDecodeGovernor.Stats stats = governor.stats();
+        System.out.printf("[benchmark] burst %d x %dx%d, budget %dMB: %dms, peak in-use %dMB, "
+                        + "peak heap +%.1fMB, avg wait %.1fms, max wait %dms%n",
+                BURST, PHOTO_WIDTH, PHOTO_HEIGHT, budgetMb, elapsedMs, peakInUseMb.get(),
+                (double) (peakHeap.get() - baselineHeap) / MB, stats.avgWaitMs(), stats.maxWaitMs());
+        assertThat(peakInUseMb.get()).isLessThanOrEqualTo(budgetMb);
+        assertThat(stats.acquired()).isEqualTo(BURST);
+        assertThat(stats.timeouts()).isZero();
+        assertThat(stats.inUseMb()).isZero();
+    }
+
+    @Test
+    @DisplayName("예산 대기 시간 초과 - 잘못된 이미지가 아닌 IMAGE_PROCESSING_BUSY로 실패")
+    void createThumbnail_BudgetExhausted_ThrowsBusy() throws Exception {
+        // given: 예산 전체를 다른 디코딩이 점유
+        ImageDecodeGovernor governor = new ImageDecodeGovernor(64, 100);
+        ImageOptimizationService service = new ImageOptimizationService(governor);
+
+        try (ImageDecodeGovernor.Permit ignored = governor.acquire(64 * MB)) {
+            // when & then
+            assertThatThrownBy(() -> service.createThumbnail(photo, THUMBNAIL_SIZE, THUMBNAIL_SIZE))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.IMAGE_PROCESSING_BUSY);
+            assertThatThrownBy(() -> service.optimizeForUpload(photo, "photo.jpg"))
+                    .isInstanceOf(ImageDecodeGovernor.DecodeBusyException.class);
+        }
+        assertThat(governor.stats().timeouts()).isEqualTo(2);
+    }
+
+    private static byte[] fullDecodeThumbnail(byte[] data) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Thumbnails.of(ImageIO.read(new ByteArrayInputStream(data)))
+                .size(THUMBNAIL_SIZE, THUMBNAIL_SIZE)
+                .outputFormat("jpg")
+                .toOutputStream(output);
+        return output.toByteArray();
+    }
+
+    private static byte[] fullDecodeResize(byte[] data) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Thumbnails.of(ImageIO.read(new ByteArrayInputStream(data)))
+                .size(1920, 1920)
+                .outputQuality(0.85)
+                .outputFormat("jpg")
+                .toOutputStream(output);
+        return output.toByteArray();
+    }
+
+    /**
+     * 현재 스레드에서 작업이 할당한 바이트 수
+     */
+    private static long allocatedBytes(Work work) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        work.run();
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    /**
+     * 사진과 비슷하게 압축되도록 그라데이션에 잡음을 섞은 JPEG
+     */
+    static byte[] createJpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int r = (x * 255 / width + random.nextInt(32)) & 0xFF;
+                int g = (y * 255 / height + random.nextInt(32)) & 0xFF;
+                int b = ((x + y) * 255 / (width + height) + random.nextInt(32)) & 0xFF;
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", output);
+        return output.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface Work {
+        Object run() throws Exception;
+    }
+}
@@ -0,0 +1,127 @@
+package com.recipemate.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업로드 전처리 파이프라인 벤치마크
+ * 대표적인 사진 크기별로 전처리 전후 바이트와 디코딩/리사이즈/인코딩 시간을 측정하고,
+ * 업로드 결과에 위치 정보가 담긴 Exif(APP1) 세그먼트가 남지 않는지 검증합니다.
+ */
+@DisplayName("업로드 전처리 파이프라인 벤치마크")
+class ImageUploadPipelineBenchmarkTest {
+
+    private static final int MAX_DIMENSION = 1920;
+    private static final int[][] PHOTOS = {
+            {4032, 3024}, // 12MP 스마트폰 사진
+            {3000, 4000}, // 세로 사진
+            {1920, 1080}, // 이미 작은 사진
+            {800, 600}
+    };
+
+    private final ImageOptimizationService service =
+            new ImageOptimizationService(new ImageDecodeGovernor(256, 10_000));
+
+    @Test
+    @DisplayName("대표 사진 - 긴 변 1920 이하로 축소, 큰 사진은 용량 감소")
+    void optimizeForUpload_RepresentativePhotos() throws IOException {
+        for (int[] size : PHOTOS) {
+            // given
+            byte[] photo = ImageDecodeBenchmarkTest.createJpeg(size[0], size[1]);
+
+            // when
+            ImageOptimizationService.OptimizedImage optimized = service.optimizeForUpload(photo, "photo.jpg");
+
+            // then
+            System.out.printf("[benchmark] upload %dx%d: %dKB -> %dKB (%dx%d), decode %dms, resize %dms, encode %dms%n",
+                    size[0], size[1], photo.length / 1024, optimized.data().length / 1024,
+                    optimized.width(), optimized.height(),
+                    TimeUnit.NANOSECONDS.toMillis(optimized.decodeNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(optimized.resizeNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(optimized.encodeNanos()));
+            assertThat(Math.max(optimized.width(), optimized.height())).isLessThanOrEqualTo(MAX_DIMENSION);
+            if (Math.max(size[0], size[1]) > MAX_DIMENSION) {
+                assertThat(optimized.data().length).isLessThan(photo.length);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Exif 포함 사진 - 전처리 결과와 메타데이터 제거 결과 모두 APP1 없음")
+    void exifSegment_RemovedFromUpload() throws IOException {
+        // given
+        byte[] photo = withExif(ImageDecodeBenchmarkTest.createJpeg(4032, 3024));
+        assertThat(hasApp1(photo)).isTrue();
+
+        // when
+        byte[] optimized = service.optimizeForUpload(photo, "photo.jpg").data();
+        byte[] stripped = service.stripJpegMetadata(photo);
+
+        // then
+        assertThat(hasApp1(optimized)).isFalse();
+        assertThat(hasApp1(stripped)).isFalse();
+        assertThat(stripped.length).isLessThan(photo.length);
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(stripped));
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.getWidth()).isEqualTo(4032);
+    }
+
+    @Test
+    @DisplayName("JPEG가 아닌 데이터 - 메타데이터 제거 시 원본 그대로 반환")
+    void stripJpegMetadata_NotJpeg_ReturnsOriginal() {
+        byte[] data = "not an image".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(service.stripJpegMetadata(data)).isSameAs(data);
+    }
+
+    /**
+     * SOI 바로 뒤에 GPS 정보를 흉내 낸 Exif(APP1) 세그먼트를 삽입
+     */
+    private static byte[] withExif(byte[] jpeg) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        payload.writeBytes("Exif\0\0".getBytes(StandardCharsets.ISO_8859_1));
+        payload.writeBytes(new byte[]{'M', 'M', 0, 42, 0, 0, 0, 8}); // TIFF 헤더 (빅엔디언, IFD 오프셋 8)
+        payload.writeBytes(new byte[]{0, 0, 0, 0, 0, 0}); // 항목 0개인 IFD
+        payload.writeBytes("GPS 37.5665N 126.9780E".getBytes(StandardCharsets.ISO_8859_1));
+        byte[] segment = payload.toByteArray();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(jpeg, 0, 2);
+        output.write(0xFF);
+        output.write(0xE1);
+        int length = segment.length + 2;
+        output.write(length >> 8);
+        output.write(length & 0xFF);
+        output.writeBytes(segment);
+        output.write(jpeg, 2, jpeg.length - 2);
+        return output.toByteArray();
+    }
+
+    /**
+     * SOS 이전 헤더 세그먼트에 APP1이 있는지 확인
+     */
+    private static boolean hasApp1(byte[] jpeg) {
+        int offset = 2;
+        while (offset + 4 <= jpeg.length && (jpeg[offset] & 0xFF) == 0xFF) {
+            int marker = jpeg[offset + 1] & 0xFF;
+            if (marker == 0xDA) {
+                return false;
+            }
+            if (marker == 0xE1) {
+                return true;
+            }
+            offset += 2 + (((jpeg[offset + 2] & 0xFF) << 8) | (jpeg[offset + 3] & 0xFF));
+        }
+        return false;
+    }
+}